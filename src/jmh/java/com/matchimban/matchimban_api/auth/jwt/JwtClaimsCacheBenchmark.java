@@ -0,0 +1,73 @@
+package com.matchimban.matchimban_api.auth.jwt;
+
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.Authentication;
+
+// 같은 access token으로 폴링하는 요청의 인증 비용. 미리 만든 파서로 매번 서명을 검증하는 경우와
+// 검증 결과 캐시에서 principal을 꺼내는 경우를, 요청 스레드 여러 개가 동시에 부르는 상황에서 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtClaimsCacheBenchmark {
+
+	private JwtTokenProvider prebuiltProvider;
+	private JwtTokenProvider cachedProvider;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		JwtProperties properties = new JwtProperties(
+			"benchmark-jwt-secret-key-32bytes-minimum!!",
+			"matchimban-benchmark",
+			60,
+			"access_token",
+			"refresh_token",
+			"guest_access_token",
+			180,
+			7,
+			false,
+			"Lax"
+		);
+		prebuiltProvider = provider(properties, new JwtClaimsCache(0, 0));
+		cachedProvider = provider(properties, new JwtClaimsCache(30, 10_000));
+
+		Member member = Member.builder().status(MemberStatus.ACTIVE).build();
+		Field id = Member.class.getDeclaredField("id");
+		id.setAccessible(true);
+		id.set(member, 1L);
+		token = prebuiltProvider.createAccessToken(member, "sid-1");
+	}
+
+	@Benchmark
+	public Optional<Authentication> prebuiltParser() {
+		return prebuiltProvider.getAuthentication(token);
+	}
+
+	@Benchmark
+	public Optional<Authentication> cachedClaims() {
+		return cachedProvider.getAuthentication(token);
+	}
+
+	private static JwtTokenProvider provider(JwtProperties properties, JwtClaimsCache cache) throws Exception {
+		JwtTokenProvider provider = new JwtTokenProvider(properties, cache);
+		// 스프링 밖에서 만들므로 @PostConstruct 초기화를 직접 부른다.
+		Method initialize = JwtTokenProvider.class.getDeclaredMethod("initialize");
+		initialize.setAccessible(true);
+		initialize.invoke(provider);
+		return provider;
+	}
+}
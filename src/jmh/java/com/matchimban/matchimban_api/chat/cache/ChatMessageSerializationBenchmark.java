@@ -0,0 +1,99 @@
+package com.matchimban.matchimban_api.chat.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.matchimban.matchimban_api.chat.entity.ChatMessageType;
+import com.matchimban.matchimban_api.chat.repository.projection.ChatMessageRow;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 최근 메시지 캐시의 직렬화/역직렬화(윈도우 100건 교체, 조회 1페이지).
+// ObjectMapper 설정은 스프링 부트 기본값(JavaTimeModule, ISO-8601 문자열)에 맞춘다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMessageSerializationBenchmark {
+
+	private static final int WINDOW_SIZE = 100;
+
+	private ObjectMapper objectMapper;
+	private ObjectWriter rowWriter;
+	private ObjectReader rowReader;
+	private List<ChatMessageRow> rows;
+	private List<String> payloads;
+
+	@Setup
+	public void setUp() throws Exception {
+		objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+		rowWriter = objectMapper.writerFor(ChatMessageRow.class);
+		rowReader = objectMapper.readerFor(ChatMessageRow.class);
+
+		rows = new ArrayList<>(WINDOW_SIZE);
+		payloads = new ArrayList<>(WINDOW_SIZE);
+		Instant base = Instant.parse("2026-01-01T12:00:00Z");
+		for (int i = 0; i < WINDOW_SIZE; i++) {
+			ChatMessageRow row = new ChatMessageRow(
+				String.format("01JABCDEFGHJKMNPQRST%06d", i),
+				ChatMessageType.TEXT,
+				"오늘 점심 어디로 갈까요? 메시지 " + i,
+				base.plusSeconds(i),
+				(long) (i % 8),
+				"참여자" + (i % 8),
+				"https://cdn.example.com/profile/" + (i % 8) + ".jpg"
+			);
+			rows.add(row);
+			payloads.add(objectMapper.writeValueAsString(row));
+		}
+	}
+
+	@Benchmark
+	public List<String> serializeWindow() throws Exception {
+		List<String> result = new ArrayList<>(rows.size());
+		for (ChatMessageRow row : rows) {
+			result.add(objectMapper.writeValueAsString(row));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<String> serializeWindowWithPrebuiltWriter() throws Exception {
+		List<String> result = new ArrayList<>(rows.size());
+		for (ChatMessageRow row : rows) {
+			result.add(rowWriter.writeValueAsString(row));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<ChatMessageRow> deserializeWindow() throws Exception {
+		List<ChatMessageRow> result = new ArrayList<>(payloads.size());
+		for (String payload : payloads) {
+			result.add(objectMapper.readValue(payload, ChatMessageRow.class));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<ChatMessageRow> deserializeWindowWithPrebuiltReader() throws Exception {
+		List<ChatMessageRow> result = new ArrayList<>(payloads.size());
+		for (String payload : payloads) {
+			result.add(rowReader.readValue(payload));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,72 @@
+package com.matchimban.matchimban_api.chat.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 메시지 한 페이지(50건)의 안읽음 수 계산. 정렬 + 이진 탐색과 참여자 전수 비교를 나란히 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatUnreadCounterBenchmark {
+
+	private static final int PAGE_SIZE = 50;
+
+	@Param({"10", "100"})
+	public int participantCount;
+
+	private List<String> lastReadIds;
+	private List<String> messageIds;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		messageIds = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			messageIds.add(messageId(1_000 + i));
+		}
+		lastReadIds = new ArrayList<>(participantCount);
+		for (int i = 0; i < participantCount; i++) {
+			lastReadIds.add(i % 10 == 0 ? null : messageId(950 + random.nextInt(120)));
+		}
+	}
+
+	@Benchmark
+	public int[] sortedBinarySearch() {
+		ChatUnreadCounter counter = ChatUnreadCounter.of(lastReadIds);
+		int[] counts = new int[messageIds.size()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = counter.countUnread(messageIds.get(i));
+		}
+		return counts;
+	}
+
+	@Benchmark
+	public int[] linearScan() {
+		int[] counts = new int[messageIds.size()];
+		for (int i = 0; i < counts.length; i++) {
+			String messageId = messageIds.get(i);
+			int unread = 0;
+			for (String lastReadId : lastReadIds) {
+				if (lastReadId == null || lastReadId.compareTo(messageId) < 0) {
+					unread++;
+				}
+			}
+			counts[i] = unread;
+		}
+		return counts;
+	}
+
+	private static String messageId(int sequence) {
+		return String.format("01JABCDEFGHJKMNPQRST%06d", sequence);
+	}
+}
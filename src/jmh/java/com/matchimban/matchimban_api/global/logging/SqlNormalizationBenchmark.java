@@ -0,0 +1,64 @@
+package com.matchimban.matchimban_api.global.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 느린 쿼리 로그 한 건당 수행하는 SQL 공백 정리 + 해시.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlNormalizationBenchmark {
+
+	private static final String HIBERNATE_SQL = """
+		select
+		    m1_0.id,
+		    m1_0.title,
+		    m1_0.scheduled_at,
+		    m1_0.participant_count,
+		    m1_0.current_vote_status
+		from
+		    meeting_participants mp1_0
+		join
+		    meetings m1_0
+		        on m1_0.id=mp1_0.meeting_id
+		where
+		    mp1_0.member_id=?
+		    and mp1_0.status=?
+		    and m1_0.is_deleted=false
+		order by
+		    mp1_0.id desc
+		fetch
+		    first ? rows only
+		""";
+
+	private SqlPerfLoggingService service;
+	private String longSql;
+
+	@Setup
+	public void setUp() {
+		service = new SqlPerfLoggingService(new PerfLogProperties(), new ObjectMapper());
+		longSql = HIBERNATE_SQL.repeat(4);
+	}
+
+	@Benchmark
+	public String normalizeShort() {
+		return service.normalizeSql(HIBERNATE_SQL);
+	}
+
+	@Benchmark
+	public String normalizeAndTruncateLong() {
+		return service.normalizeSql(longSql);
+	}
+
+	@Benchmark
+	public String normalizeAndHash() {
+		return service.hash(service.normalizeSql(HIBERNATE_SQL));
+	}
+}
@@ -0,0 +1,65 @@
+package com.matchimban.matchimban_api.settlement.service;
+
+import com.matchimban.matchimban_api.settlement.entity.ReceiptItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 메뉴 선택 확정 후 금액 분배(메뉴별 균등 분할 → 할인 비례 배분 → 원 단위 보정).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuSelectionSplitBenchmark {
+
+    private static final int ITEM_COUNT = 30;
+
+    @Param({"4", "12"})
+    public int participantCount;
+
+    private List<ReceiptItem> items;
+    private Map<Long, List<Long>> itemIdToSpIds;
+    private List<Long> spIds;
+    private BigDecimal discount;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        spIds = new ArrayList<>(participantCount);
+        for (long spId = 1; spId <= participantCount; spId++) {
+            spIds.add(spId);
+        }
+
+        items = new ArrayList<>(ITEM_COUNT);
+        itemIdToSpIds = new HashMap<>();
+        for (long itemId = 1; itemId <= ITEM_COUNT; itemId++) {
+            items.add(ReceiptItem.builder()
+                    .id(itemId)
+                    .itemName("item-" + itemId)
+                    .totalPrice(BigDecimal.valueOf(3_000 + random.nextInt(30_000)))
+                    .build());
+            // 일부 메뉴는 아무도 고르지 않아 호스트에게 귀속된다.
+            if (itemId % 7 == 0) {
+                continue;
+            }
+            List<Long> selectors = new ArrayList<>();
+            for (Long spId : spIds) {
+                if (random.nextInt(3) == 0) {
+                    selectors.add(spId);
+                }
+            }
+            itemIdToSpIds.put(itemId, selectors);
+        }
+        discount = BigDecimal.valueOf(7_777);
+    }
+
+    @Benchmark
+    public Map<Long, MenuSelectionConfirmService.SplitAmounts> splitAmounts() {
+        return MenuSelectionConfirmService.splitAmounts(items, itemIdToSpIds, spIds, spIds.get(0), discount);
+    }
+}
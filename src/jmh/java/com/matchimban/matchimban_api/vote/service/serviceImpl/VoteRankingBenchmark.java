@@ -0,0 +1,53 @@
+package com.matchimban.matchimban_api.vote.service.serviceImpl;
+
+import com.matchimban.matchimban_api.vote.entity.MeetingRestaurantCandidate;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 집계 후 후보 순위 정렬(가중 점수 → AI 점수 → id). 동점이 많을수록 2·3차 비교가 늘어난다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VoteRankingBenchmark {
+
+    @Param({"10", "30"})
+    public int candidateCount;
+
+    private List<MeetingRestaurantCandidate> candidates;
+    private VoteTallyRedisRepository.VoteTally tally;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        candidates = new ArrayList<>(candidateCount);
+        Map<Long, VoteTallyRedisRepository.CandidateTally> tallies = new HashMap<>();
+        for (long id = 1; id <= candidateCount; id++) {
+            candidates.add(MeetingRestaurantCandidate.builder()
+                    .id(id)
+                    .aiScore(BigDecimal.valueOf(random.nextInt(1000), 3))
+                    .build());
+            // 점수 범위를 좁혀 동점을 만든다.
+            tallies.put(id, new VoteTallyRedisRepository.CandidateTally(
+                    random.nextInt(8), random.nextInt(8), random.nextInt(8), random.nextInt(5) - 2
+            ));
+        }
+        Collections.shuffle(candidates, random);
+        tally = new VoteTallyRedisRepository.VoteTally(8, tallies);
+    }
+
+    @Benchmark
+    public List<MeetingRestaurantCandidate> rankCandidates() {
+        List<MeetingRestaurantCandidate> copy = new ArrayList<>(candidates);
+        VoteCountServiceImpl.rankCandidates(copy, tally);
+        return copy;
+    }
+}
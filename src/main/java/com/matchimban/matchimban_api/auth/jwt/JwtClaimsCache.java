@@ -0,0 +1,116 @@
+package com.matchimban.matchimban_api.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 서명 검증을 통과한 access token의 principal을 토큰 해시 기준으로 잠깐 캐시한다.
+// 토큰 만료 시각을 넘겨 보관하지 않으며, refresh 세션 폐기 시 해당 회원/세션 항목을 지운다.
+// 요청 스레드끼리 전역 락을 잡지 않도록 ConcurrentHashMap에 담고, 넣은 순서는 별도 큐로만 기억한다.
+// 가득 차면 큐에서 가장 먼저 넣은 항목부터 밀어낸다. 동시에 넣는 중에는 잠깐 상한을 넘을 수 있는 근사 FIFO다.
+@Component
+public class JwtClaimsCache {
+
+	private final long ttlMillis;
+	private final int maxEntries;
+	private final ConcurrentHashMap<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+	// 폐기/만료로 이미 지워진 항목도 남아 있을 수 있다. 밀어낼 때 맵에 남은 항목이 그 줄의 항목일 때만 지운다.
+	private final Queue<QueuedEntry> insertionOrder = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queuedCount = new AtomicInteger();
+
+	public JwtClaimsCache(
+		@Value("${jwt.claims-cache.ttl-seconds:30}") long ttlSeconds,
+		@Value("${jwt.claims-cache.max-entries:10000}") int maxEntries
+	) {
+		this.ttlMillis = Math.max(0L, ttlSeconds) * 1000L;
+		this.maxEntries = Math.max(0, maxEntries);
+	}
+
+	public MemberPrincipal get(String token) {
+		if (!isEnabled()) {
+			return null;
+		}
+		String key = hash(token);
+		CachedPrincipal cached = entries.get(key);
+		if (cached == null) {
+			return null;
+		}
+		if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+			entries.remove(key, cached);
+			return null;
+		}
+		return cached.principal();
+	}
+
+	public void put(String token, MemberPrincipal principal, Date tokenExpiresAt) {
+		if (!isEnabled() || tokenExpiresAt == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long expiresAtMillis = Math.min(now + ttlMillis, tokenExpiresAt.getTime());
+		if (expiresAtMillis <= now) {
+			return;
+		}
+		String key = hash(token);
+		CachedPrincipal cached = new CachedPrincipal(principal, expiresAtMillis);
+		// 다시 넣는 토큰은 큐 맨 뒤에 새로 줄을 선다. 앞쪽에 남은 예전 줄은 밀어낼 때 무시된다.
+		entries.put(key, cached);
+		insertionOrder.offer(new QueuedEntry(key, cached));
+		queuedCount.incrementAndGet();
+		evictOverflow();
+	}
+
+	public void revokeSession(Long memberId, String sid) {
+		entries.values().removeIf(entry ->
+			entry.principal().memberId().equals(memberId) && entry.principal().sid().equals(sid)
+		);
+	}
+
+	public void revokeMember(Long memberId) {
+		entries.values().removeIf(entry -> entry.principal().memberId().equals(memberId));
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	// 항목 수가 상한을 넘었거나, 지워진 항목의 줄이 쌓여 큐가 상한의 두 배를 넘으면 앞에서부터 정리한다.
+	private void evictOverflow() {
+		while (entries.size() > maxEntries || queuedCount.get() > maxEntries * 2) {
+			QueuedEntry oldest = insertionOrder.poll();
+			if (oldest == null) {
+				return;
+			}
+			queuedCount.decrementAndGet();
+			entries.computeIfPresent(oldest.key(), (key, current) -> current == oldest.cached() ? null : current);
+		}
+	}
+
+	private boolean isEnabled() {
+		return ttlMillis > 0L && maxEntries > 0;
+	}
+
+	private String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+	private record CachedPrincipal(MemberPrincipal principal, long expiresAtMillis) {
+	}
+
+	private record QueuedEntry(String key, CachedPrincipal cached) {
+	}
+}
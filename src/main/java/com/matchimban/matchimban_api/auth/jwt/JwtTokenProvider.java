@@ -5,6 +5,7 @@ import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -25,15 +26,22 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
 
 	private final JwtProperties properties;
+	private final JwtClaimsCache claimsCache;
 	private SecretKey key;
+	private JwtParser parser; // 불변 객체라 여러 스레드에서 재사용한다.
 
-	public JwtTokenProvider(JwtProperties properties) {
+	public JwtTokenProvider(JwtProperties properties, JwtClaimsCache claimsCache) {
 		this.properties = properties;
+		this.claimsCache = claimsCache;
 	}
 
 	@PostConstruct
 	private void initialize() {
 		this.key = Keys.hmacShaKeyFor(properties.secret().getBytes(StandardCharsets.UTF_8));
+		this.parser = Jwts.parser()
+			.requireIssuer(properties.issuer())
+			.verifyWith(key) // 검증에 쓸 키 지정
+			.build();
 	}
 
 	public String createAccessToken(Member member, String sid) { // 액세스 토큰 발급
@@ -94,7 +102,7 @@ public class JwtTokenProvider {
 	}
 
 	public Optional<Authentication> getAuthentication(String token) { //토큰 → Authentication 만들기
-		return parseToken(token, false)
+		return resolvePrincipal(token)
                 .map(principal -> new UsernamePasswordAuthenticationToken(
                         principal,
                         null,
@@ -107,12 +115,25 @@ public class JwtTokenProvider {
 		return parseToken(token, true);
 	}
 
+	private Optional<MemberPrincipal> resolvePrincipal(String token) {
+		// 폴링 요청마다 같은 토큰을 다시 검증하지 않도록 검증 결과를 캐시에서 먼저 찾는다.
+		MemberPrincipal cached = claimsCache.get(token);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		try {
+			Claims claims = parser.parseSignedClaims(token).getPayload();
+			Optional<MemberPrincipal> principal = toPrincipal(claims);
+			principal.ifPresent(value -> claimsCache.put(token, value, claims.getExpiration()));
+			return principal;
+		} catch (JwtException | IllegalArgumentException ex) {
+			return Optional.empty();
+		}
+	}
+
 	private Optional<MemberPrincipal> parseToken(String token, boolean allowExpired) { //토큰 검증
 		try {
-			Claims claims = Jwts.parser()
-				.requireIssuer(properties.issuer())
-				.verifyWith(key) // 검증에 쓸 키 지정
-				.build()
+			Claims claims = parser
 				.parseSignedClaims(token)// 서명 검증
 				.getPayload();
 
@@ -31,14 +31,17 @@ public class RefreshTokenService {
 
 	private final StringRedisTemplate redisTemplate;
 	private final JwtProperties jwtProperties;
+	private final JwtClaimsCache jwtClaimsCache;
 	private final SecureRandom secureRandom = new SecureRandom();
 
 	public RefreshTokenService(
 		StringRedisTemplate redisTemplate,
-		JwtProperties jwtProperties
+		JwtProperties jwtProperties,
+		JwtClaimsCache jwtClaimsCache
 	) {
 		this.redisTemplate = redisTemplate;
 		this.jwtProperties = jwtProperties;
+		this.jwtClaimsCache = jwtClaimsCache;
 	}
 
 	public String issue(Long memberId, String sid, String device) {
@@ -155,9 +158,12 @@ public class RefreshTokenService {
 			deleteIndex(storedHash.toString());
 		}
 		redisTemplate.opsForHash().delete(mapKey, sid);
+		// 이 노드에 캐시된 access token 검증 결과도 함께 버린다.
+		jwtClaimsCache.revokeSession(memberId, sid);
 	}
 
 	public void revokeAll(Long memberId) {
+		jwtClaimsCache.revokeMember(memberId);
 		// memberId 기준 세션 맵에서 sid/refreshHash를 얻어 KEYS 없이 일괄 폐기한다.
 		String mapKey = buildMapKey(memberId);
 		Map<Object, Object> entries = redisTemplate.opsForHash().entries(mapKey);
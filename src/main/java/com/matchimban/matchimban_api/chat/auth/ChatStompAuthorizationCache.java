@@ -0,0 +1,66 @@
+package com.matchimban.matchimban_api.chat.auth;
+
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// STOMP 세션별로 "이 모임의 ACTIVE 참여자임"을 확인한 결과를 캐시한다.
+// 허용된 결과만 저장하고, 나가기 등으로 참여가 끊기면 모든 노드에서 Redis 채널로 무효화한다.
+// 무효화 메시지를 놓치더라도 ttl 안에 다시 DB로 확인한다.
+@Component
+public class ChatStompAuthorizationCache {
+
+	private final ConcurrentHashMap<SessionMeetingKey, CachedGrant> grants = new ConcurrentHashMap<>();
+	private final long ttlMillis;
+
+	public ChatStompAuthorizationCache(
+		@Value("${chat.stomp.authorization-cache.ttl-seconds:30}") long ttlSeconds
+	) {
+		this.ttlMillis = Math.max(0L, ttlSeconds) * 1000L;
+	}
+
+	public boolean isAllowed(String sessionId, Long meetingId, Long memberId) {
+		if (sessionId == null || ttlMillis == 0L) {
+			return false;
+		}
+		SessionMeetingKey key = new SessionMeetingKey(sessionId, meetingId);
+		CachedGrant grant = grants.get(key);
+		if (grant == null) {
+			return false;
+		}
+		if (!grant.memberId().equals(memberId) || grant.expiresAtMillis() <= System.currentTimeMillis()) {
+			grants.remove(key, grant);
+			return false;
+		}
+		return true;
+	}
+
+	public void allow(String sessionId, Long meetingId, Long memberId) {
+		if (sessionId == null || ttlMillis == 0L) {
+			return;
+		}
+		grants.put(
+			new SessionMeetingKey(sessionId, meetingId),
+			new CachedGrant(memberId, System.currentTimeMillis() + ttlMillis)
+		);
+	}
+
+	public void revoke(Long meetingId, Long memberId) {
+		grants.entrySet().removeIf(entry ->
+			entry.getKey().meetingId().equals(meetingId) && entry.getValue().memberId().equals(memberId)
+		);
+	}
+
+	public void evictSession(String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		grants.keySet().removeIf(key -> key.sessionId().equals(sessionId));
+	}
+
+	private record SessionMeetingKey(String sessionId, Long meetingId) {
+	}
+
+	private record CachedGrant(Long memberId, long expiresAtMillis) {
+	}
+}
@@ -27,6 +27,7 @@ public class ChatStompAuthorizationInterceptor implements ChannelInterceptor {
 
 	private final MeetingParticipantRepository meetingParticipantRepository;
 	private final StompPrincipalExtractor stompPrincipalExtractor;
+	private final ChatStompAuthorizationCache chatStompAuthorizationCache;
 
 	@Override
 	public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
@@ -41,6 +42,11 @@ public class ChatStompAuthorizationInterceptor implements ChannelInterceptor {
 			return message;
 		}
 
+		if (command == StompCommand.DISCONNECT) {
+			chatStompAuthorizationCache.evictSession(accessor.getSessionId());
+			return message;
+		}
+
 		if (command != StompCommand.SEND && command != StompCommand.SUBSCRIBE) {
 			return message;
 		}
@@ -60,6 +66,11 @@ public class ChatStompAuthorizationInterceptor implements ChannelInterceptor {
 		}
 
 		Long meetingId = Long.parseLong(matcher.group(1));
+		String sessionId = accessor.getSessionId();
+		if (chatStompAuthorizationCache.isAllowed(sessionId, meetingId, principal.memberId())) {
+			return message;
+		}
+
 		boolean allowed = meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
 			meetingId,
 			principal.memberId(),
@@ -68,6 +79,7 @@ public class ChatStompAuthorizationInterceptor implements ChannelInterceptor {
 		if (!allowed) {
 			throw new AccessDeniedException("forbidden");
 		}
+		chatStompAuthorizationCache.allow(sessionId, meetingId, principal.memberId());
 		return message;
 	}
 
@@ -7,13 +7,11 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
@@ -22,19 +20,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatMessageCacheService {
 
-	private static final String RECENT_MESSAGES_VERSION_KEY_PREFIX = "chat:meeting:messages:version:";
-	private static final String RECENT_MESSAGES_VERSIONED_KEY_PREFIX = "chat:meeting:messages:recent:";
+	private static final String RECENT_MESSAGES_KEY_PREFIX = "chat:meeting:messages:recent:";
 	private static final String RECENT_MESSAGES_TRAFFIC_KEY_PREFIX = "chat:meeting:messages:traffic:";
 	private static final String LATEST_MESSAGE_ID_KEY_PREFIX = "chat:meeting:latest-message-id:";
-	private static final String RECENT_MESSAGES_LOCK_KEY_PREFIX = "chat:meeting:messages:lock:";
-	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
-		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
-		Long.class
-	);
 
 	private final StringRedisTemplate stringRedisTemplate;
 	private final ObjectMapper objectMapper;
 	private final ChatMetricsRecorder chatMetricsRecorder;
+	private final RedisScript<Long> chatRecentAppendScript;
+	private final RedisScript<Long> chatRecentReplaceScript;
 
 	@Value("${chat.cache.messages.recent.enabled:true}")
 	private boolean enabled;
@@ -42,9 +36,6 @@ public class ChatMessageCacheService {
 	@Value("${chat.cache.messages.recent.window-size:100}")
 	private int recentWindowSize;
 
-	@Value("${chat.cache.messages.recent.ttl-seconds:120}")
-	private long recentTtlSeconds;
-
 	@Value("${chat.cache.messages.recent.hot-ttl-seconds:30}")
 	private long recentHotTtlSeconds;
 
@@ -63,18 +54,6 @@ public class ChatMessageCacheService {
 	@Value("${chat.cache.messages.latest-id.ttl-seconds:120}")
 	private long latestMessageIdTtlSeconds;
 
-	@Value("${chat.cache.messages.recent.lock-enabled:true}")
-	private boolean lockEnabled;
-
-	@Value("${chat.cache.messages.recent.lock-ttl-millis:2000}")
-	private long lockTtlMillis;
-
-	@Value("${chat.cache.messages.recent.lock-retry-count:15}")
-	private int lockRetryCount;
-
-	@Value("${chat.cache.messages.recent.lock-retry-backoff-millis:5}")
-	private long lockRetryBackoffMillis;
-
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -96,12 +75,7 @@ public class ChatMessageCacheService {
 			return Optional.empty();
 		}
 
-		Optional<Long> currentVersion = getCurrentVersion(meetingId);
-		if (currentVersion.isEmpty()) {
-			chatMetricsRecorder.recordMessageRecentCacheLookupMiss();
-			return Optional.empty();
-		}
-		String key = recentMessagesVersionedKey(meetingId, currentVersion.get());
+		String key = recentMessagesKey(meetingId);
 		try {
 			List<String> payloads = stringRedisTemplate.opsForList().range(key, 0, fetchSize - 1L);
 			if (payloads == null || payloads.isEmpty()) {
@@ -127,165 +101,48 @@ public class ChatMessageCacheService {
 			return;
 		}
 
-		withRoomLock(meetingId, () -> doReplaceRecentMessages(meetingId, rowsDesc));
-	}
-
-	public void appendRecentMessage(Long meetingId, ChatMessageRow row) {
-		if (!enabled || meetingId == null || row == null || row.messageId() == null) {
-			return;
-		}
-
-		withRoomLock(meetingId, () -> doAppendRecentMessage(meetingId, row));
-	}
-
-	private void doReplaceRecentMessages(Long meetingId, List<ChatMessageRow> rowsDesc) {
 		try {
-			Long previousVersion = getCurrentVersion(meetingId).orElse(null);
-			Long nextVersion = stringRedisTemplate.opsForValue().increment(recentMessagesVersionKey(meetingId));
-			if (nextVersion == null) {
+			List<String> payloads = serializeRows(rowsDesc);
+			if (payloads.isEmpty()) {
 				return;
 			}
-			persistRecentSnapshot(meetingId, nextVersion, rowsDesc, resolveRecentTtlSeconds(meetingId));
-			deleteOlderVersionSnapshot(meetingId, previousVersion, nextVersion);
-			cacheLatestMessageId(meetingId, rowsDesc.get(0).messageId());
+			List<String> args = new ArrayList<>(payloads.size() + 3);
+			args.add(String.valueOf(recentMaxLength()));
+			args.add(String.valueOf(resolveRecentTtlSeconds(meetingId)));
+			args.add(String.valueOf(Math.max(1, latestMessageIdTtlSeconds)));
+			args.addAll(payloads);
+			stringRedisTemplate.execute(
+				chatRecentReplaceScript,
+				List.of(recentMessagesKey(meetingId), latestMessageIdKey(meetingId)),
+				args.toArray()
+			);
 		} catch (Exception ex) {
 			log.warn("Failed to replace chat messages cache. meetingId={}", meetingId, ex);
 		}
 	}
 
-	private void doAppendRecentMessage(Long meetingId, ChatMessageRow row) {
-		try {
-			Long previousVersion = getCurrentVersion(meetingId).orElse(null);
-			List<ChatMessageRow> previous = loadPreviousSnapshot(meetingId, previousVersion);
-			List<ChatMessageRow> merged = mergeLatest(previous, row);
-			Long nextVersion = stringRedisTemplate.opsForValue().increment(recentMessagesVersionKey(meetingId));
-			if (nextVersion == null) {
-				return;
-			}
-			persistRecentSnapshot(meetingId, nextVersion, merged, resolveRecentTtlSeconds(meetingId));
-			deleteOlderVersionSnapshot(meetingId, previousVersion, nextVersion);
-			cacheLatestMessageId(meetingId, row.messageId());
-		} catch (Exception ex) {
-			log.warn("Failed to append chat message cache. meetingId={} messageId={}", meetingId, row.messageId(), ex);
-		}
-	}
-
-	private void withRoomLock(Long meetingId, Runnable action) {
-		if (!lockEnabled) {
-			action.run();
-			return;
-		}
-
-		String lockKey = recentMessagesLockKey(meetingId);
-		String lockToken = UUID.randomUUID().toString();
-		boolean acquired = tryAcquireLock(lockKey, lockToken);
-		if (!acquired) {
-			log.warn("Skipped chat cache update due to lock contention. meetingId={}", meetingId);
-			return;
-		}
-
-		try {
-			action.run();
-		} finally {
-			releaseLock(lockKey, lockToken);
-		}
-	}
-
-	private boolean tryAcquireLock(String lockKey, String lockToken) {
-		long ttl = Math.max(100L, lockTtlMillis);
-		int retries = Math.max(0, lockRetryCount);
-		long backoff = Math.max(1L, lockRetryBackoffMillis);
-
-		for (int i = 0; i <= retries; i++) {
-			Boolean acquired = stringRedisTemplate.opsForValue()
-				.setIfAbsent(lockKey, lockToken, Duration.ofMillis(ttl));
-			if (Boolean.TRUE.equals(acquired)) {
-				return true;
-			}
-			if (i < retries) {
-				sleepQuietly(backoff);
-			}
-		}
-		return false;
-	}
-
-	private void releaseLock(String lockKey, String lockToken) {
-		try {
-			stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
-		} catch (Exception ex) {
-			log.warn("Failed to release chat cache lock. lockKey={}", lockKey, ex);
-		}
-	}
-
-	private void sleepQuietly(long millis) {
-		try {
-			Thread.sleep(millis);
-		} catch (InterruptedException ex) {
-			Thread.currentThread().interrupt();
-		}
-	}
-
-	private void cacheLatestMessageId(Long meetingId, String messageId) {
-		if (messageId == null) {
+	public void appendRecentMessage(Long meetingId, ChatMessageRow row) {
+		if (!enabled || meetingId == null || row == null || row.messageId() == null) {
 			return;
 		}
-		String key = latestMessageIdKey(meetingId);
-		stringRedisTemplate.opsForValue().set(
-			key,
-			messageId,
-			Duration.ofSeconds(latestMessageIdTtlSeconds)
-		);
-	}
 
-	private List<ChatMessageRow> loadPreviousSnapshot(Long meetingId, Long version) {
-		if (version == null || version <= 0) {
-			return List.of();
-		}
-		String key = recentMessagesVersionedKey(meetingId, version);
 		try {
-			List<String> payloads = stringRedisTemplate.opsForList().range(key, 0, recentWindowSize);
-			if (payloads == null || payloads.isEmpty()) {
-				return List.of();
-			}
-			return deserializeRows(payloads);
+			stringRedisTemplate.execute(
+				chatRecentAppendScript,
+				List.of(recentMessagesKey(meetingId), latestMessageIdKey(meetingId)),
+				row.messageId(),
+				objectMapper.writeValueAsString(row),
+				String.valueOf(recentMaxLength()),
+				String.valueOf(resolveRecentTtlSeconds(meetingId)),
+				String.valueOf(Math.max(1, latestMessageIdTtlSeconds))
+			);
 		} catch (Exception ex) {
-			log.warn("Failed to load previous chat cache snapshot. meetingId={} version={}", meetingId, version, ex);
-			return List.of();
-		}
-	}
-
-	private List<ChatMessageRow> mergeLatest(List<ChatMessageRow> previous, ChatMessageRow latest) {
-		List<ChatMessageRow> merged = new ArrayList<>(Math.max(1, previous.size() + 1));
-		merged.add(latest);
-		for (ChatMessageRow row : previous) {
-			if (row.messageId() != null && row.messageId().equals(latest.messageId())) {
-				continue;
-			}
-			merged.add(row);
-			if (merged.size() >= recentWindowSize + 1) {
-				break;
-			}
-		}
-		return merged;
-	}
-
-	private void persistRecentSnapshot(Long meetingId, Long version, List<ChatMessageRow> rowsDesc, long ttlSeconds) throws Exception {
-		List<String> payloads = serializeRows(rowsDesc);
-		if (payloads.isEmpty()) {
-			return;
+			log.warn("Failed to append chat message cache. meetingId={} messageId={}", meetingId, row.messageId(), ex);
 		}
-		String key = recentMessagesVersionedKey(meetingId, version);
-		stringRedisTemplate.delete(key);
-		stringRedisTemplate.opsForList().rightPushAll(key, payloads);
-		long effectiveTtl = Math.max(1, ttlSeconds > 0 ? ttlSeconds : recentTtlSeconds);
-		stringRedisTemplate.expire(key, Duration.ofSeconds(effectiveTtl));
 	}
 
-	private void deleteOlderVersionSnapshot(Long meetingId, Long previousVersion, Long currentVersion) {
-		if (previousVersion == null || previousVersion <= 0 || currentVersion == null || previousVersion.equals(currentVersion)) {
-			return;
-		}
-		stringRedisTemplate.delete(recentMessagesVersionedKey(meetingId, previousVersion));
+	private int recentMaxLength() {
+		return Math.max(1, recentWindowSize + 1);
 	}
 
 	private long resolveRecentTtlSeconds(Long meetingId) {
@@ -317,26 +174,6 @@ public class ChatMessageCacheService {
 		}
 	}
 
-	private Optional<Long> getCurrentVersion(Long meetingId) {
-		String raw = stringRedisTemplate.opsForValue().get(recentMessagesVersionKey(meetingId));
-		if (raw == null) {
-			return Optional.empty();
-		}
-		try {
-			return Optional.of(Long.parseLong(raw));
-		} catch (NumberFormatException ex) {
-			return Optional.empty();
-		}
-	}
-
-	private List<ChatMessageRow> deserializeRows(List<String> payloads) throws Exception {
-		List<ChatMessageRow> rows = new ArrayList<>(payloads.size());
-		for (String payload : payloads) {
-			rows.add(objectMapper.readValue(payload, ChatMessageRow.class));
-		}
-		return rows;
-	}
-
 	private List<String> serializeRows(List<ChatMessageRow> rows) throws Exception {
 		List<ChatMessageRow> limitedRows = rows.stream()
 			.limit((long) recentWindowSize + 1L)
@@ -348,12 +185,9 @@ public class ChatMessageCacheService {
 		return payloads;
 	}
 
-	private String recentMessagesVersionKey(Long meetingId) {
-		return RECENT_MESSAGES_VERSION_KEY_PREFIX + meetingId;
-	}
-
-	private String recentMessagesVersionedKey(Long meetingId, Long version) {
-		return RECENT_MESSAGES_VERSIONED_KEY_PREFIX + meetingId + ":v:" + version;
+	// 스크립트가 건드리는 키는 모두 KEYS로 넘긴다(키 이름을 스크립트 안에서 만들지 않는다).
+	private String recentMessagesKey(Long meetingId) {
+		return RECENT_MESSAGES_KEY_PREFIX + meetingId;
 	}
 
 	private String recentMessagesTrafficKey(Long meetingId) {
@@ -363,8 +197,4 @@ public class ChatMessageCacheService {
 	private String latestMessageIdKey(Long meetingId) {
 		return LATEST_MESSAGE_ID_KEY_PREFIX + meetingId;
 	}
-
-	private String recentMessagesLockKey(Long meetingId) {
-		return RECENT_MESSAGES_LOCK_KEY_PREFIX + meetingId;
-	}
 }
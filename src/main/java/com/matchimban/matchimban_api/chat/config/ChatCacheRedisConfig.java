@@ -0,0 +1,28 @@
+package com.matchimban.matchimban_api.chat.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+@Configuration
+public class ChatCacheRedisConfig {
+
+	@Bean
+	public RedisScript<Long> chatRecentAppendScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/chat-recent-append.lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	@Bean
+	public RedisScript<Long> chatRecentReplaceScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/chat-recent-replace.lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
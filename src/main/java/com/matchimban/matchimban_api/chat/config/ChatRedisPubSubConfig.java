@@ -1,6 +1,8 @@
 package com.matchimban.matchimban_api.chat.config;
 
+import com.matchimban.matchimban_api.chat.redis.ChatMembershipRevokedRedisSubscriber;
 import com.matchimban.matchimban_api.chat.redis.ChatRedisSubscriber;
+import com.matchimban.matchimban_api.chat.redis.ChatUnreadCountsDeltaRedisSubscriber;
 import com.matchimban.matchimban_api.chat.redis.ChatUnreadCountsRedisSubscriber;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,16 +22,32 @@ public class ChatRedisPubSubConfig {
 	@Value("${chat.redis.channel.unread-counts-updated:chat:meeting:unread-counts-updated}")
 	private String unreadCountsUpdatedChannel;
 
+	@Value("${chat.redis.channel.unread-counts-delta:chat:meeting:unread-counts-delta}")
+	private String unreadCountsDeltaChannel;
+
+	@Value("${chat.redis.channel.membership-revoked:chat:meeting:membership-revoked}")
+	private String membershipRevokedChannel;
+
+	@Value("${chat.redis.routing.per-meeting-channels:false}")
+	private boolean perMeetingChannels;
+
 	@Bean
 	public RedisMessageListenerContainer chatRedisMessageListenerContainer(
 			RedisConnectionFactory redisConnectionFactory,
 			ChatRedisSubscriber chatRedisSubscriber,
-			ChatUnreadCountsRedisSubscriber chatUnreadCountsRedisSubscriber
+			ChatUnreadCountsRedisSubscriber chatUnreadCountsRedisSubscriber,
+			ChatUnreadCountsDeltaRedisSubscriber chatUnreadCountsDeltaRedisSubscriber,
+			ChatMembershipRevokedRedisSubscriber chatMembershipRevokedRedisSubscriber
 		) {
 			RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 			container.setConnectionFactory(redisConnectionFactory);
-			container.addMessageListener(chatRedisSubscriber, new ChannelTopic(messageCreatedChannel));
-			container.addMessageListener(chatUnreadCountsRedisSubscriber, new ChannelTopic(unreadCountsUpdatedChannel));
+			// 모임별 채널 모드에서는 ChatRedisMeetingChannelRouter가 로컬 구독이 있는 모임만 구독한다.
+			if (!perMeetingChannels) {
+				container.addMessageListener(chatRedisSubscriber, new ChannelTopic(messageCreatedChannel));
+				container.addMessageListener(chatUnreadCountsRedisSubscriber, new ChannelTopic(unreadCountsUpdatedChannel));
+				container.addMessageListener(chatUnreadCountsDeltaRedisSubscriber, new ChannelTopic(unreadCountsDeltaChannel));
+			}
+			container.addMessageListener(chatMembershipRevokedRedisSubscriber, new ChannelTopic(membershipRevokedChannel));
 			return container;
 		}
 }
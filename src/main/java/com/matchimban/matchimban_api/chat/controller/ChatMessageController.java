@@ -4,6 +4,7 @@ import com.matchimban.matchimban_api.auth.jwt.MemberPrincipal;
 import com.matchimban.matchimban_api.chat.dto.http.ChatMessagesLoadedData;
 import com.matchimban.matchimban_api.chat.dto.http.ChatReadPointerUpdateRequest;
 import com.matchimban.matchimban_api.chat.dto.http.ChatReadPointerUpdatedData;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedData;
 import com.matchimban.matchimban_api.chat.service.ChatService;
 import com.matchimban.matchimban_api.global.dto.ApiResult;
 import com.matchimban.matchimban_api.global.error.api.ErrorResponse;
@@ -42,6 +43,11 @@ public class ChatMessageController {
 	)
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "messages_loaded"),
+		@ApiResponse(
+			responseCode = "400",
+			description = "invalid_cursor",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		),
 		@ApiResponse(
 			responseCode = "401",
 			description = "unauthorized",
@@ -109,4 +115,30 @@ public class ChatMessageController {
 		);
 		return ResponseEntity.ok(ApiResult.of("read_pointer_updated", data));
 	}
+
+	@Operation(
+		summary = "unread_count 스냅샷 조회 V2",
+		description = "최근 윈도우의 unread_count 전체를 조회합니다. STOMP unread_counts_delta 이벤트의 server_version에 공백이 생기면 이 스냅샷으로 다시 맞춥니다."
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "unread_counts_loaded"),
+		@ApiResponse(
+			responseCode = "401",
+			description = "unauthorized",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "403",
+			description = "forbidden",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@GetMapping("/{meetingId}/unread-counts")
+	public ResponseEntity<ApiResult<ChatUnreadCountsUpdatedData>> getUnreadCounts(
+		@AuthenticationPrincipal MemberPrincipal principal,
+		@PathVariable Long meetingId
+	) {
+		ChatUnreadCountsUpdatedData data = chatService.getUnreadCountsSnapshot(principal.memberId(), meetingId);
+		return ResponseEntity.ok(ApiResult.of("unread_counts_loaded", data));
+	}
 }
@@ -0,0 +1,31 @@
+package com.matchimban.matchimban_api.chat.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+
+@Schema(description = "읽음 포인터 전진으로 인한 unread_count 변화분. from_message_id < message_id <= to_message_id 인 메시지의 unread_count를 decrement 만큼 줄인다. "
+	+ "같은 member_id의 포인터가 스냅샷/윈도우에서 이미 from_message_id보다 앞서 있으면 그 포인터 이후 구간만 적용한다.")
+public record ChatUnreadCountsDeltaData(
+	@JsonProperty("meeting_id")
+	@Schema(example = "10")
+	Long meetingId,
+	@JsonProperty("member_id")
+	@Schema(description = "읽음 포인터를 옮긴 참여자", example = "3")
+	Long memberId,
+	@JsonProperty("from_message_id")
+	@Schema(nullable = true, description = "이 id는 포함하지 않는다. null이면 처음부터.", example = "6650a1b2c3d4e5f678901200")
+	String fromMessageId,
+	@JsonProperty("to_message_id")
+	@Schema(description = "이 id까지 포함한다.", example = "6650a1b2c3d4e5f678901234")
+	String toMessageId,
+	@Schema(example = "1")
+	int decrement,
+	@JsonProperty("server_version")
+	@Schema(example = "1003")
+	long serverVersion,
+	@JsonProperty("generated_at")
+	@Schema(example = "2026-01-08T15:10:31+09:00")
+	OffsetDateTime generatedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.matchimban.matchimban_api.chat.dto.ws;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "unread_count 변화분 브로드캐스트 이벤트")
+public record ChatUnreadCountsDeltaEvent(
+	@Schema(example = "unread_counts_delta")
+	String event,
+	ChatUnreadCountsDeltaData data
+) {
+	public static ChatUnreadCountsDeltaEvent of(ChatUnreadCountsDeltaData data) {
+		return new ChatUnreadCountsDeltaEvent("unread_counts_delta", data);
+	}
+}
@@ -12,6 +12,9 @@ public record ChatUnreadCountsUpdatedData(
 	Long meetingId,
 	ChatUnreadCountsBasis basis,
 	List<ChatUnreadCountItem> items,
+	@JsonProperty("read_pointers")
+	@Schema(description = "items를 집계한 참여자별 읽음 포인터. delta를 이미 반영된 구간만큼 잘라 적용하는 기준이다.")
+	List<ChatUnreadReadPointer> readPointers,
 	@JsonProperty("server_version")
 	@Schema(example = "1002")
 	long serverVersion,
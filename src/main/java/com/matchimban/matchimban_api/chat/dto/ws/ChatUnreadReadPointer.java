@@ -0,0 +1,15 @@
+package com.matchimban.matchimban_api.chat.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "unread_count 집계에 쓴 참여자별 읽음 포인터")
+public record ChatUnreadReadPointer(
+	@JsonProperty("member_id")
+	@Schema(example = "3")
+	Long memberId,
+	@JsonProperty("last_read_message_id")
+	@Schema(nullable = true, description = "null이면 아직 읽은 메시지가 없다.", example = "6650a1b2c3d4e5f678901200")
+	String lastReadMessageId
+) {
+}
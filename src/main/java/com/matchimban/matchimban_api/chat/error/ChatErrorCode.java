@@ -9,6 +9,7 @@ public enum ChatErrorCode implements ErrorCode {
 	INVALID_MESSAGE_TYPE(HttpStatus.BAD_REQUEST, "invalid_message_type"),
 	INVALID_MESSAGE_CONTENT(HttpStatus.BAD_REQUEST, "invalid_message_content"),
 	INVALID_READ_POINTER(HttpStatus.BAD_REQUEST, "invalid_read_pointer"),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "invalid_cursor"),
 	INVALID_IMAGE_CONTENT_TYPE(HttpStatus.BAD_REQUEST, "invalid_image_content_type"),
 	INVALID_IMAGE_FILE_SIZE(HttpStatus.BAD_REQUEST, "invalid_image_file_size"),
 	CHAT_IMAGE_UPLOAD_NOT_CONFIGURED(HttpStatus.INTERNAL_SERVER_ERROR, "chat_image_upload_not_configured"),
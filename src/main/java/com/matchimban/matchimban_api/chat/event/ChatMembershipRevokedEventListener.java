@@ -0,0 +1,29 @@
+package com.matchimban.matchimban_api.chat.event;
+
+import com.matchimban.matchimban_api.chat.auth.ChatStompAuthorizationCache;
+import com.matchimban.matchimban_api.chat.redis.ChatRedisPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipRevokedEventListener {
+
+	private final ChatStompAuthorizationCache chatStompAuthorizationCache;
+	private final ChatRedisPublisher chatRedisPublisher;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onMembershipRevoked(ChatMembershipRevokedInternalEvent event) {
+		chatStompAuthorizationCache.revoke(event.meetingId(), event.memberId());
+		try {
+			chatRedisPublisher.publishMembershipRevoked(event);
+		} catch (Exception ex) {
+			log.error("Failed to publish chat membership revocation. meetingId={} memberId={}",
+				event.meetingId(), event.memberId(), ex);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.matchimban.matchimban_api.chat.event;
+
+public record ChatMembershipRevokedInternalEvent(
+	Long meetingId,
+	Long memberId
+) {
+}
@@ -4,6 +4,7 @@ import com.matchimban.matchimban_api.chat.cache.ChatMessageCacheService;
 import com.matchimban.matchimban_api.chat.dto.ChatSenderDto;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageCreatedData;
 import com.matchimban.matchimban_api.chat.entity.ChatMessageType;
+import com.matchimban.matchimban_api.global.config.AsyncConfig;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.service.NotificationCommandService;
@@ -28,7 +29,7 @@ public class ChatMessageCreatedEventListener {
 	private final MeetingParticipantRepository meetingParticipantRepository;
 	private final NotificationCommandService notificationCommandService;
 
-	@Async
+	@Async(AsyncConfig.CHAT_EVENT_EXECUTOR)
 	@EventListener
 	public void onChatMessageCreated(ChatMessageCreatedInternalEvent event) {
 		try {
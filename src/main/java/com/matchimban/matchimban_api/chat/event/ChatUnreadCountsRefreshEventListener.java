@@ -1,5 +1,6 @@
 package com.matchimban.matchimban_api.chat.event;
 
+import com.matchimban.matchimban_api.global.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,7 +14,7 @@ public class ChatUnreadCountsRefreshEventListener {
 
 	private final ChatUnreadCountsRefreshCoalescer unreadCountsRefreshCoalescer;
 
-	@Async
+	@Async(AsyncConfig.CHAT_EVENT_EXECUTOR)
 	@EventListener
 	public void onUnreadCountsRefresh(ChatUnreadCountsRefreshInternalEvent event) {
 		try {
@@ -0,0 +1,31 @@
+package com.matchimban.matchimban_api.chat.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.chat.auth.ChatStompAuthorizationCache;
+import com.matchimban.matchimban_api.chat.event.ChatMembershipRevokedInternalEvent;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipRevokedRedisSubscriber implements MessageListener {
+
+	private final ObjectMapper objectMapper;
+	private final ChatStompAuthorizationCache chatStompAuthorizationCache;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			ChatMembershipRevokedInternalEvent event = objectMapper.readValue(raw, ChatMembershipRevokedInternalEvent.class);
+			chatStompAuthorizationCache.revoke(event.meetingId(), event.memberId());
+		} catch (Exception ex) {
+			log.error("Failed to handle redis membership revocation. payload={}", raw, ex);
+		}
+	}
+}
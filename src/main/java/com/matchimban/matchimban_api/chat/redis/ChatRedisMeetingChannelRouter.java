@@ -0,0 +1,165 @@
+package com.matchimban.matchimban_api.chat.redis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+// 이 노드에 해당 모임 토픽 구독자가 있을 때만 모임별 Redis 채널을 구독한다.
+// 구독자가 없는 노드는 그 모임의 메시지를 받지도, 역직렬화하지도 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+	name = {"chat.redis.listener.enabled", "chat.redis.routing.per-meeting-channels"},
+	havingValue = "true"
+)
+public class ChatRedisMeetingChannelRouter {
+
+	private static final int ROUTE_LOCK_STRIPES = 64;
+	private static final Pattern MEETING_TOPIC_PATTERN = Pattern.compile(
+		"^/api/v2/topic/meetings/(\\d+)/(?:messages|unread-counts)$"
+	);
+
+	private final RedisMessageListenerContainer chatRedisMessageListenerContainer;
+	private final ChatRedisSubscriber chatRedisSubscriber;
+	private final ChatUnreadCountsRedisSubscriber chatUnreadCountsRedisSubscriber;
+	private final ChatUnreadCountsDeltaRedisSubscriber chatUnreadCountsDeltaRedisSubscriber;
+
+	@Value("${chat.redis.channel.message-created:chat:meeting:message-created}")
+	private String messageCreatedChannel;
+
+	@Value("${chat.redis.channel.unread-counts-updated:chat:meeting:unread-counts-updated}")
+	private String unreadCountsUpdatedChannel;
+
+	@Value("${chat.redis.channel.unread-counts-delta:chat:meeting:unread-counts-delta}")
+	private String unreadCountsDeltaChannel;
+
+	private final ConcurrentHashMap<Long, Integer> localSubscriptionCounts = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+	private final Set<Long> routedMeetings = ConcurrentHashMap.newKeySet();
+	private final Object[] routeLocks = newRouteLocks(ROUTE_LOCK_STRIPES);
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String sessionId = accessor.getSessionId();
+		String subscriptionId = accessor.getSubscriptionId();
+		String destination = accessor.getDestination();
+		if (sessionId == null || subscriptionId == null || destination == null) {
+			return;
+		}
+
+		Matcher matcher = MEETING_TOPIC_PATTERN.matcher(destination);
+		if (!matcher.matches()) {
+			return;
+		}
+
+		Long meetingId = Long.parseLong(matcher.group(1));
+		Long previous = sessionSubscriptions
+			.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+			.put(subscriptionId, meetingId);
+		if (previous != null) {
+			release(previous);
+		}
+		retain(meetingId);
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String sessionId = accessor.getSessionId();
+		String subscriptionId = accessor.getSubscriptionId();
+		if (sessionId == null || subscriptionId == null) {
+			return;
+		}
+
+		Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		Long meetingId = subscriptions.remove(subscriptionId);
+		if (meetingId != null) {
+			release(meetingId);
+		}
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+		if (subscriptions == null) {
+			return;
+		}
+		subscriptions.values().forEach(this::release);
+	}
+
+	boolean isRouted(Long meetingId) {
+		return routedMeetings.contains(meetingId);
+	}
+
+	// 카운트 전이는 compute 안에서 정하고, 블로킹되는 리스너 등록/해제는 맵 락 밖에서 한다.
+	private void retain(Long meetingId) {
+		Integer count = localSubscriptionCounts.merge(meetingId, 1, Integer::sum);
+		if (count == 1) {
+			syncRoutes(meetingId);
+		}
+	}
+
+	private void release(Long meetingId) {
+		Integer remaining = localSubscriptionCounts.computeIfPresent(meetingId, (key, count) -> count > 1 ? count - 1 : null);
+		if (remaining == null) {
+			syncRoutes(meetingId);
+		}
+	}
+
+	// retain/release가 엇갈려 들어와도 마지막으로 맞추는 쪽이 현재 카운트 기준으로 등록 상태를 정한다.
+	private void syncRoutes(Long meetingId) {
+		synchronized (routeLocks[Math.floorMod(meetingId.hashCode(), routeLocks.length)]) {
+			boolean wanted = localSubscriptionCounts.containsKey(meetingId);
+			boolean routed = routedMeetings.contains(meetingId);
+			if (wanted && !routed) {
+				meetingTopics(meetingId).forEach(route -> chatRedisMessageListenerContainer.addMessageListener(route.listener(), route.topic()));
+				routedMeetings.add(meetingId);
+				log.debug("Subscribed meeting redis channels. meetingId={}", meetingId);
+			} else if (!wanted && routed) {
+				meetingTopics(meetingId).forEach(route -> chatRedisMessageListenerContainer.removeMessageListener(route.listener(), route.topic()));
+				routedMeetings.remove(meetingId);
+				log.debug("Unsubscribed meeting redis channels. meetingId={}", meetingId);
+			}
+		}
+	}
+
+	private List<MeetingRoute> meetingTopics(Long meetingId) {
+		return List.of(
+			new MeetingRoute(chatRedisSubscriber, new ChannelTopic(ChatRedisPublisher.meetingChannel(messageCreatedChannel, meetingId))),
+			new MeetingRoute(chatUnreadCountsRedisSubscriber, new ChannelTopic(ChatRedisPublisher.meetingChannel(unreadCountsUpdatedChannel, meetingId))),
+			new MeetingRoute(chatUnreadCountsDeltaRedisSubscriber, new ChannelTopic(ChatRedisPublisher.meetingChannel(unreadCountsDeltaChannel, meetingId)))
+		);
+	}
+
+	private static Object[] newRouteLocks(int stripes) {
+		Object[] locks = new Object[stripes];
+		for (int i = 0; i < stripes; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
+
+	private record MeetingRoute(MessageListener listener, ChannelTopic topic) {
+	}
+}
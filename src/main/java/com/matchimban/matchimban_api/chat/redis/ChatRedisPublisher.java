@@ -3,7 +3,9 @@ package com.matchimban.matchimban_api.chat.redis;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageCreatedEvent;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsDeltaEvent;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedEvent;
+import com.matchimban.matchimban_api.chat.event.ChatMembershipRevokedInternalEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -22,12 +24,37 @@ public class ChatRedisPublisher {
 	@Value("${chat.redis.channel.unread-counts-updated:chat:meeting:unread-counts-updated}")
 	private String unreadCountsUpdatedChannel;
 
+	@Value("${chat.redis.channel.unread-counts-delta:chat:meeting:unread-counts-delta}")
+	private String unreadCountsDeltaChannel;
+
+	@Value("${chat.redis.channel.membership-revoked:chat:meeting:membership-revoked}")
+	private String membershipRevokedChannel;
+
+	@Value("${chat.redis.routing.per-meeting-channels:false}")
+	private boolean perMeetingChannels;
+
 	public void publishMessageCreated(ChatMessageCreatedEvent payload) {
-		publish(messageCreatedChannel, payload, "failed_to_publish_chat_message");
+		publish(routedChannel(messageCreatedChannel, payload.data().meetingId()), payload, "failed_to_publish_chat_message");
 	}
 
 	public void publishUnreadCountsUpdated(ChatUnreadCountsUpdatedEvent payload) {
-		publish(unreadCountsUpdatedChannel, payload, "failed_to_publish_chat_unread_counts");
+		publish(routedChannel(unreadCountsUpdatedChannel, payload.data().meetingId()), payload, "failed_to_publish_chat_unread_counts");
+	}
+
+	public void publishUnreadCountsDelta(ChatUnreadCountsDeltaEvent payload) {
+		publish(routedChannel(unreadCountsDeltaChannel, payload.data().meetingId()), payload, "failed_to_publish_chat_unread_counts_delta");
+	}
+
+	public void publishMembershipRevoked(ChatMembershipRevokedInternalEvent payload) {
+		publish(membershipRevokedChannel, payload, "failed_to_publish_chat_membership_revoked");
+	}
+
+	public static String meetingChannel(String channel, Long meetingId) {
+		return channel + ":" + meetingId;
+	}
+
+	private String routedChannel(String channel, Long meetingId) {
+		return perMeetingChannels ? meetingChannel(channel, meetingId) : channel;
 	}
 
 	private void publish(String channel, Object payload, String errorCode) {
@@ -29,12 +29,12 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 		join mp.member m
 		where cm.meeting.id = :meetingId
 		  and cm.isDeleted = false
-		  and (:cursor is null or CAST(cm.id AS string) < :cursor)
+		  and cm.id < :cursorId
 		order by cm.id desc
 	""")
-	List<ChatMessageRow> findPageRows(
+	List<ChatMessageRow> findPageRowsBefore(
 		@Param("meetingId") Long meetingId,
-		@Param("cursor") String cursor,
+		@Param("cursorId") Long cursorId,
 		Pageable pageable
 	);
 
@@ -53,13 +53,13 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 	@Query("""
 		select (count(cm) > 0)
 		from ChatMessage cm
-		where CAST(cm.id AS string) = :messageId
+		where cm.id = :messageId
 		  and cm.meeting.id = :meetingId
 		  and cm.isDeleted = false
 	""")
 	boolean existsActiveMessageInMeeting(
 		@Param("meetingId") Long meetingId,
-		@Param("messageId") String messageId
+		@Param("messageId") Long messageId
 	);
 
 	@Query("""
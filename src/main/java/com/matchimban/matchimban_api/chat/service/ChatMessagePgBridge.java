@@ -32,6 +32,19 @@ public class ChatMessagePgBridge {
 		);
 	}
 
+	// 같은 참여자의 동시 전진이 같은 구간을 두 번 delta로 내보내지 않도록 행 잠금 후 이전 값을 읽는다.
+	@Transactional
+	public ReadPointerAdvance advanceLastReadIdWithPrevious(Long meetingId, Long memberId, String messageId) {
+		String previousLastReadId = meetingParticipantRepository
+			.findByMeetingIdAndMemberIdAndStatusForUpdate(meetingId, memberId, MeetingParticipant.Status.ACTIVE)
+			.map(MeetingParticipant::getLastReadId)
+			.orElse(null);
+		int updatedRows = meetingParticipantRepository.advanceLastReadIdIfGreater(
+			meetingId, memberId, MeetingParticipant.Status.ACTIVE, messageId
+		);
+		return new ReadPointerAdvance(updatedRows, previousLastReadId);
+	}
+
 	@Transactional
 	public void dualWriteMessage(MeetingParticipant participant, ChatMessageType type,
 		String content, String clientMessageId) {
@@ -48,4 +61,13 @@ public class ChatMessagePgBridge {
 			log.warn("Dual-write to PG failed (MongoDB is primary, PG write is best-effort)", ex);
 		}
 	}
+
+	public record ReadPointerAdvance(
+		int updatedRows,
+		String previousLastReadId
+	) {
+		public boolean applied() {
+			return updatedRows > 0;
+		}
+	}
 }
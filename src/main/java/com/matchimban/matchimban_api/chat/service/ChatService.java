@@ -4,6 +4,7 @@ import com.matchimban.matchimban_api.chat.dto.http.ChatMessagesLoadedData;
 import com.matchimban.matchimban_api.chat.dto.http.ChatReadPointerUpdatedData;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageSendAckEvent;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatSendMessageRequest;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedData;
 
 public interface ChatService {
 
@@ -15,5 +16,7 @@ public interface ChatService {
 
 	void publishUnreadCountsWindow(Long meetingId);
 
+	ChatUnreadCountsUpdatedData getUnreadCountsSnapshot(Long memberId, Long meetingId);
+
 	long countUnreadForMeetingBadge(Long meetingId, Long memberId);
 }
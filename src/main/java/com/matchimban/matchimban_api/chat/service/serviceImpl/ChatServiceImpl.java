@@ -14,8 +14,11 @@ import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageSendAckEvent;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatSendMessageRequest;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountItem;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsBasis;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsDeltaData;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsDeltaEvent;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedData;
 import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedEvent;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadReadPointer;
 import com.matchimban.matchimban_api.chat.entity.ChatMessageType;
 import com.matchimban.matchimban_api.chat.error.ChatErrorCode;
 import com.matchimban.matchimban_api.chat.event.ChatMessageCreatedInternalEvent;
@@ -29,6 +32,8 @@ import com.matchimban.matchimban_api.chat.repository.projection.ChatMessageRow;
 import com.matchimban.matchimban_api.chat.service.ChatMessagePgBridge;
 import com.matchimban.matchimban_api.chat.service.ChatService;
 import com.matchimban.matchimban_api.chat.service.ChatSystemMessageService;
+import com.matchimban.matchimban_api.chat.support.ChatMessageCursorCodec;
+import com.matchimban.matchimban_api.chat.support.ChatUnreadCounter;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
@@ -42,19 +47,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+	private static final long INITIAL_PG_CURSOR_ID = Long.MAX_VALUE;
+	private static final String UNREAD_VERSION_KEY_PREFIX = "chat:meeting:unread-version:";
 
 	private final ChatMessageMongoRepository chatMessageMongoRepository;
 	private final ChatMessageMongoQueryService chatMessageMongoQueryService;
@@ -73,6 +82,9 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 	@Value("${chat.unread.window-size:50}")
 	private int unreadWindowSize;
 
+	@Value("${chat.unread.delta.enabled:true}")
+	private boolean unreadDeltaEnabled;
+
 	private boolean useMongoDB() {
 		return "mongodb".equals(readSource);
 	}
@@ -86,7 +98,7 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 		boolean hasNext = rows.size() > size;
 		List<ChatMessageRow> pageRows = hasNext ? rows.subList(0, size) : rows;
 		String nextCursor = hasNext && !pageRows.isEmpty()
-			? pageRows.get(pageRows.size() - 1).messageId()
+			? toNextCursor(pageRows.get(pageRows.size() - 1).messageId())
 			: null;
 
 		Map<String, Integer> unreadCountMap = buildUnreadCountMap(meetingId, pageRows);
@@ -104,7 +116,8 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 	private List<ChatMessageRow> loadMessageRows(Long meetingId, String cursor, int size) {
 		int fetchSize = size + 1;
 		if (!useMongoDB()) {
-			return chatMessageRepository.findPageRows(meetingId, cursor, PageRequest.of(0, fetchSize));
+			long cursorId = cursor == null ? INITIAL_PG_CURSOR_ID : ChatMessageCursorCodec.decodePgCursor(cursor);
+			return chatMessageRepository.findPageRowsBefore(meetingId, cursorId, PageRequest.of(0, fetchSize));
 		}
 		if (cursor != null || !chatMessageCacheService.isEnabled()) {
 			return chatMessageMongoQueryService.findPageRows(meetingId, cursor, fetchSize);
@@ -128,6 +141,10 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 		return dbRows;
 	}
 
+	private String toNextCursor(String lastMessageId) {
+		return useMongoDB() ? lastMessageId : ChatMessageCursorCodec.encodePgCursor(lastMessageId);
+	}
+
 	@Override
 	public ChatMessageSendAckEvent sendMessage(Long memberId, Long meetingId, ChatSendMessageRequest request) {
 		chatMetricsRecorder.recordSendAttempt();
@@ -190,50 +207,110 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 		assertActiveParticipant(memberId, meetingId);
 		boolean exists = useMongoDB()
 			? chatMessageMongoRepository.existsByIdAndMeetingIdAndIsDeletedFalse(lastReadMessageId, meetingId)
-			: chatMessageRepository.existsActiveMessageInMeeting(meetingId, lastReadMessageId);
+			: existsActivePgMessage(meetingId, lastReadMessageId);
 		if (!exists) {
 			throw new ApiException(ChatErrorCode.INVALID_READ_POINTER);
 		}
 
-		int updatedRows = chatMessagePgBridge.advanceLastReadId(meetingId, memberId, lastReadMessageId);
-		if (updatedRows > 0) {
-			scheduleUnreadCountsRefresh(meetingId);
+		ChatMessagePgBridge.ReadPointerAdvance advance = chatMessagePgBridge.advanceLastReadIdWithPrevious(
+			meetingId, memberId, lastReadMessageId
+		);
+		if (advance.applied()) {
+			if (unreadDeltaEnabled) {
+				publishUnreadCountsDelta(meetingId, memberId, advance.previousLastReadId(), lastReadMessageId);
+			} else {
+				scheduleUnreadCountsRefresh(meetingId);
+			}
 		}
-		chatMetricsRecorder.recordReadPointerUpdate(updatedRows > 0);
+		chatMetricsRecorder.recordReadPointerUpdate(advance.applied());
+
+		return new ChatReadPointerUpdatedData(meetingId, lastReadMessageId, advance.applied());
+	}
 
-		return new ChatReadPointerUpdatedData(meetingId, lastReadMessageId, updatedRows > 0);
+	private boolean existsActivePgMessage(Long meetingId, String messageId) {
+		Long pgMessageId = ChatMessageCursorCodec.parseMessageId(messageId);
+		return pgMessageId != null && chatMessageRepository.existsActiveMessageInMeeting(meetingId, pgMessageId);
 	}
 
 	@Override
 	public void publishUnreadCountsWindow(Long meetingId) {
+		buildUnreadCountsWindow(meetingId, () -> nextUnreadServerVersion(meetingId))
+			.ifPresent(data -> chatRedisPublisher.publishUnreadCountsUpdated(ChatUnreadCountsUpdatedEvent.of(data)));
+	}
+
+	@Override
+	public ChatUnreadCountsUpdatedData getUnreadCountsSnapshot(Long memberId, Long meetingId) {
+		assertActiveParticipant(memberId, meetingId);
+		// delta의 server_version과 비교할 기준값이므로 버전을 올리지 않고 현재 값만 읽는다.
+		// delta는 포인터를 옮긴 뒤 버전을 올리므로, 버전을 집계보다 먼저 읽어야 집계에 빠진 전진이 모두 더 큰 버전으로 온다.
+		// 반대로 버전을 읽은 뒤 집계 전에 커밋된 전진은 집계에도 들어가고 더 큰 버전의 delta로도 오므로,
+		// 집계에 쓴 읽음 포인터(read_pointers)를 함께 보내 클라이언트가 이미 반영된 구간을 잘라내게 한다.
+		return buildUnreadCountsWindow(meetingId, () -> currentUnreadServerVersion(meetingId))
+			.orElseGet(() -> new ChatUnreadCountsUpdatedData(
+				meetingId,
+				new ChatUnreadCountsBasis(Math.max(1, unreadWindowSize), null, null),
+				List.of(),
+				List.of(),
+				currentUnreadServerVersion(meetingId),
+				OffsetDateTime.now(KST)
+			));
+	}
+
+	private Optional<ChatUnreadCountsUpdatedData> buildUnreadCountsWindow(Long meetingId, LongSupplier serverVersionSupplier) {
 		int windowSize = Math.max(1, unreadWindowSize);
 		List<String> recentMessageIdsDesc = useMongoDB()
 			? chatMessageMongoQueryService.findRecentMessageIds(meetingId, windowSize)
 			: chatMessageRepository.findRecentMessageIds(meetingId, PageRequest.of(0, windowSize));
 		if (recentMessageIdsDesc.isEmpty()) {
-			return;
+			return Optional.empty();
 		}
 
 		List<String> recentMessageIds = new ArrayList<>(recentMessageIdsDesc);
 		Collections.reverse(recentMessageIds);
 
-		Map<String, Integer> unreadCountMap = computeUnreadCounts(meetingId, recentMessageIds);
+		long serverVersion = serverVersionSupplier.getAsLong();
+		List<ChatUnreadReadPointer> readPointers = meetingParticipantRepository.findActiveReadPointers(meetingId).stream()
+			.map(row -> new ChatUnreadReadPointer(row.getMemberId(), row.getLastReadId()))
+			.toList();
+		ChatUnreadCounter unreadCounter = ChatUnreadCounter.of(
+			readPointers.stream().map(ChatUnreadReadPointer::lastReadMessageId).toList()
+		);
 		List<ChatUnreadCountItem> items = recentMessageIds.stream()
-			.map(messageId -> new ChatUnreadCountItem(messageId, unreadCountMap.getOrDefault(messageId, 0)))
+			.map(messageId -> new ChatUnreadCountItem(messageId, unreadCounter.countUnread(messageId)))
 			.toList();
 
 		String fromMessageId = recentMessageIds.get(0);
 		String toMessageId = recentMessageIds.get(recentMessageIds.size() - 1);
-		long serverVersion = nextUnreadServerVersion(meetingId);
 
-		ChatUnreadCountsUpdatedData data = new ChatUnreadCountsUpdatedData(
+		return Optional.of(new ChatUnreadCountsUpdatedData(
 			meetingId,
 			new ChatUnreadCountsBasis(windowSize, fromMessageId, toMessageId),
 			items,
+			readPointers,
 			serverVersion,
 			OffsetDateTime.now(KST)
-		);
-		chatRedisPublisher.publishUnreadCountsUpdated(ChatUnreadCountsUpdatedEvent.of(data));
+		));
+	}
+
+	// 한 참여자의 읽음 포인터 전진은 (이전 포인터, 새 포인터] 구간 메시지의 unread_count를 1씩 줄인다.
+	// 윈도우 전체를 다시 계산하지 않고 구간만 보낸다. 발행에 실패하면 전체 윈도우 갱신으로 대신한다.
+	// 참여자 id를 함께 실어, 스냅샷에 이미 들어간 전진은 클라이언트가 한 번 더 빼지 않게 한다.
+	private void publishUnreadCountsDelta(Long meetingId, Long memberId, String previousLastReadId, String lastReadMessageId) {
+		try {
+			ChatUnreadCountsDeltaData data = new ChatUnreadCountsDeltaData(
+				meetingId,
+				memberId,
+				previousLastReadId,
+				lastReadMessageId,
+				1,
+				nextUnreadServerVersion(meetingId),
+				OffsetDateTime.now(KST)
+			);
+			chatRedisPublisher.publishUnreadCountsDelta(ChatUnreadCountsDeltaEvent.of(data));
+		} catch (Exception ex) {
+			log.warn("Failed to publish unread-counts delta. meetingId={}", meetingId, ex);
+			scheduleUnreadCountsRefresh(meetingId);
+		}
 	}
 
 	@Override
@@ -316,16 +393,10 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 			return Map.of();
 		}
 
-		List<String> activeLastReadIds = meetingParticipantRepository.findActiveLastReadIds(meetingId);
-		Map<String, Integer> result = new HashMap<>();
+		ChatUnreadCounter unreadCounter = ChatUnreadCounter.of(meetingParticipantRepository.findActiveLastReadIds(meetingId));
+		Map<String, Integer> result = new HashMap<>(messageIds.size() * 2);
 		for (String messageId : messageIds) {
-			int unreadCount = 0;
-			for (String lastReadId : activeLastReadIds) {
-				if (lastReadId == null || lastReadId.compareTo(messageId) < 0) {
-					unreadCount++;
-				}
-			}
-			result.put(messageId, unreadCount);
+			result.put(messageId, unreadCounter.countUnread(messageId));
 		}
 		return result;
 	}
@@ -392,10 +463,22 @@ public class ChatServiceImpl implements ChatService, ChatSystemMessageService {
 	}
 
 	private long nextUnreadServerVersion(Long meetingId) {
-		Long version = stringRedisTemplate.opsForValue().increment("chat:meeting:unread-version:" + meetingId);
+		Long version = stringRedisTemplate.opsForValue().increment(UNREAD_VERSION_KEY_PREFIX + meetingId);
 		return version == null ? 0L : version;
 	}
 
+	private long currentUnreadServerVersion(Long meetingId) {
+		String raw = stringRedisTemplate.opsForValue().get(UNREAD_VERSION_KEY_PREFIX + meetingId);
+		if (raw == null) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(raw);
+		} catch (NumberFormatException ex) {
+			return 0L;
+		}
+	}
+
 	private void publishMessageCreated(ChatMessageDocument saved, MeetingParticipant participant) {
 		ChatSenderDto sender = saved.getType() == ChatMessageType.SYSTEM
 			? null
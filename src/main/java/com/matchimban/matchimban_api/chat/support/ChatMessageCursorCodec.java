@@ -0,0 +1,58 @@
+package com.matchimban.matchimban_api.chat.support;
+
+import com.matchimban.matchimban_api.chat.error.ChatErrorCode;
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// PG 읽기 경로의 페이지 커서는 불투명 토큰으로 내려주고, 기존 클라이언트의 숫자 messageId 커서도 받아들인다.
+public final class ChatMessageCursorCodec {
+
+	private static final String PG_TOKEN_PREFIX = "pg:";
+
+	private ChatMessageCursorCodec() {}
+
+	public static String encodePgCursor(String messageId) {
+		if (messageId == null) {
+			return null;
+		}
+		byte[] raw = (PG_TOKEN_PREFIX + messageId).getBytes(StandardCharsets.UTF_8);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+	}
+
+	public static long decodePgCursor(String cursor) {
+		Long legacyId = parseMessageId(cursor);
+		if (legacyId != null) {
+			return legacyId;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (decoded.startsWith(PG_TOKEN_PREFIX)) {
+				Long messageId = parseMessageId(decoded.substring(PG_TOKEN_PREFIX.length()));
+				if (messageId != null) {
+					return messageId;
+				}
+			}
+		} catch (IllegalArgumentException ignored) {
+			// 아래에서 INVALID_CURSOR로 처리한다.
+		}
+		throw new ApiException(ChatErrorCode.INVALID_CURSOR);
+	}
+
+	public static Long parseMessageId(String messageId) {
+		if (messageId == null || messageId.isEmpty() || messageId.length() > 19) {
+			return null;
+		}
+		for (int i = 0; i < messageId.length(); i++) {
+			if (!Character.isDigit(messageId.charAt(i))) {
+				return null;
+			}
+		}
+		try {
+			long value = Long.parseLong(messageId);
+			return value > 0 ? value : null;
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.matchimban.matchimban_api.chat.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 참여자들의 lastReadId를 한 번 정렬해 두고, 메시지별 안읽음 수를 이진 탐색으로 계산한다.
+// 안읽음 수 = lastReadId가 없거나 messageId보다 작은 참여자 수.
+public final class ChatUnreadCounter {
+
+	private final List<String> sortedLastReadIds;
+	private final int neverReadCount;
+
+	private ChatUnreadCounter(List<String> sortedLastReadIds, int neverReadCount) {
+		this.sortedLastReadIds = sortedLastReadIds;
+		this.neverReadCount = neverReadCount;
+	}
+
+	public static ChatUnreadCounter of(List<String> lastReadIds) {
+		List<String> sorted = new ArrayList<>(lastReadIds.size());
+		int neverRead = 0;
+		for (String lastReadId : lastReadIds) {
+			if (lastReadId == null) {
+				neverRead++;
+			} else {
+				sorted.add(lastReadId);
+			}
+		}
+		Collections.sort(sorted);
+		return new ChatUnreadCounter(sorted, neverRead);
+	}
+
+	public int countUnread(String messageId) {
+		return neverReadCount + lowerBound(messageId);
+	}
+
+	// messageId 이상인 첫 위치 = messageId보다 작은 lastReadId 개수
+	private int lowerBound(String messageId) {
+		int low = 0;
+		int high = sortedLastReadIds.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sortedLastReadIds.get(mid).compareTo(messageId) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -11,6 +11,8 @@ public record EventIssueProperties(
         int maxFinalizeRetries,
         Duration processingLease,
         Duration terminalStatusTtl,
-        long pollingIntervalMillis
+        long pollingIntervalMillis,
+        Duration metaRecheckInterval,
+        int issuedCountSlots
 ) {
 }
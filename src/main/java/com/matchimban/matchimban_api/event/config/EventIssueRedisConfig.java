@@ -20,9 +20,9 @@ public class EventIssueRedisConfig {
     }
 
     @Bean
-    public RedisScript<List> eventIssueClaimScript() {
+    public RedisScript<List> eventIssueClaimBatchScript() {
         DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-claim.lua")));
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-claim-batch.lua")));
         script.setResultType(List.class);
         return script;
     }
@@ -34,4 +34,36 @@ public class EventIssueRedisConfig {
         script.setResultType(Long.class);
         return script;
     }
+
+    @Bean
+    public RedisScript<Long> eventIssueMarkSucceededScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-mark-succeeded.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @Bean
+    public RedisScript<Long> eventIssueMarkFailedScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-mark-failed.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @Bean
+    public RedisScript<Long> eventIssueRequeueForRetryScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-requeue-for-retry.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @Bean
+    public RedisScript<Long> eventIssueSyncMetaScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/event-issue-sync-meta.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
 }
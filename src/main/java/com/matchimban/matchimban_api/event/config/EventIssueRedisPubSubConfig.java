@@ -0,0 +1,29 @@
+package com.matchimban.matchimban_api.event.config;
+
+import com.matchimban.matchimban_api.event.redis.EventIssueStatusRedisSubscriber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "event.issue.status-stream.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class EventIssueRedisPubSubConfig {
+
+    @Value("${event.issue.status-stream.channel:event:issue:status-changed}")
+    private String statusChannel;
+
+    @Bean
+    public RedisMessageListenerContainer eventIssueStatusRedisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            EventIssueStatusRedisSubscriber eventIssueStatusRedisSubscriber
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(eventIssueStatusRedisSubscriber, new ChannelTopic(statusChannel));
+        return container;
+    }
+}
@@ -5,10 +5,12 @@ import com.matchimban.matchimban_api.event.dto.response.EventIssueRequestRespons
 import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
 import com.matchimban.matchimban_api.event.service.EventIssueRequestService;
 import com.matchimban.matchimban_api.event.service.EventIssueStatusService;
+import com.matchimban.matchimban_api.event.service.EventIssueStatusSseService;
 import com.matchimban.matchimban_api.global.dto.ApiResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Event", description = "이벤트 API")
 @RestController
@@ -25,6 +28,7 @@ public class EventIssueController {
 
     private final EventIssueRequestService eventIssueRequestService;
     private final EventIssueStatusService eventIssueStatusService;
+    private final EventIssueStatusSseService eventIssueStatusSseService;
 
     @Operation(summary = "이벤트 쿠폰 발급 요청", description = "선착순 쿠폰 발급 요청을 대기열에 접수한다.")
     @PostMapping
@@ -45,4 +49,13 @@ public class EventIssueController {
         EventIssueStatusResponse response = eventIssueStatusService.getCurrentStatus(principal.memberId(), eventId);
         return ResponseEntity.ok(ApiResult.of("event_issue_status_loaded", response));
     }
+
+    @Operation(summary = "내 이벤트 쿠폰 발급 상태 구독", description = "처리 중/성공/실패 전이와 주기적으로 갱신되는 대기 순번을 SSE로 받는다.")
+    @GetMapping(path = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCurrentStatus(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @PathVariable Long eventId
+    ) {
+        return eventIssueStatusSseService.subscribe(principal.memberId(), eventId);
+    }
 }
@@ -45,6 +45,7 @@ public class Event {
     @Column(nullable = false)
     private int capacity;
 
+    // 슬롯 도입 전 누적 발급 수. 이후 발급 수는 event_issued_count_slots 합계로 계산한다.
     @Column(name = "issued_count", nullable = false)
     private int issuedCount;
 
@@ -67,17 +68,6 @@ public class Event {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    public void increaseIssuedCount(int quantity) {
-        this.issuedCount += quantity;
-    }
-
-    public void decreaseIssuedCount(int quantity) {
-        this.issuedCount -= quantity;
-        if (this.issuedCount < 0) {
-            this.issuedCount = 0;
-        }
-    }
-
     public void delete() {
         this.isDeleted = true;
         this.deletedAt = Instant.now();
@@ -0,0 +1,65 @@
+package com.matchimban.matchimban_api.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+// 이벤트 발급 수를 N개 슬롯으로 나눈 행. 슬롯마다 정원 몫(capacity)을 따로 가지므로
+// 발급 시 슬롯 한 행만 잠가도 슬롯 몫의 합(=이벤트 정원)을 넘지 않는다.
+@Entity
+@Table(name = "event_issued_count_slots")
+@IdClass(EventIssuedCountSlot.SlotId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EventIssuedCountSlot {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "slot")
+    private int slot;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(name = "issued_count", nullable = false)
+    private int issuedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static int quotaOf(int eventCapacity, int slotCount, int slot) {
+        return eventCapacity / slotCount + (slot < eventCapacity % slotCount ? 1 : 0);
+    }
+
+    // 슬롯 도입 전 발급 수를 앞 슬롯부터 몫만큼 채웠을 때 이 슬롯에 들어가는 수(V23 backfill과 같은 계산)
+    public static int legacyIssuedCountOf(int eventCapacity, int legacyIssuedCount, int slotCount, int slot) {
+        int filledBefore = slot * (eventCapacity / slotCount) + Math.min(slot, eventCapacity % slotCount);
+        return Math.max(0, Math.min(quotaOf(eventCapacity, slotCount, slot), legacyIssuedCount - filledBefore));
+    }
+
+    // 남은 몫 안에서만 가져가고, 실제로 가져간 수를 돌려준다.
+    public int reserve(int quantity) {
+        int granted = Math.max(0, Math.min(quantity, capacity - issuedCount));
+        if (granted > 0) {
+            this.issuedCount += granted;
+            this.updatedAt = Instant.now();
+        }
+        return granted;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class SlotId implements Serializable {
+        private Long eventId;
+        private int slot;
+    }
+}
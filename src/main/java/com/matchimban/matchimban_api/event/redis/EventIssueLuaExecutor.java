@@ -12,15 +12,15 @@ public class EventIssueLuaExecutor {
 
     private final StringRedisTemplate redisTemplate;
     private final RedisScript<List> eventIssueEnqueueScript;
-    private final RedisScript<List> eventIssueClaimScript;
+    private final RedisScript<List> eventIssueClaimBatchScript;
     private final RedisScript<Long> eventIssueRequeueExpiredProcessingScript;
 
     public List<?> enqueue(List<String> keys, List<String> args) {
         return redisTemplate.execute(eventIssueEnqueueScript, keys, args.toArray());
     }
 
-    public List<?> claim(List<String> keys, List<String> args) {
-        return redisTemplate.execute(eventIssueClaimScript, keys, args.toArray());
+    public List<?> claimBatch(List<String> keys, List<String> args) {
+        return redisTemplate.execute(eventIssueClaimBatchScript, keys, args.toArray());
     }
 
     public Long requeueExpiredProcessing(List<String> keys, List<String> args) {
@@ -7,11 +7,15 @@ import com.matchimban.matchimban_api.event.entity.EventIssueFailureReason;
 import com.matchimban.matchimban_api.event.entity.EventIssueRequestStatus;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,15 +25,44 @@ public class EventIssueRedisRepository {
     private final StringRedisTemplate redisTemplate;
     private final EventIssueRedisKeyFactory keyFactory;
     private final EventIssueProperties properties;
+    private final RedisScript<Long> eventIssueMarkSucceededScript;
+    private final RedisScript<Long> eventIssueMarkFailedScript;
+    private final RedisScript<Long> eventIssueRequeueForRetryScript;
+    private final RedisScript<Long> eventIssueSyncMetaScript;
 
+    private final Map<Long, SyncedMeta> syncedMetaByEventId = new ConcurrentHashMap<>();
+
+    // 이벤트 설정 값 자체를 버전으로 쓴다. 최근에 같은 버전을 확인했다면 Redis를 거치지 않고,
+    // 그 외에는 스크립트가 저장된 버전과 비교해 바뀐 경우에만 다시 쓴다.
     public void syncMeta(Event event, int queueLimit) {
-        String key = keyFactory.metaKey(event.getId());
-        Map<String, String> values = new HashMap<>();
-        values.put("startAtEpochMs", String.valueOf(event.getStartAt().toEpochMilli()));
-        values.put("endAtEpochMs", String.valueOf(event.getEndAt().toEpochMilli()));
-        values.put("capacity", String.valueOf(event.getCapacity()));
-        values.put("queueLimit", String.valueOf(queueLimit));
-        redisTemplate.opsForHash().putAll(key, values);
+        String startAtEpochMs = String.valueOf(event.getStartAt().toEpochMilli());
+        String endAtEpochMs = String.valueOf(event.getEndAt().toEpochMilli());
+        String capacity = String.valueOf(event.getCapacity());
+        String version = String.join(":", startAtEpochMs, endAtEpochMs, capacity, String.valueOf(queueLimit));
+
+        long nowMs = System.currentTimeMillis();
+        SyncedMeta synced = syncedMetaByEventId.get(event.getId());
+        if (synced != null && synced.version().equals(version) && nowMs < synced.recheckAtMs()) {
+            return;
+        }
+
+        redisTemplate.execute(
+                eventIssueSyncMetaScript,
+                List.of(keyFactory.metaKey(event.getId())),
+                version,
+                startAtEpochMs,
+                endAtEpochMs,
+                capacity,
+                String.valueOf(queueLimit)
+        );
+        Duration recheckInterval = properties.metaRecheckInterval() == null
+                ? Duration.ZERO
+                : properties.metaRecheckInterval();
+        syncedMetaByEventId.put(event.getId(), new SyncedMeta(version, nowMs + recheckInterval.toMillis()));
+    }
+
+    public void invalidateSyncedMeta(Long eventId) {
+        syncedMetaByEventId.remove(eventId);
     }
 
     public int getRetryCount(Long eventId, String requestId) {
@@ -61,11 +94,31 @@ public class EventIssueRedisRepository {
         return rank == null ? null : rank + 1;
     }
 
+    // 상태 스트림이 구독 중인 요청의 순번만 한 번의 파이프라인으로 읽는다. 대기열에 없는 요청은 null이다.
+    public List<Long> getQueuePositions(Long eventId, List<String> requestIds) {
+        if (requestIds.isEmpty()) {
+            return List.of();
+        }
+        String queueKey = keyFactory.queueKey(eventId);
+        List<Object> ranks = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String requestId : requestIds) {
+                stringConnection.zRank(queueKey, requestId);
+            }
+            return null;
+        });
+        List<Long> positions = new ArrayList<>(ranks.size());
+        for (Object rank : ranks) {
+            positions.add(rank == null ? null : ((Number) rank).longValue() + 1);
+        }
+        return positions;
+    }
+
     public Map<Object, Object> getRequest(Long eventId, String requestId) {
         return redisTemplate.opsForHash().entries(keyFactory.requestKey(eventId, requestId));
     }
 
-    public void markSucceeded(
+    public EventIssueStatusResponse markSucceeded(
             Long eventId,
             Long memberId,
             String requestId,
@@ -73,49 +126,65 @@ public class EventIssueRedisRepository {
             Instant issuedAt,
             Instant expiredAt
     ) {
-        String requestKey = keyFactory.requestKey(eventId, requestId);
-        Map<String, String> values = new HashMap<>();
-        values.put("status", EventIssueRequestStatus.SUCCEEDED.name());
-        values.put("reason", "");
-        values.put("couponId", String.valueOf(couponId));
-        values.put("issuedAt", issuedAt.toString());
-        values.put("expiredAt", expiredAt.toString());
-        values.put("updatedAt", Instant.now().toString());
-        redisTemplate.opsForHash().putAll(requestKey, values);
-        clearRuntimeQueueKeys(eventId, requestId);
-        redisTemplate.opsForSet().add(keyFactory.issuedUsersKey(eventId), String.valueOf(memberId));
-        applyTerminalTtl(eventId, memberId, requestId);
+        redisTemplate.execute(
+                eventIssueMarkSucceededScript,
+                List.of(
+                        keyFactory.requestKey(eventId, requestId),
+                        keyFactory.userRequestKey(eventId, memberId),
+                        keyFactory.queueKey(eventId),
+                        keyFactory.processingKey(eventId),
+                        keyFactory.issuedUsersKey(eventId)
+                ),
+                requestId,
+                String.valueOf(memberId),
+                String.valueOf(couponId),
+                issuedAt.toString(),
+                expiredAt.toString(),
+                Instant.now().toString(),
+                terminalTtlSeconds()
+        );
+        return new EventIssueStatusResponse(
+                requestId, EventIssueRequestStatus.SUCCEEDED, null, null, couponId, issuedAt, expiredAt);
     }
 
-    public void markFailed(
+    public EventIssueStatusResponse markFailed(
             Long eventId,
             Long memberId,
             String requestId,
             EventIssueFailureReason reason
     ) {
-        String requestKey = keyFactory.requestKey(eventId, requestId);
-        Map<String, String> values = new HashMap<>();
-        values.put("status", EventIssueRequestStatus.FAILED.name());
-        values.put("reason", reason.name());
-        values.put("updatedAt", Instant.now().toString());
-        redisTemplate.opsForHash().putAll(requestKey, values);
-        clearRuntimeQueueKeys(eventId, requestId);
-        applyTerminalTtl(eventId, memberId, requestId);
+        redisTemplate.execute(
+                eventIssueMarkFailedScript,
+                List.of(
+                        keyFactory.requestKey(eventId, requestId),
+                        keyFactory.userRequestKey(eventId, memberId),
+                        keyFactory.queueKey(eventId),
+                        keyFactory.processingKey(eventId)
+                ),
+                requestId,
+                reason.name(),
+                Instant.now().toString(),
+                terminalTtlSeconds()
+        );
+        return new EventIssueStatusResponse(
+                requestId, EventIssueRequestStatus.FAILED, reason, null, null, null, null);
     }
 
-    public void requeueForRetry(Long eventId, String requestId) {
-        String requestKey = keyFactory.requestKey(eventId, requestId);
-        String queueScoreRaw = asString(redisTemplate.opsForHash().get(requestKey, "queueScore"));
-        double queueScore = queueScoreRaw == null || queueScoreRaw.isBlank()
-                ? Instant.now().toEpochMilli()
-                : Double.parseDouble(queueScoreRaw);
-
-        redisTemplate.opsForHash().put(requestKey, "status", EventIssueRequestStatus.WAITING.name());
-        redisTemplate.opsForHash().put(requestKey, "reason", "");
-        redisTemplate.opsForHash().put(requestKey, "updatedAt", Instant.now().toString());
-        redisTemplate.opsForHash().increment(requestKey, "retryCount", 1);
-        redisTemplate.opsForZSet().remove(keyFactory.processingKey(eventId), requestId);
-        redisTemplate.opsForZSet().add(keyFactory.queueKey(eventId), requestId, queueScore);
+    public EventIssueStatusResponse requeueForRetry(Long eventId, String requestId) {
+        Instant now = Instant.now();
+        redisTemplate.execute(
+                eventIssueRequeueForRetryScript,
+                List.of(
+                        keyFactory.requestKey(eventId, requestId),
+                        keyFactory.processingKey(eventId),
+                        keyFactory.queueKey(eventId)
+                ),
+                requestId,
+                String.valueOf(now.toEpochMilli()),
+                now.toString()
+        );
+        return new EventIssueStatusResponse(
+                requestId, EventIssueRequestStatus.WAITING, null, null, null, null, null);
     }
 
     public EventIssueStatusResponse toStatusResponse(Long eventId, String requestId, Map<Object, Object> requestData) {
@@ -143,18 +212,13 @@ public class EventIssueRedisRepository {
         );
     }
 
-    private void applyTerminalTtl(Long eventId, Long memberId, String requestId) {
-        Duration ttl = properties.terminalStatusTtl();
-        redisTemplate.expire(keyFactory.requestKey(eventId, requestId), ttl);
-        redisTemplate.expire(keyFactory.userRequestKey(eventId, memberId), ttl);
-    }
-
-    private void clearRuntimeQueueKeys(Long eventId, String requestId) {
-        redisTemplate.opsForZSet().remove(keyFactory.queueKey(eventId), requestId);
-        redisTemplate.opsForZSet().remove(keyFactory.processingKey(eventId), requestId);
+    private String terminalTtlSeconds() {
+        return String.valueOf(properties.terminalStatusTtl().toSeconds());
     }
 
     private String asString(Object value) {
         return value == null ? null : String.valueOf(value);
     }
+
+    private record SyncedMeta(String version, long recheckAtMs) {}
 }
@@ -0,0 +1,37 @@
+package com.matchimban.matchimban_api.event.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
+import com.matchimban.matchimban_api.event.service.EventIssueStatusSseService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventIssueStatusRedisPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${event.issue.status-stream.channel:event:issue:status-changed}")
+    private String statusChannel;
+
+    // 워커 배치 하나의 상태 전이를 메시지 하나로 묶어 보낸다.
+    // 전송에 실패해도 상태 조회 API로 확인할 수 있으므로 발급 처리는 계속 진행한다.
+    public void publish(Long eventId, List<EventIssueStatusResponse> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new EventIssueStatusSseService.StatusChange(eventId, statuses));
+            redisTemplate.convertAndSend(statusChannel, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish event issue status change. eventId={}, size={}", eventId, statuses.size(), e);
+        }
+    }
+}
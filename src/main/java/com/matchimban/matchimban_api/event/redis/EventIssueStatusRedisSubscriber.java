@@ -0,0 +1,32 @@
+package com.matchimban.matchimban_api.event.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.event.service.EventIssueStatusSseService;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventIssueStatusRedisSubscriber implements MessageListener {
+
+    private final EventIssueStatusSseService eventIssueStatusSseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            eventIssueStatusSseService.publishStatusChange(
+                    objectMapper.readValue(payload, EventIssueStatusSseService.StatusChange.class)
+            );
+        } catch (Exception e) {
+            log.error("Failed to publish event issue status payload={}", payload, e);
+        }
+    }
+}
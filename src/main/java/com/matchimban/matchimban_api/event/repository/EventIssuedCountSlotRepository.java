@@ -0,0 +1,86 @@
+package com.matchimban.matchimban_api.event.repository;
+
+import com.matchimban.matchimban_api.event.entity.EventIssuedCountSlot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface EventIssuedCountSlotRepository
+        extends JpaRepository<EventIssuedCountSlot, EventIssuedCountSlot.SlotId> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s
+            FROM EventIssuedCountSlot s
+            WHERE s.eventId = :eventId
+              AND s.slot = :slot
+            """)
+    Optional<EventIssuedCountSlot> findForUpdate(@Param("eventId") Long eventId, @Param("slot") int slot);
+
+    // 몫이 남은 슬롯만 잠그고, 다른 트랜잭션이 잡고 있는 슬롯은 기다리지 않고 건너뛴다(SKIP LOCKED).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT s
+            FROM EventIssuedCountSlot s
+            WHERE s.eventId = :eventId
+              AND s.slot = :slot
+              AND s.issuedCount < s.capacity
+            """)
+    Optional<EventIssuedCountSlot> findAvailableForUpdateSkipLocked(@Param("eventId") Long eventId, @Param("slot") int slot);
+
+    // 잠금 없이 커밋된 값 기준으로 몫이 남은 슬롯인지 본다. 다 쓴 슬롯은 잠겨 있어도 건너뛴 것으로 치지 않는다.
+    @Query("""
+            SELECT COUNT(s) > 0
+            FROM EventIssuedCountSlot s
+            WHERE s.eventId = :eventId
+              AND s.slot = :slot
+              AND s.issuedCount < s.capacity
+            """)
+    boolean existsAvailable(@Param("eventId") Long eventId, @Param("slot") int slot);
+
+    @Query("""
+            SELECT s.slot
+            FROM EventIssuedCountSlot s
+            WHERE s.eventId = :eventId
+            ORDER BY s.slot
+            """)
+    List<Integer> findSlotsByEventId(@Param("eventId") Long eventId);
+
+    long countByEventId(Long eventId);
+
+    @Modifying
+    @Query(value = """
+            insert into event_issued_count_slots (event_id, slot, capacity, issued_count, updated_at)
+            values (:eventId, :slot, :capacity, :issuedCount, current_timestamp)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("eventId") Long eventId,
+            @Param("slot") int slot,
+            @Param("capacity") int capacity,
+            @Param("issuedCount") int issuedCount
+    );
+
+    interface IssuedCountRow {
+        Long getEventId();
+        long getIssuedCount();
+    }
+
+    @Query("""
+            SELECT s.eventId AS eventId,
+                   COALESCE(SUM(s.issuedCount), 0) AS issuedCount
+            FROM EventIssuedCountSlot s
+            WHERE s.eventId IN :eventIds
+            GROUP BY s.eventId
+            """)
+    List<IssuedCountRow> sumIssuedCountByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
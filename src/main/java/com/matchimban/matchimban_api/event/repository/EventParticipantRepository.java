@@ -2,7 +2,11 @@ package com.matchimban.matchimban_api.event.repository;
 
 import com.matchimban.matchimban_api.event.entity.EventParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventParticipantRepository extends JpaRepository<EventParticipant, Long> {
@@ -10,4 +14,15 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
     boolean existsByEventIdAndMemberId(Long eventId, Long memberId);
 
     Optional<EventParticipant> findByEventIdAndMemberId(Long eventId, Long memberId);
+
+    @Query("""
+            SELECT ep.member.id
+            FROM EventParticipant ep
+            WHERE ep.event.id = :eventId
+              AND ep.member.id IN :memberIds
+            """)
+    List<Long> findMemberIdsByEventIdAndMemberIdIn(
+            @Param("eventId") Long eventId,
+            @Param("memberIds") Collection<Long> memberIds
+    );
 }
\ No newline at end of file
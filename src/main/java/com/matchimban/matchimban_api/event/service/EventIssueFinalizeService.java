@@ -2,11 +2,15 @@ package com.matchimban.matchimban_api.event.service;
 
 import com.matchimban.matchimban_api.event.entity.EventIssueFailureReason;
 import java.time.Instant;
+import java.util.List;
 
 public interface EventIssueFinalizeService {
 
     FinalizeResult finalizeIssue(Long eventId, Long memberId);
 
+    // memberIds 순서(대기열 순서)대로 결과를 돌려준다.
+    List<FinalizeResult> finalizeIssueBatch(Long eventId, List<Long> memberIds);
+
     record FinalizeResult(
             boolean success,
             EventIssueFailureReason failureReason,
@@ -0,0 +1,210 @@
+package com.matchimban.matchimban_api.event.service;
+
+import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
+import com.matchimban.matchimban_api.event.entity.EventIssueRequestStatus;
+import com.matchimban.matchimban_api.event.error.EventErrorCode;
+import com.matchimban.matchimban_api.event.redis.EventIssueRedisRepository;
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+public class EventIssueStatusSseService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30L * 60L * 1000L;
+    private static final String EVENT_NAME = "event-issue-status";
+
+    private final EventIssueStatusService eventIssueStatusService;
+    private final EventIssueRedisRepository eventIssueRedisRepository;
+
+    // eventId -> requestId -> 구독자. 같은 요청으로 다시 연결하면 이전 연결을 닫는다.
+    private final Map<Long, Map<String, Subscriber>> subscribersByEventId = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long memberId, Long eventId) {
+        String requestId = eventIssueRedisRepository.getCurrentRequestId(eventId, memberId);
+        if (requestId == null || requestId.isBlank()) {
+            throw new ApiException(EventErrorCode.EVENT_ISSUE_REQUEST_NOT_FOUND);
+        }
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        subscribe(eventId, requestId, () -> eventIssueStatusService.getCurrentStatus(memberId, eventId), emitter);
+        return emitter;
+    }
+
+    // 먼저 등록하고 나서 현재 상태를 읽어 보낸다. 읽은 뒤에 등록하면 그 사이에 온 전이(성공/실패)를 놓칠 수 있다.
+    void subscribe(Long eventId, String requestId, Supplier<EventIssueStatusResponse> currentStatus, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(requestId, emitter);
+
+        emitter.onCompletion(() -> removeSubscriber(eventId, subscriber));
+        emitter.onTimeout(() -> removeSubscriber(eventId, subscriber));
+        emitter.onError(ignored -> removeSubscriber(eventId, subscriber));
+
+        Subscriber previous = subscribersByEventId
+                .computeIfAbsent(eventId, ignored -> new ConcurrentHashMap<>())
+                .put(requestId, subscriber);
+        if (previous != null) {
+            previous.emitter().complete();
+        }
+
+        EventIssueStatusResponse initialStatus;
+        try {
+            initialStatus = currentStatus.get();
+        } catch (RuntimeException e) {
+            removeSubscriber(eventId, subscriber);
+            throw e;
+        }
+
+        synchronized (subscriber) {
+            // 등록 뒤 조회 전에 온 전이를 이미 보냈다면, 그보다 오래된 조회 결과는 보내지 않는다.
+            if (subscriber.status == null) {
+                push(eventId, subscriber, initialStatus);
+            }
+        }
+    }
+
+    // 워커가 보낸 상태 전이(처리 중/성공/실패/재대기)를 해당 요청의 구독자에게 전달한다. 종료 상태면 연결을 닫는다.
+    public void publishStatusChange(StatusChange change) {
+        Map<String, Subscriber> subscribers = subscribersByEventId.get(change.eventId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        for (EventIssueStatusResponse status : change.statuses()) {
+            Subscriber subscriber = subscribers.get(status.requestId());
+            if (subscriber == null) {
+                continue;
+            }
+            synchronized (subscriber) {
+                push(change.eventId(), subscriber, status);
+            }
+        }
+    }
+
+    // 구독자가 있는 이벤트마다 구독 중인 요청의 순번만 한 번에 읽고, 이전에 보낸 값과 다를 때만 보낸다.
+    public int pushQueuePositions() {
+        int pushed = 0;
+        for (Map.Entry<Long, Map<String, Subscriber>> entry : subscribersByEventId.entrySet()) {
+            Long eventId = entry.getKey();
+            List<Subscriber> subscribers = new ArrayList<>(entry.getValue().values());
+            if (subscribers.isEmpty()) {
+                continue;
+            }
+
+            List<Long> positions = eventIssueRedisRepository.getQueuePositions(
+                    eventId,
+                    subscribers.stream().map(Subscriber::requestId).toList()
+            );
+            for (int i = 0; i < subscribers.size(); i++) {
+                Long position = positions.get(i);
+                if (position == null) {
+                    continue;
+                }
+                Subscriber subscriber = subscribers.get(i);
+                synchronized (subscriber) {
+                    // lease 만료로 대기열에 되돌아온 요청은 별도 전이 메시지가 없으므로 여기서 대기 상태로 되돌린다.
+                    if (subscriber.status == EventIssueRequestStatus.WAITING && Objects.equals(subscriber.lastPosition, position)) {
+                        continue;
+                    }
+                    push(eventId, subscriber, new EventIssueStatusResponse(
+                            subscriber.requestId(),
+                            EventIssueRequestStatus.WAITING,
+                            null,
+                            position,
+                            null,
+                            null,
+                            null
+                    ));
+                }
+                pushed++;
+            }
+        }
+        return pushed;
+    }
+
+    int subscriberCount(Long eventId) {
+        Map<String, Subscriber> subscribers = subscribersByEventId.get(eventId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    // 같은 구독자에게 보내는 쪽은 구독자 단위로 잠근 뒤 호출한다. 종료 상태를 보내면 구독을 끝낸다.
+    private void push(Long eventId, Subscriber subscriber, EventIssueStatusResponse status) {
+        subscriber.update(status);
+        if (!deliver(eventId, subscriber, status)) {
+            return;
+        }
+        if (isTerminal(status.status())) {
+            removeSubscriber(eventId, subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    private boolean deliver(Long eventId, Subscriber subscriber, EventIssueStatusResponse status) {
+        if (send(subscriber.emitter(), status)) {
+            return true;
+        }
+        removeSubscriber(eventId, subscriber);
+        return false;
+    }
+
+    private boolean send(SseEmitter emitter, EventIssueStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void removeSubscriber(Long eventId, Subscriber subscriber) {
+        Map<String, Subscriber> subscribers = subscribersByEventId.get(eventId);
+        if (subscribers == null) {
+            return;
+        }
+
+        subscribers.remove(subscriber.requestId(), subscriber);
+        if (subscribers.isEmpty()) {
+            subscribersByEventId.remove(eventId, subscribers);
+        }
+    }
+
+    private boolean isTerminal(EventIssueRequestStatus status) {
+        return status == EventIssueRequestStatus.SUCCEEDED || status == EventIssueRequestStatus.FAILED;
+    }
+
+    public record StatusChange(Long eventId, List<EventIssueStatusResponse> statuses) {}
+
+    private static final class Subscriber {
+
+        private final String requestId;
+        private final SseEmitter emitter;
+        private volatile EventIssueRequestStatus status;
+        private volatile Long lastPosition;
+
+        private Subscriber(String requestId, SseEmitter emitter) {
+            this.requestId = requestId;
+            this.emitter = emitter;
+        }
+
+        private String requestId() {
+            return requestId;
+        }
+
+        private SseEmitter emitter() {
+            return emitter;
+        }
+
+        private void update(EventIssueStatusResponse response) {
+            this.status = response.status();
+            this.lastPosition = response.queuePosition();
+        }
+    }
+}
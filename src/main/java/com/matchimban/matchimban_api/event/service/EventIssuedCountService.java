@@ -0,0 +1,12 @@
+package com.matchimban.matchimban_api.event.service;
+
+import com.matchimban.matchimban_api.event.entity.Event;
+import java.util.List;
+import java.util.Map;
+
+public interface EventIssuedCountService {
+
+    int reserve(Event event, int quantity);
+
+    Map<Long, Integer> getIssuedCounts(List<Event> events);
+}
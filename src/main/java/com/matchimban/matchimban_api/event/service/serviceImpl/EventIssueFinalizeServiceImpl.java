@@ -9,8 +9,14 @@ import com.matchimban.matchimban_api.event.repository.EventCouponRepository;
 import com.matchimban.matchimban_api.event.repository.EventParticipantRepository;
 import com.matchimban.matchimban_api.event.repository.EventRepository;
 import com.matchimban.matchimban_api.event.service.EventIssueFinalizeService;
+import com.matchimban.matchimban_api.event.service.EventIssuedCountService;
 import com.matchimban.matchimban_api.member.entity.Member;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -23,11 +29,12 @@ public class EventIssueFinalizeServiceImpl implements EventIssueFinalizeService
     private final EventRepository eventRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final EventCouponRepository eventCouponRepository;
+    private final EventIssuedCountService eventIssuedCountService;
 
     @Override
     @Transactional
     public FinalizeResult finalizeIssue(Long eventId, Long memberId) {
-        Event event = eventRepository.findByIdForIssue(eventId)
+        Event event = eventRepository.findByIdAndIsActiveTrueAndIsDeletedFalse(eventId)
                 .orElse(null);
         Instant now = Instant.now();
         if (event == null) {
@@ -42,7 +49,7 @@ public class EventIssueFinalizeServiceImpl implements EventIssueFinalizeService
         if (eventParticipantRepository.existsByEventIdAndMemberId(eventId, memberId)) {
             return new FinalizeResult(false, EventIssueFailureReason.ALREADY_ISSUED, null, null, null);
         }
-        if (event.getIssuedCount() >= event.getCapacity()) {
+        if (eventIssuedCountService.reserve(event, 1) == 0) {
             return new FinalizeResult(false, EventIssueFailureReason.SOLD_OUT, null, null, null);
         }
 
@@ -67,11 +74,91 @@ public class EventIssueFinalizeServiceImpl implements EventIssueFinalizeService
                             .build()
             );
 
-            event.increaseIssuedCount(1);
-
             return new FinalizeResult(true, null, coupon.getId(), issuedAt, expiredAt);
         } catch (DataIntegrityViolationException ex) {
             return new FinalizeResult(false, EventIssueFailureReason.ALREADY_ISSUED, null, null, null);
         }
     }
+
+    // 중복 조회 1회, 발급 수 슬롯 예약 1회, participant/coupon 배치 insert로 N건을 처리한다.
+    // 제약 조건 위반이 나면 트랜잭션 전체가 롤백되므로 호출자는 건별 finalizeIssue로 다시 처리한다.
+    @Override
+    @Transactional
+    public List<FinalizeResult> finalizeIssueBatch(Long eventId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        Event event = eventRepository.findByIdAndIsActiveTrueAndIsDeletedFalse(eventId)
+                .orElse(null);
+        Instant now = Instant.now();
+        if (event == null) {
+            return failAll(memberIds.size(), EventIssueFailureReason.EVENT_ENDED);
+        }
+        if (now.isBefore(event.getStartAt())) {
+            return failAll(memberIds.size(), EventIssueFailureReason.EVENT_NOT_STARTED);
+        }
+        if (!now.isBefore(event.getEndAt())) {
+            return failAll(memberIds.size(), EventIssueFailureReason.EVENT_ENDED);
+        }
+
+        Set<Long> issuedMemberIds = new HashSet<>(
+                eventParticipantRepository.findMemberIdsByEventIdAndMemberIdIn(eventId, new HashSet<>(memberIds))
+        );
+        List<Integer> candidateIndexes = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (issuedMemberIds.add(memberIds.get(i))) {
+                candidateIndexes.add(i);
+            }
+        }
+        int granted = eventIssuedCountService.reserve(event, candidateIndexes.size());
+        Instant issuedAt = now;
+        Instant expiredAt = event.getEndAt();
+
+        // 후보가 아닌 요청(기존 발급자, 같은 배치 안의 중복)은 ALREADY_ISSUED로 남는다.
+        List<FinalizeResult> results = failAll(memberIds.size(), EventIssueFailureReason.ALREADY_ISSUED);
+        List<EventParticipant> participants = new ArrayList<>();
+        List<EventCoupon> coupons = new ArrayList<>();
+        List<Integer> issuedIndexes = new ArrayList<>();
+
+        for (int c = 0; c < candidateIndexes.size(); c++) {
+            int index = candidateIndexes.get(c);
+            if (c >= granted) {
+                results.set(index, new FinalizeResult(false, EventIssueFailureReason.SOLD_OUT, null, null, null));
+                continue;
+            }
+
+            Long memberId = memberIds.get(index);
+            EventParticipant participant = EventParticipant.builder()
+                    .event(event)
+                    .member(Member.builder().id(memberId).build())
+                    .build();
+            participants.add(participant);
+            coupons.add(EventCoupon.builder()
+                    .eventParticipant(participant)
+                    .member(Member.builder().id(memberId).build())
+                    .couponType(event.getCouponType())
+                    .status(EventCouponStatus.ISSUED)
+                    .expiredAt(expiredAt)
+                    .build());
+            issuedIndexes.add(index);
+        }
+
+        if (participants.isEmpty()) {
+            return results;
+        }
+
+        eventParticipantRepository.saveAll(participants);
+        List<EventCoupon> savedCoupons = eventCouponRepository.saveAll(coupons);
+        eventParticipantRepository.flush();
+
+        for (int i = 0; i < issuedIndexes.size(); i++) {
+            results.set(issuedIndexes.get(i), new FinalizeResult(true, null, savedCoupons.get(i).getId(), issuedAt, expiredAt));
+        }
+        return results;
+    }
+
+    private List<FinalizeResult> failAll(int size, EventIssueFailureReason reason) {
+        return new ArrayList<>(Collections.nCopies(size, new FinalizeResult(false, reason, null, null, null)));
+    }
 }
@@ -27,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class EventIssueRequestServiceImpl implements EventIssueRequestService {
 
+    private static final long META_MISSING = 7L;
+
     private final EventRepository eventRepository;
     private final EventCouponRepository eventCouponRepository;
     private final EventIssueRedisRepository eventIssueRedisRepository;
@@ -45,22 +47,13 @@ public class EventIssueRequestServiceImpl implements EventIssueRequestService {
         ensureIssuedUsersCache(eventId);
 
         String requestId = UUID.randomUUID().toString();
-        List<?> result = luaExecutor.enqueue(
-                List.of(
-                        keyFactory.metaKey(eventId),
-                        keyFactory.issuedUsersKey(eventId),
-                        keyFactory.userRequestKey(eventId, memberId),
-                        keyFactory.queueKey(eventId),
-                        keyFactory.requestKey(eventId, requestId)
-                ),
-                List.of(
-                        String.valueOf(memberId),
-                        requestId,
-                        String.valueOf(Instant.now().toEpochMilli()),
-                        String.valueOf(queueLimit),
-                        String.valueOf(properties.terminalStatusTtl().toSeconds())
-                )
-        );
+        List<?> result = enqueue(memberId, eventId, requestId, queueLimit);
+        if (asLong(result, 0) == META_MISSING) {
+            // Redis 메타가 사라졌는데 로컬 기록 때문에 동기화를 건너뛴 경우: 다시 쓰고 한 번만 재시도한다.
+            eventIssueRedisRepository.invalidateSyncedMeta(eventId);
+            eventIssueRedisRepository.syncMeta(event, queueLimit);
+            result = enqueue(memberId, eventId, requestId, queueLimit);
+        }
 
         long resultCode = asLong(result, 0);
         String resultRequestId = asString(result, 1);
@@ -95,6 +88,25 @@ public class EventIssueRequestServiceImpl implements EventIssueRequestService {
         );
     }
 
+    private List<?> enqueue(Long memberId, Long eventId, String requestId, int queueLimit) {
+        return luaExecutor.enqueue(
+                List.of(
+                        keyFactory.metaKey(eventId),
+                        keyFactory.issuedUsersKey(eventId),
+                        keyFactory.userRequestKey(eventId, memberId),
+                        keyFactory.queueKey(eventId),
+                        keyFactory.requestKey(eventId, requestId)
+                ),
+                List.of(
+                        String.valueOf(memberId),
+                        requestId,
+                        String.valueOf(Instant.now().toEpochMilli()),
+                        String.valueOf(queueLimit),
+                        String.valueOf(properties.terminalStatusTtl().toSeconds())
+                )
+        );
+    }
+
     private void ensureIssuedUsersCache(Long eventId) {
         if (eventIssueRedisRepository.hasIssuedUsersCache(eventId)) {
             return;
@@ -117,6 +129,7 @@ public class EventIssueRequestServiceImpl implements EventIssueRequestService {
             case 3 -> EventIssueFailureReason.ALREADY_WAITING;
             case 4 -> EventIssueFailureReason.QUEUE_LIMIT_EXCEEDED;
             case 5 -> EventIssueFailureReason.EVENT_ENDED;
+            case 6 -> EventIssueFailureReason.SOLD_OUT;
             default -> EventIssueFailureReason.SYSTEM_ERROR;
         };
     }
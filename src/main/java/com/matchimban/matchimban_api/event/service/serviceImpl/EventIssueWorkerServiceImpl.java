@@ -1,14 +1,18 @@
 package com.matchimban.matchimban_api.event.service.serviceImpl;
 
 import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
 import com.matchimban.matchimban_api.event.entity.EventIssueFailureReason;
+import com.matchimban.matchimban_api.event.entity.EventIssueRequestStatus;
 import com.matchimban.matchimban_api.event.redis.EventIssueLuaExecutor;
 import com.matchimban.matchimban_api.event.redis.EventIssueRedisKeyFactory;
 import com.matchimban.matchimban_api.event.redis.EventIssueRedisRepository;
+import com.matchimban.matchimban_api.event.redis.EventIssueStatusRedisPublisher;
 import com.matchimban.matchimban_api.event.repository.EventRepository;
 import com.matchimban.matchimban_api.event.service.EventIssueFinalizeService;
 import com.matchimban.matchimban_api.event.service.EventIssueWorkerService;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,7 @@ public class EventIssueWorkerServiceImpl implements EventIssueWorkerService {
     private final EventIssueRedisKeyFactory keyFactory;
     private final EventIssueRedisRepository eventIssueRedisRepository;
     private final EventIssueFinalizeService eventIssueFinalizeService;
+    private final EventIssueStatusRedisPublisher eventIssueStatusRedisPublisher;
 
     @Override
     public void processBatchForActiveEvents() {
@@ -32,61 +37,103 @@ public class EventIssueWorkerServiceImpl implements EventIssueWorkerService {
         List<Long> eventIds = eventRepository.findIssueTargetEventIds(now);
         for (Long eventId : eventIds) {
             requeueExpiredProcessing(eventId, now);
-            for (int i = 0; i < properties.batchSizePerEvent(); i++) {
-                List<?> claimResult = luaExecutor.claim(
-                        List.of(
-                                keyFactory.queueKey(eventId),
-                                keyFactory.processingKey(eventId),
-                                keyFactory.requestKey(eventId, "")
-                        ),
-                        List.of(
-                                String.valueOf(now.toEpochMilli()),
-                                String.valueOf(now.plus(properties.processingLease()).toEpochMilli())
-                        )
-                );
-                if (claimResult == null || claimResult.isEmpty()) {
-                    break;
-                }
+            List<?> claimResult = luaExecutor.claimBatch(
+                    List.of(
+                            keyFactory.queueKey(eventId),
+                            keyFactory.processingKey(eventId),
+                            keyFactory.requestKey(eventId, "")
+                    ),
+                    List.of(
+                            String.valueOf(now.toEpochMilli()),
+                            String.valueOf(now.plus(properties.processingLease()).toEpochMilli()),
+                            String.valueOf(properties.batchSizePerEvent())
+                    )
+            );
+            if (claimResult == null || claimResult.isEmpty()) {
+                continue;
+            }
 
-                String requestId = String.valueOf(claimResult.get(0));
-                Long memberId = Long.parseLong(String.valueOf(claimResult.get(1)));
-                processClaimedRequest(eventId, requestId, memberId);
+            List<String> requestIds = new ArrayList<>(claimResult.size() / 2);
+            List<Long> memberIds = new ArrayList<>(claimResult.size() / 2);
+            List<EventIssueStatusResponse> processing = new ArrayList<>(claimResult.size() / 2);
+            for (int i = 0; i + 1 < claimResult.size(); i += 2) {
+                String requestId = String.valueOf(claimResult.get(i));
+                requestIds.add(requestId);
+                memberIds.add(Long.parseLong(String.valueOf(claimResult.get(i + 1))));
+                processing.add(new EventIssueStatusResponse(
+                        requestId, EventIssueRequestStatus.PROCESSING, null, null, null, null, null));
             }
+            eventIssueStatusRedisPublisher.publish(eventId, processing);
+            eventIssueStatusRedisPublisher.publish(eventId, processClaimedRequests(eventId, requestIds, memberIds));
         }
     }
 
-    private void processClaimedRequest(Long eventId, String requestId, Long memberId) {
+    // 요청별 전이 결과를 모아 돌려준다. 상태 스트림에는 배치 단위로 한 번에 보낸다.
+    private List<EventIssueStatusResponse> processClaimedRequests(Long eventId, List<String> requestIds, List<Long> memberIds) {
+        List<EventIssueStatusResponse> transitions = new ArrayList<>(requestIds.size());
+        List<EventIssueFinalizeService.FinalizeResult> results;
         try {
-            EventIssueFinalizeService.FinalizeResult result = eventIssueFinalizeService.finalizeIssue(eventId, memberId);
-            if (result.success()) {
-                eventIssueRedisRepository.markSucceeded(
-                        eventId,
-                        memberId,
-                        requestId,
-                        result.couponId(),
-                        result.issuedAt(),
-                        result.expiredAt()
-                );
-                return;
+            results = eventIssueFinalizeService.finalizeIssueBatch(eventId, memberIds);
+        } catch (Exception ex) {
+            // 배치 트랜잭션이 롤백되면 건별로 다시 처리해서 실패 요청만 재시도 경로로 보낸다.
+            log.warn("Batch finalize failed. fallback to single finalize. eventId={}, size={}",
+                    eventId, requestIds.size(), ex);
+            for (int i = 0; i < requestIds.size(); i++) {
+                transitions.add(processClaimedRequest(eventId, requestIds.get(i), memberIds.get(i)));
             }
-            eventIssueRedisRepository.markFailed(
-                    eventId,
-                    memberId,
-                    requestId,
-                    result.failureReason()
-            );
+            return transitions;
+        }
+
+        for (int i = 0; i < requestIds.size(); i++) {
+            try {
+                transitions.add(applyResult(eventId, requestIds.get(i), memberIds.get(i), results.get(i)));
+            } catch (Exception ex) {
+                // DB 반영은 끝났으므로 재시도하지 않는다. 처리 중 상태는 lease 만료 후 재처리에서 정리된다.
+                log.error("Failed to apply event issue result. eventId={}, requestId={}, memberId={}",
+                        eventId, requestIds.get(i), memberIds.get(i), ex);
+            }
+        }
+        return transitions;
+    }
+
+    private EventIssueStatusResponse processClaimedRequest(Long eventId, String requestId, Long memberId) {
+        try {
+            return applyResult(eventId, requestId, memberId, eventIssueFinalizeService.finalizeIssue(eventId, memberId));
         } catch (Exception ex) {
             log.error("Failed to finalize event issue request. eventId={}, requestId={}, memberId={}",
                     eventId, requestId, memberId, ex);
             int retryCount = eventIssueRedisRepository.getRetryCount(eventId, requestId);
             if (retryCount < properties.maxFinalizeRetries()) {
-                eventIssueRedisRepository.requeueForRetry(eventId, requestId);
-                return;
+                return eventIssueRedisRepository.requeueForRetry(eventId, requestId);
             }
-            eventIssueRedisRepository.markFailed(eventId, memberId, requestId, EventIssueFailureReason.SYSTEM_ERROR);
+            return eventIssueRedisRepository.markFailed(eventId, memberId, requestId, EventIssueFailureReason.SYSTEM_ERROR);
         }
     }
 
+    private EventIssueStatusResponse applyResult(
+            Long eventId,
+            String requestId,
+            Long memberId,
+            EventIssueFinalizeService.FinalizeResult result
+    ) {
+        if (result.success()) {
+            return eventIssueRedisRepository.markSucceeded(
+                    eventId,
+                    memberId,
+                    requestId,
+                    result.couponId(),
+                    result.issuedAt(),
+                    result.expiredAt()
+            );
+        }
+        return eventIssueRedisRepository.markFailed(
+                eventId,
+                memberId,
+                requestId,
+                result.failureReason()
+        );
+    }
+
     private void requeueExpiredProcessing(Long eventId, Instant now) {
         luaExecutor.requeueExpiredProcessing(
                 List.of(
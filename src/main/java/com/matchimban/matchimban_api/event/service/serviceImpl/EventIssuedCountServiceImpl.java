@@ -0,0 +1,97 @@
+package com.matchimban.matchimban_api.event.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.entity.EventIssuedCountSlot;
+import com.matchimban.matchimban_api.event.repository.EventIssuedCountSlotRepository;
+import com.matchimban.matchimban_api.event.service.EventIssuedCountService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class EventIssuedCountServiceImpl implements EventIssuedCountService {
+
+    private final EventIssuedCountSlotRepository slotRepository;
+    private final EventIssueProperties properties;
+
+    // 임의로 고른 슬롯 하나만 기다려서 잠그고, 모자라면 나머지 슬롯은 잠겨 있지 않은 것만 가져온다.
+    // 잠금을 쥔 채로 다른 슬롯을 기다리지 않으므로 finalizer끼리 교착되지 않는다.
+    // 몫이 남은 슬롯을 건너뛴 탓에 다 채우지 못했다면 매진으로 단정하지 않고 예외를 던져 워커 재시도 경로로 보낸다.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int reserve(Event event, int quantity) {
+        if (quantity <= 0) {
+            return 0;
+        }
+
+        // 설정된 슬롯 수가 아니라 이벤트에 실제로 만들어진 슬롯만 돈다.
+        List<Integer> slots = slotsOf(event);
+        int preferred = ThreadLocalRandom.current().nextInt(slots.size());
+        int granted = 0;
+        boolean skipped = false;
+
+        for (int i = 0; i < slots.size() && granted < quantity; i++) {
+            int slot = slots.get((preferred + i) % slots.size());
+            Optional<EventIssuedCountSlot> counter = i == 0
+                    ? slotRepository.findForUpdate(event.getId(), slot)
+                    : slotRepository.findAvailableForUpdateSkipLocked(event.getId(), slot);
+            if (counter.isEmpty()) {
+                skipped |= i > 0 && slotRepository.existsAvailable(event.getId(), slot);
+                continue;
+            }
+            granted += counter.get().reserve(quantity - granted);
+        }
+
+        if (granted < quantity && skipped) {
+            throw new CannotAcquireLockException(
+                    "Issued count slots are busy. eventId=" + event.getId() + ", granted=" + granted);
+        }
+        return granted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getIssuedCounts(List<Event> events) {
+        if (events.isEmpty()) {
+            return Map.of();
+        }
+
+        // 슬롯이 아직 없는 이벤트는 발급 이력이 없으므로 events.issued_count(슬롯 도입 전 값)를 그대로 쓴다.
+        Map<Long, Integer> issuedCounts = new HashMap<>();
+        for (Event event : events) {
+            issuedCounts.put(event.getId(), event.getIssuedCount());
+        }
+        for (EventIssuedCountSlotRepository.IssuedCountRow row
+                : slotRepository.sumIssuedCountByEventIds(issuedCounts.keySet())) {
+            issuedCounts.put(row.getEventId(), (int) row.getIssuedCount());
+        }
+        return issuedCounts;
+    }
+
+    private List<Integer> slotsOf(Event event) {
+        List<Integer> slots = slotRepository.findSlotsByEventId(event.getId());
+        if (!slots.isEmpty()) {
+            return slots;
+        }
+        // 슬롯 몫은 처음 만들 때 정하고, 슬롯 도입 전에 발급된 수(events.issued_count)는 V23처럼 앞 슬롯부터 채운다.
+        int slotCount = Math.max(1, properties.issuedCountSlots());
+        for (int i = 0; i < slotCount; i++) {
+            slotRepository.insertIfAbsent(
+                    event.getId(),
+                    i,
+                    EventIssuedCountSlot.quotaOf(event.getCapacity(), slotCount, i),
+                    EventIssuedCountSlot.legacyIssuedCountOf(event.getCapacity(), event.getIssuedCount(), slotCount, i)
+            );
+        }
+        return slotRepository.findSlotsByEventId(event.getId());
+    }
+}
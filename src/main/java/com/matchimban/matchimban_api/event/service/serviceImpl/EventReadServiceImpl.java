@@ -5,6 +5,7 @@ import com.matchimban.matchimban_api.event.dto.response.EventListResponse;
 import com.matchimban.matchimban_api.event.dto.response.EventSummaryResponse;
 import com.matchimban.matchimban_api.event.entity.Event;
 import com.matchimban.matchimban_api.event.repository.EventRepository;
+import com.matchimban.matchimban_api.event.service.EventIssuedCountService;
 import com.matchimban.matchimban_api.event.service.EventReadService;
 import com.matchimban.matchimban_api.event.support.EventProgressStatusResolver;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +23,7 @@ public class EventReadServiceImpl implements EventReadService {
 
     private final EventRepository eventRepository;
     private final EventProgressStatusResolver eventProgressStatusResolver;
+    private final EventIssuedCountService eventIssuedCountService;
 
     @Override
     public EventListResponse getEvents(EventListRequest request) {
@@ -36,8 +39,9 @@ public class EventReadServiceImpl implements EventReadService {
         boolean hasNext = events.size() > size;
         List<Event> pageItems = hasNext ? events.subList(0, size) : events;
 
+        Map<Long, Integer> issuedCounts = eventIssuedCountService.getIssuedCounts(pageItems);
         List<EventSummaryResponse> items = pageItems.stream()
-                .map(event -> toSummary(event, now))
+                .map(event -> toSummary(event, issuedCounts.get(event.getId()), now))
                 .toList();
 
         Instant nextCursorCreatedAt = null;
@@ -52,19 +56,19 @@ public class EventReadServiceImpl implements EventReadService {
         return new EventListResponse(items, hasNext, nextCursorCreatedAt, nextCursorId);
     }
 
-    private EventSummaryResponse toSummary(Event event, Instant now) {
-        int remainingCount = eventProgressStatusResolver.calculateRemainingCount(event);
+    private EventSummaryResponse toSummary(Event event, int issuedCount, Instant now) {
+        int remainingCount = eventProgressStatusResolver.calculateRemainingCount(event, issuedCount);
 
         return new EventSummaryResponse(
                 event.getId(),
                 event.getTitle(),
                 event.getDescription(),
                 event.getCouponType(),
-                eventProgressStatusResolver.resolve(event, now),
+                eventProgressStatusResolver.resolve(event, issuedCount, now),
                 event.getStartAt(),
                 event.getEndAt(),
                 event.getCapacity(),
-                event.getIssuedCount(),
+                issuedCount,
                 remainingCount
         );
     }
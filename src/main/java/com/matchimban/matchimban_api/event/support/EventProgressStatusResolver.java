@@ -8,20 +8,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class EventProgressStatusResolver {
 
-    public EventProgressStatus resolve(Event event, Instant now) {
+    public EventProgressStatus resolve(Event event, int issuedCount, Instant now) {
         if (now.isBefore(event.getStartAt())) {
             return EventProgressStatus.SCHEDULED;
         }
         if (!now.isBefore(event.getEndAt())) {
             return EventProgressStatus.ENDED;
         }
-        if (event.getIssuedCount() >= event.getCapacity()) {
+        if (issuedCount >= event.getCapacity()) {
             return EventProgressStatus.SOLD_OUT;
         }
         return EventProgressStatus.IN_PROGRESS;
     }
 
-    public int calculateRemainingCount(Event event) {
-        return Math.max(0, event.getCapacity() - event.getIssuedCount());
+    public int calculateRemainingCount(Event event, int issuedCount) {
+        return Math.max(0, event.getCapacity() - issuedCount);
     }
 }
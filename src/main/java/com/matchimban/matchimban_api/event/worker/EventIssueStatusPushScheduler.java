@@ -0,0 +1,25 @@
+package com.matchimban.matchimban_api.event.worker;
+
+import com.matchimban.matchimban_api.event.service.EventIssueStatusSseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventIssueStatusPushScheduler {
+
+    private final EventIssueStatusSseService eventIssueStatusSseService;
+
+    // 순번은 구독자마다 조회하지 않고 주기마다 이벤트별로 한 번 계산해 바뀐 값만 보낸다.
+    @Scheduled(fixedDelayString = "${event.issue.status-stream.position-push-interval:1000ms}")
+    public void pushQueuePositions() {
+        try {
+            eventIssueStatusSseService.pushQueuePositions();
+        } catch (Exception ex) {
+            log.error("Failed to push event issue queue positions", ex);
+        }
+    }
+}
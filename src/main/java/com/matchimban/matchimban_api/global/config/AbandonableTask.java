@@ -0,0 +1,9 @@
+package com.matchimban.matchimban_api.global.config;
+
+import java.util.concurrent.RejectedExecutionException;
+
+// 실행기가 끝내 받아 주지 않은 작업. 재시도 한도를 넘기거나 실행기가 종료되면 버리기 전에 abandon()이 불린다.
+public interface AbandonableTask extends Runnable {
+
+	void abandon(RejectedExecutionException cause);
+}
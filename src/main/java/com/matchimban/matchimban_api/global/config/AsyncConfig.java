@@ -1,9 +1,56 @@
 package com.matchimban.matchimban_api.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+// 느린 리스너(투표 후보 생성)가 채팅 후처리 같은 다른 리스너의 스레드를 잡아먹지 않도록 실행기를 나눈다.
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+	public static final String DEFAULT_EVENT_EXECUTOR = "defaultEventExecutor";
+	public static final String CHAT_EVENT_EXECUTOR = "chatEventExecutor";
+	public static final String VOTE_EVENT_EXECUTOR = "voteEventExecutor";
+
+	private final AsyncExecutorProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	public AsyncConfig(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Bean(name = DEFAULT_EVENT_EXECUTOR)
+	public ThreadPoolTaskExecutor defaultEventExecutor() {
+		return AsyncExecutorFactory.create(DEFAULT_EVENT_EXECUTOR, properties.getDefaults(), meterRegistry);
+	}
+
+	@Bean(name = CHAT_EVENT_EXECUTOR)
+	public ThreadPoolTaskExecutor chatEventExecutor() {
+		return AsyncExecutorFactory.create(CHAT_EVENT_EXECUTOR, properties.getChat(), meterRegistry);
+	}
+
+	@Bean(name = VOTE_EVENT_EXECUTOR)
+	public ThreadPoolTaskExecutor voteEventExecutor() {
+		return AsyncExecutorFactory.create(VOTE_EVENT_EXECUTOR, properties.getVote(), meterRegistry);
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		// @Configuration 프록시를 거치므로 위에서 등록한 빈이 반환된다.
+		return defaultEventExecutor();
+	}
+
+	@Override
+	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+		return (ex, method, params) -> log.error("Uncaught exception in async method {}", method.getName(), ex);
+	}
 }
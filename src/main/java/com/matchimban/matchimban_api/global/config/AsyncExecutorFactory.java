@@ -0,0 +1,169 @@
+package com.matchimban.matchimban_api.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// 이름 붙은 실행기를 만들고 executor 태그로 큐 길이/활성 스레드/거절 수를 노출한다.
+// 가상 스레드를 켜도 스레드 수(concurrency)와 큐 크기로 동시 실행량을 제한한다.
+// initialize()는 빈으로 등록될 때 스프링이 호출한다.
+@Slf4j
+public final class AsyncExecutorFactory {
+
+	private AsyncExecutorFactory() {
+	}
+
+	public static ThreadPoolTaskExecutor create(String name, AsyncExecutorProperties.Pool pool, MeterRegistry meterRegistry) {
+		int concurrency = Math.max(1, pool.getConcurrency());
+		Counter rejected = Counter.builder("async.executor.rejected")
+			.description("Tasks rejected because the executor queue was full")
+			.tag("executor", name)
+			.register(meterRegistry);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setQueueCapacity(Math.max(0, pool.getQueueCapacity()));
+		executor.setThreadNamePrefix(name + "-");
+		if (pool.isVirtualThreads()) {
+			executor.setThreadFactory(Thread.ofVirtual().name(name + "-vt-", 0).factory());
+		}
+		executor.setRejectedExecutionHandler(pool.isCallerRunsWhenFull()
+			? countingCallerRuns(rejected)
+			: countingRetryLater(name, pool, rejected, meterRegistry));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+
+		Gauge.builder("async.executor.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.description("Tasks waiting in the executor queue")
+			.tag("executor", name)
+			.register(meterRegistry);
+		Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.description("Tasks currently running on the executor")
+			.tag("executor", name)
+			.register(meterRegistry);
+		return executor;
+	}
+
+	public static ThreadPoolTaskScheduler createScheduler(
+		String name,
+		AsyncExecutorProperties.Scheduler scheduler,
+		MeterRegistry meterRegistry
+	) {
+		Counter rejected = Counter.builder("async.executor.rejected")
+			.description("Tasks rejected by the scheduler")
+			.tag("executor", name)
+			.register(meterRegistry);
+
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.setPoolSize(Math.max(1, scheduler.getPoolSize()));
+		taskScheduler.setThreadNamePrefix(name + "-");
+		if (scheduler.isVirtualThreads()) {
+			taskScheduler.setThreadFactory(Thread.ofVirtual().name(name + "-vt-", 0).factory());
+		}
+		taskScheduler.setRejectedExecutionHandler((task, executor) -> {
+			rejected.increment();
+			new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, executor);
+		});
+		taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+		taskScheduler.setAwaitTerminationSeconds(10);
+
+		Gauge.builder("async.executor.queued", taskScheduler, s -> s.getScheduledThreadPoolExecutor().getQueue().size())
+			.description("Scheduled tasks waiting for their next run")
+			.tag("executor", name)
+			.register(meterRegistry);
+		Gauge.builder("async.executor.active", taskScheduler, ThreadPoolTaskScheduler::getActiveCount)
+			.description("Scheduled tasks currently running")
+			.tag("executor", name)
+			.register(meterRegistry);
+		return taskScheduler;
+	}
+
+	// 큐가 가득 차면 이벤트를 버리지 않고 발행한 스레드에서 실행한다(자연스러운 배압).
+	private static RejectedExecutionHandler countingCallerRuns(Counter rejected) {
+		RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+		return (task, executor) -> {
+			rejected.increment();
+			callerRuns.rejectedExecution(task, executor);
+		};
+	}
+
+	// 커밋 직후(AFTER_COMMIT) 리스너를 호출한 스레드에서 돌리면 요청 스레드가 작업이 끝날 때까지 붙잡히므로,
+	// 거절된 작업은 버리지 않고 잠시 뒤 같은 실행기에 다시 넣는다.
+	// 재시도 한도를 넘기거나 실행기가 종료되면 포기한다. AbandonableTask면 abandon()으로 알리고, 아니면 거절 예외를 던진다.
+	private static RejectedExecutionHandler countingRetryLater(
+		String name,
+		AsyncExecutorProperties.Pool pool,
+		Counter rejected,
+		MeterRegistry meterRegistry
+	) {
+		long delayMs = Math.max(0L, pool.getRejectedRetryDelay().toMillis());
+		int maxRetries = Math.max(0, pool.getMaxRejectedRetries());
+		Executor delayed = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+		AtomicInteger pendingRetries = new AtomicInteger();
+		Gauge.builder("async.executor.retry.pending", pendingRetries, AtomicInteger::get)
+			.description("Rejected tasks waiting to be resubmitted")
+			.tag("executor", name)
+			.register(meterRegistry);
+		Counter abandoned = Counter.builder("async.executor.abandoned")
+			.description("Rejected tasks given up after retries or on shutdown")
+			.tag("executor", name)
+			.register(meterRegistry);
+
+		return (task, executor) -> {
+			rejected.increment();
+			Runnable original = task instanceof RetriedTask retried ? retried.task() : task;
+			int attempt = task instanceof RetriedTask retried ? retried.attempt() : 0;
+			if (executor.isShutdown()) {
+				giveUp(name, original, abandoned, new RejectedExecutionException("Executor " + name + " is shut down"));
+				return;
+			}
+			if (attempt >= maxRetries) {
+				giveUp(name, original, abandoned, new RejectedExecutionException(
+					"Executor " + name + " is still full after " + attempt + " retries"));
+				return;
+			}
+			log.warn("Executor queue is full. Retrying task later. executor={}, attempt={}, delayMs={}",
+				name, attempt + 1, delayMs);
+			pendingRetries.incrementAndGet();
+			delayed.execute(() -> {
+				pendingRetries.decrementAndGet();
+				try {
+					executor.execute(new RetriedTask(original, attempt + 1));
+				} catch (RejectedExecutionException e) {
+					// 다시 거절되면 이 핸들러가 이미 재시도를 예약했거나 포기 처리를 마쳤다.
+					log.debug("Retried task rejected again. executor={}, attempt={}", name, attempt + 1);
+				}
+			});
+		};
+	}
+
+	private static void giveUp(String name, Runnable task, Counter abandoned, RejectedExecutionException cause) {
+		abandoned.increment();
+		log.error("Giving up rejected task. executor={}, reason={}", name, cause.getMessage());
+		if (task instanceof AbandonableTask abandonable) {
+			abandonable.abandon(cause);
+			return;
+		}
+		throw cause;
+	}
+
+	// 다시 넣을 때 몇 번째 재시도인지 들고 다닌다.
+	private record RetriedTask(Runnable task, int attempt) implements Runnable {
+
+		@Override
+		public void run() {
+			task.run();
+		}
+	}
+}
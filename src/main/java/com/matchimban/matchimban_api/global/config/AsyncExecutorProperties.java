@@ -0,0 +1,54 @@
+package com.matchimban.matchimban_api.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncExecutorProperties {
+
+	// 이름 없는 @Async 리스너가 쓰는 기본 실행기
+	private final Pool defaults = new Pool(4, 200);
+	// 채팅 메시지 후처리(최근 메시지 캐시, Redis 발행, 알림 생성)
+	private final Pool chat = new Pool(8, 1000);
+	// 투표 후보 생성(AI 호출 포함, 느림). 커밋 직후 리스너라 가득 차도 호출한 스레드에서 돌리지 않는다.
+	private final Pool vote = new Pool(4, 100, false);
+	// @Scheduled 폴러
+	private final Scheduler scheduler = new Scheduler();
+
+	@Getter
+	@Setter
+	public static class Pool {
+		private boolean virtualThreads = false;
+		private int concurrency;
+		private int queueCapacity;
+		// false면 큐가 가득 찼을 때 호출한 스레드에서 실행하지 않고 잠시 뒤 다시 넣는다.
+		private boolean callerRunsWhenFull = true;
+		// callerRunsWhenFull이 false일 때, 거절된 작업을 다시 넣는 간격과 포기하기 전까지의 재시도 횟수
+		private Duration rejectedRetryDelay = Duration.ofSeconds(1);
+		private int maxRejectedRetries = 30;
+
+		public Pool() {
+		}
+
+		public Pool(int concurrency, int queueCapacity) {
+			this(concurrency, queueCapacity, true);
+		}
+
+		public Pool(int concurrency, int queueCapacity, boolean callerRunsWhenFull) {
+			this.concurrency = concurrency;
+			this.queueCapacity = queueCapacity;
+			this.callerRunsWhenFull = callerRunsWhenFull;
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class Scheduler {
+		private boolean virtualThreads = false;
+		private int poolSize = 4;
+	}
+}
@@ -1,9 +1,18 @@
 package com.matchimban.matchimban_api.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+	// 기본 스케줄러는 스레드 1개라 알림/OCR/쿠폰 폴러가 서로의 tick을 기다린다.
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+		return AsyncExecutorFactory.createScheduler("taskScheduler", properties.getScheduler(), meterRegistry);
+	}
 }
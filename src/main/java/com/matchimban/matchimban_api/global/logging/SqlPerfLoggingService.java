@@ -80,7 +80,7 @@ public class SqlPerfLoggingService {
 		}
 	}
 
-	private String normalizeSql(String rawQuery) {
+	String normalizeSql(String rawQuery) {
 		if (rawQuery == null || rawQuery.isBlank()) {
 			return "(blank)";
 		}
@@ -93,7 +93,7 @@ public class SqlPerfLoggingService {
 		return normalized.substring(0, maxLength) + "...(truncated)";
 	}
 
-	private String hash(String value) {
+	String hash(String value) {
 		try {
 			MessageDigest digest = MessageDigest.getInstance("SHA-256");
 			byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,28 @@
+package com.matchimban.matchimban_api.meeting.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+@Configuration
+public class MeetingDetailReadModelRedisConfig {
+
+    @Bean
+    public RedisScript<Long> meetingDetailSaveIfVersionScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/meeting-detail-save-if-version.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @Bean
+    public RedisScript<Long> meetingDetailInvalidateScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/meeting-detail-invalidate.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -1,7 +1,9 @@
 package com.matchimban.matchimban_api.meeting.entity;
 
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -84,6 +86,18 @@ public class Meeting {
     @Column(name = "host_member_id", nullable = false)
     private Long hostMemberId;
 
+    // 내 모임 목록용 비정규화 값. MeetingRepository의 update 쿼리로만 바꾸므로 엔티티 저장 시에는 쓰지 않는다.
+    @ColumnDefault("0")
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private int participantCount;
+
+    @Column(name = "current_vote_round", insertable = false, updatable = false)
+    private Integer currentVoteRound;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_vote_status", length = 20, insertable = false, updatable = false)
+    private VoteStatus currentVoteStatus;
+
     public void delete() {
         this.isDeleted = true;
     }
@@ -0,0 +1,6 @@
+package com.matchimban.matchimban_api.meeting.event;
+
+// 모임 상세 화면에 보이는 값(모임 정보, 참여자, 투표 상태, 정산 상태)이 바뀌었음을 알린다.
+public record MeetingDetailChangedEvent(
+        Long meetingId
+) {}
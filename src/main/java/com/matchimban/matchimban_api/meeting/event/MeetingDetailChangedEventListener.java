@@ -0,0 +1,20 @@
+package com.matchimban.matchimban_api.meeting.event;
+
+import com.matchimban.matchimban_api.meeting.redis.MeetingDetailReadModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MeetingDetailChangedEventListener {
+
+    private final MeetingDetailReadModelRepository meetingDetailReadModelRepository;
+
+    // 커밋 이후에 무효화해야 다음 조회가 커밋된 값으로 문서를 다시 만든다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingDetailChanged(MeetingDetailChangedEvent event) {
+        meetingDetailReadModelRepository.invalidate(event.meetingId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.matchimban.matchimban_api.meeting.redis;
+
+import com.matchimban.matchimban_api.meeting.dto.view.MeetingParticipantSummary;
+import com.matchimban.matchimban_api.settlement.enums.SettlementStatus;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+// 모임 상세/상태 조회에서 회원과 무관한 부분만 담은 읽기 모델 문서.
+// 투표 여부와 안 읽은 채팅 수처럼 회원마다 다른 값은 조회 시점에 덧붙인다.
+public record MeetingDetailDocument(
+        Long meetingId,
+        String title,
+        Instant scheduledAt,
+        Instant voteDeadlineAt,
+        String locationAddress,
+        BigDecimal locationLat,
+        BigDecimal locationLng,
+        int targetHeadcount,
+        int searchRadiusM,
+        int swipeCount,
+        boolean exceptMeat,
+        boolean exceptBar,
+        boolean quickMeeting,
+        String inviteCode,
+        Long hostMemberId,
+        long participantCount,
+        boolean finalSelected,
+        List<Participant> participants,
+        Long currentVoteId,
+        VoteStatus voteState,
+        SettlementStatus settlementStatus
+) {
+
+    public record Participant(Long memberId, String nickname, String profileImageUrl) {
+    }
+
+    public boolean hasActiveParticipant(Long memberId) {
+        return participants.stream().anyMatch(p -> p.memberId().equals(memberId));
+    }
+
+    public List<MeetingParticipantSummary> participantSummaries() {
+        return participants.stream()
+                .map(p -> new MeetingParticipantSummary(p.memberId(), p.nickname(), p.profileImageUrl()))
+                .toList();
+    }
+}
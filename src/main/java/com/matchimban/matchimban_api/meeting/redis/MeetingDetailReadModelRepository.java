@@ -0,0 +1,96 @@
+package com.matchimban.matchimban_api.meeting.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// 모임별 상세 문서(meeting:{id}:detail)와 버전 카운터(meeting:{id}:detail:version)를 관리한다.
+// 변경 이벤트는 버전을 올리고 문서를 지우며, 조회 쪽은 읽기 시작 시점의 버전이 그대로일 때만 문서를 저장한다.
+// Redis 장애 시에는 empty/null을 돌려주고, 호출자는 DB 조회로 처리한다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MeetingDetailReadModelRepository {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisScript<Long> meetingDetailSaveIfVersionScript;
+    private final RedisScript<Long> meetingDetailInvalidateScript;
+
+    // 회원 프로필 변경은 이벤트로 잡지 않으므로 TTL로 오래된 정도를 제한한다.
+    @Value("${meeting.detail.read-model.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${meeting.detail.read-model.version-ttl-seconds:86400}")
+    private long versionTtlSeconds;
+
+    public Optional<MeetingDetailDocument> find(Long meetingId) {
+        try {
+            String raw = redisTemplate.opsForValue().get(documentKey(meetingId));
+            if (raw == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(raw, MeetingDetailDocument.class));
+        } catch (Exception e) {
+            log.warn("Meeting detail read model read failed. meetingId={}", meetingId, e);
+            return Optional.empty();
+        }
+    }
+
+    public String currentVersion(Long meetingId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(meetingId));
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            log.warn("Meeting detail read model version read failed. meetingId={}", meetingId, e);
+            return null;
+        }
+    }
+
+    public boolean saveIfVersion(MeetingDetailDocument document, String expectedVersion) {
+        if (expectedVersion == null) {
+            return false;
+        }
+        Long meetingId = document.meetingId();
+        try {
+            Long saved = redisTemplate.execute(
+                    meetingDetailSaveIfVersionScript,
+                    List.of(documentKey(meetingId), versionKey(meetingId)),
+                    expectedVersion,
+                    objectMapper.writeValueAsString(document),
+                    String.valueOf(ttlSeconds)
+            );
+            return saved != null && saved == 1L;
+        } catch (Exception e) {
+            log.warn("Meeting detail read model save failed. meetingId={}", meetingId, e);
+            return false;
+        }
+    }
+
+    public void invalidate(Long meetingId) {
+        try {
+            redisTemplate.execute(
+                    meetingDetailInvalidateScript,
+                    List.of(documentKey(meetingId), versionKey(meetingId)),
+                    String.valueOf(versionTtlSeconds)
+            );
+        } catch (Exception e) {
+            log.warn("Meeting detail read model invalidate failed. meetingId={}", meetingId, e);
+        }
+    }
+
+    private String documentKey(Long meetingId) {
+        return "meeting:" + meetingId + ":detail";
+    }
+
+    private String versionKey(Long meetingId) {
+        return "meeting:" + meetingId + ":detail:version";
+    }
+}
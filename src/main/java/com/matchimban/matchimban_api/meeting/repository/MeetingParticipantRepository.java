@@ -1,11 +1,14 @@
 package com.matchimban.matchimban_api.meeting.repository;
 
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.projection.ActiveReadPointerRow;
 import com.matchimban.matchimban_api.meeting.repository.projection.MeetingParticipantProfileRow;
 import com.matchimban.matchimban_api.meeting.repository.projection.MyMeetingRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -51,6 +54,33 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
             Pageable pageable
     );
 
+    // 참여 인원과 마지막 회차 투표 상태를 meetings의 비정규화 컬럼에서 읽는다. 모임마다 서브쿼리를 돌지 않는다.
+    @Query("""
+        select new com.matchimban.matchimban_api.meeting.repository.projection.MyMeetingRow(
+            mp.id,
+            m.id,
+            m.title,
+            m.scheduledAt,
+            cast(m.participantCount as Long),
+            m.targetHeadcount,
+            m.currentVoteStatus,
+            m.isQuickMeeting
+        )
+        from MeetingParticipant mp
+        join mp.meeting m
+        where mp.member.id = :memberId
+          and mp.status = :activeStatus
+          and m.isDeleted = false
+          and (:cursor is null or mp.id < :cursor)
+        order by mp.id desc
+    """)
+    List<MyMeetingRow> findMyMeetingRowsFromCounters(
+            @Param("memberId") Long memberId,
+            @Param("cursor") Long cursor,
+            @Param("activeStatus") MeetingParticipant.Status activeStatus,
+            Pageable pageable
+    );
+
     @Query("""
         select (count(mp) > 0)
         from MeetingParticipant mp
@@ -113,6 +143,36 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
             @Param("status") MeetingParticipant.Status status
     );
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select mp
+        from MeetingParticipant mp
+        where mp.meeting.id = :meetingId
+          and mp.member.id = :memberId
+          and mp.status = :status
+    """)
+    Optional<MeetingParticipant> findByMeetingIdAndMemberIdAndStatusForUpdate(
+            @Param("meetingId") Long meetingId,
+            @Param("memberId") Long memberId,
+            @Param("status") MeetingParticipant.Status status
+    );
+
+    // 현재 상태가 expectedStatus일 때만 바꾼다. 같은 전이가 동시에 들어와도 한 트랜잭션만 1을 돌려받는다.
+    // 벌크 update는 auditing을 거치지 않으므로 updated_at도 여기서 함께 갱신한다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update MeetingParticipant mp
+           set mp.status = :newStatus,
+               mp.updatedAt = CURRENT_TIMESTAMP
+         where mp.id = :participantId
+           and mp.status = :expectedStatus
+    """)
+    int updateStatusIfCurrent(
+            @Param("participantId") Long participantId,
+            @Param("expectedStatus") MeetingParticipant.Status expectedStatus,
+            @Param("newStatus") MeetingParticipant.Status newStatus
+    );
+
     @Query("""
         select mp.lastReadId
         from MeetingParticipant mp
@@ -122,6 +182,18 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
     """)
     List<String> findActiveLastReadIds(@Param("meetingId") Long meetingId);
 
+    @Query("""
+        select new com.matchimban.matchimban_api.meeting.repository.projection.ActiveReadPointerRow(
+            mp.member.id,
+            mp.lastReadId
+        )
+        from MeetingParticipant mp
+        where mp.meeting.id = :meetingId
+          and mp.status = com.matchimban.matchimban_api.meeting.entity.MeetingParticipant.Status.ACTIVE
+        order by mp.id asc
+    """)
+    List<ActiveReadPointerRow> findActiveReadPointers(@Param("meetingId") Long meetingId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update MeetingParticipant mp
@@ -71,6 +71,34 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
             @Param("chatMessageId") String chatMessageId
     );
 
+    // 행 잠금 아래에서 최신 값에 더하므로 동시에 호출해도 더한 값이 사라지지 않는다.
+    // 같은 참여/나가기가 두 번 반영되지 않도록, 참여자 상태를 조건부로 바꾼 경우(updateStatusIfCurrent가 1)에만 호출한다.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        update meetings
+           set participant_count = participant_count + :delta
+         where id = :meetingId
+    """, nativeQuery = true)
+    int addParticipantCount(
+            @Param("meetingId") Long meetingId,
+            @Param("delta") int delta
+    );
+
+    // 투표 상태를 바꾼 같은 트랜잭션에서 호출한다. 마지막 회차 투표를 다시 읽어 컬럼에 반영한다.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        update meetings
+           set current_vote_round = (select max(v.round) from votes v where v.meeting_id = :meetingId),
+               current_vote_status = (
+                   select v.state
+                     from votes v
+                    where v.meeting_id = :meetingId
+                      and v.round = (select max(v2.round) from votes v2 where v2.meeting_id = :meetingId)
+               )
+         where id = :meetingId
+    """, nativeQuery = true)
+    int syncCurrentVote(@Param("meetingId") Long meetingId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
         select m
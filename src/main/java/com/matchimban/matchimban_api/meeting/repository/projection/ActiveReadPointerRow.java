@@ -0,0 +1,11 @@
+package com.matchimban.matchimban_api.meeting.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ActiveReadPointerRow {
+    private Long memberId;
+    private String lastReadId;
+}
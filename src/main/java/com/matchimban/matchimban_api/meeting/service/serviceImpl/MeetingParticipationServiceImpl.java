@@ -1,5 +1,6 @@
 package com.matchimban.matchimban_api.meeting.service.serviceImpl;
 
+import com.matchimban.matchimban_api.chat.event.ChatMembershipRevokedInternalEvent;
 import com.matchimban.matchimban_api.chat.service.ChatSystemMessageService;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.dto.request.ParticipateMeetingRequest;
@@ -7,6 +8,7 @@ import com.matchimban.matchimban_api.meeting.dto.response.ParticipateMeetingResp
 import com.matchimban.matchimban_api.meeting.entity.Meeting;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.meeting.service.MeetingParticipationService;
@@ -62,7 +64,12 @@ public class MeetingParticipationServiceImpl implements MeetingParticipationServ
         }
 
         if (existing != null) {
-            existing.reactivate();
+            if (!reactivate(existing)) {
+                // 같은 회원의 다른 요청이 먼저 재참여시켰다.
+                return new ParticipateMeetingResponse(meetingId);
+            }
+            meetingRepository.addParticipantCount(meetingId, 1);
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
             publishMemberJoinedNotification(meetingId, existing.getId(), memberId, existing.getMember().getNickname());
             chatSystemMessageService.publishSystemMessage(existing, buildJoinSystemMessage(existing.getMember().getNickname()));
             return new ParticipateMeetingResponse(meetingId);
@@ -78,6 +85,8 @@ public class MeetingParticipationServiceImpl implements MeetingParticipationServ
                 .build();
 
         meetingParticipantRepository.save(participant);
+        meetingRepository.addParticipantCount(meetingId, 1);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
         publishMemberJoinedNotification(meetingId, participant.getId(), memberId, memberRef.getNickname());
         chatSystemMessageService.publishSystemMessage(participant, buildJoinSystemMessage(memberRef.getNickname()));
         return new ParticipateMeetingResponse(meetingId);
@@ -102,10 +111,32 @@ public class MeetingParticipationServiceImpl implements MeetingParticipationServ
         validateLeaveAllowedByVoteState(meetingId);
         validateLeaveAllowedBySettlementState(meetingId);
 
-        participant.leave();
+        MeetingParticipant.Status previousStatus = participant.getStatus();
+        if (meetingParticipantRepository.updateStatusIfCurrent(
+                participant.getId(), previousStatus, MeetingParticipant.Status.LEFT) == 0) {
+            // 같은 회원의 다른 요청이 먼저 나가기를 처리했다.
+            return;
+        }
+        entityManager.refresh(participant);
+        if (previousStatus == MeetingParticipant.Status.ACTIVE) {
+            meetingRepository.addParticipantCount(meetingId, -1);
+        }
+        eventPublisher.publishEvent(new ChatMembershipRevokedInternalEvent(meetingId, memberId));
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
         chatSystemMessageService.publishSystemMessage(participant, buildLeaveSystemMessage(participant.getMember().getNickname()));
     }
 
+    private boolean reactivate(MeetingParticipant participant) {
+        int updated = meetingParticipantRepository.updateStatusIfCurrent(
+                participant.getId(), participant.getStatus(), MeetingParticipant.Status.ACTIVE
+        );
+        if (updated == 0) {
+            return false;
+        }
+        entityManager.refresh(participant);
+        return true;
+    }
+
     private void validateLeaveAllowedByVoteState(Long meetingId) {
         voteRepository.findTopByMeetingIdOrderByRoundDesc(meetingId)
                 .ifPresent(vote -> {
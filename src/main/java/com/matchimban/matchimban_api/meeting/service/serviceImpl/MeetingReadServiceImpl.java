@@ -11,6 +11,8 @@ import com.matchimban.matchimban_api.meeting.dto.view.MyMeetingSummary;
 import com.matchimban.matchimban_api.meeting.dto.response.MyMeetingsResponse;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.redis.MeetingDetailDocument;
+import com.matchimban.matchimban_api.meeting.redis.MeetingDetailReadModelRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.meeting.repository.projection.MeetingDetailRow;
@@ -23,6 +25,7 @@ import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
 import com.matchimban.matchimban_api.vote.repository.VoteRepository;
 import com.matchimban.matchimban_api.vote.repository.VoteSubmissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -47,13 +50,17 @@ public class MeetingReadServiceImpl implements MeetingReadService {
     private final VoteRepository voteRepository;
     private final VoteSubmissionRepository voteSubmissionRepository;
     private final MeetingSettlementRepository meetingSettlementRepository;
+    private final MeetingDetailReadModelRepository meetingDetailReadModelRepository;
+
+    @Value("${meeting.detail.read-model.enabled:false}")
+    private boolean detailReadModelEnabled;
 
     @Override
     public MyMeetingsResponse getMyMeetings(Long memberId, Long cursor, int size) {
 
         Pageable pageable = PageRequest.of(0, size + 1);
 
-        List<MyMeetingRow> rows = meetingParticipantRepository.findMyMeetingRows(
+        List<MyMeetingRow> rows = meetingParticipantRepository.findMyMeetingRowsFromCounters(
                 memberId,
                 cursor,
                 MeetingParticipant.Status.ACTIVE,
@@ -138,6 +145,13 @@ public class MeetingReadServiceImpl implements MeetingReadService {
     @Override
     public MeetingDetailResponse getMeetingDetail(Long memberId, Long meetingId) {
 
+        if (detailReadModelEnabled) {
+            MeetingDetailDocument doc = findDetailDocument(memberId, meetingId);
+            boolean hasVotedCurrent = hasVoted(doc.currentVoteId(), memberId);
+            long chatUnreadCount = chatService.countUnreadForMeetingBadge(meetingId, memberId);
+            return toDetailResponse(doc, hasVotedCurrent, chatUnreadCount);
+        }
+
         boolean isActiveParticipant = meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
                 meetingId,
                 memberId,
@@ -206,6 +220,11 @@ public class MeetingReadServiceImpl implements MeetingReadService {
     @Transactional(readOnly = true)
     public MeetingDetailStateResponse getMeetingDetailState(Long memberId, Long meetingId) {
 
+        if (detailReadModelEnabled) {
+            MeetingDetailDocument doc = findDetailDocument(memberId, meetingId);
+            return toDetailStateResponse(doc, hasVoted(doc.currentVoteId(), memberId));
+        }
+
         boolean isActiveParticipant = meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
                 meetingId, memberId, MeetingParticipant.Status.ACTIVE
         );
@@ -273,6 +292,118 @@ public class MeetingReadServiceImpl implements MeetingReadService {
         return new InviteCodeResponse(inviteCode);
     }
 
+    // 문서가 있으면 Redis 한 번으로 끝나고, 없으면 DB에서 만들어 저장한다.
+    // 문서가 없을 때는 기존 조회와 같은 순서(참여 여부 -> 모임 존재)로 오류를 판단한다.
+    private MeetingDetailDocument findDetailDocument(Long memberId, Long meetingId) {
+        MeetingDetailDocument cached = meetingDetailReadModelRepository.find(meetingId).orElse(null);
+        if (cached != null) {
+            if (!cached.hasActiveParticipant(memberId)) {
+                throw new ApiException(MeetingErrorCode.NOT_ACTIVE_PARTICIPANT);
+            }
+            return cached;
+        }
+
+        boolean isActiveParticipant = meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
+                meetingId, memberId, MeetingParticipant.Status.ACTIVE
+        );
+        if (!isActiveParticipant) {
+            throw new ApiException(MeetingErrorCode.NOT_ACTIVE_PARTICIPANT);
+        }
+
+        String version = meetingDetailReadModelRepository.currentVersion(meetingId);
+        MeetingDetailDocument loaded = loadDetailDocument(meetingId);
+        meetingDetailReadModelRepository.saveIfVersion(loaded, version);
+        return loaded;
+    }
+
+    private MeetingDetailDocument loadDetailDocument(Long meetingId) {
+        MeetingDetailRow row = meetingRepository.findMeetingDetailRow(meetingId)
+                .orElseThrow(() -> new ApiException(MeetingErrorCode.MEETING_NOT_FOUND));
+
+        List<MeetingDetailDocument.Participant> participants = meetingParticipantRepository
+                .findActiveParticipantProfiles(meetingId)
+                .stream()
+                .map(p -> new MeetingDetailDocument.Participant(
+                        p.getMemberId(),
+                        p.getNickname(),
+                        p.getProfileImageUrl()
+                ))
+                .toList();
+
+        Vote entryVote = resolveEntryVote(voteRepository.findByMeetingIdOrderByRoundAsc(meetingId));
+
+        return new MeetingDetailDocument(
+                row.getMeetingId(),
+                row.getTitle(),
+                row.getScheduledAt(),
+                row.getVoteDeadlineAt(),
+                row.getLocationAddress(),
+                row.getLocationLat(),
+                row.getLocationLng(),
+                row.getTargetHeadcount(),
+                row.getSearchRadiusM(),
+                row.getSwipeCount(),
+                row.isExceptMeat(),
+                row.isExceptBar(),
+                row.isQuickMeeting(),
+                row.getInviteCode(),
+                row.getHostMemberId(),
+                row.getParticipantCount(),
+                row.isFinalSelected(),
+                participants,
+                (entryVote == null) ? null : entryVote.getId(),
+                (entryVote == null) ? null : entryVote.getStatus(),
+                resolveSettlementStatus(meetingId)
+        );
+    }
+
+    private boolean hasVoted(Long voteId, Long memberId) {
+        return (voteId != null) && voteSubmissionRepository.existsByVoteIdAndParticipantMemberId(voteId, memberId);
+    }
+
+    private MeetingDetailResponse toDetailResponse(MeetingDetailDocument doc, boolean hasVotedCurrent, long chatUnreadCount) {
+        return new MeetingDetailResponse(
+                doc.meetingId(),
+                doc.title(),
+                toKstLocalDateTime(doc.scheduledAt()),
+                toKstLocalDateTime(doc.voteDeadlineAt()),
+                doc.locationAddress(),
+                doc.locationLat(),
+                doc.locationLng(),
+                doc.targetHeadcount(),
+                doc.searchRadiusM(),
+                doc.swipeCount(),
+                doc.exceptMeat(),
+                doc.exceptBar(),
+                doc.quickMeeting(),
+                doc.inviteCode(),
+                doc.hostMemberId(),
+                doc.participantCount(),
+                chatUnreadCount,
+                doc.participantSummaries(),
+                doc.currentVoteId(),
+                doc.voteState(),
+                hasVotedCurrent,
+                doc.finalSelected(),
+                mapMeetingStatus(doc.voteState()),
+                doc.settlementStatus()
+        );
+    }
+
+    private MeetingDetailStateResponse toDetailStateResponse(MeetingDetailDocument doc, boolean hasVotedCurrent) {
+        MeetingStatus meetingStatus = mapMeetingStatus(doc.voteState());
+        return new MeetingDetailStateResponse(
+                doc.participantCount(),
+                doc.currentVoteId(),
+                doc.voteState(),
+                hasVotedCurrent,
+                doc.finalSelected(),
+                meetingStatus,
+                (meetingStatus == MeetingStatus.READY) ? doc.participantSummaries() : null,
+                doc.settlementStatus()
+        );
+    }
+
     private SettlementStatus resolveSettlementStatus(Long meetingId) {
         return meetingSettlementRepository.findByMeetingId(meetingId)
                 .map(s -> s.getSettlementStatus())
@@ -9,6 +9,7 @@ import com.matchimban.matchimban_api.meeting.dto.response.UpdateMeetingResponse;
 import com.matchimban.matchimban_api.meeting.entity.Meeting;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.meeting.service.MeetingService;
@@ -18,6 +19,7 @@ import com.matchimban.matchimban_api.vote.repository.VoteRepository;
 import com.matchimban.matchimban_api.vote.service.VoteService;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -38,6 +40,7 @@ public class MeetingServiceImpl implements MeetingService {
     private final VoteRepository voteRepository;
     private final EntityManager entityManager;
     private final VoteService voteService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -86,6 +89,7 @@ public class MeetingServiceImpl implements MeetingService {
                         .build();
 
                 meetingParticipantRepository.save(host);
+                meetingRepository.addParticipantCount(saved.getId(), 1);
 
                 if (saved.isQuickMeeting()) {
                     voteService.createVote(saved.getId(), memberId);
@@ -152,6 +156,7 @@ public class MeetingServiceImpl implements MeetingService {
                 finalExceptBar,
                 finalQuickMeeting
         );
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         return new UpdateMeetingResponse(meeting.getId());
     }
@@ -166,6 +171,7 @@ public class MeetingServiceImpl implements MeetingService {
         }
 
         meeting.delete();
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
     }
 
     private String generateInviteCode() {
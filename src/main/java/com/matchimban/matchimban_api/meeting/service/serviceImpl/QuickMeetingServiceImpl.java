@@ -9,6 +9,7 @@ import com.matchimban.matchimban_api.meeting.dto.response.QuickMeetingEnterRespo
 import com.matchimban.matchimban_api.meeting.entity.Meeting;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.meeting.service.QuickMeetingService;
@@ -19,6 +20,7 @@ import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,7 @@ public class QuickMeetingServiceImpl implements QuickMeetingService {
     private final MemberRepository memberRepository;
     private final EntityManager entityManager;
     private final GuestJwtTokenProvider guestJwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -134,7 +137,15 @@ public class QuickMeetingServiceImpl implements QuickMeetingService {
         }
 
         if (existing != null) {
-            existing.reactivate();
+            int updated = meetingParticipantRepository.updateStatusIfCurrent(
+                    existing.getId(), existing.getStatus(), MeetingParticipant.Status.ACTIVE
+            );
+            // 같은 회원의 다른 요청이 먼저 재참여시켰다면 인원은 이미 반영되어 있다.
+            if (updated == 1) {
+                entityManager.refresh(existing);
+                meetingRepository.addParticipantCount(meetingId, 1);
+                eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
+            }
             return meetingParticipantRepository.countByMeetingIdAndStatus(
                     meetingId, MeetingParticipant.Status.ACTIVE
             );
@@ -158,6 +169,8 @@ public class QuickMeetingServiceImpl implements QuickMeetingService {
                 .build();
 
         meetingParticipantRepository.save(participant);
+        meetingRepository.addParticipantCount(meetingId, 1);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         return activeCount + 1;
     }
@@ -0,0 +1,29 @@
+package com.matchimban.matchimban_api.member.config;
+
+import com.matchimban.matchimban_api.member.redis.ReferenceDataRedisSubscriber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "member.reference-data.redis.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataRedisPubSubConfig {
+
+	@Value("${member.reference-data.redis.channel:member:reference-data:changed}")
+	private String changedChannel;
+
+	@Bean
+	public RedisMessageListenerContainer referenceDataRedisMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		ReferenceDataRedisSubscriber referenceDataRedisSubscriber
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(referenceDataRedisSubscriber, new ChannelTopic(changedChannel));
+		return container;
+	}
+}
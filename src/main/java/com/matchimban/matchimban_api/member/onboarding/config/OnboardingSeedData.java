@@ -6,6 +6,7 @@ import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
 import com.matchimban.matchimban_api.member.entity.enums.PolicyType;
 import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
 import com.matchimban.matchimban_api.member.repository.PolicyRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -62,22 +63,29 @@ public class OnboardingSeedData implements ApplicationRunner { //ApplicationRunn
 
 	private final PolicyRepository policyRepository;
 	private final FoodCategoryRepository foodCategoryRepository;
+	private final ReferenceDataCache referenceDataCache;
 
 	public OnboardingSeedData(
 		PolicyRepository policyRepository,
-		FoodCategoryRepository foodCategoryRepository
+		FoodCategoryRepository foodCategoryRepository,
+		ReferenceDataCache referenceDataCache
 	) {
 		this.policyRepository = policyRepository;
 		this.foodCategoryRepository = foodCategoryRepository;
+		this.referenceDataCache = referenceDataCache;
 	}
 
 	@Override
 	public void run(ApplicationArguments args) {
-		seedPolicies();
-		seedFoodCategories();
+		boolean policiesSeeded = seedPolicies();
+		boolean categoriesSeeded = seedFoodCategories();
+		if (policiesSeeded || categoriesSeeded) {
+			// 새로 넣은 약관/카테고리를 이미 떠 있는 다른 노드의 캐시에도 반영한다.
+			referenceDataCache.invalidate();
+		}
 	}
 
-	private void seedPolicies() {
+	private boolean seedPolicies() {
 		List<PolicySeed> seeds = List.of(
 			new PolicySeed(
 				PolicyType.TERMS_OF_SERVICE,
@@ -97,6 +105,7 @@ public class OnboardingSeedData implements ApplicationRunner { //ApplicationRunn
 			)
 		);
 
+		boolean seeded = false;
 		for (PolicySeed seed : seeds) {
 			boolean exists = policyRepository
 				.findByPolicyTypeAndTermsVersion(seed.policyType(), seed.version())
@@ -116,13 +125,15 @@ public class OnboardingSeedData implements ApplicationRunner { //ApplicationRunn
 				.build();
 			try {
 				policyRepository.save(policy);
+				seeded = true;
 			} catch (DataIntegrityViolationException ignored) {
 				// 다른 인스턴스가 넣은 상황
 			}
 		}
+		return seeded;
 	}
 
-	private void seedFoodCategories() {
+	private boolean seedFoodCategories() {
 		List<FoodCategorySeed> seeds = List.of(
 			new FoodCategorySeed(FoodCategoryType.ALLERGY_GROUP, "NUTS", "견과류", "🥜"),
 			new FoodCategorySeed(FoodCategoryType.ALLERGY_GROUP, "DAIRY", "유제품", "🥛"),
@@ -141,6 +152,7 @@ public class OnboardingSeedData implements ApplicationRunner { //ApplicationRunn
 			new FoodCategorySeed(FoodCategoryType.CATEGORY, "ETC", "기타", null)
 		);
 
+		boolean seeded = false;
 		for (FoodCategorySeed seed : seeds) {
 			boolean exists = foodCategoryRepository
 				.findByCategoryTypeAndCategoryCode(seed.categoryType(), seed.code())
@@ -157,10 +169,12 @@ public class OnboardingSeedData implements ApplicationRunner { //ApplicationRunn
 				.build();
 			try {
 				foodCategoryRepository.save(category);
+				seeded = true;
 			} catch (DataIntegrityViolationException ignored) {
 				// Ignore duplicates on multi-instance startup.
 			}
 		}
+		return seeded;
 	}
 
 	private record PolicySeed(
@@ -1,11 +1,9 @@
 package com.matchimban.matchimban_api.member.onboarding.service.serviceImpl;
 
 import com.matchimban.matchimban_api.global.error.api.ApiException;
-import com.matchimban.matchimban_api.member.entity.FoodCategory;
 import com.matchimban.matchimban_api.member.entity.Member;
 import com.matchimban.matchimban_api.member.entity.MemberAgreement;
 import com.matchimban.matchimban_api.member.entity.MemberCategoryMapping;
-import com.matchimban.matchimban_api.member.entity.Policy;
 import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
 import com.matchimban.matchimban_api.member.entity.enums.MemberCategoryRelationType;
 import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
@@ -25,6 +23,9 @@ import com.matchimban.matchimban_api.member.repository.MemberAgreementRepository
 import com.matchimban.matchimban_api.member.repository.MemberCategoryMappingRepository;
 import com.matchimban.matchimban_api.member.repository.MemberRepository;
 import com.matchimban.matchimban_api.member.repository.PolicyRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache.CategoryEntry;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache.PolicyEntry;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
@@ -46,25 +48,27 @@ public class OnboardingServiceImpl implements OnboardingService {
 	private final MemberRepository memberRepository;
 	private final FoodCategoryRepository foodCategoryRepository;
 	private final MemberCategoryMappingRepository memberCategoryMappingRepository;
+	private final ReferenceDataCache referenceDataCache;
 
 	public OnboardingServiceImpl(
 		PolicyRepository policyRepository,
 		MemberAgreementRepository memberAgreementRepository,
 		MemberRepository memberRepository,
 		FoodCategoryRepository foodCategoryRepository,
-		MemberCategoryMappingRepository memberCategoryMappingRepository
+		MemberCategoryMappingRepository memberCategoryMappingRepository,
+		ReferenceDataCache referenceDataCache
 	) {
 		this.policyRepository = policyRepository;
 		this.memberAgreementRepository = memberAgreementRepository;
 		this.memberRepository = memberRepository;
 		this.foodCategoryRepository = foodCategoryRepository;
 		this.memberCategoryMappingRepository = memberCategoryMappingRepository;
+		this.referenceDataCache = referenceDataCache;
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public AgreementListResponse getRequiredAgreements() {
-		List<Policy> requiredPolicies = policyRepository.findByIsRequiredTrue();
+		List<PolicyEntry> requiredPolicies = referenceDataCache.getRequiredPolicies();
 		List<AgreementListItem> items = requiredPolicies.stream()
 			.map(this::toAgreementItem)
 			.toList();
@@ -72,11 +76,10 @@ public class OnboardingServiceImpl implements OnboardingService {
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public AgreementDetailResponse getAgreementDetail(Long agreementId) {
-		Policy policy = policyRepository.findById(agreementId)
+		PolicyEntry policy = referenceDataCache.findPolicy(agreementId)
 			.orElseThrow(() -> new ApiException(MemberErrorCode.AGREEMENT_NOT_FOUND_AS_INVALID_REQUEST));
-		return new AgreementDetailResponse(policy.getId(), policy.getTitle(), policy.getTermsContent());
+		return new AgreementDetailResponse(policy.id(), policy.title(), policy.termsContent());
 	}
 
 	@Override
@@ -96,9 +99,9 @@ public class OnboardingServiceImpl implements OnboardingService {
 			consentMap.put(item.agreementId(), item.agreed());
 		}
 
-		List<Policy> requiredPolicies = policyRepository.findByIsRequiredTrue();
+		List<PolicyEntry> requiredPolicies = referenceDataCache.getRequiredPolicies();
 		List<Long> missingRequired = requiredPolicies.stream()
-			.map(Policy::getId)
+			.map(PolicyEntry::id)
 			.filter(id -> !Boolean.TRUE.equals(consentMap.get(id)))
 			.toList();
 
@@ -111,7 +114,10 @@ public class OnboardingServiceImpl implements OnboardingService {
 			.map(AgreementConsentRequestItem::agreementId)
 			.collect(Collectors.toSet());
 
-		List<Policy> policies = policyRepository.findAllById(agreementIds);
+		List<PolicyEntry> policies = agreementIds.stream()
+			.map(referenceDataCache::findPolicy)
+			.flatMap(Optional::stream)
+			.toList();
 		if (policies.size() != agreementIds.size()) {
 			throw new ApiException(MemberErrorCode.INVALID_REQUEST);
 		}
@@ -122,16 +128,16 @@ public class OnboardingServiceImpl implements OnboardingService {
 		// 동의 내역 저장
 		Instant now = Instant.now();
 		List<MemberAgreement> toSave = new ArrayList<>();
-		for (Policy policy : policies) {
-			if (!Boolean.TRUE.equals(consentMap.get(policy.getId()))) {
+		for (PolicyEntry policy : policies) {
+			if (!Boolean.TRUE.equals(consentMap.get(policy.id()))) {
 				continue;
 			}
-			if (memberAgreementRepository.existsByMemberIdAndPolicyId(memberId, policy.getId())) {
+			if (memberAgreementRepository.existsByMemberIdAndPolicyId(memberId, policy.id())) {
 				continue;
 			}
 			toSave.add(MemberAgreement.builder()
 				.member(member)
-				.policy(policy)
+				.policy(policyRepository.getReferenceById(policy.id()))
 				.acceptedAt(now)
 				.build());
 		}
@@ -149,25 +155,24 @@ public class OnboardingServiceImpl implements OnboardingService {
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public PreferencesChoicesResponse getPreferenceChoices() {
-		List<PreferenceOption> allergyGroups = foodCategoryRepository
-			.findByCategoryType(FoodCategoryType.ALLERGY_GROUP)
+		List<PreferenceOption> allergyGroups = referenceDataCache
+			.getCategories(FoodCategoryType.ALLERGY_GROUP)
 			.stream()
 			.map(category -> new PreferenceOption(
-				category.getCategoryCode(),
-				category.getCategoryName(),
-				category.getEmoji()
+				category.categoryCode(),
+				category.categoryName(),
+				category.emoji()
 			))
 			.toList();
 
-		List<PreferenceOption> categories = foodCategoryRepository
-			.findByCategoryType(FoodCategoryType.CATEGORY)
+		List<PreferenceOption> categories = referenceDataCache
+			.getCategories(FoodCategoryType.CATEGORY)
 			.stream()
 			.map(category -> new PreferenceOption(
-				category.getCategoryCode(),
-				category.getCategoryName(),
-				category.getEmoji()
+				category.categoryCode(),
+				category.categoryName(),
+				category.emoji()
 			))
 			.toList();
 
@@ -225,7 +230,7 @@ public class OnboardingServiceImpl implements OnboardingService {
 		}
 
 		Set<MappingKey> requestedKeys = new HashSet<>(); // 요청된 매핑 키 집합을 만든다.
-		Map<Long, FoodCategory> requestedCategoriesById = new HashMap<>(); // 요청된 카테고리 ID 기준 맵을 만든다.
+		Map<Long, CategoryEntry> requestedCategoriesById = new HashMap<>(); // 요청된 카테고리 ID 기준 맵을 만든다.
 		addRequestedKeys(requestedKeys, requestedCategoriesById, allergyValidation.categories(),
 			MemberCategoryRelationType.ALLERGY); // 알레르기 매핑 키를 추가한다.
 		addRequestedKeys(requestedKeys, requestedCategoriesById, preferredValidation.categories(),
@@ -248,13 +253,13 @@ public class OnboardingServiceImpl implements OnboardingService {
 
 		List<MemberCategoryMapping> mappingsToInsert = new ArrayList<>(); // 삽입할 매핑 목록을 만든다.
 		for (MappingKey key : toInsertKeys) { // 삽입 대상 키를 순회한다.
-			FoodCategory category = requestedCategoriesById.get(key.categoryId()); // 카테고리 엔티티를 찾는다.
+			CategoryEntry category = requestedCategoriesById.get(key.categoryId()); // 캐시된 카테고리를 찾는다.
 			if (category == null) { // 카테고리가 누락된 경우를 방어한다.
 				continue; // 누락된 카테고리는 건너뛴다.
 			}
 			mappingsToInsert.add(MemberCategoryMapping.builder() // 새 매핑을 생성한다.
 				.member(member) // 멤버를 연결한다.
-				.category(category) // 카테고리를 연결한다.
+				.category(foodCategoryRepository.getReferenceById(category.id())) // 조회 없이 카테고리 참조를 연결한다.
 				.relationType(key.relationType()) // 관계 타입을 설정한다.
 				.build());
 		}
@@ -272,14 +277,14 @@ public class OnboardingServiceImpl implements OnboardingService {
 		return new PreferencesSaveResult(List.of(), List.of(), member);
 	}
 
-	private AgreementListItem toAgreementItem(Policy policy) {
+	private AgreementListItem toAgreementItem(PolicyEntry policy) {
 		return new AgreementListItem(
-			policy.getId(),
-			policy.getPolicyType().name(),
-			policy.getTitle(),
-			policy.getTermsVersion(),
-			policy.isRequired(),
-			splitSummary(policy.getSummary())
+			policy.id(),
+			policy.policyType().name(),
+			policy.title(),
+			policy.termsVersion(),
+			policy.required(),
+			splitSummary(policy.summary())
 		);
 	}
 
@@ -298,9 +303,9 @@ public class OnboardingServiceImpl implements OnboardingService {
 		if (codes.isEmpty()) {
 			return new ValidationResult(List.of(), List.of());
 		}
-		List<FoodCategory> categories = foodCategoryRepository.findByCategoryTypeAndCategoryCodeIn(type, codes);
+		List<CategoryEntry> categories = referenceDataCache.findCategories(type, codes);
 		Set<String> foundCodes = categories.stream()
-			.map(FoodCategory::getCategoryCode)
+			.map(CategoryEntry::categoryCode)
 			.collect(Collectors.toSet());
 
 		List<FieldErrorData> errors = new ArrayList<>();
@@ -317,14 +322,14 @@ public class OnboardingServiceImpl implements OnboardingService {
 	// 요청 데이터로 비교 키 집합을 구성한다.
 	private void addRequestedKeys(
 		Set<MappingKey> requestedKeys,
-		Map<Long, FoodCategory> requestedCategoriesById,
-		List<FoodCategory> categories,
+		Map<Long, CategoryEntry> requestedCategoriesById,
+		List<CategoryEntry> categories,
 		MemberCategoryRelationType relationType
 	) {
-		for (FoodCategory category : categories) { // 요청 카테고리를 순회한다.
-			MappingKey key = new MappingKey(category.getId(), relationType); // 카테고리+관계 타입 키를 만든다.
+		for (CategoryEntry category : categories) { // 요청 카테고리를 순회한다.
+			MappingKey key = new MappingKey(category.id(), relationType); // 카테고리+관계 타입 키를 만든다.
 			requestedKeys.add(key); // 요청 키 집합에 추가한다.
-			requestedCategoriesById.put(category.getId(), category); // 카테고리 ID로 엔티티를 저장한다.
+			requestedCategoriesById.put(category.id(), category); // 카테고리 ID로 캐시 항목을 저장한다.
 		}
 	}
 
@@ -333,7 +338,7 @@ public class OnboardingServiceImpl implements OnboardingService {
 
 	private record ValidationResult(
 		List<FieldErrorData> errors,
-		List<FoodCategory> categories
+		List<CategoryEntry> categories
 	) {
 	}
 }
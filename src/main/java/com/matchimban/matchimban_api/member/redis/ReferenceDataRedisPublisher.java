@@ -0,0 +1,35 @@
+package com.matchimban.matchimban_api.member.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReferenceDataRedisPublisher {
+
+	private static final String VERSION_KEY = "member:reference-data:version";
+
+	private final StringRedisTemplate redisTemplate;
+	private final String changedChannel;
+
+	public ReferenceDataRedisPublisher(
+		StringRedisTemplate redisTemplate,
+		@Value("${member.reference-data.redis.channel:member:reference-data:changed}") String changedChannel
+	) {
+		this.redisTemplate = redisTemplate;
+		this.changedChannel = changedChannel;
+	}
+
+	public long currentVersion() {
+		String version = redisTemplate.opsForValue().get(VERSION_KEY);
+		return version == null ? 0L : Long.parseLong(version);
+	}
+
+	// 약관/카테고리가 바뀌면 버전을 올리고 새 버전을 모든 노드에 알린다.
+	public long publishChange() {
+		Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+		long next = version == null ? 0L : version;
+		redisTemplate.convertAndSend(changedChannel, String.valueOf(next));
+		return next;
+	}
+}
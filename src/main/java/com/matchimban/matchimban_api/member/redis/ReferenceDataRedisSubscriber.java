@@ -0,0 +1,28 @@
+package com.matchimban.matchimban_api.member.redis;
+
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRedisSubscriber implements MessageListener {
+
+	private final ReferenceDataCache referenceDataCache;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+		try {
+			referenceDataCache.onChanged(Long.parseLong(payload.trim()));
+		} catch (Exception e) {
+			log.error("Failed to handle reference data change payload={}", payload, e);
+		}
+	}
+}
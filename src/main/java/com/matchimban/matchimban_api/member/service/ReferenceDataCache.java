@@ -0,0 +1,231 @@
+package com.matchimban.matchimban_api.member.service;
+
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Policy;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.PolicyType;
+import com.matchimban.matchimban_api.member.redis.ReferenceDataRedisPublisher;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.PolicyRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+// 약관(Policy)과 음식 카테고리(FoodCategory)는 시드/운영자 변경 때만 바뀌므로 노드 메모리에 스냅샷으로 둔다.
+// 변경 시 Redis 버전을 올려 다른 노드에 알리고, pub/sub 메시지를 놓친 노드도 recheck 주기마다 버전을 비교해 다시 읽는다.
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+	private final PolicyRepository policyRepository;
+	private final FoodCategoryRepository foodCategoryRepository;
+	private final ReferenceDataRedisPublisher referenceDataRedisPublisher;
+	private final long recheckIntervalNanos;
+
+	private volatile Snapshot snapshot;
+	// 로딩 중에 도착한 변경 알림으로 이전 버전 스냅샷이 자리 잡지 않도록 알려진 최신 버전을 따로 둔다.
+	private volatile long latestKnownVersion = -1L;
+
+	public ReferenceDataCache(
+		PolicyRepository policyRepository,
+		FoodCategoryRepository foodCategoryRepository,
+		ReferenceDataRedisPublisher referenceDataRedisPublisher,
+		@Value("${member.reference-data.recheck-interval:60s}") Duration recheckInterval
+	) {
+		this.policyRepository = policyRepository;
+		this.foodCategoryRepository = foodCategoryRepository;
+		this.referenceDataRedisPublisher = referenceDataRedisPublisher;
+		this.recheckIntervalNanos = recheckInterval.toNanos();
+	}
+
+	public List<PolicyEntry> getRequiredPolicies() {
+		return current().requiredPolicies();
+	}
+
+	public Optional<PolicyEntry> findPolicy(Long policyId) {
+		return Optional.ofNullable(current().policiesById().get(policyId));
+	}
+
+	public List<CategoryEntry> getCategories(FoodCategoryType categoryType) {
+		return current().categoriesByType().getOrDefault(categoryType, List.of());
+	}
+
+	// 요청한 코드 중 존재하는 것만 돌려준다(중복 코드는 한 번만).
+	public List<CategoryEntry> findCategories(FoodCategoryType categoryType, Collection<String> categoryCodes) {
+		Map<String, CategoryEntry> byCode = current().categoriesByTypeAndCode().getOrDefault(categoryType, Map.of());
+		Map<String, CategoryEntry> found = new LinkedHashMap<>();
+		for (String code : categoryCodes) {
+			CategoryEntry entry = byCode.get(code);
+			if (entry != null) {
+				found.putIfAbsent(code, entry);
+			}
+		}
+		return new ArrayList<>(found.values());
+	}
+
+	// 약관/카테고리를 바꾼 쪽이 커밋 후 호출한다. Redis가 없으면 이 노드만 비우고 다른 노드는 recheck 주기에 맞춰 따라온다.
+	public void invalidate() {
+		try {
+			onChanged(referenceDataRedisPublisher.publishChange());
+			// 버전 키가 초기화돼 새 버전이 알려진 최신보다 낮아도 이 노드의 변경은 반영되도록 다시 읽게 한다.
+			snapshot = null;
+		} catch (Exception e) {
+			log.warn("Failed to publish reference data change. Local cache is cleared only.", e);
+			snapshot = null;
+		}
+	}
+
+	public void onChanged(long version) {
+		if (version > latestKnownVersion) {
+			latestKnownVersion = version;
+		}
+		Snapshot current = snapshot;
+		if (current != null && current.version() < version) {
+			snapshot = null;
+		}
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		long now = System.nanoTime();
+		if (current != null && current.version() >= latestKnownVersion && now - current.checkedAtNanos() < recheckIntervalNanos) {
+			return current;
+		}
+		return reload(current, now);
+	}
+
+	private synchronized Snapshot reload(Snapshot previous, long now) {
+		Snapshot current = snapshot;
+		if (current != null && current != previous && current.version() >= latestKnownVersion) {
+			return current;
+		}
+
+		long version;
+		Long redisVersion = readVersion();
+		if (redisVersion == null) {
+			// Redis 장애 시에는 가진 스냅샷을 계속 쓰고, 없으면 DB에서 읽어 같은 버전으로 둔다.
+			version = current != null ? current.version() : Math.max(0L, latestKnownVersion);
+		} else {
+			version = redisVersion;
+			if (version < latestKnownVersion) {
+				// Redis에서 읽은 버전이 알려진 최신보다 낮으면 버전 키가 초기화된 것이므로 그 값을 기준으로 삼는다.
+				log.info("Reference data version went backwards. knownVersion={}, redisVersion={}", latestKnownVersion, version);
+				latestKnownVersion = version;
+			}
+		}
+		if (current != null && current.version() == version && version >= latestKnownVersion) {
+			Snapshot rechecked = current.checkedAt(now);
+			snapshot = rechecked;
+			return rechecked;
+		}
+
+		Snapshot loaded = load(version, now);
+		if (version >= latestKnownVersion) {
+			snapshot = loaded;
+		}
+		return loaded;
+	}
+
+	private Long readVersion() {
+		try {
+			return referenceDataRedisPublisher.currentVersion();
+		} catch (Exception e) {
+			log.warn("Failed to read reference data version. Keeping local snapshot.", e);
+			return null;
+		}
+	}
+
+	private Snapshot load(long version, long now) {
+		List<PolicyEntry> requiredPolicies = new ArrayList<>();
+		Map<Long, PolicyEntry> policiesById = new LinkedHashMap<>();
+		for (Policy policy : policyRepository.findAll(Sort.by("id"))) {
+			PolicyEntry entry = PolicyEntry.from(policy);
+			policiesById.put(entry.id(), entry);
+			if (entry.required()) {
+				requiredPolicies.add(entry);
+			}
+		}
+
+		Map<FoodCategoryType, List<CategoryEntry>> categoriesByType = new EnumMap<>(FoodCategoryType.class);
+		Map<FoodCategoryType, Map<String, CategoryEntry>> categoriesByTypeAndCode = new EnumMap<>(FoodCategoryType.class);
+		for (FoodCategory category : foodCategoryRepository.findAll(Sort.by("id"))) {
+			CategoryEntry entry = CategoryEntry.from(category);
+			categoriesByType.computeIfAbsent(entry.categoryType(), ignored -> new ArrayList<>()).add(entry);
+			categoriesByTypeAndCode.computeIfAbsent(entry.categoryType(), ignored -> new LinkedHashMap<>())
+				.put(entry.categoryCode(), entry);
+		}
+		categoriesByType.replaceAll((type, entries) -> List.copyOf(entries));
+		categoriesByTypeAndCode.replaceAll((type, entries) -> Map.copyOf(entries));
+
+		return new Snapshot(
+			version,
+			now,
+			List.copyOf(requiredPolicies),
+			Map.copyOf(policiesById),
+			categoriesByType,
+			categoriesByTypeAndCode
+		);
+	}
+
+	public record PolicyEntry(
+		Long id,
+		PolicyType policyType,
+		String title,
+		String termsVersion,
+		String summary,
+		String termsContent,
+		boolean required
+	) {
+		private static PolicyEntry from(Policy policy) {
+			return new PolicyEntry(
+				policy.getId(),
+				policy.getPolicyType(),
+				policy.getTitle(),
+				policy.getTermsVersion(),
+				policy.getSummary(),
+				policy.getTermsContent(),
+				policy.isRequired()
+			);
+		}
+	}
+
+	public record CategoryEntry(
+		Long id,
+		String categoryCode,
+		String categoryName,
+		String emoji,
+		FoodCategoryType categoryType
+	) {
+		private static CategoryEntry from(FoodCategory category) {
+			return new CategoryEntry(
+				category.getId(),
+				category.getCategoryCode(),
+				category.getCategoryName(),
+				category.getEmoji(),
+				category.getCategoryType()
+			);
+		}
+	}
+
+	private record Snapshot(
+		long version,
+		long checkedAtNanos,
+		List<PolicyEntry> requiredPolicies,
+		Map<Long, PolicyEntry> policiesById,
+		Map<FoodCategoryType, List<CategoryEntry>> categoriesByType,
+		Map<FoodCategoryType, Map<String, CategoryEntry>> categoriesByTypeAndCode
+	) {
+		private Snapshot checkedAt(long nanos) {
+			return new Snapshot(version, nanos, requiredPolicies, policiesById, categoriesByType, categoriesByTypeAndCode);
+		}
+	}
+}
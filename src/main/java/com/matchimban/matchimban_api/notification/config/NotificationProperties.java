@@ -23,6 +23,7 @@ public class NotificationProperties {
         private Duration pollDelay = Duration.ofSeconds(2);
         private int batchSize = 20;
         private Duration staleLockThreshold = Duration.ofMinutes(2);
+        private boolean batchSend = false;
     }
 
     @Getter
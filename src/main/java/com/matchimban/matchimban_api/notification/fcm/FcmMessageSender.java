@@ -5,9 +5,12 @@ import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
 import com.matchimban.matchimban_api.notification.entity.Notification;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +25,7 @@ public class FcmMessageSender {
 
     private static final int DATA_PAYLOAD_LIMIT_BYTES = 4000;
     private static final int CONTENT_MAX_LENGTH = 180;
+    private static final int SEND_EACH_MAX_MESSAGES = 500;
 
     private final ObjectProvider<FirebaseMessaging> firebaseMessagingProvider;
     private final ObjectMapper objectMapper;
@@ -37,38 +41,94 @@ public class FcmMessageSender {
         }
 
         try {
-            Map<String, String> data = buildDataPayload(notification);
-            Message message = Message.builder()
-                    .setToken(tokenSnapshot)
-                    .setNotification(
-                            com.google.firebase.messaging.Notification.builder()
-                                    .setTitle(notification.getTitle())
-                                    .setBody(truncate(notification.getContent(), CONTENT_MAX_LENGTH))
-                                    .build()
-                    )
-                    .putAllData(data)
-                    .build();
-
-            firebaseMessaging.send(message);
+            firebaseMessaging.send(buildMessage(notification, tokenSnapshot));
             return SendResult.succeeded();
         } catch (FirebaseMessagingException ex) {
-            MessagingErrorCode code = ex.getMessagingErrorCode();
-            String errorCode = code != null
-                    ? code.name()
-                    : (ex.getErrorCode() == null ? "FCM_ERROR" : ex.getErrorCode().name());
-            boolean permanent = code == MessagingErrorCode.UNREGISTERED
-                    || code == MessagingErrorCode.INVALID_ARGUMENT;
-
-            if (permanent) {
-                return SendResult.permanentFailure(errorCode, safeMessage(ex));
-            }
-            return SendResult.temporaryFailure(errorCode, safeMessage(ex));
+            return toFailure(ex);
         } catch (Exception ex) {
             log.warn("Failed to send FCM message. notificationId={}", notification.getId(), ex);
             return SendResult.temporaryFailure("FCM_SEND_FAILED", safeMessage(ex));
         }
     }
 
+    // messages와 같은 순서로 결과를 돌려준다. sendEach 한 번에 최대 500건까지만 보낼 수 있어 나눠서 호출한다.
+    public List<SendResult> sendEach(List<Message> messages) {
+        List<SendResult> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+
+        FirebaseMessaging firebaseMessaging = firebaseMessagingProvider.getIfAvailable();
+        if (firebaseMessaging == null) {
+            messages.forEach(message -> results.add(
+                    SendResult.temporaryFailure("FCM_DISABLED", "firebase messaging is not configured")
+            ));
+            return results;
+        }
+
+        for (int from = 0; from < messages.size(); from += SEND_EACH_MAX_MESSAGES) {
+            List<Message> chunk = messages.subList(from, Math.min(from + SEND_EACH_MAX_MESSAGES, messages.size()));
+            results.addAll(sendChunk(firebaseMessaging, chunk));
+        }
+        return results;
+    }
+
+    public Message buildMessage(Notification notification, String tokenSnapshot) {
+        return Message.builder()
+                .setToken(tokenSnapshot)
+                .setNotification(
+                        com.google.firebase.messaging.Notification.builder()
+                                .setTitle(notification.getTitle())
+                                .setBody(truncate(notification.getContent(), CONTENT_MAX_LENGTH))
+                                .build()
+                )
+                .putAllData(buildDataPayload(notification))
+                .build();
+    }
+
+    private List<SendResult> sendChunk(FirebaseMessaging firebaseMessaging, List<Message> chunk) {
+        List<SendResult> results = new ArrayList<>(chunk.size());
+        try {
+            List<SendResponse> responses = firebaseMessaging.sendEach(chunk).getResponses();
+            for (int i = 0; i < chunk.size(); i++) {
+                SendResponse response = i < responses.size() ? responses.get(i) : null;
+                if (response == null) {
+                    results.add(SendResult.temporaryFailure("FCM_SEND_FAILED", "missing send response"));
+                } else if (response.isSuccessful()) {
+                    results.add(SendResult.succeeded());
+                } else {
+                    results.add(toFailure(response.getException()));
+                }
+            }
+        } catch (FirebaseMessagingException ex) {
+            SendResult failure = toFailure(ex);
+            chunk.forEach(message -> results.add(failure));
+        } catch (Exception ex) {
+            log.warn("Failed to send FCM batch. size={}", chunk.size(), ex);
+            SendResult failure = SendResult.temporaryFailure("FCM_SEND_FAILED", safeMessage(ex));
+            chunk.forEach(message -> results.add(failure));
+        }
+        return results;
+    }
+
+    private SendResult toFailure(FirebaseMessagingException ex) {
+        if (ex == null) {
+            return SendResult.temporaryFailure("FCM_ERROR", "notification send failure");
+        }
+
+        MessagingErrorCode code = ex.getMessagingErrorCode();
+        String errorCode = code != null
+                ? code.name()
+                : (ex.getErrorCode() == null ? "FCM_ERROR" : ex.getErrorCode().name());
+        boolean permanent = code == MessagingErrorCode.UNREGISTERED
+                || code == MessagingErrorCode.INVALID_ARGUMENT;
+
+        if (permanent) {
+            return SendResult.permanentFailure(errorCode, safeMessage(ex));
+        }
+        return SendResult.temporaryFailure(errorCode, safeMessage(ex));
+    }
+
     private Map<String, String> buildDataPayload(Notification notification) {
         Map<String, String> data = new LinkedHashMap<>();
         data.put("notificationId", String.valueOf(notification.getId()));
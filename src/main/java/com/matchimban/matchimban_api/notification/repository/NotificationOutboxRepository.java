@@ -2,6 +2,8 @@ package com.matchimban.matchimban_api.notification.repository;
 
 import com.matchimban.matchimban_api.notification.entity.NotificationOutbox;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -21,6 +23,38 @@ public interface NotificationOutboxRepository extends JpaRepository<Notification
     """, nativeQuery = true)
     Optional<NotificationOutbox> findNextClaimableForUpdate();
 
+    @Query(value = """
+        select id
+        from notification_outbox
+        where status in ('PENDING', 'FAILED')
+          and next_attempt_at <= now()
+        order by next_attempt_at asc, id asc
+        for update skip locked
+        limit :limit
+    """, nativeQuery = true)
+    List<Long> findClaimableIdsForUpdate(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        update notification_outbox
+           set status = 'IN_PROGRESS',
+               locked_at = :now,
+               worker_id = :workerId,
+               attempt_count = attempt_count + 1,
+               updated_at = :now
+         where id in (:ids)
+    """, nativeQuery = true)
+    int claimAll(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId, @Param("now") Instant now);
+
+    @Query("""
+        select o
+        from NotificationOutbox o
+        join fetch o.notification
+        left join fetch o.notificationToken
+        where o.id in :ids
+    """)
+    List<NotificationOutbox> findAllWithNotificationByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = """
         update notification_outbox
@@ -42,6 +42,56 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     """)
     int markAllRead(@Param("memberId") Long memberId, @Param("now") Instant now);
 
+    // 수신자 전체의 알림/아웃박스 행을 한 문장으로 넣는다.
+    // UNIQUE(member_id, event_key) 충돌 행은 건너뛰고, 토큰은 수신자별 최신 활성 토큰을 같은 문장에서 붙인다.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        with recipients as (
+            select distinct unnest(cast(:memberIds as bigint[])) as member_id
+        ),
+        inserted as (
+            insert into notifications (
+                member_id, noti_type, title, content, target_type, target_id, sub_target_id,
+                deeplink_path, payload_json, event_key, created_at, updated_at
+            )
+            select r.member_id, :notiType, :title, :content, :targetType, :targetId, :subTargetId,
+                   :deeplinkPath, cast(:payloadJson as jsonb),
+                   coalesce(cast(:eventKey as varchar), concat(:fallbackEventKeyPrefix, r.member_id, :fallbackEventKeySuffix)),
+                   now(), now()
+              from recipients r
+            on conflict (member_id, event_key) do nothing
+            returning id, member_id
+        )
+        insert into notification_outbox (
+            notification_id, member_id, notification_token_id, token_snapshot,
+            status, attempt_count, next_attempt_at, created_at, updated_at
+        )
+        select i.id, i.member_id, t.id, t.fcm_token, 'PENDING', 0, now(), now(), now()
+          from inserted i
+          left join lateral (
+              select nt.id, nt.fcm_token
+                from notification_tokens nt
+               where nt.member_id = i.member_id
+                 and nt.is_active = true
+               order by nt.updated_at desc
+               limit 1
+          ) t on true
+    """, nativeQuery = true)
+    int bulkInsertWithOutbox(
+            @Param("memberIds") Long[] memberIds,
+            @Param("notiType") String notiType,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("targetType") String targetType,
+            @Param("targetId") Long targetId,
+            @Param("subTargetId") Long subTargetId,
+            @Param("deeplinkPath") String deeplinkPath,
+            @Param("payloadJson") String payloadJson,
+            @Param("eventKey") String eventKey,
+            @Param("fallbackEventKeyPrefix") String fallbackEventKeyPrefix,
+            @Param("fallbackEventKeySuffix") String fallbackEventKeySuffix
+    );
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         delete from Notification n
@@ -1,20 +1,17 @@
 package com.matchimban.matchimban_api.notification.service;
 
 import com.matchimban.matchimban_api.global.error.api.ApiException;
-import com.matchimban.matchimban_api.member.entity.Member;
 import com.matchimban.matchimban_api.notification.entity.Notification;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.error.NotificationErrorCode;
 import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
 import com.matchimban.matchimban_api.notification.repository.NotificationRepository;
-import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,8 +23,6 @@ import org.springframework.util.StringUtils;
 public class NotificationCommandService {
 
     private final NotificationRepository notificationRepository;
-    private final NotificationOutboxService notificationOutboxService;
-    private final EntityManager entityManager;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createNotifications(NotificationRequestedEvent event) {
@@ -36,16 +31,31 @@ public class NotificationCommandService {
         }
 
         Set<Long> recipients = new LinkedHashSet<>(event.recipientMemberIds());
-        for (Long recipientMemberId : recipients) {
-            if (recipientMemberId == null) {
-                continue;
-            }
-            try {
-                createSingleNotification(event, recipientMemberId);
-            } catch (DataIntegrityViolationException ex) {
-                // UNIQUE(member_id, event_key) 충돌이면 이미 생성된 알림으로 간주한다.
-                log.debug("Duplicate notification skipped. memberId={}, eventKey={}", recipientMemberId, event.eventKey());
-            }
+        recipients.remove(null);
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        // 알림/아웃박스/토큰 조회를 수신자 수와 무관하게 한 번의 INSERT 문으로 처리한다.
+        // UNIQUE(member_id, event_key) 충돌 행은 이미 생성된 알림으로 보고 건너뛴다.
+        String type = event.notificationType() == null ? null : event.notificationType().name();
+        int created = notificationRepository.bulkInsertWithOutbox(
+                recipients.toArray(Long[]::new),
+                type,
+                trimWithDefault(event.title(), 50, "알림"),
+                trimWithDefault(event.content(), 5000, "새 알림이 도착했습니다."),
+                trimWithDefault(event.targetType(), 30, "UNKNOWN"),
+                event.targetId(),
+                event.subTargetId(),
+                trimNullable(event.deeplinkPath(), 255),
+                trimNullable(event.payloadJson(), 4000),
+                trimNullable(event.eventKey(), 120),
+                (type == null ? "UNKNOWN" : type) + ":",
+                ":" + Instant.now().toEpochMilli()
+        );
+        if (created < recipients.size()) {
+            log.debug("Duplicate notifications skipped. requested={}, created={}, eventKey={}",
+                    recipients.size(), created, event.eventKey());
         }
     }
 
@@ -101,30 +111,6 @@ public class NotificationCommandService {
         notification.softDelete(Instant.now());
     }
 
-    private void createSingleNotification(NotificationRequestedEvent event, Long recipientMemberId) {
-        Member memberRef = entityManager.getReference(Member.class, recipientMemberId);
-        Notification notification = Notification.builder()
-                .member(memberRef)
-                .notiType(event.notificationType())
-                .title(trimWithDefault(event.title(), 50, "알림"))
-                .content(trimWithDefault(event.content(), 5000, "새 알림이 도착했습니다."))
-                .targetType(trimWithDefault(event.targetType(), 30, "UNKNOWN"))
-                .targetId(event.targetId())
-                .subTargetId(event.subTargetId())
-                .deeplinkPath(trimNullable(event.deeplinkPath(), 255))
-                .payloadJson(trimNullable(event.payloadJson(), 4000))
-                .eventKey(trimWithDefault(event.eventKey(), 120, buildFallbackEventKey(event, recipientMemberId)))
-                .build();
-
-        Notification saved = notificationRepository.saveAndFlush(notification);
-        notificationOutboxService.createOutbox(saved);
-    }
-
-    private String buildFallbackEventKey(NotificationRequestedEvent event, Long memberId) {
-        String type = event.notificationType() == null ? "UNKNOWN" : event.notificationType().name();
-        return type + ":" + memberId + ":" + Instant.now().toEpochMilli();
-    }
-
     private String trimNullable(String value, int maxLength) {
         if (!StringUtils.hasText(value)) {
             return null;
@@ -1,6 +1,12 @@
 package com.matchimban.matchimban_api.notification.service;
 
+import com.google.firebase.messaging.Message;
 import com.matchimban.matchimban_api.notification.config.NotificationProperties;
+import com.matchimban.matchimban_api.notification.fcm.FcmMessageSender;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +20,7 @@ public class NotificationDispatchService {
     private final NotificationProperties notificationProperties;
     private final NotificationOutboxService notificationOutboxService;
     private final NotificationDispatchTxService notificationDispatchTxService;
+    private final FcmMessageSender fcmMessageSender;
 
     private final String workerId = "noti-dispatch-" + UUID.randomUUID();
 
@@ -25,6 +32,11 @@ public class NotificationDispatchService {
         notificationOutboxService.recoverStaleLocks(notificationProperties.getDispatch().getStaleLockThreshold());
 
         int batchSize = Math.max(1, notificationProperties.getDispatch().getBatchSize());
+        if (notificationProperties.getDispatch().isBatchSend()) {
+            dispatchBatch(batchSize);
+            return;
+        }
+
         for (int i = 0; i < batchSize; i++) {
             Long outboxId = notificationOutboxService.claimNext(workerId);
             if (outboxId == null) {
@@ -38,4 +50,40 @@ public class NotificationDispatchService {
             }
         }
     }
+
+    // 한 번에 선점하고 커밋한 뒤, DB 트랜잭션 밖에서 sendEach로 발송하고 결과를 한 번에 반영한다.
+    private void dispatchBatch(int batchSize) {
+        List<Long> outboxIds = notificationOutboxService.claimBatch(workerId, batchSize);
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<NotificationDispatchTxService.PreparedDispatch> prepared =
+                    notificationDispatchTxService.prepareBatch(outboxIds);
+
+            Map<Long, FcmMessageSender.SendResult> results = new LinkedHashMap<>();
+            List<Long> sendingIds = new ArrayList<>();
+            List<Message> messages = new ArrayList<>();
+            for (NotificationDispatchTxService.PreparedDispatch dispatch : prepared) {
+                if (dispatch.message() == null) {
+                    results.put(dispatch.outboxId(),
+                            FcmMessageSender.SendResult.permanentFailure("TOKEN_MISSING", "active token not found"));
+                    continue;
+                }
+                sendingIds.add(dispatch.outboxId());
+                messages.add(dispatch.message());
+            }
+
+            List<FcmMessageSender.SendResult> sendResults = fcmMessageSender.sendEach(messages);
+            for (int i = 0; i < sendingIds.size(); i++) {
+                results.put(sendingIds.get(i), sendResults.get(i));
+            }
+
+            notificationDispatchTxService.applyBatchResults(workerId, results);
+        } catch (Exception ex) {
+            // 반영하지 못한 행은 IN_PROGRESS로 남고 stale lock 복구 후 재시도된다.
+            log.error("Failed to process notification outbox batch. outboxIds={}", outboxIds, ex);
+        }
+    }
 }
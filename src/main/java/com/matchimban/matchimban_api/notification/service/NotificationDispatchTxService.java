@@ -1,5 +1,6 @@
 package com.matchimban.matchimban_api.notification.service;
 
+import com.google.firebase.messaging.Message;
 import com.matchimban.matchimban_api.notification.config.NotificationProperties;
 import com.matchimban.matchimban_api.notification.entity.NotificationOutbox;
 import com.matchimban.matchimban_api.notification.entity.NotificationOutboxStatus;
@@ -8,6 +9,10 @@ import com.matchimban.matchimban_api.notification.fcm.FcmMessageSender;
 import com.matchimban.matchimban_api.notification.repository.NotificationOutboxRepository;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -38,6 +43,49 @@ public class NotificationDispatchTxService {
         }
 
         FcmMessageSender.SendResult sendResult = fcmMessageSender.send(outbox.getNotification(), tokenSnapshot);
+        applySendResult(outbox, sendResult, now);
+    }
+
+    // 배치 발송용: 선점한 행의 메시지를 만들어 두고 트랜잭션을 닫는다. 토큰이 없으면 message는 null이다.
+    @Transactional(readOnly = true)
+    public List<PreparedDispatch> prepareBatch(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<PreparedDispatch> prepared = new ArrayList<>(outboxIds.size());
+        for (NotificationOutbox outbox : notificationOutboxRepository.findAllWithNotificationByIdIn(outboxIds)) {
+            if (outbox.getStatus() != NotificationOutboxStatus.IN_PROGRESS) {
+                continue;
+            }
+
+            String tokenSnapshot = resolveTokenSnapshot(outbox);
+            Message message = StringUtils.hasText(tokenSnapshot)
+                    ? fcmMessageSender.buildMessage(outbox.getNotification(), tokenSnapshot)
+                    : null;
+            prepared.add(new PreparedDispatch(outbox.getId(), message));
+        }
+        return prepared;
+    }
+
+    // 발송 결과를 한 트랜잭션에서 반영한다. 변경된 행은 flush 시 JDBC batch update로 묶인다.
+    @Transactional
+    public void applyBatchResults(String workerId, Map<Long, FcmMessageSender.SendResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        for (NotificationOutbox outbox : notificationOutboxRepository.findAllWithNotificationByIdIn(results.keySet())) {
+            if (outbox.getStatus() != NotificationOutboxStatus.IN_PROGRESS
+                    || !Objects.equals(outbox.getWorkerId(), workerId)) {
+                continue;
+            }
+            applySendResult(outbox, results.get(outbox.getId()), now);
+        }
+    }
+
+    private void applySendResult(NotificationOutbox outbox, FcmMessageSender.SendResult sendResult, Instant now) {
         if (sendResult.success()) {
             outbox.markSent(now);
             return;
@@ -101,4 +149,7 @@ public class NotificationDispatchTxService {
         return "UNREGISTERED".equalsIgnoreCase(errorCode)
                 || "INVALID_ARGUMENT".equalsIgnoreCase(errorCode);
     }
+
+    public record PreparedDispatch(Long outboxId, Message message) {
+    }
 }
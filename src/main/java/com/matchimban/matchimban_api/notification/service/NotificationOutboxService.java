@@ -1,12 +1,10 @@
 package com.matchimban.matchimban_api.notification.service;
 
-import com.matchimban.matchimban_api.notification.entity.Notification;
 import com.matchimban.matchimban_api.notification.entity.NotificationOutbox;
-import com.matchimban.matchimban_api.notification.entity.NotificationOutboxStatus;
-import com.matchimban.matchimban_api.notification.entity.NotificationToken;
 import com.matchimban.matchimban_api.notification.repository.NotificationOutboxRepository;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,25 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationOutboxService {
 
     private final NotificationOutboxRepository notificationOutboxRepository;
-    private final NotificationTokenService notificationTokenService;
-
-    @Transactional
-    public NotificationOutbox createOutbox(Notification notification) {
-        Long memberId = notification.getMember().getId();
-        NotificationToken token = notificationTokenService.findLatestActiveToken(memberId);
-
-        NotificationOutbox outbox = NotificationOutbox.builder()
-                .notification(notification)
-                .member(notification.getMember())
-                .notificationToken(token)
-                .tokenSnapshot(token == null ? null : token.getFcmToken())
-                .status(NotificationOutboxStatus.PENDING)
-                .attemptCount(0)
-                .nextAttemptAt(Instant.now())
-                .build();
-
-        return notificationOutboxRepository.save(outbox);
-    }
 
     @Transactional
     public int recoverStaleLocks(Duration staleThreshold) {
@@ -53,6 +32,17 @@ public class NotificationOutboxService {
                 .orElse(null);
     }
 
+    @Transactional
+    public List<Long> claimBatch(String workerId, int limit) {
+        List<Long> ids = notificationOutboxRepository.findClaimableIdsForUpdate(limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        notificationOutboxRepository.claimAll(ids, workerId, Instant.now());
+        return ids;
+    }
+
     @Transactional
     public int cleanupSentAndDead(Duration retention) {
         Instant cutoff = Instant.now().minus(retention);
@@ -0,0 +1,36 @@
+package com.matchimban.matchimban_api.ragchat.config;
+
+import com.matchimban.matchimban_api.ragchat.redis.RagChatReplyRedisPublisher;
+import com.matchimban.matchimban_api.ragchat.redis.RagChatReplyRedisSubscriber;
+import com.matchimban.matchimban_api.ragchat.sse.RagChatSseRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 노드마다 자기 nodeId 채널만 구독한다.
+@Configuration
+@ConditionalOnProperty(name = "rag-chat.reply.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class RagChatRedisPubSubConfig {
+
+	@Value("${rag-chat.reply.channel-prefix:rag:chat:reply:}")
+	private String channelPrefix;
+
+	@Bean
+	public RedisMessageListenerContainer ragChatReplyMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		RagChatReplyRedisSubscriber ragChatReplyRedisSubscriber,
+		RagChatSseRegistry ragChatSseRegistry
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(
+			ragChatReplyRedisSubscriber,
+			new ChannelTopic(RagChatReplyRedisPublisher.channel(channelPrefix, ragChatSseRegistry.getNodeId()))
+		);
+		return container;
+	}
+}
@@ -139,7 +139,12 @@ public class RagChatController {
 		SseEmitter emitter = new SseEmitter(60_000L);
 		sseRegistry.register(requestId, emitter);
 
-		queuePublisher.publish(new RagChatQueueMessage(requestId, request.userId(), request.message()));
+		queuePublisher.publish(new RagChatQueueMessage(
+			requestId,
+			request.userId(),
+			request.message(),
+			sseRegistry.getNodeId()
+		));
 
 		return emitter;
 	}
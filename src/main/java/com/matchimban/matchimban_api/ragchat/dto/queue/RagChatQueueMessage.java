@@ -1,8 +1,10 @@
 package com.matchimban.matchimban_api.ragchat.dto.queue;
 
+// replyNodeId: SSE 연결을 가진 노드. 값이 없으면(이전 버전 메시지) 처리한 노드에서 바로 응답한다.
 public record RagChatQueueMessage(
 	String requestId,
 	String userId,
-	String question
+	String question,
+	String replyNodeId
 ) {
 }
@@ -0,0 +1,16 @@
+package com.matchimban.matchimban_api.ragchat.dto.queue;
+
+public record RagChatReplyMessage(
+	String requestId,
+	boolean error,
+	String payload
+) {
+
+	public static RagChatReplyMessage answer(String requestId, String answer) {
+		return new RagChatReplyMessage(requestId, false, answer);
+	}
+
+	public static RagChatReplyMessage error(String requestId, String errorMessage) {
+		return new RagChatReplyMessage(requestId, true, errorMessage);
+	}
+}
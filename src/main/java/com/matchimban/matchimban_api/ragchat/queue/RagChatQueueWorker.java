@@ -5,7 +5,7 @@ import com.matchimban.matchimban_api.ragchat.dto.client.RagEngineAskRequest;
 import com.matchimban.matchimban_api.ragchat.dto.client.RagEngineAskResponse;
 import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatQueueMessage;
 import com.matchimban.matchimban_api.ragchat.error.RagChatErrorCode;
-import com.matchimban.matchimban_api.ragchat.sse.RagChatSseRegistry;
+import com.matchimban.matchimban_api.ragchat.sse.RagChatResponseRouter;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.rabbitmq.client.Channel;
 import io.github.resilience4j.bulkhead.BulkheadFullException;
@@ -29,7 +29,7 @@ public class RagChatQueueWorker {
 	private static final String BULKHEAD_FULL_FALLBACK = "요청이 많아 처리가 지연되고 있어요. 잠시 후 다시 시도해주세요.";
 
 	private final RagChatProtectedCaller protectedCaller;
-	private final RagChatSseRegistry sseRegistry;
+	private final RagChatResponseRouter responseRouter;
 
 	@RabbitListener(
 		queues = "${rag-chat.queue.name:rag.chat.jobs}",
@@ -49,35 +49,35 @@ public class RagChatQueueWorker {
 
 			String answer = normalizeAnswer(response.answer());
 			if (answer == null) {
-				sseRegistry.complete(message.requestId(), NO_RESULT_FALLBACK);
+				responseRouter.complete(message, NO_RESULT_FALLBACK);
 			} else {
-				sseRegistry.complete(message.requestId(), answer);
+				responseRouter.complete(message, answer);
 			}
 			channel.basicAck(deliveryTag, false);
 
 		} catch (CallNotPermittedException ex) {
 			log.warn("CircuitBreaker OPEN. requestId={}", message.requestId());
-			sseRegistry.completeWithError(message.requestId(), CIRCUIT_OPEN_FALLBACK);
+			responseRouter.completeWithError(message, CIRCUIT_OPEN_FALLBACK);
 			channel.basicAck(deliveryTag, false);
 
 		} catch (BulkheadFullException ex) {
 			log.warn("Bulkhead full. requestId={}", message.requestId());
-			sseRegistry.completeWithError(message.requestId(), BULKHEAD_FULL_FALLBACK);
+			responseRouter.completeWithError(message, BULKHEAD_FULL_FALLBACK);
 			channel.basicAck(deliveryTag, false);
 
 		} catch (ApiException ex) {
 			if (ex.getErrorCode() == RagChatErrorCode.RAG_ENGINE_TIMEOUT) {
-				sseRegistry.complete(message.requestId(), TIMEOUT_FALLBACK);
+				responseRouter.complete(message, TIMEOUT_FALLBACK);
 				channel.basicAck(deliveryTag, false);
 			} else {
 				log.error("RAG call failed. requestId={}", message.requestId(), ex);
-				sseRegistry.completeWithError(message.requestId(), "처리 중 오류가 발생했어요.");
+				responseRouter.completeWithError(message, "처리 중 오류가 발생했어요.");
 				channel.basicReject(deliveryTag, false);
 			}
 
 		} catch (Exception ex) {
 			log.error("Unexpected error. requestId={}", message.requestId(), ex);
-			sseRegistry.completeWithError(message.requestId(), "처리 중 오류가 발생했어요.");
+			responseRouter.completeWithError(message, "처리 중 오류가 발생했어요.");
 			channel.basicReject(deliveryTag, false);
 		}
 	}
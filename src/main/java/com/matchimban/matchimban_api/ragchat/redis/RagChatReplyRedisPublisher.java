@@ -0,0 +1,34 @@
+package com.matchimban.matchimban_api.ragchat.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatReplyMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RagChatReplyRedisPublisher {
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${rag-chat.reply.channel-prefix:rag:chat:reply:}")
+	private String channelPrefix;
+
+	public void publish(String nodeId, RagChatReplyMessage reply) throws JsonProcessingException {
+		Long receivers = redisTemplate.convertAndSend(channel(channelPrefix, nodeId), objectMapper.writeValueAsString(reply));
+		if (receivers == null || receivers == 0L) {
+			// 소유 노드가 내려갔다면 SSE 연결도 이미 끊긴 상태다.
+			log.warn("No node is listening for RAG reply. requestId={}, nodeId={}", reply.requestId(), nodeId);
+		}
+	}
+
+	public static String channel(String channelPrefix, String nodeId) {
+		return channelPrefix + nodeId;
+	}
+}
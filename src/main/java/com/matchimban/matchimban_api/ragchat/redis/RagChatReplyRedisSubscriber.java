@@ -0,0 +1,30 @@
+package com.matchimban.matchimban_api.ragchat.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatReplyMessage;
+import com.matchimban.matchimban_api.ragchat.sse.RagChatResponseRouter;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RagChatReplyRedisSubscriber implements MessageListener {
+
+	private final ObjectMapper objectMapper;
+	private final RagChatResponseRouter responseRouter;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			responseRouter.deliverLocally(objectMapper.readValue(payload, RagChatReplyMessage.class));
+		} catch (Exception ex) {
+			log.error("Failed to deliver RAG reply. payload={}", payload, ex);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.matchimban.matchimban_api.ragchat.sse;
+
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatQueueMessage;
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatReplyMessage;
+import com.matchimban.matchimban_api.ragchat.redis.RagChatReplyRedisPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 큐 메시지를 처리한 노드와 SSE 연결을 가진 노드가 다를 수 있어, 응답을 소유 노드로 보낸다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RagChatResponseRouter {
+
+	private final RagChatSseRegistry sseRegistry;
+	private final RagChatReplyRedisPublisher replyRedisPublisher;
+
+	public void complete(RagChatQueueMessage message, String answer) {
+		route(message.replyNodeId(), RagChatReplyMessage.answer(message.requestId(), answer));
+	}
+
+	public void completeWithError(RagChatQueueMessage message, String errorMessage) {
+		route(message.replyNodeId(), RagChatReplyMessage.error(message.requestId(), errorMessage));
+	}
+
+	public void deliverLocally(RagChatReplyMessage reply) {
+		if (reply.error()) {
+			sseRegistry.completeWithError(reply.requestId(), reply.payload());
+		} else {
+			sseRegistry.complete(reply.requestId(), reply.payload());
+		}
+	}
+
+	private void route(String replyNodeId, RagChatReplyMessage reply) {
+		if (replyNodeId == null
+			|| replyNodeId.equals(sseRegistry.getNodeId())
+			|| sseRegistry.contains(reply.requestId())) {
+			deliverLocally(reply);
+			return;
+		}
+
+		try {
+			replyRedisPublisher.publish(replyNodeId, reply);
+		} catch (Exception ex) {
+			log.error("Failed to route RAG reply. requestId={}, replyNodeId={}", reply.requestId(), replyNodeId, ex);
+		}
+	}
+}
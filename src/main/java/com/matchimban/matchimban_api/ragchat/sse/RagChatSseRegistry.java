@@ -1,6 +1,7 @@
 package com.matchimban.matchimban_api.ragchat.sse;
 
 import java.io.IOException;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class RagChatSseRegistry {
 
 	private final ConcurrentMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+	private final String nodeId = "rag-node-" + UUID.randomUUID();
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	public boolean contains(String requestId) {
+		return emitters.containsKey(requestId);
+	}
 
 	public void register(String requestId, SseEmitter emitter) {
 		emitters.put(requestId, emitter);
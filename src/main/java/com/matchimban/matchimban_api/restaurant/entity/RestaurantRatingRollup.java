@@ -0,0 +1,38 @@
+package com.matchimban.matchimban_api.restaurant.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+
+// 식당별 리뷰 평점 합계/개수. 리뷰 작성/수정/삭제 시 증감하고, 재계산 작업이 어긋난 값을 바로잡는다.
+@Entity
+@Table(name = "restaurant_rating_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RestaurantRatingRollup {
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public BigDecimal averageRating() {
+        if (ratingCount <= 0) {
+            return BigDecimal.valueOf(0.0).setScale(1, RoundingMode.HALF_UP);
+        }
+        return BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(ratingCount), 1, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,58 @@
+package com.matchimban.matchimban_api.restaurant.repository;
+
+import com.matchimban.matchimban_api.restaurant.entity.RestaurantRatingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RestaurantRatingRollupRepository extends JpaRepository<RestaurantRatingRollup, Long> {
+
+    @Modifying
+    @Query(value = """
+        insert into restaurant_rating_rollups (restaurant_id, rating_sum, rating_count, updated_at)
+        values (:restaurantId, 0, 0, current_timestamp)
+        on conflict do nothing
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("restaurantId") Long restaurantId);
+
+    // 행 잠금 아래에서 최신 값에 더하므로 동시에 리뷰가 바뀌어도 증감이 유실되지 않는다.
+    @Modifying
+    @Query(value = """
+        update restaurant_rating_rollups
+           set rating_sum = rating_sum + :sumDelta,
+               rating_count = rating_count + :countDelta,
+               updated_at = current_timestamp
+         where restaurant_id = :restaurantId
+    """, nativeQuery = true)
+    int addRating(
+            @Param("restaurantId") Long restaurantId,
+            @Param("sumDelta") long sumDelta,
+            @Param("countDelta") long countDelta
+    );
+
+    @Modifying
+    @Query(value = """
+        insert into restaurant_rating_rollups (restaurant_id, rating_sum, rating_count, updated_at)
+        select distinct r.restaurant_id, 0, 0, current_timestamp
+          from reviews r
+        on conflict do nothing
+    """, nativeQuery = true)
+    int insertMissingFromReviews();
+
+    // 리뷰 원본과 다른 행만 고치고, 고친 행 수를 돌려준다.
+    @Modifying
+    @Query(value = """
+        update restaurant_rating_rollups rr
+           set rating_sum = coalesce((select sum(r.rating) from reviews r
+                                       where r.restaurant_id = rr.restaurant_id and r.is_deleted = false), 0),
+               rating_count = (select count(*) from reviews r
+                                where r.restaurant_id = rr.restaurant_id and r.is_deleted = false),
+               updated_at = current_timestamp
+         where rr.rating_sum <> coalesce((select sum(r.rating) from reviews r
+                                          where r.restaurant_id = rr.restaurant_id and r.is_deleted = false), 0)
+            or rr.rating_count <> (select count(*) from reviews r
+                                    where r.restaurant_id = rr.restaurant_id and r.is_deleted = false)
+    """, nativeQuery = true)
+    int rebuildDrifted();
+}
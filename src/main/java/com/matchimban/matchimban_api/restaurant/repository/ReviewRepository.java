@@ -13,21 +13,6 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    interface RestaurantAvgRatingRow {
-        Long getRestaurantId();
-        Double getAvgRating();
-    }
-
-    @Query("""
-        select r.restaurant.id as restaurantId,
-               avg(r.rating) as avgRating
-        from Review r
-        where r.restaurant.id in :restaurantIds
-          and r.isDeleted = false
-        group by r.restaurant.id
-    """)
-    List<RestaurantAvgRatingRow> findAvgRatingsByRestaurantIds(@Param("restaurantIds") List<Long> restaurantIds);
-
     @Query("""
         select (count(r) > 0)
         from Review r
@@ -0,0 +1,18 @@
+package com.matchimban.matchimban_api.restaurant.scheduler;
+
+import com.matchimban.matchimban_api.restaurant.service.RestaurantRatingRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RestaurantRatingRollupScheduler {
+
+    private final RestaurantRatingRollupService restaurantRatingRollupService;
+
+    @Scheduled(cron = "${restaurant.rating-rollup.rebuild-cron:0 40 4 * * *}")
+    public void rebuild() {
+        restaurantRatingRollupService.rebuild();
+    }
+}
@@ -0,0 +1,35 @@
+package com.matchimban.matchimban_api.restaurant.service;
+
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRatingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RestaurantRatingRollupService {
+
+    private final RestaurantRatingRollupRepository rollupRepository;
+
+    // 리뷰 변경과 같은 트랜잭션에서 호출한다.
+    @Transactional
+    public void apply(Long restaurantId, long sumDelta, long countDelta) {
+        if (sumDelta == 0 && countDelta == 0) {
+            return;
+        }
+        rollupRepository.insertIfAbsent(restaurantId);
+        rollupRepository.addRating(restaurantId, sumDelta, countDelta);
+    }
+
+    @Transactional
+    public int rebuild() {
+        int inserted = rollupRepository.insertMissingFromReviews();
+        int corrected = rollupRepository.rebuildDrifted();
+        if (corrected > 0) {
+            log.warn("Restaurant rating rollup drift corrected. inserted={}, corrected={}", inserted, corrected);
+        }
+        return corrected;
+    }
+}
@@ -14,6 +14,7 @@ import com.matchimban.matchimban_api.restaurant.dto.response.ReviewDetailRespons
 import com.matchimban.matchimban_api.restaurant.entity.Review;
 import com.matchimban.matchimban_api.restaurant.error.ReviewErrorCode;
 import com.matchimban.matchimban_api.restaurant.repository.ReviewRepository;
+import com.matchimban.matchimban_api.restaurant.service.RestaurantRatingRollupService;
 import com.matchimban.matchimban_api.vote.repository.MeetingFinalSelectionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -31,6 +32,7 @@ public class ReviewServiceImpl implements com.matchimban.matchimban_api.restaura
     private final MeetingFinalSelectionRepository meetingFinalSelectionRepository;
     private final MemberRepository memberRepository;
     private final ReviewRepository reviewRepository;
+    private final RestaurantRatingRollupService restaurantRatingRollupService;
     private final CdnUrlComposer cdnUrlComposer;
 
     @Override
@@ -68,7 +70,8 @@ public class ReviewServiceImpl implements com.matchimban.matchimban_api.restaura
                     .isDeleted(false)
                     .build();
 
-            Review saved = reviewRepository.save(review);
+            Review saved = reviewRepository.saveAndFlush(review);
+            restaurantRatingRollupService.apply(restaurant.getId(), saved.getRating(), 1);
             return new CreateReviewResponse(saved.getId());
 
         } catch (DataIntegrityViolationException e) {
@@ -83,7 +86,9 @@ public class ReviewServiceImpl implements com.matchimban.matchimban_api.restaura
         Review review = reviewRepository.findActiveByIdAndMemberId(reviewId, memberId)
                 .orElseThrow(() -> new ApiException(ReviewErrorCode.REVIEW_NOT_FOUND));
 
+        int previousRating = review.getRating();
         review.update(request.getRating(), request.getContent());
+        restaurantRatingRollupService.apply(review.getRestaurant().getId(), review.getRating() - previousRating, 0);
 
         var row = reviewRepository.findMyReviewDetailRow(reviewId, memberId)
                 .orElseThrow(() -> new ApiException(ReviewErrorCode.REVIEW_NOT_FOUND));
@@ -110,5 +115,6 @@ public class ReviewServiceImpl implements com.matchimban.matchimban_api.restaura
                 .orElseThrow(() -> new ApiException(ReviewErrorCode.REVIEW_NOT_FOUND));
 
         review.delete();
+        restaurantRatingRollupService.apply(review.getRestaurant().getId(), -review.getRating(), -1);
     }
 }
\ No newline at end of file
@@ -16,10 +16,11 @@ public class RunpodOcrClient {
     private final WebClient.Builder webClientBuilder;
     private final AppOcrProperties props;
 
+    // 워커 스레드 여러 개가 동시에 호출하므로 공유 Builder를 매번 변경하지 않고 한 번만 만든다.
+    private volatile WebClient webClient;
+
     public void assertHealthy() {
-        WebClient webClient = webClientBuilder
-                .baseUrl(trimTrailingSlash(props.getBaseUrl()))
-                .build();
+        WebClient webClient = webClient();
 
         try {
             Boolean healthy = webClient.get()
@@ -47,9 +48,7 @@ public class RunpodOcrClient {
     }
 
     public RunpodOcrResponse requestReceiptOcr(String imageUrl, String requestId) {
-        WebClient webClient = webClientBuilder
-                .baseUrl(trimTrailingSlash(props.getBaseUrl()))
-                .build();
+        WebClient webClient = webClient();
 
         try {
             RunpodOcrResponse response = webClient.post()
@@ -84,6 +83,22 @@ public class RunpodOcrClient {
         }
     }
 
+    private WebClient webClient() {
+        WebClient current = webClient;
+        if (current == null) {
+            synchronized (this) {
+                current = webClient;
+                if (current == null) {
+                    current = webClientBuilder.clone()
+                            .baseUrl(trimTrailingSlash(props.getBaseUrl()))
+                            .build();
+                    webClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
     private OcrClientException mapHttpError(int status, String body) {
         String message = (body == null || body.isBlank()) ? "OCR HTTP 오류" : body;
 
@@ -18,4 +18,5 @@ public class AppOcrProperties {
     private Duration initialRetryDelay = Duration.ofSeconds(10);
     private Duration maxRetryDelay = Duration.ofSeconds(60);
     private int maxAttempts = 3;
+    private int workerConcurrency = 1;
 }
\ No newline at end of file
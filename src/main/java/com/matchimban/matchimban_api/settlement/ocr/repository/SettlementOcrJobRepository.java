@@ -4,7 +4,9 @@ import com.matchimban.matchimban_api.settlement.ocr.entity.SettlementOcrJob;
 import com.matchimban.matchimban_api.settlement.ocr.enums.OcrJobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SettlementOcrJobRepository extends JpaRepository<SettlementOcrJob, Long> {
@@ -18,9 +20,9 @@ public interface SettlementOcrJobRepository extends JpaRepository<SettlementOcrJ
            or (status = 'PROCESSING' and lock_until < now())
         order by next_attempt_at asc, created_at asc, id asc
         for update skip locked
-        limit 1
+        limit :limit
         """, nativeQuery = true)
-    Optional<SettlementOcrJob> findNextClaimableForUpdate();
+    List<SettlementOcrJob> findClaimableForUpdate(@Param("limit") int limit);
 
     Optional<SettlementOcrJob> findTopBySettlementIdAndStatusOrderByIdDesc(Long settlementId, OcrJobStatus status);
 
@@ -1,5 +1,6 @@
 package com.matchimban.matchimban_api.settlement.ocr.service;
 
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
 import com.matchimban.matchimban_api.settlement.entity.ReceiptItem;
 import com.matchimban.matchimban_api.settlement.enums.SettlementStatus;
@@ -11,6 +12,7 @@ import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobR
 import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
 import com.matchimban.matchimban_api.settlement.repository.ReceiptItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,31 +31,24 @@ public class SettlementOcrJobTxService {
     private final ReceiptItemRepository receiptItemRepository;
     private final AppOcrProperties ocrProps;
     private final com.matchimban.matchimban_api.settlement.service.SettlementProgressSseService settlementProgressSseService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 만료된 리스(PROCESSING + lock_until 경과)도 함께 회수한다. 다른 노드가 죽었을 때 그 작업을 이어받는 경로다.
     @Transactional
-    public Long claimNextJob(String instanceId) {
-        return jobRepository.findNextClaimableForUpdate()
-                .map(job -> {
-                    Instant now = Instant.now();
-
-                    if (job.getAttemptCount() >= ocrProps.getMaxAttempts()) {
-                        job.markFailed("MAX_ATTEMPTS", "재시도 횟수를 초과했습니다.", now);
-
-                        MeetingSettlement settlement = job.getSettlement();
-                        settlement.changeStatus(SettlementStatus.OCR_FAILED);
-
-                        jobRepository.save(job);
-                        settlementRepository.save(settlement);
-                        settlementProgressSseService.publishAfterCommit(settlement.getMeeting().getId());
-                        return null;
-                    }
-
-                    Instant lockUntil = now.plus(ocrProps.getLease());
-                    job.markProcessing(instanceId, lockUntil, now);
-                    jobRepository.save(job);
-                    return job.getId();
-                })
-                .orElse(null);
+    public List<Long> claimJobs(String instanceId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        List<Long> claimed = new ArrayList<>(limit);
+        for (SettlementOcrJob job : jobRepository.findClaimableForUpdate(limit)) {
+            Long jobId = claim(job, instanceId, now);
+            if (jobId != null) {
+                claimed.add(jobId);
+            }
+        }
+        return claimed;
     }
 
     @Transactional
@@ -69,6 +64,7 @@ public class SettlementOcrJobTxService {
         jobRepository.save(job);
         settlementRepository.save(settlement);
         settlementProgressSseService.publishAfterCommit(settlement.getMeeting().getId());
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(settlement.getMeeting().getId()));
     }
 
     @Transactional
@@ -84,6 +80,7 @@ public class SettlementOcrJobTxService {
         jobRepository.save(job);
         settlementRepository.save(settlement);
         settlementProgressSseService.publishAfterCommit(settlement.getMeeting().getId());
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(settlement.getMeeting().getId()));
     }
 
     @Transactional
@@ -117,6 +114,27 @@ public class SettlementOcrJobTxService {
         settlementRepository.save(settlement);
         jobRepository.save(job);
         settlementProgressSseService.publishAfterCommit(settlement.getMeeting().getId());
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(settlement.getMeeting().getId()));
+    }
+
+    private Long claim(SettlementOcrJob job, String instanceId, Instant now) {
+        if (job.getAttemptCount() >= ocrProps.getMaxAttempts()) {
+            job.markFailed("MAX_ATTEMPTS", "재시도 횟수를 초과했습니다.", now);
+
+            MeetingSettlement settlement = job.getSettlement();
+            settlement.changeStatus(SettlementStatus.OCR_FAILED);
+
+            jobRepository.save(job);
+            settlementRepository.save(settlement);
+            settlementProgressSseService.publishAfterCommit(settlement.getMeeting().getId());
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(settlement.getMeeting().getId()));
+            return null;
+        }
+
+        Instant lockUntil = now.plus(ocrProps.getLease());
+        job.markProcessing(instanceId, lockUntil, now);
+        jobRepository.save(job);
+        return job.getId();
     }
 
     private Duration calculateRetryDelay(int attemptCount) {
@@ -11,14 +11,21 @@ import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobR
 import com.matchimban.matchimban_api.settlement.ocr.service.SettlementOcrJobTxService;
 import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
 import com.matchimban.matchimban_api.settlement.service.S3PresignedGetUrlService;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SettlementOcrWorker {
 
     private final SettlementOcrJobRepository jobRepository;
@@ -31,17 +38,71 @@ public class SettlementOcrWorker {
 
     private final String instanceId = "ocr-worker-" + UUID.randomUUID();
 
+    // 동시에 진행 중인 OCR 호출 수를 제한한다. 빈 슬롯 수만큼만 작업을 선점하므로 리스는 처리 시작 시점부터 흐른다.
+    private final Semaphore inFlight;
+    private final ExecutorService executor;
+
+    public SettlementOcrWorker(
+            SettlementOcrJobRepository jobRepository,
+            MeetingSettlementRepository settlementRepository,
+            SettlementOcrJobTxService settlementOcrJobTxService,
+            RunpodOcrClient runpodOcrClient,
+            S3PresignedGetUrlService s3PresignedGetUrlService,
+            AppOcrProperties ocrProps
+    ) {
+        this.jobRepository = jobRepository;
+        this.settlementRepository = settlementRepository;
+        this.settlementOcrJobTxService = settlementOcrJobTxService;
+        this.runpodOcrClient = runpodOcrClient;
+        this.s3PresignedGetUrlService = s3PresignedGetUrlService;
+        this.ocrProps = ocrProps;
+
+        int concurrency = Math.max(1, ocrProps.getWorkerConcurrency());
+        AtomicInteger threadSeq = new AtomicInteger(1);
+        this.inFlight = new Semaphore(concurrency);
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "settlement-ocr-worker-" + threadSeq.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Scheduled(fixedDelayString = "${app.ocr.poll-delay:1000ms}")
     public void tick() {
-        Long jobId = settlementOcrJobTxService.claimNextJob(instanceId);
-        if (jobId == null) return;
-        processJob(jobId);
+        int available = inFlight.availablePermits();
+        if (available <= 0) return;
+
+        List<Long> jobIds = settlementOcrJobTxService.claimJobs(instanceId, available);
+        for (Long jobId : jobIds) {
+            inFlight.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        processJob(jobId);
+                    } catch (Exception e) {
+                        // 결과를 반영하지 못한 작업은 리스 만료 후 다시 선점된다.
+                        log.error("Failed to process settlement OCR job. jobId={}", jobId, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                log.warn("Settlement OCR worker is shutting down. jobId={}", jobId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 
     protected void processJob(Long jobId) {
         SettlementOcrJob job = jobRepository.findById(jobId).orElse(null);
         if (job == null) return;
         if (job.getStatus() != OcrJobStatus.PROCESSING) return;
+        if (!instanceId.equals(job.getLockedBy())) return;
 
         MeetingSettlement settlement = settlementRepository.findById(job.getSettlement().getId()).orElse(null);
         if (settlement == null) {
@@ -1,15 +1,23 @@
 package com.matchimban.matchimban_api.settlement.redis;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.settlement.service.SettlementProgressService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 public class SettlementProgressRedisPublisher {
 
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
     private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
 
     @Value("${settlement.redis.channel.progress-updated:settlement:meeting:progress-updated}")
     private String settlementProgressChannel;
@@ -17,4 +25,17 @@ public class SettlementProgressRedisPublisher {
     public void publish(Long meetingId) {
         redisTemplate.convertAndSend(settlementProgressChannel, String.valueOf(meetingId));
     }
+
+    // 같은 채널에 JSON 스냅샷을 싣는다. 구독 측은 숫자 payload와 JSON payload를 모두 처리한다.
+    public void publishSnapshot(SettlementProgressService.Snapshot snapshot) throws JsonProcessingException {
+        redisTemplate.convertAndSend(settlementProgressChannel, objectMapper.writeValueAsString(snapshot));
+    }
+
+    // 노드가 달라도 스냅샷 순서를 비교할 수 있도록 모임별 버전을 Redis에서 발급한다.
+    public long nextVersion(Long meetingId) {
+        String key = "settlement:progress:" + meetingId + ":version";
+        Long version = redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, VERSION_TTL);
+        return version == null ? 0L : version;
+    }
 }
@@ -1,5 +1,7 @@
 package com.matchimban.matchimban_api.settlement.redis;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.settlement.service.SettlementProgressService;
 import com.matchimban.matchimban_api.settlement.service.SettlementProgressSseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,12 +17,20 @@ import java.nio.charset.StandardCharsets;
 public class SettlementProgressRedisSubscriber implements MessageListener {
 
     private final SettlementProgressSseService settlementProgressSseService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         String payload = new String(message.getBody(), StandardCharsets.UTF_8);
 
         try {
+            if (payload.startsWith("{")) {
+                settlementProgressSseService.publishSnapshot(
+                        objectMapper.readValue(payload, SettlementProgressService.Snapshot.class)
+                );
+                return;
+            }
+
             Long meetingId = Long.parseLong(payload);
             settlementProgressSseService.publish(meetingId);
         } catch (NumberFormatException e) {
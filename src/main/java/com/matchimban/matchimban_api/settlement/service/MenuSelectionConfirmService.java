@@ -3,6 +3,7 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
@@ -114,6 +115,7 @@ public class MenuSelectionConfirmService {
                 );
                 publishSettlementResultReadyNotification(meetingId, settlement.getId());
             }
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
         }
 
         SettlementStatus latest = meetingSettlementRepository.findById(settlement.getId())
@@ -141,9 +143,27 @@ public class MenuSelectionConfirmService {
             itemIdToSpIds.computeIfAbsent(row.getItemId(), k -> new ArrayList<>()).add(row.getSettlementParticipantId());
         }
 
-        Map<Long, BigDecimal> subtotalBySpId = new HashMap<>();
+        List<Long> spIds = participants.stream().map(SettlementParticipant::getId).toList();
+        Map<Long, SplitAmounts> amountsBySpId =
+                splitAmounts(items, itemIdToSpIds, spIds, hostSpId, settlement.getDiscountAmount());
+
         for (SettlementParticipant sp : participants) {
-            subtotalBySpId.put(sp.getId(), BigDecimal.ZERO);
+            SplitAmounts amounts = amountsBySpId.get(sp.getId());
+            sp.updateAmounts(amounts.subtotal(), amounts.discount(), amounts.due());
+        }
+    }
+
+    // DB 접근 없는 분배 계산(벤치마크에서도 직접 호출한다).
+    static Map<Long, SplitAmounts> splitAmounts(
+            List<ReceiptItem> items,
+            Map<Long, List<Long>> itemIdToSpIds,
+            List<Long> spIds,
+            Long hostSpId,
+            BigDecimal discountAmount
+    ) {
+        Map<Long, BigDecimal> subtotalBySpId = new HashMap<>();
+        for (Long spId : spIds) {
+            subtotalBySpId.put(spId, BigDecimal.ZERO);
         }
 
         for (ReceiptItem item : items) {
@@ -159,36 +179,39 @@ public class MenuSelectionConfirmService {
             }
         }
 
-        BigDecimal discount = safe(settlement.getDiscountAmount());
+        BigDecimal discount = safe(discountAmount);
         BigDecimal sumSubtotal = subtotalBySpId.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
 
         Map<Long, BigDecimal> discountBySpId = new HashMap<>();
-        for (SettlementParticipant sp : participants) {
-            BigDecimal sub = subtotalBySpId.get(sp.getId());
+        for (Long spId : spIds) {
+            BigDecimal sub = subtotalBySpId.get(spId);
             BigDecimal alloc = BigDecimal.ZERO;
             if (discount.signum() > 0 && sumSubtotal.signum() > 0) {
                 alloc = sub.multiply(discount).divide(sumSubtotal, 2, RoundingMode.HALF_UP);
             }
-            discountBySpId.put(sp.getId(), alloc);
+            discountBySpId.put(spId, alloc);
         }
 
         normalizeToWholeWon(subtotalBySpId, sumSubtotal, hostSpId);
         normalizeToWholeWon(discountBySpId, discount, hostSpId);
 
-        for (SettlementParticipant sp : participants) {
-            BigDecimal sub = subtotalBySpId.get(sp.getId());
-            BigDecimal alloc = discountBySpId.get(sp.getId());
-            BigDecimal due = sub.subtract(alloc);
-
-            sp.updateAmounts(sub, alloc, due);
+        Map<Long, SplitAmounts> amountsBySpId = new HashMap<>();
+        for (Long spId : spIds) {
+            BigDecimal sub = subtotalBySpId.get(spId);
+            BigDecimal alloc = discountBySpId.get(spId);
+            amountsBySpId.put(spId, new SplitAmounts(sub, alloc, sub.subtract(alloc)));
         }
+        return amountsBySpId;
+    }
+
+    record SplitAmounts(BigDecimal subtotal, BigDecimal discount, BigDecimal due) {
     }
 
-    private BigDecimal safe(BigDecimal v) {
+    private static BigDecimal safe(BigDecimal v) {
         return v == null ? BigDecimal.ZERO : v;
     }
 
-    private void normalizeToWholeWon(Map<Long, BigDecimal> amountsBySpId, BigDecimal targetTotal, Long hostSpId) {
+    private static void normalizeToWholeWon(Map<Long, BigDecimal> amountsBySpId, BigDecimal targetTotal, Long hostSpId) {
         if (amountsBySpId.isEmpty()) {
             return;
         }
@@ -204,7 +227,7 @@ public class MenuSelectionConfirmService {
         amountsBySpId.compute(hostSpId, (key, current) -> safe(current).add(remainder));
     }
 
-    private BigDecimal floorWon(BigDecimal amount) {
+    private static BigDecimal floorWon(BigDecimal amount) {
         return safe(amount).setScale(0, RoundingMode.DOWN);
     }
 
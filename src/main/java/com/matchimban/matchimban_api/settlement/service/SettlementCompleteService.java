@@ -3,6 +3,7 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
@@ -64,6 +65,7 @@ public class SettlementCompleteService {
         publishSettlementBulkDoneNotification(meetingId, settlement.getId(), recipients);
 
         meetingSettlementRepository.updateStatusIfCurrent(settlement.getId(), SettlementStatus.RESULT_READY, SettlementStatus.COMPLETED);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         SettlementStatus latest = meetingSettlementRepository.findById(settlement.getId())
                 .map(MeetingSettlement::getSettlementStatus)
@@ -3,6 +3,7 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.settlement.dto.response.OcrTriggerResponse;
 import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
@@ -13,6 +14,7 @@ import com.matchimban.matchimban_api.settlement.ocr.enums.OcrJobStatus;
 import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobRepository;
 import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,7 @@ public class SettlementOcrTriggerService {
     private final MeetingSettlementRepository meetingSettlementRepository;
     private final SettlementOcrJobRepository ocrJobRepository;
     private final SettlementProgressSseService settlementProgressSseService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OcrTriggerResponse trigger(Long meetingId, Long memberId) {
@@ -80,6 +83,7 @@ public class SettlementOcrTriggerService {
 
         settlement.changeStatus(SettlementStatus.OCR_PROCESSING);
         settlementProgressSseService.publishAfterCommit(meetingId);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         return new OcrTriggerResponse(settlement.getId(), settlement.getSettlementStatus(), requestId);
     }
@@ -3,6 +3,7 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
@@ -70,6 +71,7 @@ public class SettlementOpenSelectionService {
         int created = initSettlementParticipants(settlement, meetingId);
 
         settlement.changeStatus(SettlementStatus.SELECTION_OPEN);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
         publishSettlementSelectionOpenNotification(meetingId, settlement.getId());
 
         return new OpenSelectionResponse(settlement.getId(), settlement.getSettlementStatus(), created);
@@ -1,9 +1,11 @@
 package com.matchimban.matchimban_api.settlement.service;
 
 import com.matchimban.matchimban_api.global.error.api.ApiException;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.settlement.dto.response.SettlementProgressResponse;
 import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
 import com.matchimban.matchimban_api.settlement.enums.SettlementStatus;
@@ -14,10 +16,13 @@ import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobR
 import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +30,7 @@ import java.util.Optional;
 public class SettlementProgressService {
 
     private final MeetingParticipantRepository meetingParticipantRepository;
+    private final MeetingRepository meetingRepository;
     private final MeetingSettlementRepository meetingSettlementRepository;
     private final SettlementOcrJobRepository ocrJobRepository;
 
@@ -38,6 +44,34 @@ public class SettlementProgressService {
             throw new ApiException(SettlementErrorCode.QUICK_MEETING_SETTLEMENT_NOT_SUPPORTED);
         }
 
+        return buildProgress(meetingId);
+    }
+
+    // 모임 단위로 한 번만 조회해 두고, 구독자별 응답은 toMemberResponse로 메모리에서 만든다.
+    // 커밋 이후 콜백에서도 호출되므로 별도 읽기 트랜잭션으로 실행한다.
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Snapshot getSnapshot(Long meetingId, long version) {
+        Meeting meeting = meetingRepository.findByIdAndIsDeletedFalse(meetingId).orElse(null);
+        if (meeting == null) {
+            return new Snapshot(meetingId, version, false, Set.of(), null);
+        }
+
+        Set<Long> activeMemberIds = new HashSet<>(meetingParticipantRepository.findActiveMemberIds(meetingId));
+        SettlementProgressResponse progress = meeting.isQuickMeeting() ? null : buildProgress(meetingId);
+        return new Snapshot(meetingId, version, meeting.isQuickMeeting(), activeMemberIds, progress);
+    }
+
+    public SettlementProgressResponse toMemberResponse(Snapshot snapshot, Long memberId) {
+        if (!snapshot.activeMemberIds().contains(memberId)) {
+            throw new ApiException(MeetingErrorCode.NOT_ACTIVE_PARTICIPANT);
+        }
+        if (snapshot.quickMeeting()) {
+            throw new ApiException(SettlementErrorCode.QUICK_MEETING_SETTLEMENT_NOT_SUPPORTED);
+        }
+        return snapshot.progress();
+    }
+
+    private SettlementProgressResponse buildProgress(Long meetingId) {
         MeetingSettlement settlement = meetingSettlementRepository.findByMeetingId(meetingId).orElse(null);
 
         if (settlement == null) {
@@ -94,4 +128,12 @@ public class SettlementProgressService {
     private String safe(String v, String fallback) {
         return (v == null || v.isBlank()) ? fallback : v;
     }
-}
\ No newline at end of file
+
+    public record Snapshot(
+            Long meetingId,
+            long version,
+            boolean quickMeeting,
+            Set<Long> activeMemberIds,
+            SettlementProgressResponse progress
+    ) {}
+}
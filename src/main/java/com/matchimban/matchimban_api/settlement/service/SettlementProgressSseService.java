@@ -3,6 +3,8 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.settlement.dto.response.SettlementProgressResponse;
 import com.matchimban.matchimban_api.settlement.redis.SettlementProgressRedisPublisher;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -13,6 +15,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SettlementProgressSseService {
@@ -24,6 +27,10 @@ public class SettlementProgressSseService {
     private final SettlementProgressRedisPublisher settlementProgressRedisPublisher;
 
     private final Map<Long, Set<Subscriber>> subscribersByMeetingId = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastVersionByMeetingId = new ConcurrentHashMap<>();
+
+    @Value("${settlement.progress.snapshot-payload-enabled:false}")
+    private boolean snapshotPayloadEnabled;
 
     public SseEmitter subscribe(Long meetingId, Long memberId) {
         SettlementProgressResponse initialResponse = settlementProgressService.getProgress(meetingId, memberId);
@@ -49,10 +56,28 @@ public class SettlementProgressSseService {
             return;
         }
 
+        publishSnapshot(settlementProgressService.getSnapshot(meetingId, 0L));
+    }
+
+    // 스냅샷 하나로 모든 구독자 응답을 만든다. 버전이 있는 스냅샷은 이미 보낸 것보다 오래되면 버린다.
+    public void publishSnapshot(SettlementProgressService.Snapshot snapshot) {
+        Long meetingId = snapshot.meetingId();
+        Set<Subscriber> subscribers = subscribersByMeetingId.get(meetingId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        if (snapshot.version() > 0) {
+            long applied = lastVersionByMeetingId.merge(meetingId, snapshot.version(), Math::max);
+            if (applied != snapshot.version()) {
+                return;
+            }
+        }
+
         for (Subscriber subscriber : subscribers.toArray(new Subscriber[0])) {
             try {
                 SettlementProgressResponse response =
-                        settlementProgressService.getProgress(meetingId, subscriber.memberId());
+                        settlementProgressService.toMemberResponse(snapshot, subscriber.memberId());
                 send(subscriber.emitter(), response);
             } catch (Exception e) {
                 removeSubscriber(meetingId, subscriber);
@@ -63,18 +88,33 @@ public class SettlementProgressSseService {
 
     public void publishAfterCommit(Long meetingId) {
         if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            settlementProgressRedisPublisher.publish(meetingId);
+            publishToCluster(meetingId);
             return;
         }
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                settlementProgressRedisPublisher.publish(meetingId);
+                publishToCluster(meetingId);
             }
         });
     }
 
+    private void publishToCluster(Long meetingId) {
+        if (!snapshotPayloadEnabled) {
+            settlementProgressRedisPublisher.publish(meetingId);
+            return;
+        }
+
+        try {
+            long version = settlementProgressRedisPublisher.nextVersion(meetingId);
+            settlementProgressRedisPublisher.publishSnapshot(settlementProgressService.getSnapshot(meetingId, version));
+        } catch (Exception e) {
+            log.warn("Failed to publish settlement progress snapshot. meetingId={}", meetingId, e);
+            settlementProgressRedisPublisher.publish(meetingId);
+        }
+    }
+
     private void send(SseEmitter emitter, SettlementProgressResponse response) {
         try {
             emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
@@ -92,6 +132,7 @@ public class SettlementProgressSseService {
         subscribers.remove(subscriber);
         if (subscribers.isEmpty()) {
             subscribersByMeetingId.remove(meetingId);
+            lastVersionByMeetingId.remove(meetingId);
         }
     }
 
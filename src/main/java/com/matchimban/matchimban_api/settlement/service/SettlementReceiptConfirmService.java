@@ -3,6 +3,7 @@ package com.matchimban.matchimban_api.settlement.service;
 import com.matchimban.matchimban_api.global.error.api.ApiException;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.settlement.config.AppS3Properties;
 import com.matchimban.matchimban_api.settlement.dto.request.ReceiptConfirmRequest;
@@ -12,6 +13,7 @@ import com.matchimban.matchimban_api.settlement.enums.SettlementStatus;
 import com.matchimban.matchimban_api.settlement.error.SettlementErrorCode;
 import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class SettlementReceiptConfirmService {
     private final MeetingParticipantRepository meetingParticipantRepository;
     private final MeetingSettlementRepository meetingSettlementRepository;
     private final AppS3Properties appS3Properties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReceiptConfirmResponse confirm(Long meetingId, Long memberId, ReceiptConfirmRequest request) {
@@ -53,6 +56,7 @@ public class SettlementReceiptConfirmService {
                         .build();
 
                 MeetingSettlement saved = meetingSettlementRepository.save(created);
+                eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
                 return new ReceiptConfirmResponse(saved.getId(), saved.getSettlementStatus());
 
             } catch (DataIntegrityViolationException e) {
@@ -72,6 +76,7 @@ public class SettlementReceiptConfirmService {
 
         settlement.attachReceiptImageUrl(objectKey);
         settlement.changeStatus(SettlementStatus.RECEIPT_UPLOADED);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         return new ReceiptConfirmResponse(settlement.getId(), settlement.getSettlementStatus());
     }
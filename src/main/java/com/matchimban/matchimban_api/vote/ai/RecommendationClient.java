@@ -21,11 +21,17 @@ public class RecommendationClient {
 
     private final WebClient recommendationWebClient;
     private final ObjectMapper objectMapper;
+    private final RecommendationResultCache recommendationResultCache;
 
     @Value("${ai-recommendation.timeout-ms:5000}")
     private long timeoutMs;
 
+    // 같은 조건의 추천 결과가 캐시에 있으면 AI를 호출하지 않는다.
     public AiRecommendationResponse recommend(AiRecommendationRequest request) {
+        return recommendationResultCache.getOrLoad(request, () -> requestRecommendation(request));
+    }
+
+    private AiRecommendationResponse requestRecommendation(AiRecommendationRequest request) {
         return recommendationWebClient.post()
                 .uri("/recommendations")
                 .bodyValue(request)
@@ -0,0 +1,226 @@
+package com.matchimban.matchimban_api.vote.ai;
+
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationRequest;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 같은 지역/반경/시작 시간대/취향 분포의 추천 요청은 AI 결과를 잠깐 재사용한다.
+// 키는 요청에서 모임마다 달라지는 값(requestId, 호스트 id)을 뺀 정규화 문자열의 해시이고,
+// 같은 키로 동시에 들어온 요청은 먼저 온 요청의 AI 호출 하나를 같이 기다린다.
+// 실패 응답과, 식당 수가 후보 생성이 기대하는 수(카드 수 x 2)와 다른 응답은 캐시하지 않는다.
+// ttl이 모두 같으므로 넣은 순서가 곧 만료 순서이고, 가득 차면 가장 먼저 넣은 항목부터 하나씩 밀어낸다.
+@Component
+public class RecommendationResultCache {
+
+    private final LinkedHashMap<String, CachedResult> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<AiRecommendationResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int locationScale;
+    private final long startTimeBucketSeconds;
+
+    public RecommendationResultCache(
+            @Value("${ai-recommendation.cache.ttl:5m}") Duration ttl,
+            @Value("${ai-recommendation.cache.max-entries:500}") int maxEntries,
+            @Value("${ai-recommendation.cache.location-scale:4}") int locationScale,
+            @Value("${ai-recommendation.cache.start-time-bucket:30m}") Duration startTimeBucket
+    ) {
+        this.ttlMillis = Math.max(0L, ttl.toMillis());
+        this.maxEntries = Math.max(0, maxEntries);
+        this.locationScale = Math.max(0, locationScale);
+        this.startTimeBucketSeconds = Math.max(1L, startTimeBucket.toSeconds());
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > RecommendationResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    public AiRecommendationResponse getOrLoad(AiRecommendationRequest request, Supplier<AiRecommendationResponse> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+
+        String key = fingerprint(request);
+        AiRecommendationResponse cached = getValid(key);
+        if (cached != null) {
+            return copyFor(request, cached);
+        }
+
+        CompletableFuture<AiRecommendationResponse> created = new CompletableFuture<>();
+        CompletableFuture<AiRecommendationResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return copyFor(request, await(existing));
+        }
+
+        try {
+            // 앞선 호출이 방금 끝나 캐시에 올려 두었을 수 있다.
+            AiRecommendationResponse loaded = getValid(key);
+            if (loaded == null) {
+                loaded = loader.get();
+                if (isCacheable(request, loaded)) {
+                    put(key, loaded);
+                }
+            }
+            created.complete(loaded);
+            return copyFor(request, loaded);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    String fingerprint(AiRecommendationRequest request) {
+        StringBuilder canonical = new StringBuilder();
+
+        AiRecommendationRequest.Location location = request.getLocation();
+        canonical.append("lat=").append(location == null ? "" : scaled(location.getLat()))
+                .append("|lng=").append(location == null ? "" : scaled(location.getLng()))
+                .append("|radius=").append(location == null ? "" : location.getRadiusM());
+
+        AiRecommendationRequest.Meeting meeting = request.getMeeting();
+        canonical.append("|start=").append(meeting == null ? "" : startTimeBucket(meeting.getStartTime()))
+                .append("|headcount=").append(meeting == null ? "" : meeting.getHeadcount());
+
+        AiRecommendationRequest.Swipe swipe = request.getSwipe();
+        canonical.append("|cards=").append(swipe == null ? "" : swipe.getCardLimit());
+
+        AiRecommendationRequest.Preferences preferences = request.getPreferences();
+        canonical.append("|like=").append(preferences == null ? "" : sorted(preferences.getLike()))
+                .append("|dislike=").append(preferences == null ? "" : sorted(preferences.getDislike()));
+
+        AiRecommendationRequest.Exclude exclude = request.getExclude();
+        canonical.append("|meat=").append(exclude == null ? "" : exclude.isMeat())
+                .append("|bar=").append(exclude == null ? "" : exclude.isBar());
+
+        return sha256(canonical.toString());
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private AiRecommendationResponse getValid(String key) {
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return cached.response();
+        }
+    }
+
+    // 후보 생성(VoteCandidateAsyncServiceImpl)이 받아들이는 응답만 재사용한다.
+    // 개수가 어긋난 응답을 올려 두면 같은 조건의 모임이 ttl 동안 계속 AI_RESPONSE_INVALID로 실패한다.
+    private boolean isCacheable(AiRecommendationRequest request, AiRecommendationResponse response) {
+        if (response == null || response.getRestaurants() == null || response.getRestaurants().isEmpty()) {
+            return false;
+        }
+        AiRecommendationRequest.Swipe swipe = request.getSwipe();
+        return swipe != null && response.getRestaurants().size() == swipe.getCardLimit() * 2;
+    }
+
+    private void put(String key, AiRecommendationResponse response) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            // 만료된 항목은 앞쪽에 모여 있으므로 앞에서부터 걷어내고, 다시 넣는 키는 맨 뒤로 보낸다.
+            Iterator<CachedResult> eldest = entries.values().iterator();
+            while (eldest.hasNext() && eldest.next().expiresAtMillis() <= now) {
+                eldest.remove();
+            }
+            entries.remove(key);
+            entries.put(key, new CachedResult(response, now + ttlMillis));
+        }
+    }
+
+    private AiRecommendationResponse await(CompletableFuture<AiRecommendationResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 공유 결과를 호출한 요청의 requestId/회원 id로 바꿔 돌려준다. 식당 목록은 읽기 전용으로 공유한다.
+    private AiRecommendationResponse copyFor(AiRecommendationRequest request, AiRecommendationResponse response) {
+        if (response == null) {
+            return null;
+        }
+        List<AiRecommendationResponse.Restaurant> restaurants =
+                response.getRestaurants() == null ? null : List.copyOf(response.getRestaurants());
+        return new AiRecommendationResponse(
+                request.getRequestId(),
+                request.getMemberId(),
+                response.getTopN(),
+                restaurants,
+                response.getCreatedAt()
+        );
+    }
+
+    private String scaled(double value) {
+        return BigDecimal.valueOf(value).setScale(locationScale, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private String startTimeBucket(String startTime) {
+        if (startTime == null) {
+            return "";
+        }
+        try {
+            long epochSecond = OffsetDateTime.parse(startTime).toEpochSecond();
+            return String.valueOf(Math.floorDiv(epochSecond, startTimeBucketSeconds));
+        } catch (DateTimeParseException e) {
+            return startTime;
+        }
+    }
+
+    private String sorted(Map<String, Integer> histogram) {
+        return histogram == null ? "" : new TreeMap<>(histogram).toString();
+    }
+
+    private boolean isEnabled() {
+        return ttlMillis > 0L && maxEntries > 0;
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record CachedResult(AiRecommendationResponse response, long expiresAtMillis) {
+    }
+}
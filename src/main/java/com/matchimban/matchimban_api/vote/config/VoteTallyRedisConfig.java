@@ -0,0 +1,20 @@
+package com.matchimban.matchimban_api.vote.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+@Configuration
+public class VoteTallyRedisConfig {
+
+    @Bean
+    public RedisScript<Long> voteTallyRecordScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/vote-tally-record.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -1,31 +1,68 @@
 package com.matchimban.matchimban_api.vote.event;
 
+import com.matchimban.matchimban_api.global.config.AbandonableTask;
+import com.matchimban.matchimban_api.global.config.AsyncConfig;
 import com.matchimban.matchimban_api.vote.service.VoteCandidateAsyncService;
-import lombok.RequiredArgsConstructor;
+import com.matchimban.matchimban_api.vote.service.VoteFailureService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 
+// @Async 대신 투표 실행기에 직접 넣는다. 실행기가 가득 차서 끝내 받아 주지 않으면 투표를 실패로 돌려
+// GENERATING 상태로 남지 않게 한다.
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class VoteCandidateGenerationListener {
 
     private final VoteCandidateAsyncService voteCandidateAsyncService;
+    private final VoteFailureService voteFailureService;
+    private final Executor voteEventExecutor;
+
+    public VoteCandidateGenerationListener(
+            VoteCandidateAsyncService voteCandidateAsyncService,
+            VoteFailureService voteFailureService,
+            @Qualifier(AsyncConfig.VOTE_EVENT_EXECUTOR) Executor voteEventExecutor
+    ) {
+        this.voteCandidateAsyncService = voteCandidateAsyncService;
+        this.voteFailureService = voteFailureService;
+        this.voteEventExecutor = voteEventExecutor;
+    }
 
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(VoteCandidateGenerationRequestedEvent event) {
-        log.info("[VoteGenListener] start meetingId={}, v1={}, v2={}",
-                event.meetingId(), event.round1VoteId(), event.round2VoteId());
-        try {
-            voteCandidateAsyncService.generateCandidates(event.meetingId(), event.round1VoteId(), event.round2VoteId());
-            log.info("[VoteGenListener] success meetingId={}", event.meetingId());
-        } catch (Exception e) {
-            log.error("[VoteGenListener] failed meetingId={}", event.meetingId(), e);
-            throw e;
+        voteEventExecutor.execute(new GenerationTask(event));
+    }
+
+    private final class GenerationTask implements AbandonableTask {
+
+        private final VoteCandidateGenerationRequestedEvent event;
+
+        private GenerationTask(VoteCandidateGenerationRequestedEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            log.info("[VoteGenListener] start meetingId={}, v1={}, v2={}",
+                    event.meetingId(), event.round1VoteId(), event.round2VoteId());
+            try {
+                voteCandidateAsyncService.generateCandidates(event.meetingId(), event.round1VoteId(), event.round2VoteId());
+                log.info("[VoteGenListener] success meetingId={}", event.meetingId());
+            } catch (Exception e) {
+                // 실패 처리(투표 FAILED)는 generateCandidates 안에서 이미 했다.
+                log.error("[VoteGenListener] failed meetingId={}", event.meetingId(), e);
+            }
+        }
+
+        @Override
+        public void abandon(RejectedExecutionException cause) {
+            log.error("[VoteGenListener] abandoned meetingId={}, v1={}, v2={}, reason={}",
+                    event.meetingId(), event.round1VoteId(), event.round2VoteId(), cause.getMessage());
+            voteFailureService.markVotesFailed(event.round1VoteId(), event.round2VoteId());
         }
     }
 }
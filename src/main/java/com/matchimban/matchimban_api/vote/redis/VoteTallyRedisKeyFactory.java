@@ -0,0 +1,15 @@
+package com.matchimban.matchimban_api.vote.redis;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class VoteTallyRedisKeyFactory {
+
+    public String tallyKey(Long voteId) {
+        return "vote:" + voteId + ":tally";
+    }
+
+    public String submittedParticipantsKey(Long voteId) {
+        return "vote:" + voteId + ":tally:submitted";
+    }
+}
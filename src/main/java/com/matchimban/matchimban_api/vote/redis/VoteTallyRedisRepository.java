@@ -0,0 +1,143 @@
+package com.matchimban.matchimban_api.vote.redis;
+
+import com.matchimban.matchimban_api.vote.entity.VoteSubmission;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 투표 제출 시점에 후보별 like/dislike/neutral/가중 점수와 제출 인원을 누적한다.
+// Redis 장애나 집계 키가 없는 경우에는 empty를 돌려주고, 호출자는 DB 집계로 처리한다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class VoteTallyRedisRepository {
+
+    private static final String READY_FIELD = "ready";
+    private static final String SUBMITTED_FIELD = "submitted";
+
+    private final StringRedisTemplate redisTemplate;
+    private final VoteTallyRedisKeyFactory keyFactory;
+    private final RedisScript<Long> voteTallyRecordScript;
+
+    @Value("${vote.tally.ttl-seconds:172800}")
+    private long ttlSeconds;
+
+    public record CandidateTally(int likeCount, int dislikeCount, int neutralCount, long weightedScore) {
+        public static final CandidateTally EMPTY = new CandidateTally(0, 0, 0, 0L);
+    }
+
+    public record VoteTally(long submittedCount, Map<Long, CandidateTally> candidates) {
+        public CandidateTally candidate(Long candidateId) {
+            return candidates.getOrDefault(candidateId, CandidateTally.EMPTY);
+        }
+    }
+
+    public void open(Long voteId) {
+        try {
+            String tallyKey = keyFactory.tallyKey(voteId);
+            String submittedKey = keyFactory.submittedParticipantsKey(voteId);
+            redisTemplate.delete(List.of(tallyKey, submittedKey));
+            redisTemplate.opsForHash().putAll(tallyKey, Map.of(READY_FIELD, "1", SUBMITTED_FIELD, "0"));
+            redisTemplate.expire(tallyKey, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Vote tally open failed. voteId={}", voteId, e);
+        }
+    }
+
+    public Optional<Long> record(Long voteId, Long participantId, List<VoteSubmission> submissions) {
+        List<String> args = new ArrayList<>(2 + submissions.size() * 3);
+        args.add(String.valueOf(participantId));
+        args.add(String.valueOf(ttlSeconds));
+        for (VoteSubmission s : submissions) {
+            args.add(String.valueOf(s.getCandidateRestaurant().getId()));
+            args.add(s.getChoice().name());
+            args.add(String.valueOf(s.getVoteWeight()));
+        }
+
+        try {
+            Long submitted = redisTemplate.execute(
+                    voteTallyRecordScript,
+                    List.of(keyFactory.tallyKey(voteId), keyFactory.submittedParticipantsKey(voteId)),
+                    args.toArray()
+            );
+            if (submitted == null || submitted < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(submitted);
+        } catch (Exception e) {
+            log.warn("Vote tally record failed. voteId={}, participantId={}", voteId, participantId, e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> findSubmittedCount(Long voteId) {
+        try {
+            Object raw = redisTemplate.opsForHash().get(keyFactory.tallyKey(voteId), SUBMITTED_FIELD);
+            return raw == null ? Optional.empty() : Optional.of(Long.parseLong(String.valueOf(raw)));
+        } catch (Exception e) {
+            log.warn("Vote tally read failed. voteId={}", voteId, e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<VoteTally> find(Long voteId) {
+        Map<Object, Object> raw;
+        try {
+            raw = redisTemplate.opsForHash().entries(keyFactory.tallyKey(voteId));
+        } catch (Exception e) {
+            log.warn("Vote tally read failed. voteId={}", voteId, e);
+            return Optional.empty();
+        }
+        if (raw == null || !raw.containsKey(READY_FIELD)) {
+            return Optional.empty();
+        }
+
+        long submitted = 0L;
+        Map<Long, int[]> counts = new HashMap<>();
+        Map<Long, Long> scores = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : raw.entrySet()) {
+            String field = String.valueOf(entry.getKey());
+            long value = Long.parseLong(String.valueOf(entry.getValue()));
+            if (SUBMITTED_FIELD.equals(field)) {
+                submitted = value;
+                continue;
+            }
+            int sep = field.indexOf(':');
+            if (sep < 0) {
+                continue;
+            }
+            Long candidateId = Long.parseLong(field.substring(0, sep));
+            switch (field.substring(sep + 1)) {
+                case "like" -> counts.computeIfAbsent(candidateId, k -> new int[3])[0] = (int) value;
+                case "dislike" -> counts.computeIfAbsent(candidateId, k -> new int[3])[1] = (int) value;
+                case "neutral" -> counts.computeIfAbsent(candidateId, k -> new int[3])[2] = (int) value;
+                case "score" -> scores.put(candidateId, value);
+                default -> { }
+            }
+        }
+
+        Map<Long, CandidateTally> candidates = new HashMap<>();
+        for (Long candidateId : union(counts.keySet(), scores.keySet())) {
+            int[] c = counts.getOrDefault(candidateId, new int[3]);
+            candidates.put(candidateId, new CandidateTally(c[0], c[1], c[2], scores.getOrDefault(candidateId, 0L)));
+        }
+        return Optional.of(new VoteTally(submitted, candidates));
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> merged = new HashSet<>(a);
+        merged.addAll(b);
+        return merged;
+    }
+}
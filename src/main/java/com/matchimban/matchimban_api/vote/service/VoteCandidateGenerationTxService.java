@@ -0,0 +1,266 @@
+package com.matchimban.matchimban_api.vote.service;
+
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.MemberCategoryMapping;
+import com.matchimban.matchimban_api.member.entity.enums.MemberCategoryRelationType;
+import com.matchimban.matchimban_api.member.repository.MemberCategoryMappingRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import com.matchimban.matchimban_api.notification.entity.NotificationType;
+import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
+import com.matchimban.matchimban_api.restaurant.entity.Restaurant;
+import com.matchimban.matchimban_api.restaurant.entity.RestaurantRatingRollup;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRatingRollupRepository;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRepository;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationRequest;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import com.matchimban.matchimban_api.vote.entity.MeetingRestaurantCandidate;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.error.VoteErrorCode;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType.CATEGORY;
+
+// 후보 생성의 DB 구간만 담당한다. AI 호출은 이 두 트랜잭션 사이(트랜잭션 밖)에서 수행한다.
+@Service
+@RequiredArgsConstructor
+public class VoteCandidateGenerationTxService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VoteCandidateGenerationTxService.class);
+
+    private final VoteRepository voteRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final MemberCategoryMappingRepository memberCategoryMappingRepository;
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantRatingRollupRepository restaurantRatingRollupRepository;
+    private final MeetingRestaurantCandidateRepository candidateRepository;
+    private final VoteTallyRedisRepository voteTallyRedisRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public record GenerationPlan(
+            AiRecommendationRequest request,
+            List<Long> memberIds,
+            int expectedCount
+    ) {}
+
+    @Transactional(readOnly = true)
+    public GenerationPlan prepare(Long meetingId, Long round1VoteId) {
+        Meeting meeting = meetingRepository.findByIdAndIsDeletedFalse(meetingId)
+                .orElseThrow(() -> new ApiException(VoteErrorCode.NO_RESTAURANTS_FOUND, "meeting_not_found"));
+
+        List<Long> memberIds = meetingParticipantRepository.findActiveMemberIds(meetingId);
+        if (memberIds.isEmpty()) {
+            throw new ApiException(VoteErrorCode.VOTE_CREATE_NOT_READY_HEADCOUNT, "no_active_participants");
+        }
+
+        Map<String, Integer> like;
+        Map<String, Integer> dislike;
+
+        if (meeting.isQuickMeeting()) {
+            like = Collections.emptyMap();
+            dislike = Collections.emptyMap();
+        } else {
+            var categories = referenceDataCache.getCategories(CATEGORY);
+            like = new LinkedHashMap<>();
+            dislike = new LinkedHashMap<>();
+            for (var c : categories) {
+                like.put(c.categoryName(), 0);
+                dislike.put(c.categoryName(), 0);
+            }
+
+            List<MemberCategoryMapping> mappings =
+                    memberCategoryMappingRepository.findByMemberIdsWithCategory(memberIds);
+
+            for (MemberCategoryMapping m : mappings) {
+                String key = m.getCategory().getCategoryName();
+                if (!like.containsKey(key)) continue;
+
+                if (m.getRelationType() == MemberCategoryRelationType.PREFERENCE) {
+                    like.put(key, like.get(key) + 1);
+                } else if (m.getRelationType() == MemberCategoryRelationType.DISLIKE) {
+                    dislike.put(key, dislike.get(key) + 1);
+                }
+            }
+        }
+
+        String requestId = "vote_" + meetingId + "_" + round1VoteId;
+
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        OffsetDateTime startTime = meeting.getScheduledAt().atZone(zone).toOffsetDateTime();
+
+        AiRecommendationRequest req = AiRecommendationRequest.builder()
+                .memberId(meeting.getHostMemberId())
+                .requestId(requestId)
+                .meeting(AiRecommendationRequest.Meeting.builder()
+                        .startTime(startTime.toString())
+                        .headcount(meeting.getTargetHeadcount())
+                        .build())
+                .location(AiRecommendationRequest.Location.builder()
+                        .lat(meeting.getLocationLat().doubleValue())
+                        .lng(meeting.getLocationLng().doubleValue())
+                        .radiusM(meeting.getSearchRadiusM())
+                        .build())
+                .swipe(AiRecommendationRequest.Swipe.builder()
+                        .cardLimit(meeting.getSwipeCount())
+                        .build())
+                .preferences(AiRecommendationRequest.Preferences.builder()
+                        .like(like)
+                        .dislike(dislike)
+                        .build())
+                .exclude(AiRecommendationRequest.Exclude.builder()
+                        .meat(meeting.isExceptMeat())
+                        .bar(meeting.isExceptBar())
+                        .build())
+                .build();
+
+        LOG.info("[AI REQ] requestId={}, meetingId={}, hostMemberId={}, radiusM={}, swipeCount={}, headcount={}, startTime={}",
+                requestId, meetingId, meeting.getHostMemberId(),
+                meeting.getSearchRadiusM(), meeting.getSwipeCount(),
+                meeting.getTargetHeadcount(), startTime);
+
+        return new GenerationPlan(req, memberIds, meeting.getSwipeCount() * 2);
+    }
+
+    // 커밋 직후 리스너에서 불리므로, 끝난 요청 트랜잭션에 합류하지 않도록 항상 새 트랜잭션에서 저장한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveCandidates(
+            Long meetingId,
+            Long round1VoteId,
+            Long round2VoteId,
+            List<AiRecommendationResponse.Restaurant> r1,
+            List<AiRecommendationResponse.Restaurant> r2,
+            List<Long> memberIds
+    ) {
+        Vote v1 = voteRepository.findById(round1VoteId).orElseThrow();
+        Vote v2 = voteRepository.findById(round2VoteId).orElseThrow();
+
+        // AI 호출 동안 다른 요청이 상태를 바꿨다면(실패 처리 후 재생성 등) 이번 결과는 버린다.
+        if (v1.getStatus() != VoteStatus.GENERATING || v2.getStatus() != VoteStatus.GENERATING) {
+            LOG.warn("Vote candidates discarded (status changed). meetingId={}, v1Status={}, v2Status={}",
+                    meetingId, v1.getStatus(), v2.getStatus());
+            return;
+        }
+
+        candidateRepository.deleteByVoteId(v1.getId());
+        candidateRepository.deleteByVoteId(v2.getId());
+
+        int savedR1 = saveCandidates(v1, r1);
+        int savedR2 = saveCandidates(v2, r2);
+
+        if (savedR1 != r1.size()) {
+            throw new ApiException(
+                    VoteErrorCode.AI_RESPONSE_INVALID,
+                    "savedR1=" + savedR1 + ", expectedHalf=" + r1.size()
+            );
+        }
+        if (savedR2 != r2.size()) {
+            throw new ApiException(
+                    VoteErrorCode.AI_RESPONSE_INVALID,
+                    "savedR2=" + savedR2 + ", expectedHalf=" + r2.size()
+            );
+        }
+
+        Instant now = Instant.now();
+        v1.markOpen(now);
+        voteTallyRedisRepository.open(v1.getId());
+        publishRound1OpenNotification(meetingId, v1.getId(), memberIds);
+        v2.markReserved(now);
+        meetingRepository.syncCurrentVote(meetingId);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
+
+        LOG.info("Vote candidates generated. meetingId={}, v1Saved={}, v2Saved={}", meetingId, savedR1, savedR2);
+    }
+
+    private int saveCandidates(Vote vote, List<AiRecommendationResponse.Restaurant> items) {
+        if (items == null || items.isEmpty()) return 0;
+
+        List<Long> ids = items.stream()
+                .map(AiRecommendationResponse.Restaurant::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) return 0;
+
+        List<Restaurant> restaurants = restaurantRepository.findByIdIn(ids);
+        Map<Long, Restaurant> byId = restaurants.stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+
+        Map<Long, RestaurantRatingRollup> ratingByRestaurantId =
+                restaurantRatingRollupRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(RestaurantRatingRollup::getRestaurantId, Function.identity()));
+
+        List<MeetingRestaurantCandidate> candidates = new ArrayList<>(items.size());
+
+        for (AiRecommendationResponse.Restaurant r : items) {
+            Restaurant restaurant = byId.get(r.getId());
+            if (restaurant == null) {
+                LOG.warn("Restaurant not found for storeId={}. skip", r.getId());
+                continue;
+            }
+
+            RestaurantRatingRollup rollup = ratingByRestaurantId.get(r.getId());
+            BigDecimal reviewAvg = (rollup == null)
+                    ? BigDecimal.valueOf(0.0).setScale(1, RoundingMode.HALF_UP)
+                    : rollup.averageRating();
+
+            candidates.add(MeetingRestaurantCandidate.builder()
+                    .vote(vote)
+                    .restaurant(restaurant)
+                    .distanceM(r.getDistanceM())
+                    .rating(reviewAvg)
+                    .aiScore(r.getFinalScore())
+                    .finalRank(null)
+                    .likeCount(0)
+                    .dislikeCount(0)
+                    .neutralCount(0)
+                    .build());
+        }
+
+        if (candidates.isEmpty()) return 0;
+
+        candidateRepository.saveAll(candidates);
+        return candidates.size();
+    }
+
+    private void publishRound1OpenNotification(Long meetingId, Long voteId, List<Long> recipientMemberIds) {
+        eventPublisher.publishEvent(new NotificationRequestedEvent(
+                NotificationType.VOTE_ROUND1_OPEN,
+                "1차 투표 시작",
+                "1차 투표가 열렸어요. 지금 바로 참여해 주세요.",
+                "VOTE",
+                meetingId,
+                voteId,
+                "/meetings/" + meetingId + "/votes/" + voteId,
+                "VOTE_ROUND1_OPEN:" + meetingId + ":" + voteId,
+                null,
+                recipientMemberIds
+        ));
+    }
+}
@@ -1,8 +1,11 @@
 package com.matchimban.matchimban_api.vote.service;
 
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.vote.entity.Vote;
 import com.matchimban.matchimban_api.vote.repository.VoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,15 +15,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class VoteFailureService {
 
     private final VoteRepository voteRepository;
+    private final MeetingRepository meetingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markVotesFailed(Long voteId1, Long voteId2) {
-        voteRepository.findById(voteId1).ifPresent(Vote::markFailed);
-        voteRepository.findById(voteId2).ifPresent(Vote::markFailed);
+        voteRepository.findById(voteId1).ifPresent(this::markFailed);
+        voteRepository.findById(voteId2).ifPresent(this::markFailed);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markVoteFailed(Long voteId) {
-        voteRepository.findById(voteId).ifPresent(Vote::markFailed);
+        voteRepository.findById(voteId).ifPresent(this::markFailed);
+    }
+
+    private void markFailed(Vote vote) {
+        vote.markFailed();
+        meetingRepository.syncCurrentVote(vote.getMeeting().getId());
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(vote.getMeeting().getId()));
     }
 }
@@ -1,6 +1,8 @@
 package com.matchimban.matchimban_api.vote.service.serviceImpl;
 
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
 import com.matchimban.matchimban_api.notification.event.NotificationRequestedEvent;
 import com.matchimban.matchimban_api.vote.entity.MeetingRestaurantCandidate;
@@ -9,6 +11,7 @@ import com.matchimban.matchimban_api.vote.entity.enums.VoteChoice;
 import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
 import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
 import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
 import com.matchimban.matchimban_api.vote.repository.VoteSubmissionRepository;
 import com.matchimban.matchimban_api.vote.service.VoteCountService;
 import com.matchimban.matchimban_api.vote.service.VoteFailureService;
@@ -18,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -26,6 +30,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -37,19 +42,30 @@ public class VoteCountServiceImpl implements VoteCountService {
     private final VoteSubmissionRepository voteSubmissionRepository;
     private final MeetingRestaurantCandidateRepository candidateRepository;
     private final MeetingParticipantRepository meetingParticipantRepository;
+    private final MeetingRepository meetingRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     private final VoteFailureService voteFailureService;
+    private final VoteTallyRedisRepository voteTallyRedisRepository;
 
+    // 투표 제출 트랜잭션의 커밋 후 콜백에서도 호출되므로, 끝난 트랜잭션에 합류하지 않도록 항상 새 트랜잭션에서 실행한다.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean tryStartCounting(Long voteId) {
         int updated = voteRepository.updateStatusIfMatch(voteId, VoteStatus.OPEN, VoteStatus.COUNTING);
-        return updated == 1;
+        if (updated != 1) {
+            return false;
+        }
+        voteRepository.findById(voteId).ifPresent(vote -> {
+            Long meetingId = vote.getMeeting().getId();
+            meetingRepository.syncCurrentVote(meetingId);
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
+        });
+        return true;
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void countSync(Long voteId) {
         try {
             Vote vote = voteRepository.findById(voteId).orElseThrow();
@@ -65,59 +81,19 @@ public class VoteCountServiceImpl implements VoteCountService {
             }
 
             List<MeetingRestaurantCandidate> candidates = candidateRepository.findAllById(candidateIds);
-            for (MeetingRestaurantCandidate c : candidates) {
-                c.applyCounts(0, 0, 0);
-            }
 
-            var rows = voteSubmissionRepository.countByCandidateAndChoice(voteId);
-
-            Map<Long, Integer> likeMap = new HashMap<>();
-            Map<Long, Integer> dislikeMap = new HashMap<>();
-            Map<Long, Integer> neutralMap = new HashMap<>();
-            Map<Long, Long> weightedScoreMap = new HashMap<>();
-
-            for (var row : rows) {
-                long cnt = row.getCnt();
-                long weightSum = row.getWeightSum();
-                Long cid = row.getCandidateId();
-
-                if (row.getChoice() == VoteChoice.LIKE) {
-                    likeMap.put(cid, (int) cnt);
-                    weightedScoreMap.merge(cid, weightSum, Long::sum);
-                } else if (row.getChoice() == VoteChoice.DISLIKE) {
-                    dislikeMap.put(cid, (int) cnt);
-                    weightedScoreMap.merge(cid, -weightSum, Long::sum);
-                } else if (row.getChoice() == VoteChoice.NEUTRAL) {
-                    neutralMap.put(cid, (int) cnt);
-                }
-            }
+            VoteTallyRedisRepository.VoteTally tally = resolveTally(voteId, candidateIds);
 
             for (MeetingRestaurantCandidate c : candidates) {
-                int like = likeMap.getOrDefault(c.getId(), 0);
-                int dislike = dislikeMap.getOrDefault(c.getId(), 0);
-                int neutral = neutralMap.getOrDefault(c.getId(), 0);
-                c.applyCounts(like, dislike, neutral);
+                VoteTallyRedisRepository.CandidateTally t = tally.candidate(c.getId());
+                c.applyCounts(t.likeCount(), t.dislikeCount(), t.neutralCount());
             }
 
-            candidates.sort(
-                    Comparator
-                            .comparingLong((MeetingRestaurantCandidate c) ->
-                                    weightedScoreMap.getOrDefault(c.getId(), 0L)
-                            ).reversed()
-                            .thenComparing(
-                                    (MeetingRestaurantCandidate c) ->
-                                            c.getAiScore() == null ? java.math.BigDecimal.ZERO : c.getAiScore(),
-                                    Comparator.reverseOrder()
-                            )
-                            .thenComparingLong(c -> c.getId() == null ? Long.MAX_VALUE : c.getId())
-            );
-
-            int rank = 1;
-            for (MeetingRestaurantCandidate c : candidates) {
-                c.applyFinalRank(rank++);
-            }
+            rankCandidates(candidates, tally);
 
             vote.markCounted(Instant.now());
+            meetingRepository.syncCurrentVote(vote.getMeeting().getId());
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(vote.getMeeting().getId()));
             publishVoteResultReadyNotification(vote);
 
             LOG.info("Vote counted. voteId={}, candidates={}", voteId, candidates.size());
@@ -129,6 +105,81 @@ public class VoteCountServiceImpl implements VoteCountService {
         }
     }
 
+    // 가중 점수 내림차순, 동점이면 AI 점수 내림차순, 그다음 후보 id 오름차순으로 순위를 매긴다.
+    static void rankCandidates(List<MeetingRestaurantCandidate> candidates, VoteTallyRedisRepository.VoteTally tally) {
+        candidates.sort(
+                Comparator
+                        .comparingLong((MeetingRestaurantCandidate c) ->
+                                tally.candidate(c.getId()).weightedScore()
+                        ).reversed()
+                        .thenComparing(
+                                (MeetingRestaurantCandidate c) ->
+                                        c.getAiScore() == null ? java.math.BigDecimal.ZERO : c.getAiScore(),
+                                Comparator.reverseOrder()
+                        )
+                        .thenComparingLong(c -> c.getId() == null ? Long.MAX_VALUE : c.getId())
+        );
+
+        int rank = 1;
+        for (MeetingRestaurantCandidate c : candidates) {
+            c.applyFinalRank(rank++);
+        }
+    }
+
+    // 순위는 제출 시점에 누적한 Redis 집계로 매긴다.
+    // DB 집계는 검증용으로 한 번만 수행하고, 어긋나면(집계 키 유실, 커밋 실패 후 남은 증가분 등) DB 값을 쓴다.
+    private VoteTallyRedisRepository.VoteTally resolveTally(Long voteId, List<Long> candidateIds) {
+        VoteTallyRedisRepository.VoteTally dbTally = aggregateFromDb(voteId);
+        Optional<VoteTallyRedisRepository.VoteTally> redisTally = voteTallyRedisRepository.find(voteId);
+
+        if (redisTally.isEmpty()) {
+            LOG.info("Vote tally missing in redis. use db aggregation. voteId={}", voteId);
+            return dbTally;
+        }
+
+        for (Long candidateId : candidateIds) {
+            if (!redisTally.get().candidate(candidateId).equals(dbTally.candidate(candidateId))) {
+                LOG.warn("Vote tally mismatch. use db aggregation. voteId={}, candidateId={}, redis={}, db={}",
+                        voteId, candidateId, redisTally.get().candidate(candidateId), dbTally.candidate(candidateId));
+                return dbTally;
+            }
+        }
+        return redisTally.get();
+    }
+
+    private VoteTallyRedisRepository.VoteTally aggregateFromDb(Long voteId) {
+        var rows = voteSubmissionRepository.countByCandidateAndChoice(voteId);
+
+        Map<Long, int[]> countMap = new HashMap<>();
+        Map<Long, Long> weightedScoreMap = new HashMap<>();
+
+        for (var row : rows) {
+            int cnt = (int) row.getCnt();
+            long weightSum = row.getWeightSum();
+            Long cid = row.getCandidateId();
+            int[] counts = countMap.computeIfAbsent(cid, k -> new int[3]);
+
+            if (row.getChoice() == VoteChoice.LIKE) {
+                counts[0] = cnt;
+                weightedScoreMap.merge(cid, weightSum, Long::sum);
+            } else if (row.getChoice() == VoteChoice.DISLIKE) {
+                counts[1] = cnt;
+                weightedScoreMap.merge(cid, -weightSum, Long::sum);
+            } else if (row.getChoice() == VoteChoice.NEUTRAL) {
+                counts[2] = cnt;
+            }
+        }
+
+        Map<Long, VoteTallyRedisRepository.CandidateTally> candidates = new HashMap<>();
+        countMap.forEach((cid, counts) -> candidates.put(cid, new VoteTallyRedisRepository.CandidateTally(
+                counts[0], counts[1], counts[2], weightedScoreMap.getOrDefault(cid, 0L)
+        )));
+        return new VoteTallyRedisRepository.VoteTally(
+                voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId),
+                candidates
+        );
+    }
+
     private void publishVoteResultReadyNotification(Vote vote) {
         Long meetingId = vote.getMeeting().getId();
         Long voteId = vote.getId();
@@ -9,6 +9,7 @@ import com.matchimban.matchimban_api.global.storage.CdnUrlComposer;
 import com.matchimban.matchimban_api.meeting.entity.Meeting;
 import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
 import com.matchimban.matchimban_api.meeting.error.MeetingErrorCode;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
 import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
 import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
 import com.matchimban.matchimban_api.notification.entity.NotificationType;
@@ -25,6 +26,7 @@ import com.matchimban.matchimban_api.vote.entity.*;
 import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
 import com.matchimban.matchimban_api.vote.error.VoteErrorCode;
 import com.matchimban.matchimban_api.vote.event.VoteCandidateGenerationRequestedEvent;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
 import com.matchimban.matchimban_api.vote.repository.MeetingFinalSelectionRepository;
 import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
 import com.matchimban.matchimban_api.vote.repository.VoteRepository;
@@ -36,12 +38,15 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -59,6 +64,7 @@ public class VoteServiceImpl implements VoteService {
     private final CdnUrlComposer cdnUrlComposer;
     private final NotificationScheduleService notificationScheduleService;
     private final EventCouponUseService eventCouponUseService;
+    private final VoteTallyRedisRepository voteTallyRedisRepository;
 
     @Transactional
     public CreateVoteResponse createVote(Long meetingId, Long memberId) {
@@ -112,10 +118,12 @@ public class VoteServiceImpl implements VoteService {
             if (acquired) {
                 meetingRestaurantCandidateRepository.deleteByVoteId(v1.getId());
                 meetingRestaurantCandidateRepository.deleteByVoteId(v2.getId());
+                meetingRepository.syncCurrentVote(meeting.getId());
 
                 eventPublisher.publishEvent(new VoteCandidateGenerationRequestedEvent(
                         meeting.getId(), v1.getId(), v2.getId()
                 ));
+                eventPublisher.publishEvent(new MeetingDetailChangedEvent(meeting.getId()));
             }
 
             return new CreateVoteResponse(v1.getId());
@@ -147,6 +155,8 @@ public class VoteServiceImpl implements VoteService {
         eventPublisher.publishEvent(new VoteCandidateGenerationRequestedEvent(
                 meeting.getId(), saved1.getId(), saved2.getId()
         ));
+        meetingRepository.syncCurrentVote(meeting.getId());
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meeting.getId()));
 
         return new CreateVoteResponse(saved1.getId());
     }
@@ -285,16 +295,27 @@ public class VoteServiceImpl implements VoteService {
 
         claimedCoupons.forEach(coupon -> coupon.markUsed(now));
 
-        long activeCount = meetingParticipantRepository.countByMeetingIdAndStatus(
-                meetingId, MeetingParticipant.Status.ACTIVE
-        );
-        long submittedCount = voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId);
-
         long threshold = vote.getMeeting().isQuickMeeting()
                 ? vote.getMeeting().getTargetHeadcount()
-                : activeCount;
+                : meetingParticipantRepository.countByMeetingIdAndStatus(meetingId, MeetingParticipant.Status.ACTIVE);
+
+        // 롤백된 제출이 Redis 집계/제출 인원에 남지 않도록 커밋된 뒤에 기록하고, 집계 시작 판단도 그 뒤에 한다.
+        Long participantId = participant.getId();
+        runAfterCommit(() -> recordTallyAndCountIfReached(voteId, participantId, submissions, threshold));
+    }
+
+    private void recordTallyAndCountIfReached(Long voteId, Long participantId, List<VoteSubmission> submissions, long threshold) {
+        Optional<Long> talliedCount = voteTallyRedisRepository.record(voteId, participantId, submissions);
+        long submittedCount = talliedCount
+                .orElseGet(() -> voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId));
 
-        if (submittedCount >= threshold) {
+        boolean reached = submittedCount >= threshold;
+        if (reached && talliedCount.isPresent()) {
+            // Redis 제출 인원은 기록 실패 등으로 어긋날 수 있으므로 집계를 시작하기 직전에 한 번만 DB로 확인한다.
+            reached = voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId) >= threshold;
+        }
+
+        if (reached) {
             boolean started = voteCountService.tryStartCounting(voteId);
             if (started) {
                 voteCountService.countSync(voteId);
@@ -302,6 +323,20 @@ public class VoteServiceImpl implements VoteService {
         }
     }
 
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     @Transactional(readOnly = true)
     public VoteStatusResponse getVoteStatus(Long meetingId, Long voteId, Long memberId) {
 
@@ -319,19 +354,26 @@ public class VoteServiceImpl implements VoteService {
             throw new ApiException(VoteErrorCode.VOTE_NOT_FOUND);
         }
 
-        long activeCount = meetingParticipantRepository.countByMeetingIdAndStatus(
-                meetingId, MeetingParticipant.Status.ACTIVE
-        );
-
-        long totalCount = vote.getMeeting().isQuickMeeting()
-                ? vote.getMeeting().getTargetHeadcount()
-                : activeCount;
+        long totalCount = eligibleCount(vote.getMeeting());
 
-        long submittedCount = voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId);
+        long submittedCount = voteTallyRedisRepository.findSubmittedCount(voteId)
+                .orElseGet(() -> voteSubmissionRepository.countDistinctParticipantsByVoteId(voteId));
 
         return new VoteStatusResponse(vote.getStatus(), submittedCount, totalCount);
     }
 
+    // 상태 조회는 폴링으로 자주 들어오므로 참여자 수를 매번 세지 않고 모임의 비정규화 인원(participant_count)을 쓴다.
+    // 방장은 항상 ACTIVE라 0이면 값이 채워지지 않은 모임으로 보고 DB에서 센다.
+    private long eligibleCount(Meeting meeting) {
+        if (meeting.isQuickMeeting()) {
+            return meeting.getTargetHeadcount();
+        }
+        if (meeting.getParticipantCount() > 0) {
+            return meeting.getParticipantCount();
+        }
+        return meetingParticipantRepository.countByMeetingIdAndStatus(meeting.getId(), MeetingParticipant.Status.ACTIVE);
+    }
+
     @Transactional(readOnly = true)
     public VoteResultsResponse getResults(Long meetingId, Long voteId, Long memberId) {
 
@@ -430,6 +472,9 @@ public class VoteServiceImpl implements VoteService {
 
         if (v2.getStatus() == VoteStatus.RESERVED) {
             v2.markOpen(now);
+            voteTallyRedisRepository.open(v2.getId());
+            meetingRepository.syncCurrentVote(meetingId);
+            eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
             List<Long> recipientMemberIds = meetingParticipantRepository.findActiveMemberIds(meetingId);
             publishRound2OpenNotification(meetingId, v2.getId(), recipientMemberIds);
             return;
@@ -485,6 +530,7 @@ public class VoteServiceImpl implements VoteService {
                 .build();
 
         meetingFinalSelectionRepository.save(fs);
+        eventPublisher.publishEvent(new MeetingDetailChangedEvent(meetingId));
 
         List<Long> recipientMemberIds = meetingParticipantRepository.findActiveMemberIds(meetingId);
         publishFinalSelectionConfirmedNotification(meetingId, candidate.getId(), recipientMemberIds);
@@ -0,0 +1,28 @@
+-- 내 모임 목록에서 모임마다 돌던 서브쿼리(참여 인원, 마지막 회차 투표 상태)를 meetings 컬럼으로 옮긴다.
+ALTER TABLE meetings
+    ADD COLUMN IF NOT EXISTS participant_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS current_vote_round INT NULL,
+    ADD COLUMN IF NOT EXISTS current_vote_status VARCHAR(20) NULL;
+
+UPDATE meetings m
+   SET participant_count = p.active_count
+  FROM (
+        SELECT meeting_id, COUNT(*) AS active_count
+          FROM meeting_participants
+         WHERE status = 'ACTIVE'
+         GROUP BY meeting_id
+       ) p
+ WHERE m.id = p.meeting_id;
+
+UPDATE meetings m
+   SET current_vote_round = v.round,
+       current_vote_status = v.state
+  FROM (
+        SELECT DISTINCT ON (meeting_id) meeting_id, round, state
+          FROM votes
+         ORDER BY meeting_id, round DESC
+       ) v
+ WHERE m.id = v.meeting_id;
+
+CREATE INDEX IF NOT EXISTS idx_meeting_participants_member_status_id
+    ON meeting_participants (member_id, status, id DESC);
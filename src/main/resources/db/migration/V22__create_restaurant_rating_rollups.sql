@@ -0,0 +1,14 @@
+-- 후보 저장 때마다 reviews를 AVG/GROUP BY 하던 평점 계산을 식당별 합계/개수 테이블로 옮긴다.
+CREATE TABLE IF NOT EXISTS restaurant_rating_rollups (
+    restaurant_id BIGINT PRIMARY KEY REFERENCES restaurants (id),
+    rating_sum    BIGINT      NOT NULL DEFAULT 0,
+    rating_count  BIGINT      NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO restaurant_rating_rollups (restaurant_id, rating_sum, rating_count, updated_at)
+SELECT restaurant_id, SUM(rating), COUNT(*), now()
+  FROM reviews
+ WHERE is_deleted = false
+ GROUP BY restaurant_id
+    ON CONFLICT (restaurant_id) DO NOTHING;
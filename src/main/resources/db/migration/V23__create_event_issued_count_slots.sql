@@ -0,0 +1,27 @@
+-- 발급마다 events 한 행을 잠그고 issued_count를 올리던 방식을 이벤트별 슬롯 행으로 나눈다.
+-- 슬롯마다 정원 몫(capacity)을 나눠 두므로 슬롯 한 행만 잠가도 이벤트 정원을 넘지 않는다.
+CREATE TABLE IF NOT EXISTS event_issued_count_slots (
+    event_id     BIGINT      NOT NULL REFERENCES events (id),
+    slot         INT         NOT NULL,
+    capacity     INT         NOT NULL,
+    issued_count INT         NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_id, slot),
+    CONSTRAINT ck_event_issued_count_slots_within_capacity
+        CHECK (issued_count >= 0 AND issued_count <= capacity)
+);
+
+-- 기존 이벤트는 기본 슬롯 수(8)로 정원을 나누고, 이미 발급된 수를 앞 슬롯부터 채운다.
+INSERT INTO event_issued_count_slots (event_id, slot, capacity, issued_count, updated_at)
+SELECT e.id,
+       s.slot,
+       q.quota,
+       GREATEST(0, LEAST(q.quota, e.issued_count - q.filled_before)),
+       now()
+  FROM events e
+ CROSS JOIN generate_series(0, 7) AS s(slot)
+ CROSS JOIN LATERAL (
+       SELECT e.capacity / 8 + CASE WHEN s.slot < e.capacity % 8 THEN 1 ELSE 0 END AS quota,
+              s.slot * (e.capacity / 8) + LEAST(s.slot, e.capacity % 8) AS filled_before
+ ) q
+    ON CONFLICT (event_id, slot) DO NOTHING;
@@ -0,0 +1,61 @@
+local recentKey = KEYS[1]
+local latestIdKey = KEYS[2]
+
+local messageId = ARGV[1]
+local payload = ARGV[2]
+local maxLength = tonumber(ARGV[3])
+local ttlSeconds = tonumber(ARGV[4])
+local latestIdTtlSeconds = tonumber(ARGV[5])
+
+local latestId = redis.call('GET', latestIdKey)
+if (not latestId) or latestId < messageId then
+    redis.call('SET', latestIdKey, messageId, 'EX', latestIdTtlSeconds)
+end
+
+-- DB에서 채운 윈도우가 없으면 일부만 쌓지 않는다(다음 조회가 DB에서 다시 채운다).
+if redis.call('EXISTS', recentKey) == 0 then
+    return 0
+end
+
+local function rowMessageId(row)
+    local ok, decoded = pcall(cjson.decode, row)
+    if not ok or type(decoded) ~= 'table' then
+        return nil
+    end
+    return decoded['messageId']
+end
+
+local head = redis.call('LINDEX', recentKey, 0)
+local headId = head and rowMessageId(head) or nil
+if headId == messageId then
+    return 0
+end
+
+if headId and headId > messageId then
+    -- 늦게 도착한 메시지는 윈도우 안에서 id 순서에 맞는 위치에 끼워 넣는다.
+    local rows = redis.call('LRANGE', recentKey, 0, maxLength - 1)
+    local inserted = false
+    for _, row in ipairs(rows) do
+        local rowId = rowMessageId(row)
+        if rowId == messageId then
+            return 0
+        end
+        if rowId and rowId < messageId then
+            redis.call('LINSERT', recentKey, 'BEFORE', row, payload)
+            inserted = true
+            break
+        end
+    end
+    if not inserted then
+        if #rows >= maxLength then
+            return 0
+        end
+        redis.call('RPUSH', recentKey, payload)
+    end
+else
+    redis.call('LPUSH', recentKey, payload)
+end
+
+redis.call('LTRIM', recentKey, 0, maxLength - 1)
+redis.call('EXPIRE', recentKey, ttlSeconds)
+return 1
@@ -0,0 +1,53 @@
+local recentKey = KEYS[1]
+local latestIdKey = KEYS[2]
+
+local maxLength = tonumber(ARGV[1])
+local ttlSeconds = tonumber(ARGV[2])
+local latestIdTtlSeconds = tonumber(ARGV[3])
+local snapshotStart = 4
+
+if #ARGV < snapshotStart then
+    return 0
+end
+
+local function rowMessageId(row)
+    local ok, decoded = pcall(cjson.decode, row)
+    if not ok or type(decoded) ~= 'table' then
+        return nil
+    end
+    return decoded['messageId']
+end
+
+-- 스냅샷 조회 이후 append된 메시지는 기존 윈도우에서 이어받아 유실되지 않게 한다.
+local retained = {}
+local snapshotTopId = rowMessageId(ARGV[snapshotStart])
+if snapshotTopId then
+    local previousRows = redis.call('LRANGE', recentKey, 0, maxLength - 1)
+    for _, row in ipairs(previousRows) do
+        local rowId = rowMessageId(row)
+        if not rowId or rowId <= snapshotTopId then
+            break
+        end
+        retained[#retained + 1] = row
+    end
+end
+
+redis.call('DEL', recentKey)
+for _, row in ipairs(retained) do
+    redis.call('RPUSH', recentKey, row)
+end
+for i = snapshotStart, #ARGV do
+    redis.call('RPUSH', recentKey, ARGV[i])
+end
+redis.call('LTRIM', recentKey, 0, maxLength - 1)
+redis.call('EXPIRE', recentKey, ttlSeconds)
+
+local headId = rowMessageId(redis.call('LINDEX', recentKey, 0))
+if headId then
+    local latestId = redis.call('GET', latestIdKey)
+    if (not latestId) or latestId < headId then
+        redis.call('SET', latestIdKey, headId, 'EX', latestIdTtlSeconds)
+    end
+end
+
+return 1
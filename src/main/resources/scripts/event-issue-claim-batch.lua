@@ -0,0 +1,32 @@
+local queueKey = KEYS[1]
+local processingKey = KEYS[2]
+local requestKeyPrefix = KEYS[3]
+
+local nowMs = tonumber(ARGV[1])
+local leaseExpireAtMs = tonumber(ARGV[2])
+local batchSize = tonumber(ARGV[3])
+
+local values = redis.call('ZRANGE', queueKey, 0, batchSize - 1)
+if #values == 0 then
+    return {}
+end
+
+local claimed = {}
+for _, requestId in ipairs(values) do
+    if redis.call('ZREM', queueKey, requestId) == 1 then
+        local requestKey = requestKeyPrefix .. requestId
+        local memberId = redis.call('HGET', requestKey, 'memberId')
+        if memberId then
+            redis.call('ZADD', processingKey, leaseExpireAtMs, requestId)
+            redis.call('HSET', requestKey,
+                'status', 'PROCESSING',
+                'reason', '',
+                'updatedAt', tostring(nowMs)
+            )
+            table.insert(claimed, requestId)
+            table.insert(claimed, memberId)
+        end
+    end
+end
+
+return claimed
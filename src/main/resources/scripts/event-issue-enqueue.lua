@@ -10,6 +10,11 @@ local nowMs = tonumber(ARGV[3])
 local queueLimit = tonumber(ARGV[4])
 local statusTtlSeconds = tonumber(ARGV[5])
 
+-- 메타가 사라졌다면(만료/flush) 노드 메모리의 동기화 기록을 믿지 말고 다시 동기화하라고 알린다.
+if redis.call('HEXISTS', metaKey, 'version') == 0 then
+    return {7, '', ''}
+end
+
 local startAtMs = tonumber(redis.call('HGET', metaKey, 'startAtEpochMs'))
 if startAtMs ~= nil and nowMs < startAtMs then
     return {1, '', ''}
@@ -24,6 +29,12 @@ if redis.call('SISMEMBER', issuedUsersKey, memberId) == 1 then
     return {2, '', ''}
 end
 
+-- 발급 완료 인원이 정원에 닿으면 대기열에 넣지 않는다(issued-users에는 캐시 표식 '__seed__'가 함께 들어 있다).
+local capacity = tonumber(redis.call('HGET', metaKey, 'capacity'))
+if capacity ~= nil and redis.call('SCARD', issuedUsersKey) - 1 >= capacity then
+    return {6, '', ''}
+end
+
 local currentRequestId = redis.call('GET', userRequestKey)
 if currentRequestId then
     local currentRequestKey = string.gsub(requestKey, requestId, currentRequestId)
@@ -0,0 +1,21 @@
+local requestKey = KEYS[1]
+local userRequestKey = KEYS[2]
+local queueKey = KEYS[3]
+local processingKey = KEYS[4]
+
+local requestId = ARGV[1]
+local reason = ARGV[2]
+local updatedAt = ARGV[3]
+local ttlSeconds = tonumber(ARGV[4])
+
+redis.call('HSET', requestKey,
+    'status', 'FAILED',
+    'reason', reason,
+    'updatedAt', updatedAt
+)
+redis.call('ZREM', queueKey, requestId)
+redis.call('ZREM', processingKey, requestId)
+redis.call('EXPIRE', requestKey, ttlSeconds)
+redis.call('EXPIRE', userRequestKey, ttlSeconds)
+
+return 1
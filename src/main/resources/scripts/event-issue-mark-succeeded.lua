@@ -0,0 +1,29 @@
+local requestKey = KEYS[1]
+local userRequestKey = KEYS[2]
+local queueKey = KEYS[3]
+local processingKey = KEYS[4]
+local issuedUsersKey = KEYS[5]
+
+local requestId = ARGV[1]
+local memberId = ARGV[2]
+local couponId = ARGV[3]
+local issuedAt = ARGV[4]
+local expiredAt = ARGV[5]
+local updatedAt = ARGV[6]
+local ttlSeconds = tonumber(ARGV[7])
+
+redis.call('HSET', requestKey,
+    'status', 'SUCCEEDED',
+    'reason', '',
+    'couponId', couponId,
+    'issuedAt', issuedAt,
+    'expiredAt', expiredAt,
+    'updatedAt', updatedAt
+)
+redis.call('ZREM', queueKey, requestId)
+redis.call('ZREM', processingKey, requestId)
+redis.call('SADD', issuedUsersKey, memberId)
+redis.call('EXPIRE', requestKey, ttlSeconds)
+redis.call('EXPIRE', userRequestKey, ttlSeconds)
+
+return 1
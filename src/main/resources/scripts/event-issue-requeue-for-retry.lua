@@ -0,0 +1,24 @@
+local requestKey = KEYS[1]
+local processingKey = KEYS[2]
+local queueKey = KEYS[3]
+
+local requestId = ARGV[1]
+local nowMs = tonumber(ARGV[2])
+local updatedAt = ARGV[3]
+
+-- 원래 대기 점수로 되돌려 재시도 요청이 줄 맨 뒤로 밀리지 않게 한다.
+local queueScore = tonumber(redis.call('HGET', requestKey, 'queueScore'))
+if queueScore == nil then
+    queueScore = nowMs
+end
+
+redis.call('HSET', requestKey,
+    'status', 'WAITING',
+    'reason', '',
+    'updatedAt', updatedAt
+)
+local retryCount = redis.call('HINCRBY', requestKey, 'retryCount', 1)
+redis.call('ZREM', processingKey, requestId)
+redis.call('ZADD', queueKey, queueScore, requestId)
+
+return retryCount
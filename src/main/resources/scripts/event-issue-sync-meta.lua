@@ -0,0 +1,21 @@
+local metaKey = KEYS[1]
+
+local version = ARGV[1]
+local startAtMs = ARGV[2]
+local endAtMs = ARGV[3]
+local capacity = ARGV[4]
+local queueLimit = ARGV[5]
+
+-- 이벤트 설정이 바뀌지 않았다면 다시 쓰지 않는다.
+if redis.call('HGET', metaKey, 'version') == version then
+    return 0
+end
+
+redis.call('HSET', metaKey,
+    'version', version,
+    'startAtEpochMs', startAtMs,
+    'endAtEpochMs', endAtMs,
+    'capacity', capacity,
+    'queueLimit', queueLimit
+)
+return 1
@@ -0,0 +1,9 @@
+local documentKey = KEYS[1]
+local versionKey = KEYS[2]
+
+local ttlSeconds = tonumber(ARGV[1])
+
+local version = redis.call('INCR', versionKey)
+redis.call('EXPIRE', versionKey, ttlSeconds)
+redis.call('DEL', documentKey)
+return version
@@ -0,0 +1,15 @@
+local documentKey = KEYS[1]
+local versionKey = KEYS[2]
+
+local expectedVersion = ARGV[1]
+local document = ARGV[2]
+local ttlSeconds = tonumber(ARGV[3])
+
+-- 문서를 만드는 동안 무효화가 있었다면 오래된 값이므로 저장하지 않는다.
+local currentVersion = redis.call('GET', versionKey) or '0'
+if currentVersion ~= expectedVersion then
+    return 0
+end
+
+redis.call('SET', documentKey, document, 'EX', ttlSeconds)
+return 1
@@ -0,0 +1,35 @@
+local tallyKey = KEYS[1]
+local submittedKey = KEYS[2]
+
+local participantId = ARGV[1]
+local ttlSeconds = tonumber(ARGV[2])
+
+-- 투표가 열릴 때 만든 집계가 없으면(만료/이전 배포) 호출자가 DB 집계로 처리한다.
+if redis.call('HEXISTS', tallyKey, 'ready') == 0 then
+    return -1
+end
+
+if redis.call('SADD', submittedKey, participantId) == 0 then
+    return tonumber(redis.call('HGET', tallyKey, 'submitted') or '0')
+end
+
+for i = 3, #ARGV, 3 do
+    local candidateId = ARGV[i]
+    local choice = ARGV[i + 1]
+    local weight = tonumber(ARGV[i + 2])
+
+    if choice == 'LIKE' then
+        redis.call('HINCRBY', tallyKey, candidateId .. ':like', 1)
+        redis.call('HINCRBY', tallyKey, candidateId .. ':score', weight)
+    elseif choice == 'DISLIKE' then
+        redis.call('HINCRBY', tallyKey, candidateId .. ':dislike', 1)
+        redis.call('HINCRBY', tallyKey, candidateId .. ':score', -weight)
+    elseif choice == 'NEUTRAL' then
+        redis.call('HINCRBY', tallyKey, candidateId .. ':neutral', 1)
+    end
+end
+
+local submitted = redis.call('HINCRBY', tallyKey, 'submitted', 1)
+redis.call('EXPIRE', tallyKey, ttlSeconds)
+redis.call('EXPIRE', submittedKey, ttlSeconds)
+return submitted
@@ -0,0 +1,181 @@
+package com.matchimban.matchimban_api.auth.jwt;
+
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import jakarta.servlet.http.Cookie;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 access token으로 폴링하는 요청이 검증 결과 캐시를 거쳐 인증되는지, 폐기/만료/상한을 지키는지 확인한다.
+// 캐시 유무에 따른 요청당 비용 비교는 src/jmh의 JwtClaimsCacheBenchmark에서 잰다.
+class JwtAuthenticationFilterBenchmarkTest {
+
+	private static final int REQUESTS = 1_000;
+
+	private final JwtProperties properties = new JwtProperties(
+		"test-jwt-secret-key-32bytes-minimum!!",
+		"matchimban-test",
+		60,
+		"access_token",
+		"refresh_token",
+		"guest_access_token",
+		180,
+		7,
+		false,
+		"Lax"
+	);
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void cachedClaimsAuthenticateRepeatedRequests() throws Exception {
+		// given
+		JwtTokenProvider uncachedProvider = provider(new JwtClaimsCache(0, 0));
+		JwtClaimsCache cache = new JwtClaimsCache(30, 1_000);
+		JwtTokenProvider cachedProvider = provider(cache);
+		String token = uncachedProvider.createAccessToken(member(1L), "sid-1");
+		JwtAuthenticationFilter uncachedFilter = new JwtAuthenticationFilter(uncachedProvider, properties);
+		JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(cachedProvider, properties);
+
+		// when & then: 캐시 유무와 상관없이 매 요청이 인증되고, 캐시에는 토큰 하나만 남는다.
+		for (int i = 0; i < REQUESTS; i++) {
+			assertThat(runFilter(uncachedFilter, token)).isTrue();
+			assertThat(runFilter(cachedFilter, token)).isTrue();
+		}
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(token)).isEqualTo(new MemberPrincipal(1L, MemberStatus.ACTIVE, "sid-1"));
+	}
+
+	@Test
+	void cacheRespectsRevocationAndTokenExpiry() throws Exception {
+		// given
+		JwtClaimsCache cache = new JwtClaimsCache(30, 1_000);
+		JwtTokenProvider provider = provider(cache);
+		String token = provider.createAccessToken(member(1L), "sid-1");
+		String otherSessionToken = provider.createAccessToken(member(1L), "sid-2");
+		assertThat(provider.getAuthentication(token)).isPresent();
+		assertThat(provider.getAuthentication(otherSessionToken)).isPresent();
+
+		// when: 한 세션만 폐기
+		cache.revokeSession(1L, "sid-1");
+
+		// then
+		assertThat(cache.get(token)).isNull();
+		assertThat(cache.get(otherSessionToken)).isNotNull();
+
+		// when: 회원 전체 폐기
+		cache.revokeMember(1L);
+
+		// then
+		assertThat(cache.get(otherSessionToken)).isNull();
+
+		// when: 캐시 ttl보다 토큰 만료가 먼저 오면 토큰 만료 시각에 맞춰 버린다.
+		MemberPrincipal principal = new MemberPrincipal(2L, MemberStatus.ACTIVE, "sid-3");
+		cache.put("short-lived", principal, new Date(System.currentTimeMillis() + 50));
+		cache.put("already-expired", principal, new Date(System.currentTimeMillis() - 1));
+		assertThat(cache.get("short-lived")).isEqualTo(principal);
+		Thread.sleep(80L);
+
+		// then
+		assertThat(cache.get("short-lived")).isNull();
+		assertThat(cache.get("already-expired")).isNull();
+		assertThat(provider.getAuthentication("not-a-jwt")).isEmpty();
+	}
+
+	@Test
+	void fullCacheEvictsOnlyOldestEntry() {
+		// given
+		JwtClaimsCache cache = new JwtClaimsCache(30, 2);
+		Date tokenExpiresAt = new Date(System.currentTimeMillis() + 60_000);
+		MemberPrincipal first = new MemberPrincipal(1L, MemberStatus.ACTIVE, "sid-1");
+		MemberPrincipal second = new MemberPrincipal(2L, MemberStatus.ACTIVE, "sid-2");
+		MemberPrincipal third = new MemberPrincipal(3L, MemberStatus.ACTIVE, "sid-3");
+		cache.put("first", first, tokenExpiresAt);
+		cache.put("second", second, tokenExpiresAt);
+
+		// when: 가득 찬 상태에서 새 토큰이 들어온다.
+		cache.put("third", third, tokenExpiresAt);
+
+		// then: 가장 먼저 넣은 항목만 밀려난다.
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("first")).isNull();
+		assertThat(cache.get("second")).isEqualTo(second);
+		assertThat(cache.get("third")).isEqualTo(third);
+	}
+
+	@Test
+	void concurrentPutsStayWithinBound() throws Exception {
+		// given
+		int maxEntries = 100;
+		int threads = 8;
+		JwtClaimsCache cache = new JwtClaimsCache(30, maxEntries);
+		Date tokenExpiresAt = new Date(System.currentTimeMillis() + 60_000);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when: 여러 요청 스레드가 서로 다른 토큰을 동시에 넣고 읽는다.
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long memberId = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < REQUESTS; i++) {
+						String token = "token-" + memberId + "-" + i;
+						MemberPrincipal principal = new MemberPrincipal(memberId, MemberStatus.ACTIVE, "sid-" + i);
+						cache.put(token, principal, tokenExpiresAt);
+						MemberPrincipal cached = cache.get(token);
+						assertThat(cached == null || cached.equals(principal)).isTrue();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// then: 모두 끝나면 상한 안으로 돌아오고, 이후에 넣은 토큰은 그대로 읽힌다.
+		assertThat(cache.size()).isLessThanOrEqualTo(maxEntries);
+		MemberPrincipal last = new MemberPrincipal(99L, MemberStatus.ACTIVE, "sid-last");
+		cache.put("last", last, tokenExpiresAt);
+		assertThat(cache.size()).isLessThanOrEqualTo(maxEntries);
+		assertThat(cache.get("last")).isEqualTo(last);
+	}
+
+	private JwtTokenProvider provider(JwtClaimsCache cache) {
+		JwtTokenProvider provider = new JwtTokenProvider(properties, cache);
+		ReflectionTestUtils.invokeMethod(provider, "initialize");
+		return provider;
+	}
+
+	private Member member(Long id) {
+		Member member = Member.builder().status(MemberStatus.ACTIVE).build();
+		ReflectionTestUtils.setField(member, "id", id);
+		return member;
+	}
+
+	private boolean runFilter(JwtAuthenticationFilter filter, String token) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/meetings/1");
+		request.setCookies(new Cookie(properties.cookieName(), token));
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication() != null;
+	}
+}
@@ -0,0 +1,125 @@
+package com.matchimban.matchimban_api.chat.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.auth.jwt.MemberPrincipal;
+import com.matchimban.matchimban_api.chat.event.ChatMembershipRevokedInternalEvent;
+import com.matchimban.matchimban_api.chat.redis.ChatMembershipRevokedRedisSubscriber;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatStompAuthorizationCacheTest {
+
+	private static final Long MEETING_ID = 10L;
+	private static final Long MEMBER_ID = 7L;
+	private static final String SESSION_ID = "session-1";
+
+	private final MeetingParticipantRepository meetingParticipantRepository = mock(MeetingParticipantRepository.class);
+	private final MessageChannel channel = mock(MessageChannel.class);
+
+	@Test
+	void reusesGrantWithinSessionUntilRevoked() throws Exception {
+		// given
+		ChatStompAuthorizationCache cache = new ChatStompAuthorizationCache(30);
+		ChatStompAuthorizationInterceptor interceptor = interceptor(cache);
+		ChatMembershipRevokedRedisSubscriber subscriber = new ChatMembershipRevokedRedisSubscriber(new ObjectMapper(), cache);
+		givenActive(true);
+
+		// when: 같은 세션에서 SUBSCRIBE 후 SEND 여러 번
+		interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/api/v2/topic/meetings/10/messages"), channel);
+		interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel);
+		interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel);
+
+		// then: DB 확인은 최초 1회
+		verify(meetingParticipantRepository, times(1))
+			.existsByMeetingIdAndMemberIdAndStatus(MEETING_ID, MEMBER_ID, MeetingParticipant.Status.ACTIVE);
+
+		// when: 다른 노드에서 나가기가 커밋되어 Redis 무효화 메시지 수신
+		givenActive(false);
+		byte[] payload = new ObjectMapper()
+			.writeValueAsString(new ChatMembershipRevokedInternalEvent(MEETING_ID, MEMBER_ID))
+			.getBytes(StandardCharsets.UTF_8);
+		subscriber.onMessage(new DefaultMessage("chat:meeting:membership-revoked".getBytes(StandardCharsets.UTF_8), payload), null);
+
+		// then: 다음 프레임부터 즉시 거부
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel))
+			.isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void rejectsRevokedMemberAfterTtlEvenWithoutInvalidation() throws Exception {
+		// given: 무효화 메시지를 놓친 노드
+		ChatStompAuthorizationCache cache = new ChatStompAuthorizationCache(1);
+		ChatStompAuthorizationInterceptor interceptor = interceptor(cache);
+		givenActive(true);
+		interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel);
+		givenActive(false);
+
+		// when & then: ttl 안에서는 캐시로 통과하고, ttl이 지나면 DB 재확인으로 거부
+		assertThatCode(() -> interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel))
+			.doesNotThrowAnyException();
+		Thread.sleep(1_100L);
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel))
+			.isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void dropsSessionGrantsOnDisconnect() {
+		// given
+		ChatStompAuthorizationCache cache = new ChatStompAuthorizationCache(30);
+		ChatStompAuthorizationInterceptor interceptor = interceptor(cache);
+		givenActive(true);
+		interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/api/v2/topic/meetings/10/unread-counts"), channel);
+
+		// when
+		interceptor.preSend(frame(StompCommand.DISCONNECT, null), channel);
+
+		// then
+		assertThatCode(() -> interceptor.preSend(frame(StompCommand.SEND, "/api/v2/app/meetings/10/messages"), channel))
+			.doesNotThrowAnyException();
+		verify(meetingParticipantRepository, times(2))
+			.existsByMeetingIdAndMemberIdAndStatus(MEETING_ID, MEMBER_ID, MeetingParticipant.Status.ACTIVE);
+	}
+
+	private ChatStompAuthorizationInterceptor interceptor(ChatStompAuthorizationCache cache) {
+		return new ChatStompAuthorizationInterceptor(meetingParticipantRepository, new StompPrincipalExtractor(), cache);
+	}
+
+	private void givenActive(boolean active) {
+		when(meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
+			MEETING_ID, MEMBER_ID, MeetingParticipant.Status.ACTIVE
+		)).thenReturn(active);
+	}
+
+	private Message<byte[]> frame(StompCommand command, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setSessionId(SESSION_ID);
+		if (destination != null) {
+			accessor.setDestination(destination);
+		}
+		accessor.setUser(new UsernamePasswordAuthenticationToken(
+			new MemberPrincipal(MEMBER_ID, MemberStatus.ACTIVE, "sid"),
+			null,
+			List.of()
+		));
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,158 @@
+package com.matchimban.matchimban_api.chat.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.chat.config.ChatCacheRedisConfig;
+import com.matchimban.matchimban_api.chat.entity.ChatMessageType;
+import com.matchimban.matchimban_api.chat.metrics.ChatMetricsRecorder;
+import com.matchimban.matchimban_api.chat.repository.projection.ChatMessageRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Redis(localhost:6379)를 대상으로 append 경로가 경합 상황에서도 메시지를 잃지 않는지 확인한다.
+// Redis가 떠 있지 않으면 테스트를 건너뛴다.
+class ChatMessageCacheServiceConcurrencyTest {
+
+	private static final long MEETING_ID = 9_900_001L;
+	private static final int SENDERS = 300;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private ChatMessageCacheService cacheService;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		ChatCacheRedisConfig scripts = new ChatCacheRedisConfig();
+		cacheService = new ChatMessageCacheService(
+			redisTemplate,
+			objectMapper,
+			new ChatMetricsRecorder(new SimpleMeterRegistry()),
+			scripts.chatRecentAppendScript(),
+			scripts.chatRecentReplaceScript()
+		);
+		ReflectionTestUtils.setField(cacheService, "enabled", true);
+		ReflectionTestUtils.setField(cacheService, "recentWindowSize", SENDERS + 10);
+		ReflectionTestUtils.setField(cacheService, "recentHotTtlSeconds", 60L);
+		ReflectionTestUtils.setField(cacheService, "recentColdTtlSeconds", 60L);
+		ReflectionTestUtils.setField(cacheService, "hotThresholdPerWindow", 120L);
+		ReflectionTestUtils.setField(cacheService, "trafficWindowSeconds", 60L);
+		ReflectionTestUtils.setField(cacheService, "latestMessageIdTtlSeconds", 60L);
+
+		clearMeetingKeys();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (redisTemplate != null && isRedisAvailable()) {
+			clearMeetingKeys();
+		}
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	void parallelAppendsAreNeverLost() throws Exception {
+		// given: DB에서 채운 스냅샷이 이미 존재한다.
+		cacheService.replaceRecentMessages(MEETING_ID, List.of(row(0)));
+
+		// when: 수백 명의 발신자가 같은 방에 동시에 append 한다.
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>(SENDERS);
+		for (int i = 1; i <= SENDERS; i++) {
+			ChatMessageRow row = row(i);
+			futures.add(executor.submit(() -> {
+				start.await();
+				cacheService.appendRecentMessage(MEETING_ID, row);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// then: 유실 없이 전부 들어 있고, 최신순으로 정렬되어 있다.
+		Optional<List<ChatMessageRow>> cached = cacheService.getRecentMessages(MEETING_ID, SENDERS + 10);
+		assertThat(cached).isPresent();
+		List<String> messageIds = cached.get().stream().map(ChatMessageRow::messageId).toList();
+		assertThat(messageIds).hasSize(SENDERS + 1).doesNotHaveDuplicates();
+		assertThat(messageIds).isSortedAccordingTo(Comparator.reverseOrder());
+		assertThat(redisTemplate.opsForValue().get("chat:meeting:latest-message-id:" + MEETING_ID))
+			.isEqualTo(messageId(SENDERS));
+	}
+
+	@Test
+	void duplicateAppendIsIgnored() {
+		cacheService.replaceRecentMessages(MEETING_ID, List.of(row(1)));
+
+		cacheService.appendRecentMessage(MEETING_ID, row(2));
+		cacheService.appendRecentMessage(MEETING_ID, row(2));
+		cacheService.appendRecentMessage(MEETING_ID, row(1));
+
+		List<String> messageIds = cacheService.getRecentMessages(MEETING_ID, 10).orElseThrow().stream()
+			.map(ChatMessageRow::messageId)
+			.toList();
+		assertThat(messageIds).containsExactly(messageId(2), messageId(1));
+	}
+
+	private boolean isRedisAvailable() {
+		try {
+			redisTemplate.hasKey("chat:test:ping");
+			return true;
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	private void clearMeetingKeys() {
+		var keys = redisTemplate.keys("chat:meeting:*" + MEETING_ID + "*");
+		if (keys != null && !keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+
+	private ChatMessageRow row(int sequence) {
+		return new ChatMessageRow(
+			messageId(sequence),
+			ChatMessageType.TEXT,
+			"message-" + sequence,
+			Instant.now(),
+			(long) sequence,
+			"sender-" + sequence,
+			null
+		);
+	}
+
+	private String messageId(int sequence) {
+		return String.format("%024x", sequence);
+	}
+}
@@ -0,0 +1,245 @@
+package com.matchimban.matchimban_api.chat.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.chat.config.ChatRedisPubSubConfig;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageCreatedData;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatMessageCreatedEvent;
+import com.matchimban.matchimban_api.chat.entity.ChatMessageType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 JVM 안에 노드 N개(노드마다 Redis 연결 + 리스너 컨테이너 + 전용 스레드)를 띄우고
+// 브로드캐스트 모드와 모임별 채널 모드에서 노드당 수신 건수와 리스너 스레드 CPU 시간을 비교한다.
+// 모임 구독자는 한 노드에만 붙어 있다고 가정한다. 로컬 Redis가 없으면 건너뛴다.
+class ChatRedisFanOutHarnessTest {
+
+	private static final int[] NODE_COUNTS = {2, 4, 8};
+	private static final int MEETINGS_PER_NODE = 4;
+	private static final int MESSAGES_TOTAL = 2_000;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+	private final List<Node> nodes = new ArrayList<>();
+	private LettuceConnectionFactory publisherConnectionFactory;
+
+	@AfterEach
+	void tearDown() {
+		nodes.forEach(Node::close);
+		nodes.clear();
+		if (publisherConnectionFactory != null) {
+			publisherConnectionFactory.destroy();
+		}
+	}
+
+	@Test
+	void perMeetingChannelsDeliverOnlyToSubscribedNodes() throws Exception {
+		publisherConnectionFactory = connectionFactory();
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(publisherConnectionFactory);
+		redisTemplate.afterPropertiesSet();
+		Assumptions.assumeTrue(isRedisAvailable(redisTemplate), "local redis is not available");
+		Assumptions.assumeTrue(threadMXBean.isThreadCpuTimeSupported(), "thread cpu time is not supported");
+
+		for (int nodeCount : NODE_COUNTS) {
+			RunResult broadcast = run(redisTemplate, nodeCount, false);
+			RunResult perMeeting = run(redisTemplate, nodeCount, true);
+
+			assertThat(broadcast.deliveredPerNode()).allMatch(delivered -> delivered == MESSAGES_TOTAL);
+			assertThat(perMeeting.deliveredPerNode()).allMatch(delivered -> delivered == MESSAGES_TOTAL / nodeCount);
+			if (nodeCount == NODE_COUNTS[NODE_COUNTS.length - 1]) {
+				// 노드가 가장 많을 때 브로드캐스트는 노드마다 전체 메시지를 역직렬화하므로 리스너 CPU 합이 더 크다.
+				assertThat(perMeeting.totalCpuMillis()).isLessThan(broadcast.totalCpuMillis());
+			}
+		}
+	}
+
+	private RunResult run(StringRedisTemplate redisTemplate, int nodeCount, boolean perMeeting) throws Exception {
+		String channelPrefix = "harness:" + UUID.randomUUID() + ":";
+		for (int i = 0; i < nodeCount; i++) {
+			nodes.add(new Node(i, channelPrefix, perMeeting));
+		}
+
+		int meetingCount = nodeCount * MEETINGS_PER_NODE;
+		if (perMeeting) {
+			for (int meeting = 0; meeting < meetingCount; meeting++) {
+				nodes.get(meeting % nodeCount).subscribe((long) meeting);
+			}
+		}
+		// SUBSCRIBE 명령이 Redis에 반영될 때까지 잠시 기다린다.
+		Thread.sleep(500L);
+
+		ChatRedisPublisher publisher = new ChatRedisPublisher(redisTemplate, objectMapper);
+		ReflectionTestUtils.setField(publisher, "messageCreatedChannel", channelPrefix + "message-created");
+		ReflectionTestUtils.setField(publisher, "perMeetingChannels", perMeeting);
+
+		nodes.forEach(Node::resetCpu);
+		for (int i = 0; i < MESSAGES_TOTAL; i++) {
+			long meetingId = i % meetingCount;
+			publisher.publishMessageCreated(ChatMessageCreatedEvent.of(new ChatMessageCreatedData(
+				meetingId,
+				String.valueOf(i + 1),
+				ChatMessageType.TEXT,
+				"fan-out harness " + i,
+				null,
+				OffsetDateTime.now()
+			)));
+		}
+
+		long expectedTotal = perMeeting ? MESSAGES_TOTAL : (long) MESSAGES_TOTAL * nodeCount;
+		long deadline = System.currentTimeMillis() + 15_000L;
+		while (totalDelivered() < expectedTotal && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20L);
+		}
+		Thread.sleep(100L);
+
+		RunResult result = new RunResult(
+			nodes.stream().map(node -> node.delivered.get()).toList(),
+			nodes.stream().map(Node::cpuMillis).toList()
+		);
+		nodes.forEach(Node::close);
+		nodes.clear();
+		return result;
+	}
+
+	private long totalDelivered() {
+		return nodes.stream().mapToLong(node -> node.delivered.get()).sum();
+	}
+
+	private LettuceConnectionFactory connectionFactory() {
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private boolean isRedisAvailable(StringRedisTemplate redisTemplate) {
+		try {
+			redisTemplate.hasKey("chat:fanout-harness:ping");
+			return true;
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	private record RunResult(List<Long> deliveredPerNode, List<Long> cpuMillisPerNode) {
+
+		private long totalCpuMillis() {
+			return cpuMillisPerNode.stream().mapToLong(Long::longValue).sum();
+		}
+	}
+
+	private final class Node {
+
+		private final int index;
+		private final LettuceConnectionFactory connectionFactory;
+		private final RedisMessageListenerContainer container;
+		private final ExecutorService listenerExecutor;
+		private final Set<Long> listenerThreadIds = ConcurrentHashMap.newKeySet();
+		private final Map<Long, Long> cpuBaselineNanos = new ConcurrentHashMap<>();
+		private final AtomicLong delivered = new AtomicLong();
+		private ChatRedisMeetingChannelRouter router;
+
+		private Node(int index, String channelPrefix, boolean perMeeting) {
+			this.index = index;
+			this.connectionFactory = connectionFactory();
+			this.listenerExecutor = Executors.newFixedThreadPool(2, runnable -> {
+				Thread thread = new Thread(runnable, "fanout-node-" + index);
+				listenerThreadIds.add(thread.threadId());
+				return thread;
+			});
+
+			SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> {
+				delivered.incrementAndGet();
+				return true;
+			});
+			messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+			ChatRedisSubscriber messageSubscriber = new ChatRedisSubscriber(objectMapper, messagingTemplate);
+			ChatUnreadCountsRedisSubscriber unreadCountsSubscriber = new ChatUnreadCountsRedisSubscriber(objectMapper, messagingTemplate);
+			ChatUnreadCountsDeltaRedisSubscriber deltaSubscriber = new ChatUnreadCountsDeltaRedisSubscriber(objectMapper, messagingTemplate);
+
+			ChatRedisPubSubConfig config = new ChatRedisPubSubConfig();
+			ReflectionTestUtils.setField(config, "messageCreatedChannel", channelPrefix + "message-created");
+			ReflectionTestUtils.setField(config, "unreadCountsUpdatedChannel", channelPrefix + "unread-counts-updated");
+			ReflectionTestUtils.setField(config, "unreadCountsDeltaChannel", channelPrefix + "unread-counts-delta");
+			ReflectionTestUtils.setField(config, "membershipRevokedChannel", channelPrefix + "membership-revoked");
+			ReflectionTestUtils.setField(config, "perMeetingChannels", perMeeting);
+			this.container = config.chatRedisMessageListenerContainer(
+				connectionFactory,
+				messageSubscriber,
+				unreadCountsSubscriber,
+				deltaSubscriber,
+				new ChatMembershipRevokedRedisSubscriber(objectMapper, null)
+			);
+			container.setTaskExecutor(listenerExecutor);
+			container.afterPropertiesSet();
+			container.start();
+
+			if (perMeeting) {
+				router = new ChatRedisMeetingChannelRouter(container, messageSubscriber, unreadCountsSubscriber, deltaSubscriber);
+				ReflectionTestUtils.setField(router, "messageCreatedChannel", channelPrefix + "message-created");
+				ReflectionTestUtils.setField(router, "unreadCountsUpdatedChannel", channelPrefix + "unread-counts-updated");
+				ReflectionTestUtils.setField(router, "unreadCountsDeltaChannel", channelPrefix + "unread-counts-delta");
+			}
+		}
+
+		private void subscribe(Long meetingId) {
+			StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+			accessor.setSessionId("node-" + index + "-session-" + meetingId);
+			accessor.setSubscriptionId("sub-0");
+			accessor.setDestination("/api/v2/topic/meetings/" + meetingId + "/messages");
+			router.onSubscribe(new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+			assertThat(router.isRouted(meetingId)).isTrue();
+		}
+
+		private void resetCpu() {
+			listenerThreadIds.forEach(id -> cpuBaselineNanos.put(id, Math.max(0L, threadMXBean.getThreadCpuTime(id))));
+		}
+
+		private long cpuMillis() {
+			long nanos = 0L;
+			for (Long id : listenerThreadIds) {
+				long current = threadMXBean.getThreadCpuTime(id);
+				if (current > 0L) {
+					nanos += current - cpuBaselineNanos.getOrDefault(id, 0L);
+				}
+			}
+			return nanos / 1_000_000L;
+		}
+
+		private void close() {
+			try {
+				container.stop();
+				container.destroy();
+			} catch (Exception ignored) {
+				// 하네스 정리 단계이므로 무시한다.
+			}
+			listenerExecutor.shutdownNow();
+			connectionFactory.destroy();
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.matchimban.matchimban_api.chat.repository;
+
+import com.matchimban.matchimban_api.chat.repository.projection.ChatMessageRow;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 채팅 이력 keyset 쿼리가 시드된 대량 데이터에서도 페이지 위치와 상관없이 (meeting_id, id) 인덱스 범위 스캔으로 도는지
+// Hibernate가 실제로 만든 SQL과 바인딩 값을 그대로 EXPLAIN해서 확인한다.
+// 스키마는 엔티티로 만들고, 인덱스만 마이그레이션(V2)과 맞춘다.
+// BENCH_POSTGRES_URL(기본 localhost:5432/postgres)에 연결할 수 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ChatMessageRepositoryKeysetPlanTest.QueryCaptureDataSourceConfig.class)
+class ChatMessageRepositoryKeysetPlanTest {
+
+	private static final String SCHEMA = "bench_chat_message_keyset";
+	private static final String INDEX = "idx_chat_messages_meeting_id_id";
+	private static final int MESSAGES = 200_000;
+	// 대상 모임 메시지는 전체의 1/10이고, 나머지는 다른 모임 메시지와 섞여 있다.
+	private static final int TARGET_EVERY = 10;
+	private static final int PAGE_SIZE = 30;
+	private static final Queue<QueryInfo> QUERIES = new ConcurrentLinkedQueue<>();
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private MeetingRepository meetingRepository;
+	@Autowired
+	private MeetingParticipantRepository participantRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	private Meeting target;
+
+	@DynamicPropertySource
+	static void postgres(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+		registry.add("spring.datasource.username", () -> env("BENCH_POSTGRES_USER", "postgres"));
+		registry.add("spring.datasource.password", () -> env("BENCH_POSTGRES_PASSWORD", "postgres"));
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@BeforeAll
+	static void createSchema() {
+		try (Connection connection = DriverManager.getConnection(
+				url(), env("BENCH_POSTGRES_USER", "postgres"), env("BENCH_POSTGRES_PASSWORD", "postgres"));
+			 Statement statement = connection.createStatement()) {
+			statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+		} catch (Exception e) {
+			Assumptions.abort("local postgres is not available");
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		entityManager.createNativeQuery("CREATE INDEX IF NOT EXISTS " + INDEX + " ON chat_messages (meeting_id, id)")
+			.executeUpdate();
+
+		target = meeting("target");
+		Meeting other = meeting("other");
+		MeetingParticipant targetParticipant = participant(target, "target-member");
+		MeetingParticipant otherParticipant = participant(other, "other-member");
+
+		entityManager.createNativeQuery("""
+				INSERT INTO chat_messages (id, meeting_id, participant_id, type, message, is_deleted, created_at)
+				SELECT nextval('chat_messages_seq'),
+				       CASE WHEN g % :every = 0 THEN :targetMeetingId ELSE :otherMeetingId END,
+				       CASE WHEN g % :every = 0 THEN :targetParticipantId ELSE :otherParticipantId END,
+				       'TEXT',
+				       'message ' || g,
+				       g % 97 = 0,
+				       now()
+				  FROM generate_series(1, :messages) AS g
+				""")
+			.setParameter("every", TARGET_EVERY)
+			.setParameter("targetMeetingId", target.getId())
+			.setParameter("otherMeetingId", other.getId())
+			.setParameter("targetParticipantId", targetParticipant.getId())
+			.setParameter("otherParticipantId", otherParticipant.getId())
+			.setParameter("messages", MESSAGES)
+			.executeUpdate();
+		entityManager.createNativeQuery("ANALYZE chat_messages").executeUpdate();
+		entityManager.clear();
+	}
+
+	@Test
+	void everyPageIsAnIndexRangeScan() {
+		// given: 첫 페이지(Long.MAX_VALUE 커서)와 이력 한가운데의 커서
+		List<ChatMessageRow> firstPage = page(Long.MAX_VALUE);
+		QueryInfo firstPageQuery = lastPageQuery();
+		Long middleId = middleTargetMessageId();
+		List<ChatMessageRow> deepPage = page(middleId);
+		QueryInfo deepPageQuery = lastPageQuery();
+
+		// when
+		List<String> firstPlan = explain(firstPageQuery);
+		List<String> deepPlan = explain(deepPageQuery);
+
+		// then: 어느 페이지든 같은 인덱스 범위 스캔이고, 정렬/순차 스캔이 없다.
+		for (List<String> plan : List.of(firstPlan, deepPlan)) {
+			String text = String.join("\n", plan);
+			assertThat(text).contains("Index Scan Backward using " + INDEX + " on chat_messages");
+			assertThat(plan).anySatisfy(line -> assertThat(line).contains("Index Cond").contains("meeting_id =").contains("id <"));
+			assertThat(text).doesNotContain("Seq Scan on chat_messages").doesNotContain("Sort");
+		}
+		assertThat(shape(deepPlan)).isEqualTo(shape(firstPlan));
+
+		// then: 숫자 순서로 이어진다.
+		assertThat(firstPage).hasSize(PAGE_SIZE);
+		assertThat(deepPage).hasSize(PAGE_SIZE);
+		assertThat(deepPage).allSatisfy(row -> assertThat(Long.parseLong(row.messageId())).isLessThan(middleId));
+		List<Long> deepIds = deepPage.stream().map(row -> Long.parseLong(row.messageId())).toList();
+		assertThat(deepIds).isSortedAccordingTo(Comparator.reverseOrder());
+	}
+
+	private List<ChatMessageRow> page(long cursorId) {
+		QUERIES.clear();
+		return chatMessageRepository.findPageRowsBefore(target.getId(), cursorId, PageRequest.of(0, PAGE_SIZE));
+	}
+
+	private QueryInfo lastPageQuery() {
+		return QUERIES.stream()
+			.filter(query -> query.getQuery().toLowerCase().contains("from chat_messages"))
+			.reduce((first, second) -> second)
+			.orElseThrow();
+	}
+
+	// Hibernate가 만든 SQL에 같은 바인딩 값을 다시 넣어 실행 계획을 읽는다.
+	private List<String> explain(QueryInfo queryInfo) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + queryInfo.getQuery())) {
+				for (ParameterSetOperation operation : queryInfo.getParametersList().get(0)) {
+					Object[] args = operation.getArgs();
+					statement.setObject((Integer) args[0], args[1]);
+				}
+				List<String> plan = new ArrayList<>();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						plan.add(resultSet.getString(1));
+					}
+				}
+				return plan;
+			}
+		});
+	}
+
+	// 비용/행 수 추정치를 빼고 노드 구성만 남긴다.
+	private List<String> shape(List<String> plan) {
+		return plan.stream()
+			.map(line -> line.replaceAll("\\(cost=.*\\)", "").replaceAll("'?-?\\d+'?(::bigint)?", "?").trim())
+			.toList();
+	}
+
+	private Long middleTargetMessageId() {
+		return ((Number) entityManager.createNativeQuery("""
+				SELECT id FROM chat_messages WHERE meeting_id = :meetingId ORDER BY id OFFSET :offset LIMIT 1
+				""")
+			.setParameter("meetingId", target.getId())
+			.setParameter("offset", MESSAGES / TARGET_EVERY / 2)
+			.getSingleResult()).longValue();
+	}
+
+	private Meeting meeting(String title) {
+		Member host = memberRepository.save(Member.builder().nickname(title + "-host").status(MemberStatus.ACTIVE).build());
+		return meetingRepository.save(Meeting.builder()
+			.title(title)
+			.scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+			.locationAddress("서울")
+			.locationLat(new BigDecimal("37.5000000"))
+			.locationLng(new BigDecimal("127.0000000"))
+			.targetHeadcount(2)
+			.searchRadiusM(500)
+			.voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+			.swipeCount(5)
+			.inviteCode("KS" + (System.nanoTime() % 1_000_000))
+			.hostMemberId(host.getId())
+			.build());
+	}
+
+	private MeetingParticipant participant(Meeting meeting, String nickname) {
+		Member member = memberRepository.save(Member.builder().nickname(nickname).status(MemberStatus.ACTIVE).build());
+		MeetingParticipant participant = participantRepository.save(MeetingParticipant.builder()
+			.meeting(meeting)
+			.member(member)
+			.role(MeetingParticipant.Role.MEMBER)
+			.status(MeetingParticipant.Status.ACTIVE)
+			.build());
+		entityManager.flush();
+		return participant;
+	}
+
+	private static String url() {
+		return env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/postgres");
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+
+	@TestConfiguration
+	static class QueryCaptureDataSourceConfig {
+
+		@Bean
+		static BeanPostProcessor queryCaptureDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof DataSource dataSource)) {
+						return bean;
+					}
+					return ProxyDataSourceBuilder.create(dataSource)
+						.name(beanName)
+						.afterQuery((execInfo, queryInfoList) -> QUERIES.addAll(queryInfoList))
+						.build();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,280 @@
+package com.matchimban.matchimban_api.chat.service.serviceImpl;
+
+import com.matchimban.matchimban_api.chat.cache.ChatMessageCacheService;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountItem;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsDeltaData;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsDeltaEvent;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedData;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadCountsUpdatedEvent;
+import com.matchimban.matchimban_api.chat.dto.ws.ChatUnreadReadPointer;
+import com.matchimban.matchimban_api.chat.event.ChatUnreadCountsRefreshInternalEvent;
+import com.matchimban.matchimban_api.chat.metrics.ChatMetricsRecorder;
+import com.matchimban.matchimban_api.chat.redis.ChatRedisPublisher;
+import com.matchimban.matchimban_api.chat.repository.ChatMessageMongoQueryService;
+import com.matchimban.matchimban_api.chat.repository.ChatMessageMongoRepository;
+import com.matchimban.matchimban_api.chat.repository.ChatMessageRepository;
+import com.matchimban.matchimban_api.chat.service.ChatMessagePgBridge;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.projection.ActiveReadPointerRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// unread_count 스냅샷/delta의 server_version 규약을 확인한다.
+// 클라이언트는 스냅샷을 받은 뒤 server_version이 스냅샷보다 큰 delta만, 같은 참여자의 스냅샷 포인터 뒤쪽 구간에만 적용한다.
+class ChatServiceImplUnreadVersionTest {
+
+	private static final Long MEETING_ID = 10L;
+	private static final Long MEMBER_ID = 1L;
+	private static final String VERSION_KEY = "chat:meeting:unread-version:" + MEETING_ID;
+
+	private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+	private final MeetingParticipantRepository meetingParticipantRepository = mock(MeetingParticipantRepository.class);
+	private final ChatMessagePgBridge chatMessagePgBridge = mock(ChatMessagePgBridge.class);
+	private final ChatRedisPublisher chatRedisPublisher = mock(ChatRedisPublisher.class);
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+	private final AtomicLong serverVersion = new AtomicLong(5L);
+
+	private ChatServiceImpl chatService;
+
+	@BeforeEach
+	void setUp() {
+		chatService = new ChatServiceImpl(
+			mock(ChatMessageMongoRepository.class),
+			mock(ChatMessageMongoQueryService.class),
+			chatMessageRepository,
+			meetingParticipantRepository,
+			chatMessagePgBridge,
+			mock(ChatMessageCacheService.class),
+			chatRedisPublisher,
+			stringRedisTemplate,
+			applicationEventPublisher,
+			mock(ChatMetricsRecorder.class)
+		);
+		ReflectionTestUtils.setField(chatService, "readSource", "pg");
+		ReflectionTestUtils.setField(chatService, "unreadWindowSize", 50);
+		ReflectionTestUtils.setField(chatService, "unreadDeltaEnabled", true);
+
+		when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(VERSION_KEY)).thenAnswer(invocation -> String.valueOf(serverVersion.get()));
+		when(valueOperations.increment(VERSION_KEY)).thenAnswer(invocation -> serverVersion.incrementAndGet());
+		when(meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(MEETING_ID, MEMBER_ID, MeetingParticipant.Status.ACTIVE))
+			.thenReturn(true);
+		when(chatMessageRepository.findRecentMessageIds(eq(MEETING_ID), any(Pageable.class)))
+			.thenReturn(List.of("3", "2", "1"));
+	}
+
+	@Test
+	void snapshotVersionIsReadBeforeCounting() {
+		// given: 집계용 포인터를 읽은 직후 다른 참여자의 포인터 전진이 커밋되고 delta 버전이 올라간다.
+		List<Long> deltaVersions = new ArrayList<>();
+		when(meetingParticipantRepository.findActiveReadPointers(MEETING_ID)).thenAnswer(invocation -> {
+			deltaVersions.add(serverVersion.incrementAndGet());
+			return List.of(pointer(MEMBER_ID, "1"), pointer(2L, null));
+		});
+
+		// when
+		ChatUnreadCountsUpdatedData snapshot = chatService.getUnreadCountsSnapshot(MEMBER_ID, MEETING_ID);
+
+		// then: 집계에 빠진 전진의 delta는 스냅샷보다 큰 버전이라 클라이언트가 적용한다.
+		assertThat(snapshot.serverVersion()).isEqualTo(5L);
+		assertThat(deltaVersions).allSatisfy(version -> assertThat(version).isGreaterThan(snapshot.serverVersion()));
+		assertThat(snapshot.items()).extracting(ChatUnreadCountItem::unreadCount).containsExactly(1, 2, 2);
+		assertThat(serverVersion.get()).isEqualTo(6L);
+
+		InOrder order = inOrder(valueOperations, meetingParticipantRepository);
+		order.verify(valueOperations).get(VERSION_KEY);
+		order.verify(meetingParticipantRepository).findActiveReadPointers(MEETING_ID);
+	}
+
+	@Test
+	void advanceCountedBySnapshotIsNotAppliedTwice() {
+		// given: 스냅샷 버전(5)을 읽은 뒤, 집계 전에 MEMBER_ID의 전진("1" -> "3")이 커밋된다.
+		// 전진은 집계에 들어가지만 delta는 그 뒤에 버전을 올려 6으로 온다.
+		when(meetingParticipantRepository.findActiveReadPointers(MEETING_ID))
+			.thenReturn(List.of(pointer(MEMBER_ID, "3"), pointer(2L, "3"), pointer(3L, null)));
+		when(chatMessageRepository.existsActiveMessageInMeeting(MEETING_ID, 3L)).thenReturn(true);
+		when(chatMessagePgBridge.advanceLastReadIdWithPrevious(MEETING_ID, MEMBER_ID, "3"))
+			.thenReturn(new ChatMessagePgBridge.ReadPointerAdvance(1, "1"));
+
+		// when
+		ChatUnreadCountsUpdatedData snapshot = chatService.getUnreadCountsSnapshot(MEMBER_ID, MEETING_ID);
+		chatService.updateReadPointer(MEMBER_ID, MEETING_ID, "3");
+		ArgumentCaptor<ChatUnreadCountsDeltaEvent> captor = ArgumentCaptor.forClass(ChatUnreadCountsDeltaEvent.class);
+		verify(chatRedisPublisher).publishUnreadCountsDelta(captor.capture());
+		ChatUnreadCountsDeltaData delta = captor.getValue().data();
+
+		// then: 버전만 보면 적용 대상이지만, 같은 참여자의 스냅샷 포인터가 이미 to_message_id라 건너뛴다.
+		assertThat(delta.serverVersion()).isGreaterThan(snapshot.serverVersion());
+		assertThat(delta.memberId()).isEqualTo(MEMBER_ID);
+		assertThat(snapshot.readPointers()).contains(new ChatUnreadReadPointer(MEMBER_ID, "3"));
+
+		Map<String, Integer> counts = counts(snapshot);
+		Map<Long, String> pointers = pointers(snapshot);
+		applyDelta(counts, pointers, delta);
+		applyDelta(counts, pointers, delta);
+		assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("1", 1, "2", 1, "3", 1));
+	}
+
+	@Test
+	void advanceMissedBySnapshotIsAppliedOnlyPastSnapshotPointer() {
+		// given: 스냅샷 집계 뒤에 커밋된 전진("1" -> "3")
+		when(meetingParticipantRepository.findActiveReadPointers(MEETING_ID))
+			.thenReturn(List.of(pointer(MEMBER_ID, "1"), pointer(2L, "3")));
+		when(chatMessageRepository.existsActiveMessageInMeeting(MEETING_ID, 3L)).thenReturn(true);
+		when(chatMessagePgBridge.advanceLastReadIdWithPrevious(MEETING_ID, MEMBER_ID, "3"))
+			.thenReturn(new ChatMessagePgBridge.ReadPointerAdvance(1, "1"));
+
+		// when
+		ChatUnreadCountsUpdatedData snapshot = chatService.getUnreadCountsSnapshot(MEMBER_ID, MEETING_ID);
+		chatService.updateReadPointer(MEMBER_ID, MEETING_ID, "3");
+		ArgumentCaptor<ChatUnreadCountsDeltaEvent> captor = ArgumentCaptor.forClass(ChatUnreadCountsDeltaEvent.class);
+		verify(chatRedisPublisher).publishUnreadCountsDelta(captor.capture());
+
+		// then: ("1", "3"] 구간이 한 번만 줄어 모두 읽은 상태가 된다.
+		Map<String, Integer> counts = counts(snapshot);
+		assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("1", 0, "2", 1, "3", 1));
+		applyDelta(counts, pointers(snapshot), captor.getValue().data());
+		assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("1", 0, "2", 0, "3", 0));
+	}
+
+	@Test
+	void windowBroadcastTakesNextVersionBeforeCounting() {
+		// given
+		when(meetingParticipantRepository.findActiveReadPointers(MEETING_ID))
+			.thenReturn(List.of(pointer(MEMBER_ID, "2"), pointer(2L, "3")));
+
+		// when
+		chatService.publishUnreadCountsWindow(MEETING_ID);
+
+		// then
+		ArgumentCaptor<ChatUnreadCountsUpdatedEvent> captor = ArgumentCaptor.forClass(ChatUnreadCountsUpdatedEvent.class);
+		verify(chatRedisPublisher).publishUnreadCountsUpdated(captor.capture());
+		ChatUnreadCountsUpdatedData data = captor.getValue().data();
+		assertThat(data.serverVersion()).isEqualTo(6L);
+		assertThat(data.basis().fromMessageId()).isEqualTo("1");
+		assertThat(data.basis().toMessageId()).isEqualTo("3");
+		assertThat(data.items()).extracting(ChatUnreadCountItem::unreadCount).containsExactly(0, 0, 1);
+		assertThat(data.readPointers()).containsExactly(
+			new ChatUnreadReadPointer(MEMBER_ID, "2"), new ChatUnreadReadPointer(2L, "3"));
+
+		InOrder order = inOrder(valueOperations, meetingParticipantRepository);
+		order.verify(valueOperations).increment(VERSION_KEY);
+		order.verify(meetingParticipantRepository).findActiveReadPointers(MEETING_ID);
+	}
+
+	@Test
+	void appliedReadPointerPublishesDeltaWithNextVersion() {
+		// given
+		when(chatMessageRepository.existsActiveMessageInMeeting(MEETING_ID, 3L)).thenReturn(true);
+		when(chatMessagePgBridge.advanceLastReadIdWithPrevious(MEETING_ID, MEMBER_ID, "3"))
+			.thenReturn(new ChatMessagePgBridge.ReadPointerAdvance(1, "1"));
+
+		// when
+		chatService.updateReadPointer(MEMBER_ID, MEETING_ID, "3");
+
+		// then: ("1", "3"] 구간을 1씩 줄이고, 스냅샷 기준 버전(5)보다 큰 버전을 단다.
+		ArgumentCaptor<ChatUnreadCountsDeltaEvent> captor = ArgumentCaptor.forClass(ChatUnreadCountsDeltaEvent.class);
+		verify(chatRedisPublisher).publishUnreadCountsDelta(captor.capture());
+		ChatUnreadCountsDeltaData delta = captor.getValue().data();
+		assertThat(delta.memberId()).isEqualTo(MEMBER_ID);
+		assertThat(delta.fromMessageId()).isEqualTo("1");
+		assertThat(delta.toMessageId()).isEqualTo("3");
+		assertThat(delta.decrement()).isEqualTo(1);
+		assertThat(delta.serverVersion()).isEqualTo(6L);
+		verify(applicationEventPublisher, never()).publishEvent(any(ChatUnreadCountsRefreshInternalEvent.class));
+	}
+
+	@Test
+	void unchangedReadPointerKeepsVersion() {
+		// given: 이미 더 앞선 포인터를 가진 참여자
+		when(chatMessageRepository.existsActiveMessageInMeeting(MEETING_ID, 2L)).thenReturn(true);
+		when(chatMessagePgBridge.advanceLastReadIdWithPrevious(MEETING_ID, MEMBER_ID, "2"))
+			.thenReturn(new ChatMessagePgBridge.ReadPointerAdvance(0, "3"));
+
+		// when
+		chatService.updateReadPointer(MEMBER_ID, MEETING_ID, "2");
+
+		// then
+		verify(valueOperations, never()).increment(anyString());
+		verify(chatRedisPublisher, never()).publishUnreadCountsDelta(any());
+		assertThat(serverVersion.get()).isEqualTo(5L);
+	}
+
+	@Test
+	void failedDeltaFallsBackToWindowRefresh() {
+		// given
+		when(chatMessageRepository.existsActiveMessageInMeeting(MEETING_ID, 3L)).thenReturn(true);
+		when(chatMessagePgBridge.advanceLastReadIdWithPrevious(MEETING_ID, MEMBER_ID, "3"))
+			.thenReturn(new ChatMessagePgBridge.ReadPointerAdvance(1, "1"));
+		doThrow(new IllegalStateException("redis down")).when(chatRedisPublisher).publishUnreadCountsDelta(any());
+
+		// when
+		chatService.updateReadPointer(MEMBER_ID, MEETING_ID, "3");
+
+		// then
+		verify(applicationEventPublisher).publishEvent(new ChatUnreadCountsRefreshInternalEvent(MEETING_ID));
+	}
+
+	private ActiveReadPointerRow pointer(Long memberId, String lastReadId) {
+		return new ActiveReadPointerRow(memberId, lastReadId);
+	}
+
+	private Map<String, Integer> counts(ChatUnreadCountsUpdatedData data) {
+		Map<String, Integer> counts = new HashMap<>();
+		data.items().forEach(item -> counts.put(item.messageId(), item.unreadCount()));
+		return counts;
+	}
+
+	private Map<Long, String> pointers(ChatUnreadCountsUpdatedData data) {
+		Map<Long, String> pointers = new HashMap<>();
+		data.readPointers().forEach(pointer -> pointers.put(pointer.memberId(), pointer.lastReadMessageId()));
+		return pointers;
+	}
+
+	// 문서(chat-v2.md)의 클라이언트 규칙: 같은 참여자의 알려진 포인터 뒤쪽 구간만 줄이고 포인터를 옮긴다.
+	private void applyDelta(Map<String, Integer> counts, Map<Long, String> pointers, ChatUnreadCountsDeltaData delta) {
+		String known = pointers.get(delta.memberId());
+		String from = known == null || (delta.fromMessageId() != null && id(delta.fromMessageId()) > id(known))
+			? delta.fromMessageId()
+			: known;
+		if (from != null && id(delta.toMessageId()) <= id(from)) {
+			return;
+		}
+		counts.replaceAll((messageId, count) ->
+			(from == null || id(messageId) > id(from)) && id(messageId) <= id(delta.toMessageId())
+				? Math.max(0, count - delta.decrement())
+				: count);
+		pointers.put(delta.memberId(), delta.toMessageId());
+	}
+
+	private long id(String messageId) {
+		return Long.parseLong(messageId);
+	}
+}
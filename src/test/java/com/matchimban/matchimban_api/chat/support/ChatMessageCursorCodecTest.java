@@ -0,0 +1,41 @@
+package com.matchimban.matchimban_api.chat.support;
+
+import com.matchimban.matchimban_api.chat.error.ChatErrorCode;
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageCursorCodecTest {
+
+	@Test
+	void encodedCursorRoundTripsToNumericId() {
+		String token = ChatMessageCursorCodec.encodePgCursor("1234567");
+
+		assertThat(token).doesNotContain("1234567");
+		assertThat(ChatMessageCursorCodec.decodePgCursor(token)).isEqualTo(1234567L);
+	}
+
+	@Test
+	void legacyNumericCursorIsAccepted() {
+		// 기존 클라이언트는 마지막 messageId 문자열을 그대로 커서로 보낸다.
+		assertThat(ChatMessageCursorCodec.decodePgCursor("99")).isEqualTo(99L);
+	}
+
+	@Test
+	void cursorOrderingIsNumericNotLexicographic() {
+		// 문자열 비교였다면 "9" > "10" 이 되어 페이지가 꼬인다.
+		long older = ChatMessageCursorCodec.decodePgCursor(ChatMessageCursorCodec.encodePgCursor("9"));
+		long newer = ChatMessageCursorCodec.decodePgCursor(ChatMessageCursorCodec.encodePgCursor("10"));
+
+		assertThat(older).isLessThan(newer);
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThatThrownBy(() -> ChatMessageCursorCodec.decodePgCursor("not-a-cursor"))
+			.isInstanceOf(ApiException.class)
+			.satisfies(ex -> assertThat(((ApiException) ex).getErrorCode()).isEqualTo(ChatErrorCode.INVALID_CURSOR));
+	}
+}
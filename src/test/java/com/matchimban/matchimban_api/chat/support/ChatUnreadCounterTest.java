@@ -0,0 +1,58 @@
+package com.matchimban.matchimban_api.chat.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatUnreadCounterTest {
+
+	@Test
+	void matchesLinearScanOnRandomMeetings() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			int participants = 1 + random.nextInt(40);
+			List<String> lastReadIds = new ArrayList<>(participants);
+			for (int i = 0; i < participants; i++) {
+				lastReadIds.add(random.nextInt(5) == 0 ? null : messageId(random.nextInt(300)));
+			}
+			ChatUnreadCounter counter = ChatUnreadCounter.of(lastReadIds);
+
+			for (int m = 0; m < 300; m++) {
+				String messageId = messageId(m);
+				assertThat(counter.countUnread(messageId))
+					.as("round=%d messageId=%s", round, messageId)
+					.isEqualTo(linearScan(lastReadIds, messageId));
+			}
+		}
+	}
+
+	@Test
+	void countsNeverReadAndOlderPointersOnly() {
+		ChatUnreadCounter counter = ChatUnreadCounter.of(List.of(messageId(5), messageId(10), messageId(10)));
+		List<String> withNull = new ArrayList<>(List.of(messageId(5)));
+		withNull.add(null);
+
+		assertThat(counter.countUnread(messageId(5))).isZero();
+		assertThat(counter.countUnread(messageId(6))).isEqualTo(1);
+		assertThat(counter.countUnread(messageId(11))).isEqualTo(3);
+		assertThat(ChatUnreadCounter.of(withNull).countUnread(messageId(1))).isEqualTo(1);
+	}
+
+	// 기존 ChatServiceImpl.computeUnreadCounts의 O(messages x participants) 계산
+	private int linearScan(List<String> lastReadIds, String messageId) {
+		int unreadCount = 0;
+		for (String lastReadId : lastReadIds) {
+			if (lastReadId == null || lastReadId.compareTo(messageId) < 0) {
+				unreadCount++;
+			}
+		}
+		return unreadCount;
+	}
+
+	private String messageId(int sequence) {
+		return String.format("%024x", sequence);
+	}
+}
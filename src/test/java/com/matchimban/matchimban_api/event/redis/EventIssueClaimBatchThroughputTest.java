@@ -0,0 +1,144 @@
+package com.matchimban.matchimban_api.event.redis;
+
+import com.matchimban.matchimban_api.event.config.EventIssueRedisConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Redis(localhost:6379)에 대기 요청을 쌓아 두고 배치 크기별 claim 처리량을 비교한다.
+// 배치 크기 1은 기존 건별 claim과 같은 왕복 수다. Redis가 없으면 건너뛴다.
+class EventIssueClaimBatchThroughputTest {
+
+    private static final long EVENT_ID = 9_900_201L;
+    private static final int REQUESTS = 3_000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private EventIssueRedisKeyFactory keyFactory;
+    private EventIssueLuaExecutor luaExecutor;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+        EventIssueRedisConfig config = new EventIssueRedisConfig();
+        keyFactory = new EventIssueRedisKeyFactory();
+        luaExecutor = new EventIssueLuaExecutor(
+                redisTemplate,
+                config.eventIssueEnqueueScript(),
+                config.eventIssueClaimBatchScript(),
+                config.eventIssueRequeueExpiredProcessingScript()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null && isRedisAvailable()) {
+            clearKeys();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void claimsEveryRequestOnceInQueueOrder() {
+        for (int batchSize : new int[] {1, 10, 30, 100}) {
+            seed();
+
+            List<String> claimedRequestIds = new ArrayList<>(REQUESTS);
+            int calls = 0;
+            while (true) {
+                List<?> result = claim(batchSize);
+                calls++;
+                if (result == null || result.isEmpty()) {
+                    break;
+                }
+                for (int i = 0; i + 1 < result.size(); i += 2) {
+                    claimedRequestIds.add(String.valueOf(result.get(i)));
+                    assertThat(String.valueOf(result.get(i + 1)))
+                            .isEqualTo(String.valueOf(memberIdOf(String.valueOf(result.get(i)))));
+                }
+            }
+
+            // 배치마다 한 번 왕복하고, 마지막에 빈 결과를 받는 호출이 한 번 더 있다.
+            assertThat(calls).isEqualTo((REQUESTS + batchSize - 1) / batchSize + 1);
+            assertThat(claimedRequestIds).hasSize(REQUESTS);
+            assertThat(claimedRequestIds).containsExactlyElementsOf(expectedOrder());
+            assertThat(redisTemplate.opsForZSet().size(keyFactory.processingKey(EVENT_ID))).isEqualTo((long) REQUESTS);
+            assertThat(redisTemplate.opsForHash().get(keyFactory.requestKey(EVENT_ID, requestId(0)), "status"))
+                    .isEqualTo("PROCESSING");
+        }
+    }
+
+    private List<?> claim(int batchSize) {
+        long now = System.currentTimeMillis();
+        return luaExecutor.claimBatch(
+                List.of(
+                        keyFactory.queueKey(EVENT_ID),
+                        keyFactory.processingKey(EVENT_ID),
+                        keyFactory.requestKey(EVENT_ID, "")
+                ),
+                List.of(String.valueOf(now), String.valueOf(now + 10_000L), String.valueOf(batchSize))
+        );
+    }
+
+    private void seed() {
+        clearKeys();
+        for (int i = 0; i < REQUESTS; i++) {
+            String requestId = requestId(i);
+            redisTemplate.opsForHash().putAll(keyFactory.requestKey(EVENT_ID, requestId), Map.of(
+                    "memberId", String.valueOf(memberIdOf(requestId)),
+                    "status", "WAITING"
+            ));
+            redisTemplate.opsForZSet().add(keyFactory.queueKey(EVENT_ID), requestId, i);
+        }
+    }
+
+    private List<String> expectedOrder() {
+        List<String> ids = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            ids.add(requestId(i));
+        }
+        return ids;
+    }
+
+    private String requestId(int index) {
+        return "req-" + index;
+    }
+
+    private long memberIdOf(String requestId) {
+        return 10_000L + Long.parseLong(requestId.substring("req-".length()));
+    }
+
+    private void clearKeys() {
+        redisTemplate.delete(List.of(keyFactory.queueKey(EVENT_ID), keyFactory.processingKey(EVENT_ID)));
+        List<String> requestKeys = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requestKeys.add(keyFactory.requestKey(EVENT_ID, requestId(i)));
+        }
+        redisTemplate.delete(requestKeys);
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            redisTemplate.hasKey("event:issue:ping");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
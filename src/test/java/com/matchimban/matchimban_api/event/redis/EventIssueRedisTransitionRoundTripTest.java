@@ -0,0 +1,324 @@
+package com.matchimban.matchimban_api.event.redis;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.config.EventIssueRedisConfig;
+import com.matchimban.matchimban_api.event.entity.CouponType;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.entity.EventIssueFailureReason;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 템플릿 실행 횟수(=Redis 왕복 수)를 세어 상태 전이와 메타 동기화가 몇 번 왕복하는지 확인한다.
+// 로컬 Redis(localhost:6379)를 쓰며, 없으면 건너뛴다.
+class EventIssueRedisTransitionRoundTripTest {
+
+    private static final long EVENT_ID = 9_900_401L;
+    private static final int REQUESTS = 90;
+    private static final int BATCH_SIZE = 30;
+
+    private LettuceConnectionFactory connectionFactory;
+    private CountingRedisTemplate redisTemplate;
+    private EventIssueRedisKeyFactory keyFactory;
+    private EventIssueLuaExecutor luaExecutor;
+    private EventIssueRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new CountingRedisTemplate();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+        EventIssueRedisConfig config = new EventIssueRedisConfig();
+        keyFactory = new EventIssueRedisKeyFactory();
+        luaExecutor = new EventIssueLuaExecutor(
+                redisTemplate,
+                config.eventIssueEnqueueScript(),
+                config.eventIssueClaimBatchScript(),
+                config.eventIssueRequeueExpiredProcessingScript()
+        );
+        repository = new EventIssueRedisRepository(
+                redisTemplate,
+                keyFactory,
+                new EventIssueProperties(
+                        true,
+                        Duration.ofMillis(200),
+                        BATCH_SIZE,
+                        3,
+                        Duration.ofSeconds(10),
+                        Duration.ofDays(1),
+                        1_000L,
+                        Duration.ofSeconds(30),
+                        8
+                ),
+                config.eventIssueMarkSucceededScript(),
+                config.eventIssueMarkFailedScript(),
+                config.eventIssueRequeueForRetryScript(),
+                config.eventIssueSyncMetaScript()
+        );
+        clearKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null && isRedisAvailable()) {
+            clearKeys();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void issuingCouponTakesConstantRoundTrips() {
+        // given
+        seed(REQUESTS);
+        Instant issuedAt = Instant.now();
+
+        // when: 기존 방식(명령별 왕복)으로 한 건 처리
+        redisTemplate.reset();
+        legacyMarkSucceeded(requestId(0), memberIdOf(0), 1L, issuedAt);
+        int legacyRoundTrips = redisTemplate.count();
+
+        // when: 배치 claim + 스크립트 한 번으로 나머지 처리
+        redisTemplate.reset();
+        int issued = 0;
+        while (true) {
+            List<?> claimed = claim();
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            for (int i = 0; i + 1 < claimed.size(); i += 2) {
+                String requestId = String.valueOf(claimed.get(i));
+                Long memberId = Long.parseLong(String.valueOf(claimed.get(i + 1)));
+                repository.markSucceeded(EVENT_ID, memberId, requestId, 1_000L + issued, issuedAt, issuedAt.plus(Duration.ofDays(7)));
+                issued++;
+            }
+        }
+        int roundTrips = redisTemplate.count();
+
+        // then
+        assertThat(issued).isEqualTo(REQUESTS - 1);
+        // 배치 claim (REQUESTS-1)/BATCH_SIZE 올림 + 빈 claim 1번 + 건별 스크립트 1번
+        assertThat(roundTrips).isEqualTo(issued + (issued + BATCH_SIZE - 1) / BATCH_SIZE + 1);
+        assertThat(legacyRoundTrips).isGreaterThan(1);
+
+        String requestId = requestId(REQUESTS - 1);
+        Map<Object, Object> request = redisTemplate.opsForHash().entries(keyFactory.requestKey(EVENT_ID, requestId));
+        assertThat(request.get("status")).isEqualTo("SUCCEEDED");
+        assertThat(request.get("issuedAt")).isEqualTo(issuedAt.toString());
+        assertThat(redisTemplate.opsForSet().isMember(keyFactory.issuedUsersKey(EVENT_ID), String.valueOf(memberIdOf(REQUESTS - 1)))).isTrue();
+        assertThat(redisTemplate.opsForZSet().size(keyFactory.processingKey(EVENT_ID))).isZero();
+        assertThat(redisTemplate.getExpire(keyFactory.requestKey(EVENT_ID, requestId))).isPositive();
+        assertThat(redisTemplate.getExpire(keyFactory.userRequestKey(EVENT_ID, memberIdOf(REQUESTS - 1)))).isPositive();
+    }
+
+    @Test
+    void failureAndRetryTransitionsTakeOneRoundTrip() {
+        // given
+        seed(2);
+        claim();
+
+        // when
+        redisTemplate.reset();
+        repository.requeueForRetry(EVENT_ID, requestId(0));
+        repository.markFailed(EVENT_ID, memberIdOf(1), requestId(1), EventIssueFailureReason.SOLD_OUT);
+
+        // then
+        assertThat(redisTemplate.count()).isEqualTo(2);
+        assertThat(redisTemplate.opsForHash().get(keyFactory.requestKey(EVENT_ID, requestId(0)), "status")).isEqualTo("WAITING");
+        assertThat(redisTemplate.opsForHash().get(keyFactory.requestKey(EVENT_ID, requestId(0)), "retryCount")).isEqualTo("1");
+        assertThat(redisTemplate.opsForZSet().score(keyFactory.queueKey(EVENT_ID), requestId(0))).isEqualTo(0.0);
+        assertThat(redisTemplate.opsForHash().get(keyFactory.requestKey(EVENT_ID, requestId(1)), "status")).isEqualTo("FAILED");
+        assertThat(redisTemplate.opsForHash().get(keyFactory.requestKey(EVENT_ID, requestId(1)), "reason")).isEqualTo("SOLD_OUT");
+        assertThat(redisTemplate.opsForZSet().size(keyFactory.processingKey(EVENT_ID))).isZero();
+    }
+
+    @Test
+    void metaSyncIsSkippedWhenUnchanged() {
+        // given
+        Event event = event(100);
+
+        // when: 같은 설정으로 제출이 몰리는 경우
+        redisTemplate.reset();
+        for (int i = 0; i < 1_000; i++) {
+            repository.syncMeta(event, 110);
+        }
+        int unchangedRoundTrips = redisTemplate.count();
+
+        // when: 정원이 바뀌면 다시 쓴다.
+        redisTemplate.reset();
+        repository.syncMeta(event(200), 220);
+        int changedRoundTrips = redisTemplate.count();
+
+        // then
+        assertThat(unchangedRoundTrips).isEqualTo(1);
+        assertThat(changedRoundTrips).isEqualTo(1);
+        assertThat(redisTemplate.opsForHash().get(keyFactory.metaKey(EVENT_ID), "capacity")).isEqualTo("200");
+        assertThat(redisTemplate.opsForHash().get(keyFactory.metaKey(EVENT_ID), "queueLimit")).isEqualTo("220");
+    }
+
+    @Test
+    void enqueueReportsMissingMetaSoSkippedSyncIsRedone() {
+        // given: 동기화 기록이 남아 있는 동안 Redis의 메타가 사라진다(만료/flush).
+        Event event = event(100);
+        repository.syncMeta(event, 110);
+        redisTemplate.delete(keyFactory.metaKey(EVENT_ID));
+        repository.syncMeta(event, 110);
+
+        // when
+        long missingCode = enqueueCode();
+        repository.invalidateSyncedMeta(EVENT_ID);
+        repository.syncMeta(event, 110);
+        long retriedCode = enqueueCode();
+
+        // then: 메타 없이 대기열에 넣지 않고, 다시 동기화한 뒤에는 들어간다.
+        assertThat(missingCode).isEqualTo(7L);
+        assertThat(retriedCode).isZero();
+        assertThat(redisTemplate.opsForHash().get(keyFactory.metaKey(EVENT_ID), "capacity")).isEqualTo("100");
+        assertThat(redisTemplate.opsForZSet().size(keyFactory.queueKey(EVENT_ID))).isEqualTo(1L);
+    }
+
+    // 스크립트 도입 전 markSucceeded가 보내던 명령 순서
+    private void legacyMarkSucceeded(String requestId, Long memberId, Long couponId, Instant issuedAt) {
+        String requestKey = keyFactory.requestKey(EVENT_ID, requestId);
+        redisTemplate.opsForHash().putAll(requestKey, Map.of(
+                "status", "SUCCEEDED",
+                "reason", "",
+                "couponId", String.valueOf(couponId),
+                "issuedAt", issuedAt.toString(),
+                "updatedAt", Instant.now().toString()
+        ));
+        redisTemplate.opsForZSet().remove(keyFactory.queueKey(EVENT_ID), requestId);
+        redisTemplate.opsForZSet().remove(keyFactory.processingKey(EVENT_ID), requestId);
+        redisTemplate.opsForSet().add(keyFactory.issuedUsersKey(EVENT_ID), String.valueOf(memberId));
+        redisTemplate.expire(requestKey, Duration.ofDays(1));
+        redisTemplate.expire(keyFactory.userRequestKey(EVENT_ID, memberId), Duration.ofDays(1));
+    }
+
+    private long enqueueCode() {
+        List<?> result = luaExecutor.enqueue(
+                List.of(
+                        keyFactory.metaKey(EVENT_ID),
+                        keyFactory.issuedUsersKey(EVENT_ID),
+                        keyFactory.userRequestKey(EVENT_ID, memberIdOf(0)),
+                        keyFactory.queueKey(EVENT_ID),
+                        keyFactory.requestKey(EVENT_ID, requestId(0))
+                ),
+                List.of(
+                        String.valueOf(memberIdOf(0)),
+                        requestId(0),
+                        String.valueOf(Instant.parse("2026-01-01T12:00:00Z").toEpochMilli()),
+                        "110",
+                        "60"
+                )
+        );
+        return Long.parseLong(String.valueOf(result.get(0)));
+    }
+
+    private List<?> claim() {
+        long now = System.currentTimeMillis();
+        return luaExecutor.claimBatch(
+                List.of(
+                        keyFactory.queueKey(EVENT_ID),
+                        keyFactory.processingKey(EVENT_ID),
+                        keyFactory.requestKey(EVENT_ID, "")
+                ),
+                List.of(String.valueOf(now), String.valueOf(now + 10_000L), String.valueOf(BATCH_SIZE))
+        );
+    }
+
+    private void seed(int requests) {
+        for (int i = 0; i < requests; i++) {
+            String requestId = requestId(i);
+            redisTemplate.opsForHash().putAll(keyFactory.requestKey(EVENT_ID, requestId), Map.of(
+                    "memberId", String.valueOf(memberIdOf(i)),
+                    "status", "WAITING",
+                    "retryCount", "0",
+                    "queueScore", String.valueOf(i)
+            ));
+            redisTemplate.opsForValue().set(keyFactory.userRequestKey(EVENT_ID, memberIdOf(i)), requestId);
+            redisTemplate.opsForZSet().add(keyFactory.queueKey(EVENT_ID), requestId, i);
+        }
+    }
+
+    private Event event(int capacity) {
+        Event event = Event.builder()
+                .title("선착순 쿠폰")
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .endAt(Instant.parse("2026-01-02T00:00:00Z"))
+                .capacity(capacity)
+                .build();
+        ReflectionTestUtils.setField(event, "id", EVENT_ID);
+        return event;
+    }
+
+    private String requestId(int index) {
+        return "req-" + index;
+    }
+
+    private long memberIdOf(int index) {
+        return 30_000L + index;
+    }
+
+    private void clearKeys() {
+        List<String> keys = new ArrayList<>(List.of(
+                keyFactory.metaKey(EVENT_ID),
+                keyFactory.queueKey(EVENT_ID),
+                keyFactory.processingKey(EVENT_ID),
+                keyFactory.issuedUsersKey(EVENT_ID)
+        ));
+        for (int i = 0; i < REQUESTS; i++) {
+            keys.add(keyFactory.requestKey(EVENT_ID, requestId(i)));
+            keys.add(keyFactory.userRequestKey(EVENT_ID, memberIdOf(i)));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            redisTemplate.hasKey("event:issue:ping");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 명령/스크립트/파이프라인 모두 이 메서드를 거치므로 호출 수를 왕복 수로 본다.
+    private static final class CountingRedisTemplate extends StringRedisTemplate {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+            executions.incrementAndGet();
+            return super.execute(action, exposeConnection, pipeline);
+        }
+
+        private void reset() {
+            executions.set(0);
+        }
+
+        private int count() {
+            return executions.get();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.matchimban.matchimban_api.event.service;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.config.EventIssueRedisConfig;
+import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
+import com.matchimban.matchimban_api.event.entity.EventIssueRequestStatus;
+import com.matchimban.matchimban_api.event.redis.EventIssueRedisKeyFactory;
+import com.matchimban.matchimban_api.event.redis.EventIssueRedisRepository;
+import com.matchimban.matchimban_api.event.service.serviceImpl.EventIssueStatusServiceImpl;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Redis에 대기자 1만 명을 쌓고, 워커가 매 라운드(=폴링 주기 1초) 앞쪽 요청을 처리하는 동안
+// 상태 전달에 드는 Redis 부하를 폴링(GET/me)과 SSE 푸시로 비교한다. Redis가 없으면 건너뛴다.
+class EventIssueStatusPushLoadTest {
+
+    private static final long EVENT_ID = 9_900_301L;
+    private static final int WAITERS = 10_000;
+    private static final int ROUNDS = 3;
+    private static final int DRAIN_PER_ROUND = 200;
+    private static final int NODES = 4;
+    private static final String CHANNEL = "event:issue:status-changed:test";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private EventIssueRedisKeyFactory keyFactory;
+    private EventIssueRedisRepository repository;
+    private EventIssueStatusService statusService;
+    private EventIssueStatusSseService sseService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+        keyFactory = new EventIssueRedisKeyFactory();
+        EventIssueProperties properties = new EventIssueProperties(
+                true,
+                Duration.ofMillis(200),
+                30,
+                3,
+                Duration.ofSeconds(10),
+                Duration.ofDays(1),
+                1_000L,
+                Duration.ofSeconds(30),
+                8
+        );
+        EventIssueRedisConfig config = new EventIssueRedisConfig();
+        repository = new EventIssueRedisRepository(
+                redisTemplate,
+                keyFactory,
+                properties,
+                config.eventIssueMarkSucceededScript(),
+                config.eventIssueMarkFailedScript(),
+                config.eventIssueRequeueForRetryScript(),
+                config.eventIssueSyncMetaScript()
+        );
+        statusService = new EventIssueStatusServiceImpl(repository);
+        sseService = new EventIssueStatusSseService(statusService, repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null && isRedisAvailable()) {
+            clearKeys();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void pushUsesFarFewerRedisOpsThanPolling() {
+        // given: 폴링 - 대기자마다 매 주기 상태 API 호출
+        seed();
+        long pollingOps = 0L;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Integer> remaining = remainingWaiters(drain());
+            long before = commandsProcessed();
+            for (int index : remaining) {
+                EventIssueStatusResponse response = statusService.getCurrentStatus(memberIdOf(index), EVENT_ID);
+                assertThat(response.queuePosition()).isNotNull();
+            }
+            pollingOps += commandsProcessed() - before - 1;
+        }
+
+        // given: 푸시 - 연결 시 한 번 조회하고 이후에는 전이 메시지와 주기적인 순번 계산만 한다.
+        seed();
+        Map<String, RecordingEmitter> emitters = new ConcurrentHashMap<>();
+        long subscribeBefore = commandsProcessed();
+        for (int i = 0; i < WAITERS; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.put(requestId(i), emitter);
+            subscribe(sseService, i, emitter);
+        }
+        long subscribeOps = commandsProcessed() - subscribeBefore - 1;
+
+        // when
+        long pushOps = 0L;
+        int pushedPositions = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<String> drained = drain();
+            long before = commandsProcessed();
+            List<EventIssueStatusResponse> succeeded = new ArrayList<>(drained.size());
+            for (String requestId : drained) {
+                succeeded.add(new EventIssueStatusResponse(
+                        requestId, EventIssueRequestStatus.SUCCEEDED, null, null, 1L, Instant.now(), Instant.now()));
+            }
+            // 워커 배치 하나당 PUBLISH 한 번(수신 노드 측 처리는 로컬 호출로 대신한다)
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(succeeded.size()));
+            sseService.publishStatusChange(new EventIssueStatusSseService.StatusChange(EVENT_ID, succeeded));
+            pushedPositions += sseService.pushQueuePositions();
+            pushOps += commandsProcessed() - before - 1;
+        }
+
+        // then: 연결당 조회는 한 번뿐이고, 이후에는 대기자당 순번 조회(ZRANK) 하나만 든다.
+        int drainedTotal = ROUNDS * DRAIN_PER_ROUND;
+        assertThat(subscribeOps).isLessThanOrEqualTo(WAITERS * 3L);
+        assertThat(pushOps * 2).isLessThan(pollingOps);
+        assertThat(pushedPositions).isEqualTo((WAITERS - DRAIN_PER_ROUND) + (WAITERS - 2 * DRAIN_PER_ROUND) + (WAITERS - drainedTotal));
+        assertThat(sseService.subscriberCount(EVENT_ID)).isEqualTo(WAITERS - drainedTotal);
+        for (int i = 0; i < WAITERS; i++) {
+            RecordingEmitter emitter = emitters.get(requestId(i));
+            if (i < drainedTotal) {
+                assertThat(emitter.last.status()).isEqualTo(EventIssueRequestStatus.SUCCEEDED);
+                assertThat(emitter.completed).isTrue();
+            } else {
+                assertThat(emitter.last.status()).isEqualTo(EventIssueRequestStatus.WAITING);
+                assertThat(emitter.last.queuePosition()).isEqualTo(i - drainedTotal + 1L);
+            }
+        }
+    }
+
+    @Test
+    void positionPushReadsOnlySubscribedRanks() {
+        // given: 대기자를 노드 여러 개에 나눠 붙인다.
+        seed();
+        List<EventIssueStatusSseService> nodes = new ArrayList<>();
+        for (int n = 0; n < NODES; n++) {
+            nodes.add(new EventIssueStatusSseService(statusService, repository));
+        }
+        for (int i = 0; i < WAITERS; i++) {
+            subscribe(nodes.get(i % NODES), i, new RecordingEmitter());
+        }
+        drain();
+
+        // when: 노드마다 대기열 전체(ZRANGE 0 -1)를 읽는 경우
+        long before = bytesSent();
+        for (int n = 0; n < NODES; n++) {
+            redisTemplate.opsForZSet().range(keyFactory.queueKey(EVENT_ID), 0, -1);
+        }
+        long fullRangeBytes = bytesSent() - before;
+
+        // when: 노드마다 자기 구독자의 순번만 읽는 경우
+        before = bytesSent();
+        int pushed = 0;
+        for (EventIssueStatusSseService node : nodes) {
+            pushed += node.pushQueuePositions();
+        }
+        long subscribedRankBytes = bytesSent() - before;
+
+        // then: Redis가 돌려주는 양이 노드 수만큼 늘지 않는다.
+        assertThat(pushed).isEqualTo(WAITERS - DRAIN_PER_ROUND);
+        assertThat(subscribedRankBytes * 4).isLessThan(fullRangeBytes);
+    }
+
+    private void subscribe(EventIssueStatusSseService service, int index, SseEmitter emitter) {
+        service.subscribe(EVENT_ID, requestId(index), () -> statusService.getCurrentStatus(memberIdOf(index), EVENT_ID), emitter);
+    }
+
+    // 워커가 앞쪽 요청을 가져가 처리한 것처럼 대기열에서 뺀다.
+    private List<String> drain() {
+        Set<ZSetOperations.TypedTuple<String>> popped =
+                redisTemplate.opsForZSet().popMin(keyFactory.queueKey(EVENT_ID), DRAIN_PER_ROUND);
+        List<String> requestIds = new ArrayList<>();
+        if (popped != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : popped) {
+                requestIds.add(tuple.getValue());
+            }
+        }
+        return requestIds;
+    }
+
+    private List<Integer> remainingWaiters(List<String> drained) {
+        int from = drained.stream()
+                .mapToInt(requestId -> Integer.parseInt(requestId.substring("req-".length())))
+                .max()
+                .orElse(-1) + 1;
+        List<Integer> remaining = new ArrayList<>(WAITERS - from);
+        for (int i = from; i < WAITERS; i++) {
+            remaining.add(i);
+        }
+        return remaining;
+    }
+
+    private void seed() {
+        clearKeys();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i < WAITERS; i++) {
+                String requestId = requestId(i);
+                stringConnection.hMSet(keyFactory.requestKey(EVENT_ID, requestId), Map.of(
+                        "memberId", String.valueOf(memberIdOf(i)),
+                        "status", "WAITING",
+                        "reason", "",
+                        "couponId", "",
+                        "issuedAt", "",
+                        "expiredAt", ""
+                ));
+                stringConnection.set(keyFactory.userRequestKey(EVENT_ID, memberIdOf(i)), requestId);
+                stringConnection.zAdd(keyFactory.queueKey(EVENT_ID), i, requestId);
+            }
+            return null;
+        });
+    }
+
+    private long commandsProcessed() {
+        return Long.parseLong(stats().getProperty("total_commands_processed"));
+    }
+
+    private long bytesSent() {
+        return Long.parseLong(stats().getProperty("total_net_output_bytes"));
+    }
+
+    private Properties stats() {
+        return redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("stats"));
+    }
+
+    private String requestId(int index) {
+        return "req-" + index;
+    }
+
+    private long memberIdOf(int index) {
+        return 20_000L + index;
+    }
+
+    private void clearKeys() {
+        redisTemplate.delete(List.of(keyFactory.queueKey(EVENT_ID), keyFactory.processingKey(EVENT_ID)));
+        List<String> keys = new ArrayList<>(WAITERS * 2);
+        for (int i = 0; i < WAITERS; i++) {
+            keys.add(keyFactory.requestKey(EVENT_ID, requestId(i)));
+            keys.add(keyFactory.userRequestKey(EVENT_ID, memberIdOf(i)));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            redisTemplate.hasKey("event:issue:ping");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 실제 HTTP 응답 대신 마지막으로 보낸 상태와 완료 여부를 기록하는 SSE emitter
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private volatile EventIssueStatusResponse last;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+                if (item.getData() instanceof EventIssueStatusResponse response) {
+                    last = response;
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
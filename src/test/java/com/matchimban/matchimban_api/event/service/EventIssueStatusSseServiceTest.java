@@ -0,0 +1,83 @@
+package com.matchimban.matchimban_api.event.service;
+
+import com.matchimban.matchimban_api.event.dto.response.EventIssueStatusResponse;
+import com.matchimban.matchimban_api.event.entity.EventIssueRequestStatus;
+import com.matchimban.matchimban_api.event.redis.EventIssueRedisRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 구독 등록과 현재 상태 조회 사이에 워커의 전이 메시지가 도착하는 경우를 확인한다.
+class EventIssueStatusSseServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final String REQUEST_ID = "req-1";
+
+    private final EventIssueStatusSseService sseService =
+            new EventIssueStatusSseService(mock(EventIssueStatusService.class), mock(EventIssueRedisRepository.class));
+
+    @Test
+    void transitionArrivingBeforeStatusReadIsDeliveredAndNotOverwritten() {
+        // given: 조회 직전에 성공 전이가 도착하고, 조회 결과는 그보다 오래된 대기 상태다.
+        RecordingEmitter emitter = new RecordingEmitter();
+        EventIssueStatusResponse succeeded = new EventIssueStatusResponse(
+                REQUEST_ID, EventIssueRequestStatus.SUCCEEDED, null, null, 10L, Instant.now(), Instant.now());
+
+        // when
+        sseService.subscribe(EVENT_ID, REQUEST_ID, () -> {
+            sseService.publishStatusChange(new EventIssueStatusSseService.StatusChange(EVENT_ID, List.of(succeeded)));
+            return waiting(3L);
+        }, emitter);
+
+        // then
+        assertThat(emitter.sent).extracting(EventIssueStatusResponse::status)
+                .containsExactly(EventIssueRequestStatus.SUCCEEDED);
+        assertThat(emitter.completed).isTrue();
+        assertThat(sseService.subscriberCount(EVENT_ID)).isZero();
+    }
+
+    @Test
+    void initialStatusIsSentWhenNoTransitionArrives() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        sseService.subscribe(EVENT_ID, REQUEST_ID, () -> waiting(3L), emitter);
+
+        // then
+        assertThat(emitter.sent).extracting(EventIssueStatusResponse::queuePosition).containsExactly(3L);
+        assertThat(emitter.completed).isFalse();
+        assertThat(sseService.subscriberCount(EVENT_ID)).isEqualTo(1);
+    }
+
+    private EventIssueStatusResponse waiting(Long position) {
+        return new EventIssueStatusResponse(REQUEST_ID, EventIssueRequestStatus.WAITING, null, position, null, null, null);
+    }
+
+    // 실제 HTTP 응답 대신 보낸 상태와 완료 여부를 기록하는 SSE emitter
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<EventIssueStatusResponse> sent = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+                if (item.getData() instanceof EventIssueStatusResponse response) {
+                    sent.add(response);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.matchimban.matchimban_api.event.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.entity.CouponType;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.entity.EventCoupon;
+import com.matchimban.matchimban_api.event.entity.EventIssueFailureReason;
+import com.matchimban.matchimban_api.event.repository.EventCouponRepository;
+import com.matchimban.matchimban_api.event.repository.EventParticipantRepository;
+import com.matchimban.matchimban_api.event.repository.EventRepository;
+import com.matchimban.matchimban_api.event.service.EventIssueFinalizeService.FinalizeResult;
+import com.matchimban.matchimban_api.event.service.EventIssuedCountService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventIssueFinalizeServiceImplTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventParticipantRepository eventParticipantRepository = mock(EventParticipantRepository.class);
+    private final EventCouponRepository eventCouponRepository = mock(EventCouponRepository.class);
+    private final EventIssuedCountService eventIssuedCountService = mock(EventIssuedCountService.class);
+    private final EventIssueFinalizeServiceImpl service = new EventIssueFinalizeServiceImpl(
+            eventRepository, eventParticipantRepository, eventCouponRepository, eventIssuedCountService
+    );
+
+    @Test
+    void issuesBatchWithSingleSlotReservation() {
+        // given: 남은 자리 2, 3번 회원은 기존 발급자
+        Event event = event(3, 1);
+        when(eventRepository.findByIdAndIsActiveTrueAndIsDeletedFalse(EVENT_ID)).thenReturn(Optional.of(event));
+        when(eventIssuedCountService.reserve(event, 3)).thenReturn(2);
+        when(eventParticipantRepository.findMemberIdsByEventIdAndMemberIdIn(eq(EVENT_ID), anyCollection()))
+                .thenReturn(List.of(3L));
+        AtomicLong couponIds = new AtomicLong(100L);
+        when(eventParticipantRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventCouponRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<EventCoupon> coupons = invocation.getArgument(0);
+            coupons.forEach(c -> ReflectionTestUtils.setField(c, "id", couponIds.incrementAndGet()));
+            return coupons;
+        });
+
+        // when
+        List<FinalizeResult> results = service.finalizeIssueBatch(EVENT_ID, List.of(1L, 2L, 2L, 3L, 4L));
+
+        // then
+        assertThat(results).extracting(FinalizeResult::success)
+                .containsExactly(true, true, false, false, false);
+        assertThat(results).extracting(FinalizeResult::failureReason).containsExactly(
+                null,
+                null,
+                EventIssueFailureReason.ALREADY_ISSUED,
+                EventIssueFailureReason.ALREADY_ISSUED,
+                EventIssueFailureReason.SOLD_OUT
+        );
+        assertThat(results).extracting(FinalizeResult::couponId).containsExactly(101L, 102L, null, null, null);
+        verify(eventIssuedCountService, times(1)).reserve(event, 3);
+        verify(eventCouponRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void failsWholeBatchWhenEventEnded() {
+        // given
+        Event event = Event.builder()
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(Instant.now().minus(Duration.ofHours(2)))
+                .endAt(Instant.now().minus(Duration.ofHours(1)))
+                .capacity(10)
+                .issuedCount(0)
+                .build();
+        when(eventRepository.findByIdAndIsActiveTrueAndIsDeletedFalse(EVENT_ID)).thenReturn(Optional.of(event));
+
+        // when
+        List<FinalizeResult> results = service.finalizeIssueBatch(EVENT_ID, List.of(1L, 2L));
+
+        // then
+        assertThat(results).extracting(FinalizeResult::failureReason)
+                .containsExactly(EventIssueFailureReason.EVENT_ENDED, EventIssueFailureReason.EVENT_ENDED);
+        verify(eventCouponRepository, times(0)).saveAll(any());
+        verify(eventIssuedCountService, times(0)).reserve(any(), anyInt());
+    }
+
+    private Event event(int capacity, int issuedCount) {
+        return Event.builder()
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(Instant.now().minus(Duration.ofHours(1)))
+                .endAt(Instant.now().plus(Duration.ofHours(1)))
+                .capacity(capacity)
+                .issuedCount(issuedCount)
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.matchimban.matchimban_api.event.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.entity.CouponType;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.repository.EventCouponRepository;
+import com.matchimban.matchimban_api.event.repository.EventIssuedCountSlotRepository;
+import com.matchimban.matchimban_api.event.repository.EventParticipantRepository;
+import com.matchimban.matchimban_api.event.repository.EventRepository;
+import com.matchimban.matchimban_api.event.service.EventIssueFinalizeService;
+import com.matchimban.matchimban_api.event.service.EventIssueFinalizeService.FinalizeResult;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Postgres에서 같은 요청 수를 건별 finalizeIssue(요청마다 트랜잭션)와
+// 워커 배치 크기 단위의 finalizeIssueBatch로 처리해 처리 시간을 비교한다.
+// 두 방식 모두 실제 EventIssuedCountServiceImpl 슬롯 예약과 participant/coupon insert를 탄다.
+// BENCH_POSTGRES_URL(기본 localhost:5432/postgres)에 연결할 수 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        EventIssueFinalizeServiceImpl.class,
+        EventIssuedCountServiceImpl.class,
+        EventIssueFinalizeThroughputBenchmarkTest.FinalizePropertiesConfig.class
+})
+class EventIssueFinalizeThroughputBenchmarkTest {
+
+    private static final String SCHEMA = "bench_event_issue_finalize";
+    private static final int REQUESTS = 600;
+    private static final int BATCH_SIZE = 30;
+
+    @Autowired
+    private EventIssueFinalizeService eventIssueFinalizeService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+    @Autowired
+    private EventCouponRepository eventCouponRepository;
+    @Autowired
+    private EventIssuedCountSlotRepository slotRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> env("BENCH_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCH_POSTGRES_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @BeforeAll
+    static void createSchema() {
+        try (Connection connection = DriverManager.getConnection(
+                url(), env("BENCH_POSTGRES_USER", "postgres"), env("BENCH_POSTGRES_PASSWORD", "postgres"));
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        } catch (Exception e) {
+            Assumptions.abort("local postgres is not available");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void batchFinalizeOutperformsPerItemFinalize() {
+        // given: 정원이 요청 수와 같은 이벤트 두 개와, 두 이벤트에 모두 요청하는 회원들
+        List<Long> memberIds = saveMembers(REQUESTS);
+        Event perItemEvent = saveEvent(REQUESTS);
+        Event batchEvent = saveEvent(REQUESTS);
+
+        // when
+        List<FinalizeResult> perItemResults = new ArrayList<>();
+        long perItemStartedAt = System.nanoTime();
+        for (Long memberId : memberIds) {
+            perItemResults.add(eventIssueFinalizeService.finalizeIssue(perItemEvent.getId(), memberId));
+        }
+        long perItemNs = System.nanoTime() - perItemStartedAt;
+
+        List<FinalizeResult> batchResults = new ArrayList<>();
+        long batchStartedAt = System.nanoTime();
+        for (int from = 0; from < memberIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + BATCH_SIZE, memberIds.size()));
+            batchResults.addAll(eventIssueFinalizeService.finalizeIssueBatch(batchEvent.getId(), chunk));
+        }
+        long batchNs = System.nanoTime() - batchStartedAt;
+
+        // then: 같은 결과를 더 짧은 시간에 낸다.
+        assertThat(perItemResults).allMatch(FinalizeResult::success);
+        assertThat(batchResults).allMatch(FinalizeResult::success);
+        assertThat(batchResults).extracting(FinalizeResult::couponId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(eventCouponRepository.count()).isEqualTo(2L * REQUESTS);
+        assertThat(batchNs).isLessThan(perItemNs);
+
+        // 이미 발급받은 회원이 다시 요청하면 두 방식 모두 발급하지 않는다.
+        assertThat(eventIssueFinalizeService.finalizeIssue(perItemEvent.getId(), memberIds.get(0)).success()).isFalse();
+        assertThat(eventIssueFinalizeService.finalizeIssueBatch(batchEvent.getId(), memberIds.subList(0, BATCH_SIZE)))
+                .noneMatch(FinalizeResult::success);
+    }
+
+    private List<Long> saveMembers(int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+        }
+        return memberRepository.saveAll(members).stream().map(Member::getId).toList();
+    }
+
+    private Event saveEvent(int capacity) {
+        Instant now = Instant.now();
+        return eventRepository.save(Event.builder()
+                .title("event")
+                .description("description")
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(now.minusSeconds(60))
+                .endAt(now.plusSeconds(3_600))
+                .capacity(capacity)
+                .issuedCount(0)
+                .build());
+    }
+
+    private void cleanUp() {
+        eventCouponRepository.deleteAllInBatch();
+        eventParticipantRepository.deleteAllInBatch();
+        slotRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private static String url() {
+        return env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/postgres");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    @TestConfiguration
+    static class FinalizePropertiesConfig {
+
+        @Bean
+        EventIssueProperties eventIssueProperties() {
+            return new EventIssueProperties(
+                    true,
+                    Duration.ofMillis(200),
+                    BATCH_SIZE,
+                    3,
+                    Duration.ofSeconds(10),
+                    Duration.ofDays(1),
+                    1_000L,
+                    Duration.ofSeconds(30),
+                    8
+            );
+        }
+    }
+}
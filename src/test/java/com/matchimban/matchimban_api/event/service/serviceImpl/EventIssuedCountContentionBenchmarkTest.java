@@ -0,0 +1,263 @@
+package com.matchimban.matchimban_api.event.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.entity.CouponType;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.repository.EventIssuedCountSlotRepository;
+import com.matchimban.matchimban_api.event.repository.EventRepository;
+import com.matchimban.matchimban_api.event.service.EventIssuedCountService;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Postgres에서 finalizer 여러 개가 실제 EventIssuedCountServiceImpl로 같은 이벤트에 동시에 발급한다.
+// 슬롯 잠금은 리포지토리의 PESSIMISTIC_WRITE와 lock.timeout=-2(SKIP LOCKED) 힌트를 그대로 탄다.
+// 정원보다 시도가 많을 때 초과분은 매진(0)으로 끝나고, 잠금 재시도는 몫이 남은 슬롯을 건너뛴 경우에만 생기는지 확인한다.
+// BENCH_POSTGRES_URL(기본 localhost:5432/postgres)에 연결할 수 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        EventIssuedCountServiceImpl.class,
+        EventIssuedCountContentionBenchmarkTest.SlotPropertiesConfig.class
+})
+class EventIssuedCountContentionBenchmarkTest {
+
+    private static final String SCHEMA = "bench_event_issued_count";
+    private static final int FINALIZERS = 16;
+    private static final int ISSUES_PER_FINALIZER = 200;
+    private static final int SLOTS = 8;
+
+    @Autowired
+    private EventIssuedCountService eventIssuedCountService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventIssuedCountSlotRepository slotRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> env("BENCH_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCH_POSTGRES_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(FINALIZERS));
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @BeforeAll
+    static void createSchema() {
+        try (Connection connection = DriverManager.getConnection(
+                url(), env("BENCH_POSTGRES_USER", "postgres"), env("BENCH_POSTGRES_PASSWORD", "postgres"));
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        } catch (Exception e) {
+            Assumptions.abort("local postgres is not available");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void stripedSlotsOutperformSingleRowLock() throws Exception {
+        // given: 정원이 넉넉해 매진되지 않는 이벤트 두 개
+        int attempts = FINALIZERS * ISSUES_PER_FINALIZER;
+        Event singleRow = saveEvent(attempts);
+        Event striped = saveEvent(attempts);
+
+        // when
+        long singleRowNs = run(() -> reserveWithSingleRowLock(singleRow)).elapsedNs();
+        Outcome outcome = run(() -> eventIssuedCountService.reserve(striped, 1));
+
+        // then
+        assertThat(outcome.elapsedNs()).isLessThan(singleRowNs);
+        assertThat(outcome.granted()).isEqualTo(attempts);
+        assertThat(outcome.soldOut()).isZero();
+        assertThat(legacyIssuedCount(singleRow)).isEqualTo(attempts);
+        assertThat(slotIssuedCount(striped)).isEqualTo(attempts);
+    }
+
+    @Test
+    void oversubscribedEventEndsInSoldOutNotLockRetry() throws Exception {
+        // given: 시도 수보다 정원이 훨씬 적은 이벤트
+        int capacity = 500;
+        Event event = saveEvent(capacity);
+
+        // when
+        Outcome outcome = run(() -> eventIssuedCountService.reserve(event, 1));
+
+        // then: 정원만큼만 발급되고, 나머지 시도는 재시도 끝에 모두 매진으로 끝난다.
+        assertThat(outcome.granted()).isEqualTo(capacity);
+        assertThat(outcome.soldOut()).isEqualTo(FINALIZERS * ISSUES_PER_FINALIZER - capacity);
+        assertThat(slotIssuedCount(event)).isEqualTo(capacity);
+        assertThat(slotRepository.countByEventId(event.getId())).isEqualTo(SLOTS);
+
+        // when: 모든 슬롯이 소진된 뒤에도 finalizer들이 동시에 몰린다(소진된 슬롯이 잠겨 있어도).
+        Outcome afterSoldOut = run(() -> eventIssuedCountService.reserve(event, 1));
+
+        // then: 소진된 슬롯은 건너뛴 것으로 치지 않으므로 잠금 재시도 없이 곧바로 매진이다.
+        assertThat(afterSoldOut.granted()).isZero();
+        assertThat(afterSoldOut.lockRetries()).isZero();
+        assertThat(afterSoldOut.soldOut()).isEqualTo(FINALIZERS * ISSUES_PER_FINALIZER);
+    }
+
+    private Outcome run(IntSupplier reserve) throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger lockRetries = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(FINALIZERS);
+        try {
+            List<Callable<Void>> finalizers = new ArrayList<>();
+            for (int f = 0; f < FINALIZERS; f++) {
+                finalizers.add(() -> {
+                    for (int i = 0; i < ISSUES_PER_FINALIZER; i++) {
+                        int reserved = reserveWithRetry(reserve, lockRetries);
+                        (reserved > 0 ? granted : soldOut).incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            long startedAt = System.nanoTime();
+            for (Future<Void> future : executor.invokeAll(finalizers)) {
+                future.get();
+            }
+            return new Outcome(granted.get(), soldOut.get(), lockRetries.get(), System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 워커 재시도와 같은 역할. 몫이 남은 슬롯을 건너뛰어 다 채우지 못했으면 다시 시도한다.
+    private int reserveWithRetry(IntSupplier reserve, AtomicInteger lockRetries) {
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> reserve.getAsInt());
+            } catch (CannotAcquireLockException e) {
+                lockRetries.incrementAndGet();
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // 슬롯 도입 전 방식: 이벤트 행을 잠근 채 발급 수를 올리고 커밋할 때까지 다른 finalizer가 기다린다.
+    private int reserveWithSingleRowLock(Event event) {
+        Number remaining = (Number) entityManager.createNativeQuery(
+                        "SELECT capacity - issued_count FROM events WHERE id = :id FOR UPDATE")
+                .setParameter("id", event.getId())
+                .getSingleResult();
+        if (remaining.intValue() <= 0) {
+            return 0;
+        }
+        entityManager.createNativeQuery("UPDATE events SET issued_count = issued_count + 1 WHERE id = :id")
+                .setParameter("id", event.getId())
+                .executeUpdate();
+        return 1;
+    }
+
+    private Event saveEvent(int capacity) {
+        Instant now = Instant.now();
+        return eventRepository.save(Event.builder()
+                .title("event")
+                .description("description")
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(now.minusSeconds(60))
+                .endAt(now.plusSeconds(3_600))
+                .capacity(capacity)
+                .issuedCount(0)
+                .build());
+    }
+
+    private int legacyIssuedCount(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow().getIssuedCount();
+    }
+
+    private int slotIssuedCount(Event event) {
+        return slotRepository.sumIssuedCountByEventIds(List.of(event.getId())).stream()
+                .mapToInt(row -> (int) row.getIssuedCount())
+                .sum();
+    }
+
+    private void cleanUp() {
+        slotRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+    }
+
+    private static String url() {
+        return env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/postgres");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private record Outcome(int granted, int soldOut, int lockRetries, long elapsedNs) {}
+
+    @TestConfiguration
+    static class SlotPropertiesConfig {
+
+        @Bean
+        EventIssueProperties eventIssueProperties() {
+            return new EventIssueProperties(
+                    true,
+                    Duration.ofMillis(200),
+                    30,
+                    3,
+                    Duration.ofSeconds(10),
+                    Duration.ofDays(1),
+                    1_000L,
+                    Duration.ofSeconds(30),
+                    SLOTS
+            );
+        }
+    }
+}
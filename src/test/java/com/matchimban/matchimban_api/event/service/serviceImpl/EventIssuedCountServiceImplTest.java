@@ -0,0 +1,140 @@
+package com.matchimban.matchimban_api.event.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.config.EventIssueProperties;
+import com.matchimban.matchimban_api.event.entity.CouponType;
+import com.matchimban.matchimban_api.event.entity.Event;
+import com.matchimban.matchimban_api.event.entity.EventIssuedCountSlot;
+import com.matchimban.matchimban_api.event.repository.EventIssuedCountSlotRepository;
+import com.matchimban.matchimban_api.event.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 슬롯별 몫 안에서만 발급 수를 올리고, 모자라면 다른 슬롯으로 넘어가 이벤트 정원을 넘지 않는지 확인한다.
+@DataJpaTest
+@ActiveProfiles("test")
+class EventIssuedCountServiceImplTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventIssuedCountSlotRepository slotRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void reservesWithinSlotQuotasAndNeverExceedsCapacity() {
+        // given: 정원 10명을 슬롯 4개(3,3,2,2)로 나눈다.
+        Event event = saveEvent(10, 0);
+        EventIssuedCountServiceImpl service = service(4);
+
+        // when
+        int first = service.reserve(event, 4);
+        int second = service.reserve(event, 10);
+        int soldOut = service.reserve(event, 1);
+        flushAndClear();
+
+        // then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(6);
+        assertThat(soldOut).isZero();
+        List<EventIssuedCountSlot> slots = slotRepository.findAll();
+        assertThat(slots).hasSize(4);
+        assertThat(slots).allSatisfy(slot -> assertThat(slot.getIssuedCount()).isEqualTo(slot.getCapacity()));
+        assertThat(slots.stream().mapToInt(EventIssuedCountSlot::getCapacity).sum()).isEqualTo(10);
+        assertThat(service.getIssuedCounts(List.of(event))).containsEntry(event.getId(), 10);
+    }
+
+    @Test
+    void keepsExistingQuotasWhenSlotCountChanges() {
+        // given: 슬롯 2개로 먼저 만들어진 이벤트
+        Event event = saveEvent(5, 0);
+        assertThat(service(2).reserve(event, 1)).isEqualTo(1);
+
+        // when: 설정이 슬롯 8개로 바뀐 뒤에도 기존 몫만 쓴다.
+        int granted = service(8).reserve(event, 10);
+        flushAndClear();
+
+        // then
+        assertThat(granted).isEqualTo(4);
+        assertThat(slotRepository.countByEventId(event.getId())).isEqualTo(2);
+        assertThat(service(8).getIssuedCounts(List.of(event))).containsEntry(event.getId(), 5);
+    }
+
+    @Test
+    void seedsNewSlotsWithLegacyIssuedCount() {
+        // given: 슬롯 도입 전에 정원 10명 중 7명이 발급된 이벤트(몫 3,3,2,2)
+        Event event = saveEvent(10, 7);
+        EventIssuedCountServiceImpl service = service(4);
+
+        // when: 슬롯이 처음 만들어질 때 기존 발급 수를 앞 슬롯부터 채우므로 남은 3명만 더 받는다.
+        int granted = service.reserve(event, 10);
+        flushAndClear();
+
+        // then
+        assertThat(granted).isEqualTo(3);
+        assertThat(service.getIssuedCounts(List.of(event))).containsEntry(event.getId(), 10);
+        assertThat(EventIssuedCountSlot.legacyIssuedCountOf(10, 7, 4, 0)).isEqualTo(3);
+        assertThat(EventIssuedCountSlot.legacyIssuedCountOf(10, 7, 4, 2)).isEqualTo(1);
+        assertThat(EventIssuedCountSlot.legacyIssuedCountOf(10, 7, 4, 3)).isZero();
+    }
+
+    @Test
+    void fallsBackToLegacyIssuedCountWithoutSlots() {
+        // given
+        Event legacy = saveEvent(100, 37);
+        Event sliced = saveEvent(100, 0);
+        EventIssuedCountServiceImpl service = service(4);
+        service.reserve(sliced, 3);
+        flushAndClear();
+
+        // when
+        Map<Long, Integer> issuedCounts = service.getIssuedCounts(List.of(legacy, sliced));
+
+        // then
+        assertThat(issuedCounts).containsEntry(legacy.getId(), 37);
+        assertThat(issuedCounts).containsEntry(sliced.getId(), 3);
+        assertThat(service.getIssuedCounts(List.of())).isEmpty();
+    }
+
+    private EventIssuedCountServiceImpl service(int slots) {
+        EventIssueProperties properties = new EventIssueProperties(
+                true,
+                Duration.ofMillis(200),
+                30,
+                3,
+                Duration.ofSeconds(10),
+                Duration.ofDays(1),
+                1_000L,
+                Duration.ofSeconds(30),
+                slots
+        );
+        return new EventIssuedCountServiceImpl(slotRepository, properties);
+    }
+
+    private Event saveEvent(int capacity, int issuedCount) {
+        Instant now = Instant.now();
+        return eventRepository.save(Event.builder()
+                .title("event")
+                .description("description")
+                .couponType(CouponType.SUPER_LIKE)
+                .startAt(now.minusSeconds(60))
+                .endAt(now.plusSeconds(3_600))
+                .capacity(capacity)
+                .issuedCount(issuedCount)
+                .build());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,254 @@
+package com.matchimban.matchimban_api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 느린 리스너(투표 후보 생성 흉내, 300ms)가 몰린 직후 빠른 리스너(채팅 후처리 흉내)의 대기 시간을 잰다.
+// 실행기 하나를 같이 쓰면 빠른 작업이 줄을 서고, 실행기를 나누면 곧바로 실행되어야 한다.
+class AsyncExecutorIsolationTest {
+
+	private static final int SLOW_TASKS = 8;
+	private static final int FAST_TASKS = 20;
+	private static final long SLOW_TASK_MS = 300L;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		executors.forEach(ThreadPoolTaskExecutor::shutdown);
+	}
+
+	@Test
+	void slowListenerNoLongerStarvesOthers() throws Exception {
+		// given
+		ThreadPoolTaskExecutor shared = executor("shared", pool(false, 4, 100));
+
+		// when: 기존처럼 같은 실행기를 쓰는 경우
+		long sharedWaitMs = maxFastWaitMs(shared, shared);
+
+		// when: 느린 작업과 빠른 작업의 실행기를 나눈 경우(플랫폼/가상 스레드)
+		long isolatedWaitMs = maxFastWaitMs(executor("vote", pool(false, 4, 100)), executor("chat", pool(false, 4, 100)));
+		long virtualWaitMs = maxFastWaitMs(executor("vote-vt", pool(true, 4, 100)), executor("chat-vt", pool(true, 4, 100)));
+
+		// then
+		assertThat(sharedWaitMs).isGreaterThanOrEqualTo(SLOW_TASK_MS);
+		assertThat(isolatedWaitMs).isLessThan(SLOW_TASK_MS / 2);
+		assertThat(virtualWaitMs).isLessThan(SLOW_TASK_MS / 2);
+	}
+
+	@Test
+	void exposesQueueDepthActiveCountAndRejections() throws Exception {
+		// given
+		ThreadPoolTaskExecutor vote = executor("vote", pool(true, 2, 10));
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(2);
+
+		// when: 2개는 실행 중, 3개는 대기
+		for (int i = 0; i < 5; i++) {
+			vote.execute(() -> {
+				started.countDown();
+				await(release);
+			});
+		}
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// then
+		assertThat(gauge("async.executor.active", "vote")).isEqualTo(2.0);
+		assertThat(gauge("async.executor.queued", "vote")).isEqualTo(3.0);
+		release.countDown();
+
+		// given: 큐가 1칸뿐인 실행기
+		ThreadPoolTaskExecutor tiny = executor("tiny", pool(false, 1, 1));
+		Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+		CountDownLatch hold = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(3);
+
+		// when: 첫 작업이 스레드를 잡고 있어, 큐를 넘친 3번째 작업은 호출한 스레드에서 실행된다.
+		for (int i = 0; i < 3; i++) {
+			boolean first = i == 0;
+			tiny.execute(() -> {
+				threadNames.add(Thread.currentThread().getName());
+				if (first) {
+					await(hold);
+				}
+				done.countDown();
+			});
+		}
+		hold.countDown();
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(meterRegistry.get("async.executor.rejected").tag("executor", "tiny").counter().count()).isEqualTo(1.0);
+		assertThat(threadNames).contains(Thread.currentThread().getName());
+	}
+
+	@Test
+	void afterCommitExecutorRetriesRejectedTaskInsteadOfRunningOnCaller() throws Exception {
+		// given: 큐가 1칸뿐이고 가득 차면 호출한 스레드에서 돌리지 않는 실행기
+		AsyncExecutorProperties.Pool pool = pool(false, 1, 1);
+		pool.setCallerRunsWhenFull(false);
+		ThreadPoolTaskExecutor tiny = executor("tiny-after-commit", pool);
+		Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+		CountDownLatch hold = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(3);
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			boolean first = i == 0;
+			tiny.execute(() -> {
+				threadNames.add(Thread.currentThread().getName());
+				if (first) {
+					await(hold);
+				}
+				done.countDown();
+			});
+		}
+
+		// then: 거절된 작업은 호출한 스레드에서 돌지 않고, 자리가 나면 실행기 스레드에서 실행된다.
+		assertThat(meterRegistry.get("async.executor.rejected").tag("executor", "tiny-after-commit").counter().count())
+			.isEqualTo(1.0);
+		assertThat(threadNames).doesNotContain(Thread.currentThread().getName());
+		hold.countDown();
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threadNames).hasSize(3).allSatisfy(name -> assertThat(name).startsWith("tiny-after-commit-"));
+	}
+
+	@Test
+	void rejectedTaskIsAbandonedAfterRetryLimit() throws Exception {
+		// given: 스레드 1개, 큐 0칸. 50ms 간격으로 2번까지만 다시 넣는다.
+		ThreadPoolTaskExecutor tiny = executor("tiny-retry-limit", retryPool(Duration.ofMillis(50), 2));
+		CountDownLatch hold = new CountDownLatch(1);
+		tiny.execute(() -> await(hold));
+		RecordingTask task = new RecordingTask();
+
+		// when: 자리가 나지 않는 동안 작업이 들어온다.
+		tiny.execute(task);
+
+		// then: 재시도 대기 중인 작업이 게이지에 보이고, 한도를 넘기면 실행되지 않고 abandon()으로 넘어간다.
+		assertThat(gauge("async.executor.retry.pending", "tiny-retry-limit")).isEqualTo(1.0);
+		assertThat(task.abandoned.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(task.runs).hasValue(0);
+		assertThat(task.cause.peek()).hasMessageContaining("after 2 retries");
+		assertThat(meterRegistry.get("async.executor.rejected").tag("executor", "tiny-retry-limit").counter().count())
+			.isEqualTo(3.0);
+		assertThat(meterRegistry.get("async.executor.abandoned").tag("executor", "tiny-retry-limit").counter().count())
+			.isEqualTo(1.0);
+		assertThat(gauge("async.executor.retry.pending", "tiny-retry-limit")).isZero();
+		hold.countDown();
+	}
+
+	@Test
+	void retryAfterShutdownAbandonsTaskInsteadOfLosingIt() throws Exception {
+		// given: 재시도를 기다리는 작업이 있다.
+		ThreadPoolTaskExecutor tiny = executor("tiny-shutdown", retryPool(Duration.ofMillis(200), 30));
+		CountDownLatch hold = new CountDownLatch(1);
+		tiny.execute(() -> await(hold));
+		RecordingTask task = new RecordingTask();
+		tiny.execute(task);
+		assertThat(gauge("async.executor.retry.pending", "tiny-shutdown")).isEqualTo(1.0);
+
+		// when: 다시 넣기 전에 실행기가 종료된다.
+		tiny.getThreadPoolExecutor().shutdown();
+		hold.countDown();
+
+		// then: 재시도 시점에 조용히 사라지지 않고 abandon()으로 넘어간다.
+		assertThat(task.abandoned.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(task.runs).hasValue(0);
+		assertThat(task.cause.peek()).hasMessageContaining("shut down");
+		assertThat(gauge("async.executor.retry.pending", "tiny-shutdown")).isZero();
+	}
+
+	private long maxFastWaitMs(ThreadPoolTaskExecutor slowExecutor, ThreadPoolTaskExecutor fastExecutor) throws Exception {
+		CountDownLatch done = new CountDownLatch(SLOW_TASKS + FAST_TASKS);
+		AtomicLong maxWaitNanos = new AtomicLong();
+		for (int i = 0; i < SLOW_TASKS; i++) {
+			slowExecutor.execute(() -> {
+				sleep(SLOW_TASK_MS);
+				done.countDown();
+			});
+		}
+		for (int i = 0; i < FAST_TASKS; i++) {
+			long submittedAt = System.nanoTime();
+			fastExecutor.execute(() -> {
+				maxWaitNanos.accumulateAndGet(System.nanoTime() - submittedAt, Math::max);
+				done.countDown();
+			});
+		}
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+	}
+
+	private ThreadPoolTaskExecutor executor(String name, AsyncExecutorProperties.Pool pool) {
+		ThreadPoolTaskExecutor executor = AsyncExecutorFactory.create(name, pool, meterRegistry);
+		executor.initialize();
+		executors.add(executor);
+		return executor;
+	}
+
+	private AsyncExecutorProperties.Pool pool(boolean virtualThreads, int concurrency, int queueCapacity) {
+		AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool(concurrency, queueCapacity);
+		pool.setVirtualThreads(virtualThreads);
+		return pool;
+	}
+
+	private AsyncExecutorProperties.Pool retryPool(Duration retryDelay, int maxRetries) {
+		AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool(1, 0, false);
+		pool.setRejectedRetryDelay(retryDelay);
+		pool.setMaxRejectedRetries(maxRetries);
+		return pool;
+	}
+
+	private double gauge(String name, String executor) {
+		return meterRegistry.get(name).tag("executor", executor).gauge().value();
+	}
+
+	private static class RecordingTask implements AbandonableTask {
+
+		private final AtomicInteger runs = new AtomicInteger();
+		private final CountDownLatch abandoned = new CountDownLatch(1);
+		private final Queue<RejectedExecutionException> cause = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public void run() {
+			runs.incrementAndGet();
+		}
+
+		@Override
+		public void abandon(RejectedExecutionException cause) {
+			this.cause.add(cause);
+			abandoned.countDown();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.matchimban.matchimban_api.meeting.repository;
+
+import com.matchimban.matchimban_api.chat.service.ChatSystemMessageService;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.projection.MyMeetingRow;
+import com.matchimban.matchimban_api.meeting.service.MeetingParticipationService;
+import com.matchimban.matchimban_api.meeting.service.serviceImpl.MeetingParticipationServiceImpl;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 모임 60개에 참여한 회원의 목록을 기존 서브쿼리 방식과 비정규화 컬럼 방식으로 끝까지 넘겨 보며 비교한다.
+// 시드 데이터의 카운터는 서비스와 같은 방식(addParticipantCount, syncCurrentVote)으로 맞추고, 나가기는 실제 서비스로 처리한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MeetingParticipationServiceImpl.class)
+class MyMeetingRowsBenchmarkTest {
+
+    private static final int MEETINGS = 60;
+    private static final int PARTICIPANTS_PER_MEETING = 10;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private MeetingParticipationService participationService;
+
+    @MockitoBean
+    private ChatSystemMessageService chatSystemMessageService;
+
+    private Long heavyMemberId;
+    private Long lastMemberId;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_MEETING; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+        heavyMemberId = members.get(0).getId();
+        lastMemberId = members.get(PARTICIPANTS_PER_MEETING - 1).getId();
+
+        VoteStatus[] round2Statuses = VoteStatus.values();
+        for (int m = 0; m < MEETINGS; m++) {
+            Meeting meeting = meetingRepository.save(Meeting.builder()
+                    .title("모임-" + m)
+                    .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                    .locationAddress("서울")
+                    .locationLat(new BigDecimal("37.5000000"))
+                    .locationLng(new BigDecimal("127.0000000"))
+                    .targetHeadcount(PARTICIPANTS_PER_MEETING)
+                    .searchRadiusM(500)
+                    .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                    .swipeCount(5)
+                    .inviteCode(String.format("BM%06d", m))
+                    .isQuickMeeting(m % 4 == 0)
+                    .hostMemberId(heavyMemberId)
+                    .build());
+            Long meetingId = meeting.getId();
+
+            for (int p = 0; p < PARTICIPANTS_PER_MEETING; p++) {
+                participantRepository.save(MeetingParticipant.builder()
+                        .meeting(meeting)
+                        .member(members.get(p))
+                        .role(p == 0 ? MeetingParticipant.Role.HOST : MeetingParticipant.Role.MEMBER)
+                        .status(MeetingParticipant.Status.ACTIVE)
+                        .build());
+                meetingRepository.addParticipantCount(meetingId, 1);
+            }
+            // 일부는 나갔다. 투표가 생기기 전이라 서비스의 진행 중 투표 검사에 걸리지 않는다.
+            for (int p = 1; p <= m % 3; p++) {
+                participationService.leaveMeeting(members.get(p).getId(), meetingId);
+            }
+
+            // 3개 중 1개는 아직 투표가 없고, 나머지는 2회차 상태를 골고루 둔다.
+            if (m % 3 != 0) {
+                voteRepository.save(Vote.builder().meeting(meeting).round(1).status(VoteStatus.COUNTED).build());
+                voteRepository.save(Vote.builder().meeting(meeting).round(2)
+                        .status(round2Statuses[m % round2Statuses.length]).build());
+                meetingRepository.syncCurrentVote(meetingId);
+            }
+        }
+    }
+
+    @Test
+    void counterColumnsMatchSubqueriesOnSeededData() {
+        // when
+        List<MyMeetingRow> fromSubqueries = readAll(false);
+        List<MyMeetingRow> fromCounters = readAll(true);
+
+        // then
+        assertThat(fromSubqueries).hasSize(MEETINGS);
+        assertThat(fromCounters).usingRecursiveFieldByFieldElementComparator().isEqualTo(fromSubqueries);
+        assertThat(fromCounters).anySatisfy(row -> assertThat(row.getParticipantCount()).isEqualTo(8L));
+        assertThat(fromCounters).anySatisfy(row -> assertThat(row.getVoteStatus()).isNull());
+    }
+
+    @Test
+    void repeatedLeaveDecrementsParticipantCountOnce() {
+        // given: 투표가 없는 모임이어야 나갈 수 있다.
+        MyMeetingRow row = readAll(true).stream()
+                .filter(r -> r.getVoteStatus() == null)
+                .findFirst()
+                .orElseThrow();
+        MeetingParticipant participant = participantRepository.findByMeetingIdAndMemberId(row.getMeetingId(), lastMemberId)
+                .orElseThrow();
+        assertThat(participant.getStatus()).isEqualTo(MeetingParticipant.Status.ACTIVE);
+
+        // when: 같은 나가기가 두 번 들어온다.
+        participationService.leaveMeeting(lastMemberId, row.getMeetingId());
+        participationService.leaveMeeting(lastMemberId, row.getMeetingId());
+
+        // then
+        MyMeetingRow after = readAll(true).stream()
+                .filter(r -> r.getMeetingId().equals(row.getMeetingId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(after.getParticipantCount()).isEqualTo(row.getParticipantCount() - 1);
+        assertThat(participantRepository.findByMeetingIdAndMemberId(row.getMeetingId(), lastMemberId).orElseThrow()
+                .getStatus()).isEqualTo(MeetingParticipant.Status.LEFT);
+    }
+
+    private List<MyMeetingRow> readAll(boolean counters) {
+        List<MyMeetingRow> all = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<MyMeetingRow> page = counters
+                    ? participantRepository.findMyMeetingRowsFromCounters(
+                            heavyMemberId, cursor, MeetingParticipant.Status.ACTIVE, PageRequest.of(0, PAGE_SIZE))
+                    : participantRepository.findMyMeetingRows(
+                            heavyMemberId, cursor, MeetingParticipant.Status.ACTIVE, PageRequest.of(0, PAGE_SIZE));
+            all.addAll(page);
+            if (page.size() < PAGE_SIZE) {
+                return all;
+            }
+            cursor = page.get(page.size() - 1).getMeetingParticipantId();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.matchimban.matchimban_api.meeting.repository;
+
+import com.matchimban.matchimban_api.chat.service.ChatSystemMessageService;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.projection.MyMeetingRow;
+import com.matchimban.matchimban_api.meeting.service.MeetingParticipationService;
+import com.matchimban.matchimban_api.meeting.service.serviceImpl.MeetingParticipationServiceImpl;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Postgres에 모임 수백 개를 시드하고, 모든 모임에 참여한 회원의 목록을
+// 기존 서브쿼리 방식(findMyMeetingRows)과 비정규화 컬럼 방식(findMyMeetingRowsFromCounters)으로 끝까지 넘겨 시간을 비교한다.
+// 카운터는 서비스와 같은 경로(addParticipantCount, syncCurrentVote, leaveMeeting)로 맞춘다.
+// BENCH_POSTGRES_URL(기본 localhost:5432/postgres)에 연결할 수 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MeetingParticipationServiceImpl.class)
+class MyMeetingRowsPostgresBenchmarkTest {
+
+    private static final String SCHEMA = "bench_my_meetings";
+    private static final int MEETINGS = 300;
+    private static final int PARTICIPANTS_PER_MEETING = 30;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_PASSES = 3;
+    private static final int MEASURED_PASSES = 10;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private MeetingParticipationService participationService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ChatSystemMessageService chatSystemMessageService;
+
+    private TransactionTemplate transactionTemplate;
+    private Long heavyMemberId;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> env("BENCH_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCH_POSTGRES_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @BeforeAll
+    static void createSchema() {
+        try (Connection connection = DriverManager.getConnection(
+                url(), env("BENCH_POSTGRES_USER", "postgres"), env("BENCH_POSTGRES_PASSWORD", "postgres"));
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        } catch (Exception e) {
+            Assumptions.abort("local postgres is not available");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cleanUp();
+        seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void counterColumnsReadFasterThanSubqueries() {
+        // given: 두 방식 모두 같은 횟수만큼 미리 돌려 계획과 캐시를 데운다.
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            readAll(false);
+            readAll(true);
+        }
+
+        // when
+        List<MyMeetingRow> fromSubqueries = null;
+        long subqueryStartedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            fromSubqueries = readAll(false);
+        }
+        long subqueryNs = System.nanoTime() - subqueryStartedAt;
+
+        List<MyMeetingRow> fromCounters = null;
+        long counterStartedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            fromCounters = readAll(true);
+        }
+        long counterNs = System.nanoTime() - counterStartedAt;
+
+        // then: 같은 목록을 더 짧은 시간에 읽는다.
+        assertThat(fromSubqueries).hasSize(MEETINGS);
+        assertThat(fromCounters).usingRecursiveFieldByFieldElementComparator().isEqualTo(fromSubqueries);
+        assertThat(counterNs).isLessThan(subqueryNs);
+    }
+
+    private void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_MEETING; i++) {
+            members.add(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+        heavyMemberId = members.get(0).getId();
+
+        VoteStatus[] round2Statuses = VoteStatus.values();
+        for (int m = 0; m < MEETINGS; m++) {
+            int index = m;
+            List<Member> seededMembers = members;
+            Long meetingId = transactionTemplate.execute(status -> {
+                Meeting meeting = meetingRepository.save(Meeting.builder()
+                        .title("모임-" + index)
+                        .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                        .locationAddress("서울")
+                        .locationLat(new BigDecimal("37.5000000"))
+                        .locationLng(new BigDecimal("127.0000000"))
+                        .targetHeadcount(PARTICIPANTS_PER_MEETING)
+                        .searchRadiusM(500)
+                        .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                        .swipeCount(5)
+                        .inviteCode(String.format("PG%06d", index))
+                        .isQuickMeeting(index % 4 == 0)
+                        .hostMemberId(heavyMemberId)
+                        .build());
+                for (int p = 0; p < PARTICIPANTS_PER_MEETING; p++) {
+                    participantRepository.save(MeetingParticipant.builder()
+                            .meeting(meeting)
+                            .member(seededMembers.get(p))
+                            .role(p == 0 ? MeetingParticipant.Role.HOST : MeetingParticipant.Role.MEMBER)
+                            .status(MeetingParticipant.Status.ACTIVE)
+                            .build());
+                }
+                meetingRepository.addParticipantCount(meeting.getId(), PARTICIPANTS_PER_MEETING);
+                return meeting.getId();
+            });
+
+            // 일부는 나갔다. 투표가 생기기 전이라 서비스의 진행 중 투표 검사에 걸리지 않는다.
+            for (int p = 1; p <= m % 5; p++) {
+                participationService.leaveMeeting(members.get(p).getId(), meetingId);
+            }
+
+            // 3개 중 1개는 아직 투표가 없고, 나머지는 2회차 상태를 골고루 둔다.
+            if (m % 3 != 0) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Meeting meeting = meetingRepository.getReferenceById(meetingId);
+                    voteRepository.save(Vote.builder().meeting(meeting).round(1).status(VoteStatus.COUNTED).build());
+                    voteRepository.save(Vote.builder().meeting(meeting).round(2)
+                            .status(round2Statuses[index % round2Statuses.length]).build());
+                    meetingRepository.syncCurrentVote(meetingId);
+                });
+            }
+        }
+    }
+
+    private List<MyMeetingRow> readAll(boolean counters) {
+        List<MyMeetingRow> all = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<MyMeetingRow> page = counters
+                    ? participantRepository.findMyMeetingRowsFromCounters(
+                            heavyMemberId, cursor, MeetingParticipant.Status.ACTIVE, PageRequest.of(0, PAGE_SIZE))
+                    : participantRepository.findMyMeetingRows(
+                            heavyMemberId, cursor, MeetingParticipant.Status.ACTIVE, PageRequest.of(0, PAGE_SIZE));
+            all.addAll(page);
+            if (page.size() < PAGE_SIZE) {
+                return all;
+            }
+            cursor = page.get(page.size() - 1).getMeetingParticipantId();
+        }
+    }
+
+    private void cleanUp() {
+        voteRepository.deleteAllInBatch();
+        participantRepository.deleteAllInBatch();
+        meetingRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private static String url() {
+        return env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/postgres");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
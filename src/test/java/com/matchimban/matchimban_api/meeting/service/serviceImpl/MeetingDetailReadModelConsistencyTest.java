@@ -0,0 +1,482 @@
+package com.matchimban.matchimban_api.meeting.service.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.chat.service.ChatService;
+import com.matchimban.matchimban_api.chat.service.ChatSystemMessageService;
+import com.matchimban.matchimban_api.event.service.EventCouponUseService;
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import com.matchimban.matchimban_api.global.storage.CdnUrlComposer;
+import com.matchimban.matchimban_api.meeting.config.MeetingDetailReadModelRedisConfig;
+import com.matchimban.matchimban_api.meeting.dto.request.ParticipateMeetingRequest;
+import com.matchimban.matchimban_api.meeting.dto.request.UpdateMeetingRequest;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEventListener;
+import com.matchimban.matchimban_api.meeting.redis.MeetingDetailDocument;
+import com.matchimban.matchimban_api.meeting.redis.MeetingDetailReadModelRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.meeting.service.MeetingParticipationService;
+import com.matchimban.matchimban_api.meeting.service.MeetingService;
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import com.matchimban.matchimban_api.notification.service.NotificationScheduleService;
+import com.matchimban.matchimban_api.restaurant.entity.Restaurant;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRepository;
+import com.matchimban.matchimban_api.settlement.config.AppS3Properties;
+import com.matchimban.matchimban_api.settlement.dto.request.MenuSelectionConfirmRequest;
+import com.matchimban.matchimban_api.settlement.dto.request.OpenSelectionRequest;
+import com.matchimban.matchimban_api.settlement.dto.request.ReceiptConfirmRequest;
+import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
+import com.matchimban.matchimban_api.settlement.ocr.config.AppOcrProperties;
+import com.matchimban.matchimban_api.settlement.ocr.dto.RunpodOcrResponse;
+import com.matchimban.matchimban_api.settlement.ocr.enums.OcrJobStatus;
+import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobRepository;
+import com.matchimban.matchimban_api.settlement.ocr.service.SettlementOcrJobTxService;
+import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
+import com.matchimban.matchimban_api.settlement.service.MenuSelectionConfirmService;
+import com.matchimban.matchimban_api.settlement.service.SettlementCompleteService;
+import com.matchimban.matchimban_api.settlement.service.SettlementOcrTriggerService;
+import com.matchimban.matchimban_api.settlement.service.SettlementOpenSelectionService;
+import com.matchimban.matchimban_api.settlement.service.SettlementProgressSseService;
+import com.matchimban.matchimban_api.settlement.service.SettlementReceiptConfirmService;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteSubmissionRepository;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateGenerationTxService;
+import com.matchimban.matchimban_api.vote.service.VoteCountService;
+import com.matchimban.matchimban_api.vote.service.VoteFailureService;
+import com.matchimban.matchimban_api.vote.service.VoteService;
+import com.matchimban.matchimban_api.vote.service.serviceImpl.VoteCountServiceImpl;
+import com.matchimban.matchimban_api.vote.service.serviceImpl.VoteServiceImpl;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 참여/투표/정산 쓰기를 실제 서비스 빈으로 차례로 실행하면서, 매 단계마다 읽기 모델 경로와 기존 DB 조회 경로의 응답이 같은지 비교한다.
+// 서비스가 발행한 MeetingDetailChangedEvent는 컨텍스트에 등록된 리스너가 커밋 후에 받아 문서를 무효화한다.
+// 테스트 메서드 트랜잭션이 섞이지 않도록 NOT_SUPPORTED로 실행한다. 로컬 Redis가 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        MeetingParticipationServiceImpl.class,
+        MeetingServiceImpl.class,
+        VoteServiceImpl.class,
+        VoteCountServiceImpl.class,
+        VoteFailureService.class,
+        VoteCandidateGenerationTxService.class,
+        SettlementReceiptConfirmService.class,
+        SettlementOcrTriggerService.class,
+        SettlementOcrJobTxService.class,
+        SettlementOpenSelectionService.class,
+        MenuSelectionConfirmService.class,
+        SettlementCompleteService.class,
+        MeetingDetailChangedEventListener.class,
+        MeetingDetailReadModelRepository.class,
+        MeetingDetailReadModelRedisConfig.class,
+        MeetingDetailReadModelConsistencyTest.ReadModelTestConfig.class
+})
+class MeetingDetailReadModelConsistencyTest {
+
+    private static final int MEMBERS = 6;
+    private static final int CANDIDATES_PER_ROUND = 2;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private VoteSubmissionRepository voteSubmissionRepository;
+    @Autowired
+    private MeetingSettlementRepository settlementRepository;
+    @Autowired
+    private SettlementOcrJobRepository ocrJobRepository;
+    @Autowired
+    private FoodCategoryRepository foodCategoryRepository;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private MeetingDetailReadModelRepository readModelRepository;
+    @Autowired
+    private MeetingDetailChangedEventListener listener;
+
+    @Autowired
+    private MeetingParticipationService participationService;
+    @Autowired
+    private MeetingService meetingService;
+    @Autowired
+    private VoteService voteService;
+    @Autowired
+    private VoteCountService voteCountService;
+    @Autowired
+    private VoteFailureService voteFailureService;
+    @Autowired
+    private VoteCandidateGenerationTxService generationTxService;
+    @Autowired
+    private SettlementReceiptConfirmService receiptConfirmService;
+    @Autowired
+    private SettlementOcrTriggerService ocrTriggerService;
+    @Autowired
+    private SettlementOcrJobTxService ocrJobTxService;
+    @Autowired
+    private SettlementOpenSelectionService openSelectionService;
+    @Autowired
+    private MenuSelectionConfirmService menuSelectionConfirmService;
+    @Autowired
+    private SettlementCompleteService settlementCompleteService;
+
+    @MockitoBean
+    private ChatSystemMessageService chatSystemMessageService;
+    @MockitoBean
+    private CdnUrlComposer cdnUrlComposer;
+    @MockitoBean
+    private NotificationScheduleService notificationScheduleService;
+    @MockitoBean
+    private EventCouponUseService eventCouponUseService;
+    @MockitoBean
+    private VoteTallyRedisRepository voteTallyRedisRepository;
+    @MockitoBean
+    private ReferenceDataCache referenceDataCache;
+    @MockitoBean
+    private SettlementProgressSseService settlementProgressSseService;
+
+    private final List<Member> members = new ArrayList<>();
+
+    private TransactionTemplate tx;
+    private MeetingReadServiceImpl liveService;
+    private MeetingReadServiceImpl readModelService;
+    private Long meetingId;
+    private String inviteCode;
+
+    @BeforeEach
+    void setUp() {
+        Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+        // 안 읽은 채팅 수는 회원별 오버레이이므로 두 경로에 같은 값을 준다.
+        ChatService chatService = mock(ChatService.class);
+        when(chatService.countUnreadForMeetingBadge(anyLong(), anyLong()))
+                .thenAnswer(invocation -> (long) invocation.getArgument(1, Long.class) % 5);
+
+        liveService = newReadService(chatService, false);
+        readModelService = newReadService(chatService, true);
+        tx = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+
+        inviteCode = "RMDL" + (System.nanoTime() % 10_000);
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("상세 읽기 모델")
+                .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                .locationAddress("서울")
+                .locationLat(new BigDecimal("37.5000000"))
+                .locationLng(new BigDecimal("127.0000000"))
+                .targetHeadcount(MEMBERS)
+                .searchRadiusM(500)
+                .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                .swipeCount(CANDIDATES_PER_ROUND)
+                .inviteCode(inviteCode)
+                .hostMemberId(members.get(0).getId())
+                .build());
+        meetingId = meeting.getId();
+        readModelRepository.invalidate(meetingId);
+
+        for (int i = 0; i < 3; i++) {
+            participantRepository.save(MeetingParticipant.builder()
+                    .meeting(meeting)
+                    .member(members.get(i))
+                    .role(i == 0 ? MeetingParticipant.Role.HOST : MeetingParticipant.Role.MEMBER)
+                    .status(MeetingParticipant.Status.ACTIVE)
+                    .build());
+        }
+        tx.executeWithoutResult(status -> meetingRepository.addParticipantCount(meetingId, 3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (meetingId != null) {
+            readModelRepository.invalidate(meetingId);
+        }
+    }
+
+    @Test
+    void serviceWritesKeepReadModelEqualToLiveQueries() {
+        // given: 각 단계는 컨트롤러가 호출하는 서비스 메서드를 그대로 호출한다.
+        Long hostId = members.get(0).getId();
+        List<Long> restaurantIds = saveRestaurants();
+
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("join member-3", () -> participationService.participateMeeting(memberId(3), participateRequest()));
+        steps.put("join member-4", () -> participationService.participateMeeting(memberId(4), participateRequest()));
+        steps.put("leave member-1", () -> participationService.leaveMeeting(memberId(1), meetingId));
+        steps.put("rejoin member-1", () -> participationService.participateMeeting(memberId(1), participateRequest()));
+        steps.put("update meeting", () -> meetingService.updateMeeting(hostId, meetingId, updateRequest()));
+        steps.put("create votes", () -> voteService.createVote(meetingId, hostId));
+        steps.put("generation failed", () -> voteFailureService.markVotesFailed(vote(0).getId(), vote(1).getId()));
+        steps.put("regenerate", () -> voteService.createVote(meetingId, hostId));
+        steps.put("candidates saved", () -> generationTxService.saveCandidates(
+                meetingId,
+                vote(0).getId(),
+                vote(1).getId(),
+                candidates(restaurantIds.subList(0, CANDIDATES_PER_ROUND)),
+                candidates(restaurantIds.subList(CANDIDATES_PER_ROUND, CANDIDATES_PER_ROUND * 2)),
+                participantRepository.findActiveMemberIds(meetingId)));
+        steps.put("round1 counting", () -> voteCountService.tryStartCounting(vote(0).getId()));
+        steps.put("round1 counted", () -> voteCountService.countSync(vote(0).getId()));
+        steps.put("round2 open", () -> voteService.startRevote(meetingId, vote(0).getId(), hostId));
+        steps.put("round2 counted", () -> {
+            voteCountService.tryStartCounting(vote(1).getId());
+            voteCountService.countSync(vote(1).getId());
+        });
+        steps.put("leave member-4", () -> participationService.leaveMeeting(memberId(4), meetingId));
+        steps.put("receipt uploaded", () -> receiptConfirmService.confirm(meetingId, hostId,
+                new ReceiptConfirmRequest("settlements/meeting-" + meetingId + "/receipt.png")));
+        steps.put("ocr processing", () -> ocrTriggerService.trigger(meetingId, hostId));
+        steps.put("ocr succeeded", () -> ocrJobTxService.succeed(ocrJobId(), settlement().getId(), ocrResponse()));
+        steps.put("selection open", () -> openSelectionService.open(meetingId, hostId, new OpenSelectionRequest(
+                new BigDecimal("18000"),
+                BigDecimal.ZERO,
+                List.of(new OpenSelectionRequest.Item(null, "김치찌개", new BigDecimal("9000"), 2, new BigDecimal("18000")))
+        )));
+        steps.put("menus confirmed", () -> participantRepository.findActiveMemberIds(meetingId).forEach(memberId ->
+                menuSelectionConfirmService.confirm(meetingId, memberId, new MenuSelectionConfirmRequest(List.of()))));
+        steps.put("completed", () -> settlementCompleteService.complete(meetingId, hostId));
+        steps.put("delete meeting", () -> meetingService.deleteMeeting(hostId, meetingId));
+
+        // 첫 조회로 문서를 만들어 둔 상태에서 시작한다.
+        assertSameForEveryMember("initial");
+
+        for (Map.Entry<String, Runnable> step : steps.entrySet()) {
+            String versionBefore = readModelRepository.currentVersion(meetingId);
+
+            // when
+            step.getValue().run();
+
+            // then: 서비스가 발행한 이벤트로 문서가 무효화되었고, 다시 만든 문서가 DB 조회와 같다.
+            assertThat(readModelRepository.currentVersion(meetingId)).as(step.getKey()).isNotEqualTo(versionBefore);
+            assertSameForEveryMember(step.getKey());
+        }
+    }
+
+    @Test
+    void documentBuiltBeforeInvalidationIsNotSaved() {
+        // given: 조회 쪽이 문서를 만들기 시작한 시점의 버전과 그때 읽은 문서
+        readModelService.getMeetingDetail(members.get(0).getId(), meetingId);
+        MeetingDetailDocument stale = readModelRepository.find(meetingId).orElseThrow();
+        String version = readModelRepository.currentVersion(meetingId);
+
+        // when: 저장하기 전에 변경 이벤트가 먼저 처리되었다
+        listener.onMeetingDetailChanged(new MeetingDetailChangedEvent(meetingId));
+        boolean saved = readModelRepository.saveIfVersion(stale, version);
+
+        // then: 예전 버전의 문서는 저장되지 않는다
+        assertThat(saved).isFalse();
+        assertThat(readModelRepository.find(meetingId)).isEmpty();
+    }
+
+    private void assertSameForEveryMember(String step) {
+        for (Member member : members) {
+            Long memberId = member.getId();
+            // 두 번 읽어서 문서가 없을 때(생성)와 있을 때(적중) 모두 비교한다.
+            for (int read = 0; read < 2; read++) {
+                assertSameOutcome(step, () -> liveService.getMeetingDetail(memberId, meetingId),
+                        () -> readModelService.getMeetingDetail(memberId, meetingId));
+                assertSameOutcome(step, () -> liveService.getMeetingDetailState(memberId, meetingId),
+                        () -> readModelService.getMeetingDetailState(memberId, meetingId));
+            }
+        }
+    }
+
+    private void assertSameOutcome(String step, Supplier<Object> live, Supplier<Object> readModel) {
+        Object expected = outcome(live);
+        Object actual = outcome(readModel);
+        assertThat(actual).as(step).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    private Object outcome(Supplier<Object> call) {
+        try {
+            return call.get();
+        } catch (ApiException ex) {
+            return ex.getErrorCode();
+        }
+    }
+
+    private MeetingReadServiceImpl newReadService(ChatService chatService, boolean readModelEnabled) {
+        MeetingReadServiceImpl service = new MeetingReadServiceImpl(
+                participantRepository,
+                meetingRepository,
+                chatService,
+                voteRepository,
+                voteSubmissionRepository,
+                settlementRepository,
+                readModelRepository
+        );
+        ReflectionTestUtils.setField(service, "detailReadModelEnabled", readModelEnabled);
+        return service;
+    }
+
+    private List<Long> saveRestaurants() {
+        FoodCategory category = foodCategoryRepository.save(FoodCategory.builder()
+                .categoryCode("KOREAN")
+                .categoryName("한식")
+                .categoryType(FoodCategoryType.CATEGORY)
+                .build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < CANDIDATES_PER_ROUND * 2; i++) {
+            ids.add(restaurantRepository.save(Restaurant.builder()
+                    .name("restaurant-" + i)
+                    .foodCategory(category)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private List<AiRecommendationResponse.Restaurant> candidates(List<Long> restaurantIds) {
+        List<AiRecommendationResponse.Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            restaurants.add(AiRecommendationResponse.Restaurant.builder()
+                    .id(restaurantIds.get(i))
+                    .distanceM(100)
+                    .finalScore(new BigDecimal("0.9"))
+                    .rank(i + 1)
+                    .build());
+        }
+        return restaurants;
+    }
+
+    private ParticipateMeetingRequest participateRequest() {
+        ParticipateMeetingRequest request = new ParticipateMeetingRequest();
+        ReflectionTestUtils.setField(request, "inviteCode", inviteCode);
+        return request;
+    }
+
+    // 인원이 다섯 명이 된 시점에 목표 인원을 맞춰야 투표를 만들 수 있다.
+    private UpdateMeetingRequest updateRequest() {
+        UpdateMeetingRequest request = new UpdateMeetingRequest();
+        ReflectionTestUtils.setField(request, "title", "제목 변경");
+        ReflectionTestUtils.setField(request, "targetHeadcount", 5);
+        ReflectionTestUtils.setField(request, "searchRadiusM", 800);
+        ReflectionTestUtils.setField(request, "exceptMeat", true);
+        return request;
+    }
+
+    private RunpodOcrResponse ocrResponse() {
+        return new RunpodOcrResponse(
+                "req-" + meetingId,
+                new RunpodOcrResponse.ReceiptResult(
+                        List.of(new RunpodOcrResponse.ReceiptItem("김치찌개", 9000, 2, 18000)),
+                        18000,
+                        0,
+                        18000,
+                        null
+                ),
+                null
+        );
+    }
+
+    private Long memberId(int index) {
+        return members.get(index).getId();
+    }
+
+    private Vote vote(int index) {
+        return voteRepository.findByMeetingIdOrderByRoundAsc(meetingId).get(index);
+    }
+
+    private MeetingSettlement settlement() {
+        return settlementRepository.findByMeetingId(meetingId).orElseThrow();
+    }
+
+    private Long ocrJobId() {
+        return ocrJobRepository.findFirstBySettlementIdAndStatusInOrderByIdDesc(
+                settlement().getId(), List.of(OcrJobStatus.PENDING)).orElseThrow().getId();
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            redisTemplate.hasKey("meeting:detail:ping");
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    @TestConfiguration
+    static class ReadModelTestConfig {
+
+        @Bean
+        LettuceConnectionFactory readModelRedisConnectionFactory() {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory readModelRedisConnectionFactory) {
+            return new StringRedisTemplate(readModelRedisConnectionFactory);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+
+        @Bean
+        AppS3Properties appS3Properties() {
+            return new AppS3Properties();
+        }
+
+        @Bean
+        AppOcrProperties appOcrProperties() {
+            return new AppOcrProperties();
+        }
+    }
+}
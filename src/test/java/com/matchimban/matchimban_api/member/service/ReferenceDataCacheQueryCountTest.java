@@ -0,0 +1,317 @@
+package com.matchimban.matchimban_api.member.service;
+
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.MemberCategoryMapping;
+import com.matchimban.matchimban_api.member.entity.Policy;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberCategoryRelationType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.entity.enums.PolicyType;
+import com.matchimban.matchimban_api.member.onboarding.dto.request.AgreementConsentRequest;
+import com.matchimban.matchimban_api.member.onboarding.dto.request.AgreementConsentRequestItem;
+import com.matchimban.matchimban_api.member.onboarding.dto.request.PreferencesSaveRequest;
+import com.matchimban.matchimban_api.member.onboarding.service.OnboardingService;
+import com.matchimban.matchimban_api.member.onboarding.service.serviceImpl.OnboardingServiceImpl;
+import com.matchimban.matchimban_api.member.redis.ReferenceDataRedisPublisher;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.MemberCategoryMappingRepository;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.member.repository.PolicyRepository;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateGenerationTxService;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+// 약관/카테고리 캐시가 데워진 뒤에는 온보딩과 투표 후보 준비 경로에서 policy/food_category를 다시 조회하지 않는지 센다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+	ReferenceDataCache.class,
+	OnboardingServiceImpl.class,
+	VoteCandidateGenerationTxService.class,
+	ReferenceDataCacheQueryCountTest.QueryCaptureDataSourceConfig.class
+})
+class ReferenceDataCacheQueryCountTest {
+
+	// 연관 조인(member_category_mapping join food_category)은 회원 데이터 조회이므로 세지 않는다.
+	private static final Pattern REFERENCE_DATA_QUERY = Pattern.compile("\\bfrom (policy|food_category)\\b");
+	private static final Queue<String> QUERIES = new ConcurrentLinkedQueue<>();
+
+	@Autowired
+	private ReferenceDataCache referenceDataCache;
+	@Autowired
+	private OnboardingService onboardingService;
+	@Autowired
+	private VoteCandidateGenerationTxService voteCandidateGenerationTxService;
+	@Autowired
+	private PolicyRepository policyRepository;
+	@Autowired
+	private FoodCategoryRepository foodCategoryRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private MemberCategoryMappingRepository memberCategoryMappingRepository;
+	@Autowired
+	private MeetingRepository meetingRepository;
+	@Autowired
+	private MeetingParticipantRepository participantRepository;
+
+	@MockitoBean
+	private ReferenceDataRedisPublisher referenceDataRedisPublisher;
+	@MockitoBean
+	private VoteTallyRedisRepository voteTallyRedisRepository;
+
+	private long version;
+	private Policy termsPolicy;
+	private Policy privacyPolicy;
+	private Member member;
+	private Meeting meeting;
+
+	@BeforeEach
+	void setUp() {
+		// 테스트마다 데이터가 롤백되므로 이전 테스트에서 만든 스냅샷을 버린다.
+		version = System.nanoTime();
+		when(referenceDataRedisPublisher.currentVersion()).thenReturn(version);
+		referenceDataCache.onChanged(version);
+
+		termsPolicy = policyRepository.save(policy(PolicyType.TERMS_OF_SERVICE, "이용약관"));
+		privacyPolicy = policyRepository.save(policy(PolicyType.PRIVACY_POLICY, "개인정보처리방침"));
+		FoodCategory korean = foodCategoryRepository.save(category(FoodCategoryType.CATEGORY, "KOREAN", "한식"));
+		FoodCategory chinese = foodCategoryRepository.save(category(FoodCategoryType.CATEGORY, "CHINESE", "중식"));
+		foodCategoryRepository.save(category(FoodCategoryType.ALLERGY_GROUP, "NUTS", "견과류"));
+
+		member = memberRepository.save(Member.builder()
+			.nickname("member")
+			.status(MemberStatus.ONBOARDING)
+			.build());
+		Member other = memberRepository.save(Member.builder()
+			.nickname("other")
+			.status(MemberStatus.ACTIVE)
+			.build());
+		memberCategoryMappingRepository.save(MemberCategoryMapping.builder()
+			.member(other)
+			.category(chinese)
+			.relationType(MemberCategoryRelationType.DISLIKE)
+			.build());
+		memberCategoryMappingRepository.save(MemberCategoryMapping.builder()
+			.member(other)
+			.category(korean)
+			.relationType(MemberCategoryRelationType.PREFERENCE)
+			.build());
+
+		meeting = meetingRepository.save(Meeting.builder()
+			.title("캐시 테스트")
+			.scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+			.locationAddress("서울")
+			.locationLat(new BigDecimal("37.5000000"))
+			.locationLng(new BigDecimal("127.0000000"))
+			.targetHeadcount(2)
+			.searchRadiusM(500)
+			.voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+			.swipeCount(5)
+			.inviteCode("REF" + (System.nanoTime() % 100_000))
+			.hostMemberId(other.getId())
+			.build());
+		participantRepository.save(MeetingParticipant.builder()
+			.meeting(meeting)
+			.member(other)
+			.role(MeetingParticipant.Role.HOST)
+			.status(MeetingParticipant.Status.ACTIVE)
+			.build());
+	}
+
+	@Test
+	void warmPathsIssueNoReferenceDataQueries() {
+		// given: 첫 호출에서 스냅샷을 채운다.
+		QUERIES.clear();
+		onboardingService.getPreferenceChoices();
+		long coldReferenceQueries = referenceDataQueries();
+
+		// when
+		QUERIES.clear();
+		for (int i = 0; i < 10; i++) {
+			onboardingService.getRequiredAgreements();
+			onboardingService.getAgreementDetail(termsPolicy.getId());
+			onboardingService.getPreferenceChoices();
+		}
+		OnboardingService.AgreementConsentResult consent = onboardingService.acceptAgreements(member.getId(),
+			new AgreementConsentRequest(List.of(
+				new AgreementConsentRequestItem(termsPolicy.getId(), true),
+				new AgreementConsentRequestItem(privacyPolicy.getId(), true)
+			)));
+		OnboardingService.PreferencesSaveResult invalid = onboardingService.savePreferences(member.getId(),
+			new PreferencesSaveRequest(List.of("NUTS"), List.of("KOREAN", "UNKNOWN"), List.of()));
+		OnboardingService.PreferencesSaveResult saved = onboardingService.savePreferences(member.getId(),
+			new PreferencesSaveRequest(List.of("NUTS"), List.of("KOREAN"), List.of("CHINESE")));
+		VoteCandidateGenerationTxService.GenerationPlan plan =
+			voteCandidateGenerationTxService.prepare(meeting.getId(), 1L);
+		long warmReferenceQueries = referenceDataQueries();
+
+		// then
+		assertThat(coldReferenceQueries).isEqualTo(2L);
+		assertThat(warmReferenceQueries).isZero();
+		assertThat(consent.hasMissing()).isFalse();
+		assertThat(invalid.hasFieldErrors()).isTrue();
+		assertThat(saved.hasFieldErrors()).isFalse();
+		assertThat(memberCategoryMappingRepository.findByMemberIdWithCategory(member.getId())).hasSize(3);
+		Map<String, Integer> like = plan.request().getPreferences().getLike();
+		Map<String, Integer> dislike = plan.request().getPreferences().getDislike();
+		assertThat(like).containsExactly(Map.entry("한식", 1), Map.entry("중식", 0));
+		assertThat(dislike).containsExactly(Map.entry("한식", 0), Map.entry("중식", 1));
+	}
+
+	@Test
+	void reloadsOnceAfterVersionChange() {
+		// given
+		onboardingService.getPreferenceChoices();
+		foodCategoryRepository.save(category(FoodCategoryType.CATEGORY, "JAPANESE", "일식"));
+
+		// when: 변경 알림 전에는 이전 스냅샷을 쓴다.
+		QUERIES.clear();
+		int beforeChange = onboardingService.getPreferenceChoices().categories().size();
+		long beforeChangeQueries = referenceDataQueries();
+
+		// when: 다른 노드가 버전을 올리고 알린 뒤
+		when(referenceDataRedisPublisher.currentVersion()).thenReturn(version + 1);
+		referenceDataCache.onChanged(version + 1);
+		QUERIES.clear();
+		int afterChange = onboardingService.getPreferenceChoices().categories().size();
+		onboardingService.getPreferenceChoices();
+		long afterChangeQueries = referenceDataQueries();
+
+		// then
+		assertThat(beforeChange).isEqualTo(2);
+		assertThat(beforeChangeQueries).isZero();
+		assertThat(afterChange).isEqualTo(3);
+		assertThat(afterChangeQueries).isEqualTo(2L);
+	}
+
+	@Test
+	void recheckCatchesMissedChangeMessage() {
+		// given: 매 호출마다 Redis 버전을 확인하는 캐시
+		ReferenceDataCache cache = new ReferenceDataCache(
+			policyRepository, foodCategoryRepository, referenceDataRedisPublisher, Duration.ZERO);
+		cache.getCategories(FoodCategoryType.CATEGORY);
+
+		// when: 버전이 같으면 DB를 읽지 않는다.
+		QUERIES.clear();
+		cache.getCategories(FoodCategoryType.CATEGORY);
+		long sameVersionQueries = referenceDataQueries();
+
+		// when: pub/sub 메시지 없이 버전만 올라간 경우
+		foodCategoryRepository.save(category(FoodCategoryType.CATEGORY, "WESTERN", "양식"));
+		when(referenceDataRedisPublisher.currentVersion()).thenReturn(version + 1);
+		QUERIES.clear();
+		List<ReferenceDataCache.CategoryEntry> categories = cache.getCategories(FoodCategoryType.CATEGORY);
+
+		// then
+		assertThat(sameVersionQueries).isZero();
+		assertThat(referenceDataQueries()).isEqualTo(2L);
+		assertThat(categories).extracting(ReferenceDataCache.CategoryEntry::categoryCode)
+			.containsExactly("KOREAN", "CHINESE", "WESTERN");
+	}
+
+	@Test
+	void adoptsRedisVersionThatWentBackwards() {
+		// given: 높은 버전으로 스냅샷을 채운 캐시
+		ReferenceDataCache cache = new ReferenceDataCache(
+			policyRepository, foodCategoryRepository, referenceDataRedisPublisher, Duration.ZERO);
+		when(referenceDataRedisPublisher.currentVersion()).thenReturn(version + 5);
+		cache.onChanged(version + 5);
+		cache.getCategories(FoodCategoryType.CATEGORY);
+
+		// when: Redis 버전 키가 초기화되어 더 낮은 버전을 돌려준다.
+		foodCategoryRepository.save(category(FoodCategoryType.CATEGORY, "WESTERN", "양식"));
+		when(referenceDataRedisPublisher.currentVersion()).thenReturn(1L);
+		QUERIES.clear();
+		List<ReferenceDataCache.CategoryEntry> categories = cache.getCategories(FoodCategoryType.CATEGORY);
+		long resetQueries = referenceDataQueries();
+
+		QUERIES.clear();
+		cache.getCategories(FoodCategoryType.CATEGORY);
+		long afterResetQueries = referenceDataQueries();
+
+		// then: 낮아진 버전을 받아들여 한 번만 다시 읽고, 그 스냅샷을 계속 쓴다.
+		assertThat(resetQueries).isEqualTo(2L);
+		assertThat(categories).extracting(ReferenceDataCache.CategoryEntry::categoryCode)
+			.containsExactly("KOREAN", "CHINESE", "WESTERN");
+		assertThat(afterResetQueries).isZero();
+	}
+
+	private long referenceDataQueries() {
+		return QUERIES.stream()
+			.filter(query -> REFERENCE_DATA_QUERY.matcher(query.toLowerCase()).find())
+			.count();
+	}
+
+	private Policy policy(PolicyType policyType, String title) {
+		return Policy.builder()
+			.policyType(policyType)
+			.title(title)
+			.termsVersion("1.0")
+			.isRequired(true)
+			.summary("요약")
+			.termsContent("내용")
+			.createdAt(Instant.now())
+			.build();
+	}
+
+	private FoodCategory category(FoodCategoryType categoryType, String code, String name) {
+		return FoodCategory.builder()
+			.categoryType(categoryType)
+			.categoryCode(code)
+			.categoryName(name)
+			.build();
+	}
+
+	@TestConfiguration
+	static class QueryCaptureDataSourceConfig {
+
+		@Bean
+		static BeanPostProcessor queryCaptureDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof DataSource dataSource)) {
+						return bean;
+					}
+					return ProxyDataSourceBuilder.create(dataSource)
+						.name(beanName)
+						.afterQuery((execInfo, queryInfoList) -> {
+							for (QueryInfo queryInfo : queryInfoList) {
+								QUERIES.add(queryInfo.getQuery());
+							}
+						})
+						.build();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.matchimban.matchimban_api.notification.fcm;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// FirebaseMessaging 대역. 호출마다 지연을 주고, 토큰별로 지정한 오류 코드로 실패시킨다.
+public class FakeFirebaseMessaging {
+
+    private final long latencyMs;
+    private final Map<String, MessagingErrorCode> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger sendCalls = new AtomicInteger();
+    private final AtomicInteger sendEachCalls = new AtomicInteger();
+    private final AtomicInteger messagesSent = new AtomicInteger();
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+
+    public FakeFirebaseMessaging(long latencyMs) throws Exception {
+        this.latencyMs = latencyMs;
+
+        when(firebaseMessaging.send(any(Message.class))).thenAnswer(invocation -> {
+            sendCalls.incrementAndGet();
+            sleep();
+            SendResponse response = respond(invocation.getArgument(0));
+            if (!response.isSuccessful()) {
+                throw response.getException();
+            }
+            return response.getMessageId();
+        });
+
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation -> {
+            sendEachCalls.incrementAndGet();
+            sleep();
+            List<Message> messages = invocation.getArgument(0);
+            List<SendResponse> responses = new ArrayList<>(messages.size());
+            messages.forEach(message -> responses.add(respond(message)));
+            BatchResponse batchResponse = mock(BatchResponse.class);
+            when(batchResponse.getResponses()).thenReturn(responses);
+            return batchResponse;
+        });
+    }
+
+    public FirebaseMessaging firebaseMessaging() {
+        return firebaseMessaging;
+    }
+
+    public void failToken(String token, MessagingErrorCode code) {
+        failures.put(token, code);
+    }
+
+    public int sendCalls() {
+        return sendCalls.get();
+    }
+
+    public int sendEachCalls() {
+        return sendEachCalls.get();
+    }
+
+    public int messagesSent() {
+        return messagesSent.get();
+    }
+
+    private SendResponse respond(Message message) {
+        messagesSent.incrementAndGet();
+        String token = (String) ReflectionTestUtils.getField(message, "token");
+        MessagingErrorCode code = failures.get(token);
+
+        SendResponse response = mock(SendResponse.class);
+        if (code == null) {
+            when(response.isSuccessful()).thenReturn(true);
+            when(response.getMessageId()).thenReturn("projects/fake/messages/" + token);
+            return response;
+        }
+
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(code);
+        when(exception.getMessage()).thenReturn("fake " + code.name());
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.matchimban.matchimban_api.notification.repository;
+
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.notification.entity.NotificationToken;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// bulkInsertWithOutbox는 unnest/ON CONFLICT/RETURNING/LATERAL을 쓰는 Postgres 전용 문장이라 로컬 Postgres에서 확인한다.
+// 스키마는 엔티티로 만들고, 이 문장이 기대는 UNIQUE(member_id, event_key)와 jsonb 컬럼만 마이그레이션(V12)과 맞춘다.
+// BENCH_POSTGRES_URL(기본 localhost:5432/postgres)에 연결할 수 없으면 건너뛴다.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NotificationRepositoryBulkInsertTest {
+
+    private static final String SCHEMA = "bench_notification_bulk_insert";
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member first;
+    private Member second;
+    private Member third;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> env("BENCH_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCH_POSTGRES_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @BeforeAll
+    static void createSchema() {
+        try (Connection connection = DriverManager.getConnection(
+                url(), env("BENCH_POSTGRES_USER", "postgres"), env("BENCH_POSTGRES_PASSWORD", "postgres"));
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        } catch (Exception e) {
+            Assumptions.abort("local postgres is not available");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("""
+                ALTER TABLE notifications ALTER COLUMN payload_json TYPE jsonb USING payload_json::jsonb
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                ALTER TABLE notifications ADD CONSTRAINT uq_notifications_member_event_key UNIQUE (member_id, event_key)
+                """).executeUpdate();
+
+        first = memberRepository.save(Member.builder().nickname("first").status(MemberStatus.ACTIVE).build());
+        second = memberRepository.save(Member.builder().nickname("second").status(MemberStatus.ACTIVE).build());
+        third = memberRepository.save(Member.builder().nickname("third").status(MemberStatus.ACTIVE).build());
+
+        // first: 활성 토큰 두 개(최신 것이 붙어야 한다), second: 비활성 토큰만, third: 토큰 없음
+        Instant now = Instant.now();
+        NotificationToken stale = token(first, "first-stale", true, now);
+        NotificationToken latest = token(first, "first-latest", true, now);
+        token(second, "second-inactive", false, now);
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE notification_tokens SET updated_at = :updatedAt WHERE id = :id")
+                .setParameter("updatedAt", now.minusSeconds(60))
+                .setParameter("id", stale.getId())
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE notification_tokens SET updated_at = :updatedAt WHERE id = :id")
+                .setParameter("updatedAt", now)
+                .setParameter("id", latest.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void insertsOneOutboxRowPerNotificationWithLatestActiveToken() {
+        // when: 같은 수신자가 중복으로 들어와도 한 번만 만든다.
+        int created = bulkInsert(new Long[]{first.getId(), second.getId(), third.getId(), first.getId()}, "meeting:1:member-joined");
+
+        // then
+        assertThat(created).isEqualTo(3);
+        List<Object[]> rows = outboxRows();
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(row -> ((Number) row[1]).longValue())
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        // 아웃박스 행은 같은 수신자의 알림을 가리킨다.
+        assertThat(rows).allSatisfy(row -> assertThat(((Number) row[0]).longValue()).isEqualTo(((Number) row[1]).longValue()));
+        assertThat(rows).extracting(row -> (String) row[2]).containsExactly("first-latest", null, null);
+        assertThat(rows).extracting(row -> (String) row[3]).containsOnly("PENDING");
+        assertThat(payloadType()).isEqualTo("object");
+    }
+
+    @Test
+    void skipsRecipientsThatAlreadyHaveTheEventKey() {
+        // given
+        assertThat(bulkInsert(new Long[]{first.getId()}, "meeting:1:member-joined")).isEqualTo(1);
+
+        // when: first는 이미 같은 event_key 알림이 있다.
+        int created = bulkInsert(new Long[]{first.getId(), second.getId()}, "meeting:1:member-joined");
+
+        // then: 새 알림/아웃박스는 second 것만 생긴다.
+        assertThat(created).isEqualTo(1);
+        assertThat(countNotifications()).isEqualTo(2L);
+        assertThat(outboxRows()).extracting(row -> ((Number) row[1]).longValue())
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void fallsBackToPerRecipientEventKeyWhenEventKeyIsMissing() {
+        // when
+        int created = bulkInsert(new Long[]{first.getId(), second.getId()}, null);
+
+        // then
+        assertThat(created).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        List<String> eventKeys = entityManager.createNativeQuery(
+                "SELECT event_key FROM notifications ORDER BY member_id").getResultList();
+        assertThat(eventKeys).containsExactly(
+                "MEETING_MEMBER_JOINED:" + first.getId() + ":1000",
+                "MEETING_MEMBER_JOINED:" + second.getId() + ":1000"
+        );
+    }
+
+    private int bulkInsert(Long[] memberIds, String eventKey) {
+        return notificationRepository.bulkInsertWithOutbox(
+                memberIds,
+                "MEETING_MEMBER_JOINED",
+                "새 멤버 참여",
+                "새 멤버가 모임에 참여했습니다.",
+                "MEETING",
+                1L,
+                null,
+                "/meetings/1",
+                "{\"meetingId\":1}",
+                eventKey,
+                "MEETING_MEMBER_JOINED:",
+                ":1000"
+        );
+    }
+
+    // 알림 member_id, 아웃박스 member_id, token_snapshot, status를 수신자 순서로 돌려준다.
+    @SuppressWarnings("unchecked")
+    private List<Object[]> outboxRows() {
+        return entityManager.createNativeQuery("""
+                SELECT n.member_id, o.member_id, o.token_snapshot, o.status
+                  FROM notification_outbox o
+                  JOIN notifications n ON n.id = o.notification_id
+                 ORDER BY o.member_id
+                """).getResultList();
+    }
+
+    private long countNotifications() {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM notifications").getSingleResult()).longValue();
+    }
+
+    private String payloadType() {
+        return (String) entityManager.createNativeQuery("SELECT DISTINCT jsonb_typeof(payload_json) FROM notifications")
+                .getSingleResult();
+    }
+
+    private NotificationToken token(Member member, String fcmToken, boolean active, Instant now) {
+        NotificationToken token = NotificationToken.builder()
+                .member(member)
+                .fcmToken(fcmToken)
+                .isActive(active)
+                .lastSeenAt(now)
+                .build();
+        entityManager.persist(token);
+        return token;
+    }
+
+    private static String url() {
+        return env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/postgres");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
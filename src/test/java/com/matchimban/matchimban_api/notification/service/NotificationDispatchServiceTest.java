@@ -0,0 +1,152 @@
+package com.matchimban.matchimban_api.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.notification.config.NotificationProperties;
+import com.matchimban.matchimban_api.notification.entity.Notification;
+import com.matchimban.matchimban_api.notification.entity.NotificationOutbox;
+import com.matchimban.matchimban_api.notification.entity.NotificationOutboxStatus;
+import com.matchimban.matchimban_api.notification.entity.NotificationType;
+import com.matchimban.matchimban_api.notification.fcm.FakeFirebaseMessaging;
+import com.matchimban.matchimban_api.notification.fcm.FcmMessageSender;
+import com.matchimban.matchimban_api.notification.repository.NotificationOutboxRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 지연과 부분 실패를 흉내 내는 FirebaseMessaging 대역으로 배치 발송 경로를 확인한다.
+class NotificationDispatchServiceTest {
+
+    private static final int OUTBOX_COUNT = 120;
+    private static final long FCM_LATENCY_MS = 20L;
+
+    private final NotificationProperties properties = new NotificationProperties();
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final NotificationOutboxService outboxService = mock(NotificationOutboxService.class);
+    private final List<NotificationOutbox> outboxes = new ArrayList<>();
+
+    private FakeFirebaseMessaging fake;
+    private NotificationDispatchService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        fake = new FakeFirebaseMessaging(FCM_LATENCY_MS);
+        ObjectProvider<FirebaseMessaging> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(fake.firebaseMessaging());
+
+        FcmMessageSender sender = new FcmMessageSender(provider, new ObjectMapper());
+        NotificationDispatchTxService txService = new NotificationDispatchTxService(outboxRepository, sender, properties);
+        service = new NotificationDispatchService(properties, outboxService, txService, sender);
+
+        properties.getDispatch().setBatchSize(OUTBOX_COUNT);
+        String workerId = (String) ReflectionTestUtils.getField(service, "workerId");
+        Member member = Member.builder().build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        for (int i = 0; i < OUTBOX_COUNT; i++) {
+            outboxes.add(outbox((long) i + 1, member, i % 10 == 9 ? null : "token-" + i, workerId));
+        }
+        // 11번째마다 일시 실패, 7번째마다 영구 실패(겹치면 영구 실패)
+        for (int i = 5; i < OUTBOX_COUNT; i += 11) {
+            fake.failToken("token-" + i, MessagingErrorCode.UNAVAILABLE);
+        }
+        for (int i = 0; i < OUTBOX_COUNT; i += 7) {
+            fake.failToken("token-" + i, MessagingErrorCode.UNREGISTERED);
+        }
+
+        List<Long> ids = outboxes.stream().map(NotificationOutbox::getId).toList();
+        when(outboxService.claimBatch(anyString(), anyInt())).thenReturn(ids);
+        when(outboxRepository.findAllWithNotificationByIdIn(anyCollection())).thenReturn(outboxes);
+    }
+
+    @Test
+    void batchSendUsesSendEachAndWritesBackEveryResult() {
+        // given
+        properties.getDispatch().setBatchSend(true);
+
+        // when
+        service.tick();
+
+        // then
+        assertThat(fake.sendEachCalls()).isEqualTo(1);
+        assertThat(fake.sendCalls()).isZero();
+        verify(outboxService, never()).claimNext(anyString());
+        assertResultsWrittenBack();
+    }
+
+    @Test
+    void singleSendKeepsPerMessageBehaviour() {
+        // given: 기존 모드는 건별 선점/발송
+        properties.getDispatch().setBatchSend(false);
+        AtomicInteger cursor = new AtomicInteger();
+        when(outboxService.claimNext(anyString())).thenAnswer(invocation -> {
+            int index = cursor.getAndIncrement();
+            return index < outboxes.size() ? outboxes.get(index).getId() : null;
+        });
+        when(outboxRepository.findById(anyLong())).thenAnswer(invocation ->
+                outboxes.stream().filter(o -> o.getId().equals(invocation.getArgument(0))).findFirst());
+
+        // when
+        service.tick();
+
+        // then: 토큰이 없는 건은 발송하지 않고 바로 DEAD 처리한다.
+        assertThat(fake.sendCalls()).isEqualTo(OUTBOX_COUNT - OUTBOX_COUNT / 10);
+        assertThat(fake.sendEachCalls()).isZero();
+        assertResultsWrittenBack();
+    }
+
+    private void assertResultsWrittenBack() {
+        for (int i = 0; i < OUTBOX_COUNT; i++) {
+            NotificationOutbox outbox = outboxes.get(i);
+            if (i % 10 == 9) {
+                assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.DEAD);
+                assertThat(outbox.getLastErrorCode()).isEqualTo("TOKEN_MISSING");
+            } else if (i % 7 == 0) {
+                assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.DEAD);
+                assertThat(outbox.getLastErrorCode()).isEqualTo("UNREGISTERED");
+            } else if (i % 11 == 5) {
+                assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+                assertThat(outbox.getLastErrorCode()).isEqualTo("UNAVAILABLE");
+                assertThat(outbox.getNextAttemptAt()).isAfter(Instant.now());
+            } else {
+                assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.SENT);
+            }
+        }
+    }
+
+    private NotificationOutbox outbox(Long id, Member member, String tokenSnapshot, String workerId) {
+        Notification notification = Notification.builder()
+                .member(member)
+                .notiType(NotificationType.CHAT_MESSAGE)
+                .title("title-" + id)
+                .content("content-" + id)
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .notification(notification)
+                .member(member)
+                .tokenSnapshot(tokenSnapshot)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        outbox.claim(workerId, Instant.now());
+        return outbox;
+    }
+}
@@ -0,0 +1,204 @@
+package com.matchimban.matchimban_api.ragchat.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.ragchat.client.RagChatProtectedCaller;
+import com.matchimban.matchimban_api.ragchat.client.RagEngineClient;
+import com.matchimban.matchimban_api.ragchat.dto.client.RagEngineAskRequest;
+import com.matchimban.matchimban_api.ragchat.dto.client.RagEngineAskResponse;
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatQueueMessage;
+import com.matchimban.matchimban_api.ragchat.dto.queue.RagChatReplyMessage;
+import com.matchimban.matchimban_api.ragchat.queue.RagChatQueueWorker;
+import com.matchimban.matchimban_api.ragchat.redis.RagChatReplyRedisPublisher;
+import com.matchimban.matchimban_api.ragchat.redis.RagChatReplyRedisSubscriber;
+import com.rabbitmq.client.Channel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 한 JVM 안에 노드 2개(각자 SSE 레지스트리 + Redis 리스너)를 띄우고, 큐 메시지를 아무 노드나 처리하게 한다.
+// 어느 노드가 처리하든 SSE 연결을 가진 노드로 응답이 전달되어야 한다. 로컬 Redis가 없으면 건너뛴다.
+class RagChatCrossNodeRoutingTest {
+
+	private static final int REQUESTS = 200;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String channelPrefix = "rag:chat:reply:test:" + UUID.randomUUID() + ":";
+	private final List<Node> nodes = new ArrayList<>();
+	private LettuceConnectionFactory connectionFactory;
+
+	@AfterEach
+	void tearDown() {
+		nodes.forEach(Node::close);
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	void everyRequestIsDeliveredToOwningNode() throws Exception {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+		connectionFactory.afterPropertiesSet();
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		Assumptions.assumeTrue(isRedisAvailable(redisTemplate), "local redis is not available");
+
+		nodes.add(new Node(redisTemplate));
+		nodes.add(new Node(redisTemplate));
+		for (Node node : nodes) {
+			node.awaitSubscribed();
+		}
+
+		// given: 요청은 번갈아 두 노드에 SSE로 붙는다.
+		CountDownLatch delivered = new CountDownLatch(REQUESTS);
+		Map<String, String> answers = new ConcurrentHashMap<>();
+		List<RagChatQueueMessage> messages = new ArrayList<>();
+		for (int i = 0; i < REQUESTS; i++) {
+			Node owner = nodes.get(i % 2);
+			String requestId = "req-" + i;
+			owner.registry.register(requestId, new RecordingEmitter(requestId, answers, delivered));
+			messages.add(new RagChatQueueMessage(requestId, "member:" + i, "question-" + i, owner.registry.getNodeId()));
+		}
+
+		// when: 큐 소비 노드는 소유 노드와 무관하게 정해진다(절반은 교차).
+		ExecutorService consumers = Executors.newFixedThreadPool(8);
+		AtomicInteger crossNode = new AtomicInteger();
+		try {
+			for (int i = 0; i < REQUESTS; i++) {
+				RagChatQueueMessage message = messages.get(i);
+				Node consumer = nodes.get((i / 2) % 2);
+				if (!consumer.registry.getNodeId().equals(message.replyNodeId())) {
+					crossNode.incrementAndGet();
+				}
+				long deliveryTag = i;
+				consumers.submit(() -> {
+					consumer.worker.process(message, mock(Channel.class), deliveryTag);
+					return null;
+				});
+			}
+
+			// then
+			assertThat(delivered.await(15, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			consumers.shutdownNow();
+		}
+
+		assertThat(crossNode.get()).isEqualTo(REQUESTS / 2);
+		assertThat(answers).hasSize(REQUESTS);
+		for (int i = 0; i < REQUESTS; i++) {
+			assertThat(answers.get("req-" + i)).contains("answer:question-" + i);
+		}
+	}
+
+	private boolean isRedisAvailable(StringRedisTemplate redisTemplate) {
+		try {
+			redisTemplate.hasKey("rag:chat:routing:ping");
+			return true;
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	private final class Node {
+
+		private final RagChatSseRegistry registry = new RagChatSseRegistry();
+		private final RagChatReplyRedisPublisher publisher;
+		private final RagChatQueueWorker worker;
+		private final RedisMessageListenerContainer container;
+
+		private Node(StringRedisTemplate redisTemplate) {
+			this.publisher = new RagChatReplyRedisPublisher(redisTemplate, objectMapper);
+			ReflectionTestUtils.setField(publisher, "channelPrefix", channelPrefix);
+			RagChatResponseRouter router = new RagChatResponseRouter(registry, publisher);
+
+			RagEngineClient fakeEngine = new RagEngineClient(WebClient.create()) {
+				@Override
+				public RagEngineAskResponse ask(RagEngineAskRequest request) {
+					return new RagEngineAskResponse("answer:" + request.message(), request.userId());
+				}
+			};
+			this.worker = new RagChatQueueWorker(new RagChatProtectedCaller(fakeEngine), router);
+
+			this.container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(connectionFactory);
+			container.addMessageListener(
+				new RagChatReplyRedisSubscriber(objectMapper, router),
+				new ChannelTopic(RagChatReplyRedisPublisher.channel(channelPrefix, registry.getNodeId()))
+			);
+			container.afterPropertiesSet();
+			container.start();
+		}
+
+		// SUBSCRIBE가 Redis에 반영되어 자기 채널로 보낸 응답을 받을 때까지 기다린다.
+		private void awaitSubscribed() throws Exception {
+			String probeId = "probe-" + registry.getNodeId();
+			CountDownLatch received = new CountDownLatch(1);
+			registry.register(probeId, new RecordingEmitter(probeId, new ConcurrentHashMap<>(), received));
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			do {
+				assertThat(System.nanoTime()).isLessThan(deadline);
+				publisher.publish(registry.getNodeId(), RagChatReplyMessage.answer(probeId, "probe"));
+			} while (!received.await(50, TimeUnit.MILLISECONDS));
+		}
+
+		private void close() {
+			try {
+				container.stop();
+				container.destroy();
+			} catch (Exception ignored) {
+				// 테스트 정리 단계이므로 무시한다.
+			}
+		}
+	}
+
+	// 실제 HTTP 응답 대신 보낸 데이터를 기록하는 SSE emitter
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final String requestId;
+		private final Map<String, String> answers;
+		private final CountDownLatch delivered;
+
+		private RecordingEmitter(String requestId, Map<String, String> answers, CountDownLatch delivered) {
+			this.requestId = requestId;
+			this.answers = answers;
+			this.delivered = delivered;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			StringBuilder data = new StringBuilder();
+			for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+				data.append(item.getData());
+			}
+			if (answers.putIfAbsent(requestId, data.toString()) == null) {
+				delivered.countDown();
+			}
+		}
+
+		@Override
+		public void complete() {
+			// 핸들러가 없는 테스트 emitter이므로 완료 처리는 생략한다.
+		}
+	}
+}
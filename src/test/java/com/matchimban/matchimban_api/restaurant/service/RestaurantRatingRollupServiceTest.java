@@ -0,0 +1,249 @@
+package com.matchimban.matchimban_api.restaurant.service;
+
+import com.matchimban.matchimban_api.global.storage.CdnUrlComposer;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.restaurant.dto.request.ReviewCreateRequest;
+import com.matchimban.matchimban_api.restaurant.dto.request.ReviewUpdateRequest;
+import com.matchimban.matchimban_api.restaurant.entity.Restaurant;
+import com.matchimban.matchimban_api.restaurant.entity.RestaurantRatingRollup;
+import com.matchimban.matchimban_api.restaurant.entity.Review;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRatingRollupRepository;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRepository;
+import com.matchimban.matchimban_api.restaurant.repository.ReviewRepository;
+import com.matchimban.matchimban_api.restaurant.service.serviceImpl.ReviewServiceImpl;
+import com.matchimban.matchimban_api.vote.entity.MeetingFinalSelection;
+import com.matchimban.matchimban_api.vote.entity.MeetingRestaurantCandidate;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.repository.MeetingFinalSelectionRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 실제 ReviewServiceImpl로 리뷰를 작성/수정/삭제해 롤업이 AVG(rating)과 같은지, 재계산 작업이 어긋난 행만 바로잡는지 확인한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RestaurantRatingRollupService.class, ReviewServiceImpl.class})
+class RestaurantRatingRollupServiceTest {
+
+    private static final int REVIEWERS = 12;
+
+    @Autowired
+    private RestaurantRatingRollupService rollupService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private RestaurantRatingRollupRepository rollupRepository;
+    @Autowired
+    private FoodCategoryRepository foodCategoryRepository;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private MeetingRestaurantCandidateRepository candidateRepository;
+    @Autowired
+    private MeetingFinalSelectionRepository finalSelectionRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private CdnUrlComposer cdnUrlComposer;
+
+    private final List<Restaurant> restaurants = new ArrayList<>();
+    private final List<Member> members = new ArrayList<>();
+    // 식당마다 그 식당으로 확정된 모임 하나
+    private final List<Meeting> meetings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        FoodCategory category = foodCategoryRepository.save(FoodCategory.builder()
+                .categoryCode("KOREAN")
+                .categoryName("한식")
+                .categoryType(FoodCategoryType.CATEGORY)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            restaurants.add(restaurantRepository.save(Restaurant.builder()
+                    .name("restaurant-" + i)
+                    .foodCategory(category)
+                    .build()));
+        }
+        for (int i = 0; i < REVIEWERS; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+        for (int i = 0; i < restaurants.size(); i++) {
+            meetings.add(confirmedMeeting(i, restaurants.get(i)));
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchReviewAverage() {
+        // given: 식당마다 4개씩 작성
+        List<Long> reviewIds = new ArrayList<>();
+        for (int i = 0; i < REVIEWERS; i++) {
+            reviewIds.add(create(i % 3, i, 1 + (i * 7) % 5));
+        }
+
+        // when: 일부 수정/삭제. 4번은 평점은 그대로 두고 내용만 바꾼다.
+        update(reviewIds.get(0), 0, 5);
+        update(reviewIds.get(4), 4, 1 + (4 * 7) % 5);
+        update(reviewIds.get(7), 7, 1);
+        reviewService.deleteReview(reviewIds.get(3), members.get(3).getId());
+        reviewService.deleteReview(reviewIds.get(8), members.get(8).getId());
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        for (Restaurant restaurant : restaurants) {
+            assertRollupMatchesReviews(restaurant.getId());
+        }
+        assertThat(rollupService.rebuild()).isZero();
+    }
+
+    @Test
+    void rebuildCorrectsDriftAndMissingRows() {
+        // given: 0번 식당은 롤업이 어긋나고, 1번 식당은 롤업 행 없이 리뷰만 있다.
+        create(0, 0, 4);
+        create(0, 1, 5);
+        create(2, 2, 3);
+        reviewRepository.save(review(1, 3, 2));
+        reviewRepository.save(review(1, 4, 5));
+        rollupRepository.addRating(restaurants.get(0).getId(), 10, 3);
+
+        // when
+        int corrected = rollupService.rebuild();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then: 어긋난 0번, 새로 채운 1번만 고친다.
+        assertThat(corrected).isEqualTo(2);
+        for (Restaurant restaurant : restaurants) {
+            assertRollupMatchesReviews(restaurant.getId());
+        }
+        assertThat(rollupRepository.findById(restaurants.get(0).getId()).orElseThrow().averageRating())
+                .isEqualByComparingTo("4.5");
+        assertThat(rollupService.rebuild()).isZero();
+    }
+
+    private Long create(int restaurantIndex, int memberIndex, int rating) {
+        ReviewCreateRequest request = new ReviewCreateRequest();
+        ReflectionTestUtils.setField(request, "rating", rating);
+        ReflectionTestUtils.setField(request, "content", "content");
+        return reviewService.createReview(
+                meetings.get(restaurantIndex).getId(), members.get(memberIndex).getId(), request).getReviewId();
+    }
+
+    private void update(Long reviewId, int memberIndex, int rating) {
+        ReviewUpdateRequest request = new ReviewUpdateRequest();
+        ReflectionTestUtils.setField(request, "rating", rating);
+        ReflectionTestUtils.setField(request, "content", "updated");
+        reviewService.updateReview(reviewId, members.get(memberIndex).getId(), request);
+    }
+
+    private Review review(int restaurantIndex, int memberIndex, int rating) {
+        return Review.builder()
+                .meeting(meetings.get(restaurantIndex))
+                .member(members.get(memberIndex))
+                .restaurant(restaurants.get(restaurantIndex))
+                .rating(rating)
+                .content("content")
+                .isDeleted(false)
+                .build();
+    }
+
+    // 리뷰 작성 조건(활성 참여자, 최종 선택)을 갖춘 모임
+    private Meeting confirmedMeeting(int index, Restaurant restaurant) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("리뷰 테스트-" + index)
+                .scheduledAt(Instant.now().minus(Duration.ofDays(1)))
+                .locationAddress("서울")
+                .locationLat(new BigDecimal("37.5000000"))
+                .locationLng(new BigDecimal("127.0000000"))
+                .targetHeadcount(REVIEWERS)
+                .searchRadiusM(500)
+                .voteDeadlineAt(Instant.now().minus(Duration.ofDays(2)))
+                .swipeCount(5)
+                .inviteCode(String.format("RATE%04d", index))
+                .hostMemberId(members.get(0).getId())
+                .build());
+        for (int i = 0; i < REVIEWERS; i++) {
+            participantRepository.save(MeetingParticipant.builder()
+                    .meeting(meeting)
+                    .member(members.get(i))
+                    .role(i == 0 ? MeetingParticipant.Role.HOST : MeetingParticipant.Role.MEMBER)
+                    .status(MeetingParticipant.Status.ACTIVE)
+                    .build());
+        }
+        Vote vote = voteRepository.save(Vote.builder().meeting(meeting).round(2).status(VoteStatus.COUNTED).build());
+        MeetingRestaurantCandidate candidate = candidateRepository.save(MeetingRestaurantCandidate.builder()
+                .vote(vote)
+                .restaurant(restaurant)
+                .build());
+        finalSelectionRepository.save(MeetingFinalSelection.builder()
+                .meeting(meeting)
+                .finalCandidate(candidate)
+                .build());
+        return meeting;
+    }
+
+    // 롤업의 합계/개수가 살아 있는 리뷰의 AVG(rating), COUNT와 같은지 본다.
+    private void assertRollupMatchesReviews(Long restaurantId) {
+        RestaurantRatingRollup rollup = rollupRepository.findById(restaurantId).orElseThrow();
+        Object[] actual = entityManager.createQuery("""
+                select avg(r.rating), count(r)
+                from Review r
+                where r.restaurant.id = :restaurantId
+                  and r.isDeleted = false
+                """, Object[].class)
+                .setParameter("restaurantId", restaurantId)
+                .getSingleResult();
+        long count = ((Number) actual[1]).longValue();
+
+        assertThat(rollup.getRatingCount()).isEqualTo(count);
+        if (count == 0) {
+            assertThat(rollup.getRatingSum()).isZero();
+            return;
+        }
+        double average = ((Number) actual[0]).doubleValue();
+        assertThat((double) rollup.getRatingSum() / rollup.getRatingCount()).isCloseTo(average, within(1e-9));
+        assertThat(rollup.averageRating())
+                .isEqualByComparingTo(BigDecimal.valueOf(average).setScale(1, RoundingMode.HALF_UP));
+    }
+}
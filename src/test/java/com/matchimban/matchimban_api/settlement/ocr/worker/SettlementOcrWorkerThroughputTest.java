@@ -0,0 +1,188 @@
+package com.matchimban.matchimban_api.settlement.ocr.worker;
+
+import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
+import com.matchimban.matchimban_api.settlement.ocr.client.RunpodOcrClient;
+import com.matchimban.matchimban_api.settlement.ocr.config.AppOcrProperties;
+import com.matchimban.matchimban_api.settlement.ocr.entity.SettlementOcrJob;
+import com.matchimban.matchimban_api.settlement.ocr.enums.OcrJobStatus;
+import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobRepository;
+import com.matchimban.matchimban_api.settlement.ocr.service.SettlementOcrJobTxService;
+import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
+import com.matchimban.matchimban_api.settlement.service.S3PresignedGetUrlService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로컬 스텁 OCR 서버(영수증당 150ms)를 띄우고 워커 동시성 1과 8의 처리 시간을 비교한다.
+// DB 구간은 목으로 대체하고, 스케줄러 대신 테스트가 tick을 짧은 간격으로 호출한다.
+class SettlementOcrWorkerThroughputTest {
+
+    private static final int JOBS = 16;
+    private static final long OCR_LATENCY_MS = 150L;
+
+    private final AtomicInteger ocrInFlight = new AtomicInteger();
+    private final AtomicInteger peakOcrInFlight = new AtomicInteger();
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubExecutor = Executors.newFixedThreadPool(JOBS);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/health", exchange -> respond(exchange, "{\"status\":\"ok\"}"));
+        stubServer.createContext("/receipt", exchange -> {
+            peakOcrInFlight.accumulateAndGet(ocrInFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(OCR_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ocrInFlight.decrementAndGet();
+            respond(exchange, """
+                {"request_id":"stub","result":{"items":[{"name":"김치찌개","unit_price":9000,"quantity":2,"amount":18000}],
+                "total_amount":18000,"discount_amount":0,"paid_amount":18000,"created_at":"2026-01-01T00:00:00Z"},"error":null}
+                """);
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+        if (stubExecutor != null) {
+            stubExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentWorkerPoolDrainsBurstFasterWithinLimit() throws Exception {
+        // when
+        RunResult serial = run(1);
+        peakOcrInFlight.set(0);
+        RunResult parallel = run(8);
+
+        // then: 동시성 8은 직렬보다 훨씬 빠르고, 동시에 진행되는 OCR 호출은 제한을 넘지 않는다.
+        assertThat(serial.succeeded()).isEqualTo(JOBS);
+        assertThat(parallel.succeeded()).isEqualTo(JOBS);
+        assertThat(parallel.elapsedMs() * 3).isLessThan(serial.elapsedMs());
+        assertThat(parallel.maxClaimLimit()).isLessThanOrEqualTo(8);
+        assertThat(peakOcrInFlight.get()).isLessThanOrEqualTo(8);
+    }
+
+    private RunResult run(int concurrency) throws Exception {
+        AppOcrProperties props = new AppOcrProperties();
+        props.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+        props.setWorkerConcurrency(concurrency);
+
+        SettlementOcrJobRepository jobRepository = mock(SettlementOcrJobRepository.class);
+        MeetingSettlementRepository settlementRepository = mock(MeetingSettlementRepository.class);
+        SettlementOcrJobTxService txService = mock(SettlementOcrJobTxService.class);
+        S3PresignedGetUrlService presignedGetUrlService = mock(S3PresignedGetUrlService.class);
+        when(presignedGetUrlService.presignGet(anyString(), any())).thenReturn("https://example.com/receipt.jpg");
+
+        SettlementOcrWorker worker = new SettlementOcrWorker(
+                jobRepository,
+                settlementRepository,
+                txService,
+                new RunpodOcrClient(WebClient.builder(), props),
+                presignedGetUrlService,
+                props
+        );
+        String instanceId = (String) ReflectionTestUtils.getField(worker, "instanceId");
+
+        Queue<Long> pending = new ConcurrentLinkedQueue<>();
+        for (long jobId = 1; jobId <= JOBS; jobId++) {
+            pending.add(jobId);
+            MeetingSettlement settlement = MeetingSettlement.builder().receiptImageUrl("receipts/" + jobId + ".jpg").build();
+            ReflectionTestUtils.setField(settlement, "id", jobId);
+            SettlementOcrJob job = SettlementOcrJob.builder()
+                    .id(jobId)
+                    .settlement(settlement)
+                    .requestId("req-" + jobId)
+                    .status(OcrJobStatus.PROCESSING)
+                    .attemptCount(1)
+                    .lockedBy(instanceId)
+                    .build();
+            when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+            when(settlementRepository.findById(jobId)).thenReturn(Optional.of(settlement));
+        }
+
+        AtomicInteger maxClaimLimit = new AtomicInteger();
+        when(txService.claimJobs(anyString(), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(1);
+            maxClaimLimit.accumulateAndGet(limit, Math::max);
+            List<Long> claimed = new ArrayList<>();
+            Long jobId;
+            while (claimed.size() < limit && (jobId = pending.poll()) != null) {
+                claimed.add(jobId);
+            }
+            return claimed;
+        });
+
+        CountDownLatch done = new CountDownLatch(JOBS);
+        AtomicInteger succeeded = new AtomicInteger();
+        doAnswer(invocation -> {
+            succeeded.incrementAndGet();
+            done.countDown();
+            return null;
+        }).when(txService).succeed(anyLong(), anyLong(), any());
+
+        long startedAt = System.nanoTime();
+        try {
+            while (!done.await(20, TimeUnit.MILLISECONDS)) {
+                worker.tick();
+                assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(30));
+            }
+        } finally {
+            worker.shutdown();
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000L;
+
+        verify(txService, never()).fail(anyLong(), anyLong(), anyString(), anyString());
+        return new RunResult(elapsedMs, succeeded.get(), maxClaimLimit.get());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record RunResult(long elapsedMs, int succeeded, int maxClaimLimit) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.matchimban.matchimban_api.settlement.service;
+
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.settlement.entity.MeetingSettlement;
+import com.matchimban.matchimban_api.settlement.enums.SettlementStatus;
+import com.matchimban.matchimban_api.settlement.ocr.entity.SettlementOcrJob;
+import com.matchimban.matchimban_api.settlement.ocr.enums.OcrJobStatus;
+import com.matchimban.matchimban_api.settlement.ocr.repository.SettlementOcrJobRepository;
+import com.matchimban.matchimban_api.settlement.redis.SettlementProgressRedisPublisher;
+import com.matchimban.matchimban_api.settlement.repository.MeetingSettlementRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// datasource-proxy 카운트 리스너로 SSE 진행률 팬아웃의 조회 수를 센다.
+// 구독자 수와 무관하게 스냅샷 한 번 분량만 조회하고, 스냅샷을 받은 노드는 DB를 조회하지 않아야 한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+        SettlementProgressService.class,
+        SettlementProgressSseService.class,
+        SettlementProgressSseQueryCountTest.QueryCountDataSourceConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SettlementProgressSseQueryCountTest {
+
+    private static final int SUBSCRIBERS = 20;
+
+    @Autowired
+    private SettlementProgressSseService sseService;
+    @Autowired
+    private SettlementProgressService progressService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private MeetingSettlementRepository settlementRepository;
+    @Autowired
+    private SettlementOcrJobRepository ocrJobRepository;
+
+    @MockitoBean
+    private SettlementProgressRedisPublisher redisPublisher;
+
+    private Long meetingId;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .nickname("member-" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+        members.forEach(member -> memberIds.add(member.getId()));
+
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("정산 테스트")
+                .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                .locationAddress("서울")
+                .locationLat(new BigDecimal("37.5000000"))
+                .locationLng(new BigDecimal("127.0000000"))
+                .targetHeadcount(SUBSCRIBERS)
+                .searchRadiusM(500)
+                .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                .swipeCount(5)
+                .inviteCode("SSEQ" + (System.nanoTime() % 10_000))
+                .hostMemberId(memberIds.get(0))
+                .build());
+        meetingId = meeting.getId();
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            participantRepository.save(MeetingParticipant.builder()
+                    .meeting(meeting)
+                    .member(members.get(i))
+                    .role(i == 0 ? MeetingParticipant.Role.HOST : MeetingParticipant.Role.MEMBER)
+                    .status(MeetingParticipant.Status.ACTIVE)
+                    .build());
+        }
+
+        MeetingSettlement settlement = settlementRepository.save(MeetingSettlement.builder()
+                .meeting(meeting)
+                .settlementStatus(SettlementStatus.OCR_FAILED)
+                .build());
+        ocrJobRepository.save(SettlementOcrJob.builder()
+                .settlement(settlement)
+                .requestId("req-sse-query-count")
+                .status(OcrJobStatus.FAILED)
+                .attemptCount(3)
+                .lastErrorCode("RUNPOD_HTTP_422")
+                .lastErrorMessage("인식 실패")
+                .build());
+
+        memberIds.forEach(memberId -> sseService.subscribe(meetingId, memberId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    void publishQueriesOnceRegardlessOfSubscriberCount() {
+        // given: 기존 방식(구독자마다 getProgress)의 조회 수
+        QueryCountHolder.clear();
+        memberIds.forEach(memberId -> progressService.getProgress(meetingId, memberId));
+        long perSubscriberSelects = QueryCountHolder.getGrandTotal().getSelect();
+
+        // when
+        QueryCountHolder.clear();
+        sseService.publish(meetingId);
+        long snapshotSelects = QueryCountHolder.getGrandTotal().getSelect();
+
+        // then: 모임 + 참여자 id + 정산 + 실패 작업 = 4
+        assertThat(perSubscriberSelects).isGreaterThanOrEqualTo(SUBSCRIBERS * 2L);
+        assertThat(snapshotSelects).isLessThanOrEqualTo(4L);
+    }
+
+    @Test
+    void publishingReceivedSnapshotSkipsDatabase() {
+        // given: 다른 노드가 Redis payload로 보낸 스냅샷
+        SettlementProgressService.Snapshot snapshot = progressService.getSnapshot(meetingId, 7L);
+
+        // when
+        QueryCountHolder.clear();
+        sseService.publishSnapshot(snapshot);
+        sseService.publishSnapshot(new SettlementProgressService.Snapshot(
+                meetingId, 6L, snapshot.quickMeeting(), snapshot.activeMemberIds(), snapshot.progress()
+        ));
+
+        // then
+        assertThat(QueryCountHolder.getGrandTotal().getTotal()).isZero();
+        assertThat(snapshot.progress().error().code()).isEqualTo("RUNPOD_HTTP_422");
+    }
+
+    @TestConfiguration
+    static class QueryCountDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor queryCountDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .countQuery()
+                            .build();
+                }
+            };
+        }
+    }
+}
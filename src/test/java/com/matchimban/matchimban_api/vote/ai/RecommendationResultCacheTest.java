@@ -0,0 +1,284 @@
+package com.matchimban.matchimban_api.vote.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.global.error.api.ApiException;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationRequest;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 스텁 추천 서버(응답 지연 300ms)로 같은 조건의 추천 요청이 AI를 한 번만 부르는지 확인한다.
+// 반경 999m 요청은 스텁이 503으로 실패시키고, 반경 777m 요청에는 카드 수와 맞지 않는 식당 3곳을 돌려준다.
+class RecommendationResultCacheTest {
+
+    private static final long AI_DELAY_MS = 300L;
+    private static final int CONCURRENT_REQUESTS = 12;
+    private static final int FAILING_RADIUS_M = 999;
+    private static final int WRONG_COUNT_RADIUS_M = 777;
+    private static final int CARD_LIMIT = 2;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private ExecutorService stubExecutor;
+    private HttpServer stubServer;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubExecutor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/api/v1/recommendations", exchange -> {
+            upstreamCalls.incrementAndGet();
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(AI_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            boolean failing = requestBody.contains("\"radius_m\":" + FAILING_RADIUS_M);
+            boolean wrongCount = requestBody.contains("\"radius_m\":" + WRONG_COUNT_RADIUS_M);
+            String responseBody = failing
+                    ? "{\"detail\":\"unavailable\"}"
+                    : recommendationBody(wrongCount ? CARD_LIMIT * 2 - 1 : CARD_LIMIT * 2);
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(failing ? 503 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + stubServer.getAddress().getPort() + "/api/v1")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+        if (stubExecutor != null) {
+            stubExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void equivalentRequestsReuseOneUpstreamCall() {
+        // given: 좌표가 반올림 단위 안에서만 다르고, 시작 시각이 같은 30분 구간이며, 취향 맵 순서만 다른 두 모임
+        RecommendationClient client = client(new RecommendationResultCache(Duration.ofMinutes(5), 100, 4, Duration.ofMinutes(30)));
+        AiRecommendationRequest first = request("vote_1_10", 1L, 37.498_01, 500,
+                "2026-10-17T19:05:00+09:00", ordered("한식", 2, "중식", 0));
+        AiRecommendationRequest second = request("vote_2_20", 2L, 37.498_04, 500,
+                "2026-10-17T19:25:00+09:00", ordered("중식", 0, "한식", 2));
+
+        // when
+        AiRecommendationResponse miss = client.recommend(first);
+        long hitStartedAt = System.nanoTime();
+        AiRecommendationResponse hit = client.recommend(second);
+        long hitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - hitStartedAt);
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(hitMs).isLessThan(AI_DELAY_MS);
+        assertThat(hit.getRequestId()).isEqualTo("vote_2_20");
+        assertThat(hit.getUserId()).isEqualTo(2L);
+        assertThat(hit.getRestaurants()).extracting(AiRecommendationResponse.Restaurant::getId)
+                .containsExactlyElementsOf(miss.getRestaurants().stream().map(AiRecommendationResponse.Restaurant::getId).toList());
+
+        // when: 시작 시간대, 반경, 취향 분포가 다르면 새로 호출한다.
+        client.recommend(request("vote_3_30", 3L, 37.498_01, 500, "2026-10-17T19:35:00+09:00", ordered("한식", 2, "중식", 0)));
+        client.recommend(request("vote_4_40", 4L, 37.498_01, 800, "2026-10-17T19:05:00+09:00", ordered("한식", 2, "중식", 0)));
+        client.recommend(request("vote_5_50", 5L, 37.498_01, 500, "2026-10-17T19:05:00+09:00", ordered("한식", 1, "중식", 1)));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentIdenticalRequestsAreCoalesced() throws Exception {
+        // given
+        RecommendationClient client = client(new RecommendationResultCache(Duration.ofMinutes(5), 100, 4, Duration.ofMinutes(30)));
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AiRecommendationResponse>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                long meetingId = i + 1L;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return client.recommend(request("vote_" + meetingId, meetingId, 37.5, 500,
+                            "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0)));
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                AiRecommendationResponse response = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(response.getRequestId()).isEqualTo("vote_" + (i + 1));
+                assertThat(response.getRestaurants()).hasSize(4);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreSharedButNotCachedAndEntriesExpire() throws Exception {
+        // given
+        RecommendationClient client = client(new RecommendationResultCache(Duration.ofMillis(200), 100, 4, Duration.ofMinutes(30)));
+        AiRecommendationRequest failing = request("vote_1", 1L, 37.5, FAILING_RADIUS_M,
+                "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+
+        // when & then: 실패는 캐시하지 않으므로 다시 호출한다.
+        assertThatThrownBy(() -> client.recommend(failing)).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> client.recommend(failing)).isInstanceOf(ApiException.class);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+
+        // when: ttl이 지나면 다시 호출한다.
+        AiRecommendationRequest ok = request("vote_2", 2L, 37.5, 500,
+                "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+        client.recommend(ok);
+        client.recommend(ok);
+        Thread.sleep(250L);
+        client.recommend(ok);
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void wrongCountResponsesAreNotReused() {
+        // given: 카드 2장이면 식당 4곳이 와야 하는데 스텁이 3곳만 돌려주는 조건
+        RecommendationClient client = client(new RecommendationResultCache(Duration.ofMinutes(5), 100, 4, Duration.ofMinutes(30)));
+        AiRecommendationRequest wrongCount = request("vote_1", 1L, 37.5, WRONG_COUNT_RADIUS_M,
+                "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+
+        // when: 같은 조건으로 두 번 요청한다.
+        AiRecommendationResponse first = client.recommend(wrongCount);
+        AiRecommendationResponse second = client.recommend(wrongCount);
+
+        // then: 어긋난 응답은 그대로 돌려주되(후보 생성이 실패 처리한다) 캐시하지 않아 매번 새로 호출한다.
+        assertThat(first.getRestaurants()).hasSize(CARD_LIMIT * 2 - 1);
+        assertThat(second.getRestaurants()).hasSize(CARD_LIMIT * 2 - 1);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+
+        // when & then: 개수가 맞는 응답은 재사용한다.
+        AiRecommendationRequest valid = request("vote_2", 2L, 37.5, 500,
+                "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+        client.recommend(valid);
+        assertThat(client.recommend(valid).getRestaurants()).hasSize(CARD_LIMIT * 2);
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void fullCacheEvictsOnlyOldestEntry() {
+        // given: 두 건까지 담는 캐시에 반경만 다른 요청 두 건을 올린다.
+        RecommendationResultCache cache = new RecommendationResultCache(Duration.ofMinutes(5), 2, 4, Duration.ofMinutes(30));
+        AtomicInteger loads = new AtomicInteger();
+        AiRecommendationRequest oldest = request("vote_1", 1L, 37.5, 500, "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+        AiRecommendationRequest kept = request("vote_2", 2L, 37.5, 600, "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+        AiRecommendationRequest newest = request("vote_3", 3L, 37.5, 700, "2026-10-17T19:00:00+09:00", ordered("한식", 1, "중식", 0));
+        cache.getOrLoad(oldest, () -> loaded(loads));
+        cache.getOrLoad(kept, () -> loaded(loads));
+
+        // when: 가득 찬 상태에서 새 요청이 들어온다.
+        cache.getOrLoad(newest, () -> loaded(loads));
+        cache.getOrLoad(kept, () -> loaded(loads));
+        cache.getOrLoad(newest, () -> loaded(loads));
+        int loadsBeforeOldest = loads.get();
+        cache.getOrLoad(oldest, () -> loaded(loads));
+
+        // then: 가장 먼저 넣은 항목만 밀려나고 나머지는 그대로 재사용된다.
+        assertThat(loadsBeforeOldest).isEqualTo(3);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private AiRecommendationResponse loaded(AtomicInteger loads) {
+        loads.incrementAndGet();
+        List<AiRecommendationResponse.Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < CARD_LIMIT * 2; i++) {
+            restaurants.add(AiRecommendationResponse.Restaurant.builder().id(i + 1L).rank(i + 1).build());
+        }
+        return AiRecommendationResponse.builder()
+                .requestId("stub")
+                .topN(restaurants.size())
+                .restaurants(restaurants)
+                .build();
+    }
+
+    private RecommendationClient client(RecommendationResultCache cache) {
+        RecommendationClient client = new RecommendationClient(webClient, new ObjectMapper(), cache);
+        ReflectionTestUtils.setField(client, "timeoutMs", 5_000L);
+        return client;
+    }
+
+    private AiRecommendationRequest request(
+            String requestId,
+            Long hostMemberId,
+            double lat,
+            int radiusM,
+            String startTime,
+            Map<String, Integer> like
+    ) {
+        Map<String, Integer> dislike = new LinkedHashMap<>();
+        like.keySet().forEach(category -> dislike.put(category, 0));
+        return AiRecommendationRequest.builder()
+                .memberId(hostMemberId)
+                .requestId(requestId)
+                .meeting(AiRecommendationRequest.Meeting.builder().startTime(startTime).headcount(4).build())
+                .location(AiRecommendationRequest.Location.builder().lat(lat).lng(127.0276).radiusM(radiusM).build())
+                .swipe(AiRecommendationRequest.Swipe.builder().cardLimit(CARD_LIMIT).build())
+                .preferences(AiRecommendationRequest.Preferences.builder().like(like).dislike(dislike).build())
+                .exclude(AiRecommendationRequest.Exclude.builder().meat(false).bar(true).build())
+                .build();
+    }
+
+    private Map<String, Integer> ordered(String firstKey, int firstValue, String secondKey, int secondValue) {
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(firstKey, firstValue);
+        histogram.put(secondKey, secondValue);
+        return histogram;
+    }
+
+    private static String recommendationBody(int count) {
+        StringBuilder restaurants = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                restaurants.append(',');
+            }
+            restaurants.append("{\"store_id\":").append(i + 1)
+                    .append(",\"distance_m\":100,\"final_score\":0.9,\"rank\":").append(i + 1).append('}');
+        }
+        return "{\"request_id\":\"stub\",\"top_n\":" + count + ",\"restaurants\":[" + restaurants + "]}";
+    }
+}
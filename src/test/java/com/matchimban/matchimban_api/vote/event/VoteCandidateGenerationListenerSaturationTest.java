@@ -0,0 +1,249 @@
+package com.matchimban.matchimban_api.vote.event;
+
+import com.matchimban.matchimban_api.global.config.AsyncConfig;
+import com.matchimban.matchimban_api.global.config.AsyncExecutorFactory;
+import com.matchimban.matchimban_api.global.config.AsyncExecutorProperties;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.event.MeetingDetailChangedEvent;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.redis.ReferenceDataRedisPublisher;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import com.matchimban.matchimban_api.restaurant.entity.Restaurant;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRepository;
+import com.matchimban.matchimban_api.vote.ai.RecommendationClient;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationRequest;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateGenerationTxService;
+import com.matchimban.matchimban_api.vote.service.VoteFailureService;
+import com.matchimban.matchimban_api.vote.service.serviceImpl.VoteCandidateAsyncServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 투표 후보 생성 실행기(스레드 1개, 큐 0칸)를 가득 채운 상태에서 커밋 직후 이벤트를 하나 더 발행한다.
+// 넘친 이벤트는 요청 스레드에서 돌지 않고, 자리가 나면 실행기에서 처리되어 후보가 저장되어야 한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        VoteCandidateGenerationListener.class,
+        VoteCandidateAsyncServiceImpl.class,
+        VoteCandidateGenerationTxService.class,
+        ReferenceDataCache.class,
+        VoteCandidateGenerationListenerSaturationTest.SaturatedVoteExecutorConfig.class
+})
+class VoteCandidateGenerationListenerSaturationTest {
+
+    private static final int SWIPE_COUNT = 2;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private CandidatesCommittedListener candidatesCommitted;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private FoodCategoryRepository foodCategoryRepository;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private MeetingRestaurantCandidateRepository candidateRepository;
+
+    @MockitoBean
+    private RecommendationClient recommendationClient;
+    @MockitoBean
+    private VoteFailureService voteFailureService;
+    @MockitoBean
+    private VoteTallyRedisRepository voteTallyRedisRepository;
+    @MockitoBean
+    private ReferenceDataRedisPublisher referenceDataRedisPublisher;
+
+    private final List<Long> restaurantIds = new ArrayList<>();
+    private Member host;
+
+    @BeforeEach
+    void setUp() {
+        FoodCategory category = foodCategoryRepository.save(FoodCategory.builder()
+                .categoryCode("KOREAN")
+                .categoryName("한식")
+                .categoryType(FoodCategoryType.CATEGORY)
+                .build());
+        for (int i = 0; i < SWIPE_COUNT * 2; i++) {
+            restaurantIds.add(restaurantRepository.save(Restaurant.builder()
+                    .name("restaurant-" + i)
+                    .foodCategory(category)
+                    .build()).getId());
+        }
+        host = memberRepository.save(Member.builder().nickname("host").status(MemberStatus.ACTIVE).build());
+    }
+
+    @Test
+    void overflowingAfterCommitEventIsPersistedWithoutRunningOnCaller() throws Exception {
+        // given: 첫 모임의 AI 호출이 실행기의 유일한 스레드를 붙잡는다.
+        VoteCandidateGenerationRequestedEvent first = seedMeeting("first");
+        VoteCandidateGenerationRequestedEvent second = seedMeeting("second");
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        Queue<String> aiCallThreads = new ConcurrentLinkedQueue<>();
+        when(recommendationClient.recommend(any())).thenAnswer(invocation -> {
+            AiRecommendationRequest request = invocation.getArgument(0);
+            aiCallThreads.add(Thread.currentThread().getName());
+            if (request.getRequestId().equals(requestId(first))) {
+                firstCallStarted.countDown();
+                releaseFirstCall.await(5, TimeUnit.SECONDS);
+            }
+            return response(request.getRequestId());
+        });
+        publishAfterCommit(first);
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 실행기가 가득 찬 상태에서 두 번째 모임의 트랜잭션이 커밋된다.
+        publishAfterCommit(second);
+
+        // then: 요청 스레드는 후보 생성을 직접 돌리지 않고 바로 돌아온다.
+        assertThat(aiCallThreads).hasSize(1);
+        releaseFirstCall.countDown();
+
+        // then: 자리가 나면 실행기에서 처리되어 두 모임 모두 새 트랜잭션으로 후보가 저장된다.
+        assertThat(candidatesCommitted.latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(aiCallThreads).hasSize(2)
+                .allSatisfy(name -> assertThat(name).startsWith(AsyncConfig.VOTE_EVENT_EXECUTOR + "-"));
+        verify(voteFailureService, never()).markVotesFailed(any(), any());
+        for (VoteCandidateGenerationRequestedEvent event : List.of(first, second)) {
+            assertThat(candidateRepository.findCandidateIdsByVoteId(event.round1VoteId())).hasSize(SWIPE_COUNT);
+            assertThat(candidateRepository.findCandidateIdsByVoteId(event.round2VoteId())).hasSize(SWIPE_COUNT);
+            assertThat(voteRepository.findById(event.round1VoteId()).orElseThrow().getStatus()).isEqualTo(VoteStatus.OPEN);
+        }
+    }
+
+    private void publishAfterCommit(VoteCandidateGenerationRequestedEvent event) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    private VoteCandidateGenerationRequestedEvent seedMeeting(String name) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title(name)
+                .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                .locationAddress("서울")
+                .locationLat(new BigDecimal("37.5000000"))
+                .locationLng(new BigDecimal("127.0000000"))
+                .targetHeadcount(2)
+                .searchRadiusM(500)
+                .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                .swipeCount(SWIPE_COUNT)
+                .inviteCode("SAT" + name.charAt(0) + (System.nanoTime() % 100_000))
+                .hostMemberId(host.getId())
+                .build());
+        participantRepository.save(MeetingParticipant.builder()
+                .meeting(meeting)
+                .member(host)
+                .role(MeetingParticipant.Role.HOST)
+                .status(MeetingParticipant.Status.ACTIVE)
+                .build());
+        Vote round1 = voteRepository.save(Vote.builder().meeting(meeting).round(1).status(VoteStatus.GENERATING).build());
+        Vote round2 = voteRepository.save(Vote.builder().meeting(meeting).round(2).status(VoteStatus.GENERATING).build());
+        return new VoteCandidateGenerationRequestedEvent(meeting.getId(), round1.getId(), round2.getId());
+    }
+
+    private String requestId(VoteCandidateGenerationRequestedEvent event) {
+        return "vote_" + event.meetingId() + "_" + event.round1VoteId();
+    }
+
+    private AiRecommendationResponse response(String requestId) {
+        List<AiRecommendationResponse.Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            restaurants.add(AiRecommendationResponse.Restaurant.builder()
+                    .id(restaurantIds.get(i))
+                    .distanceM(100)
+                    .finalScore(new BigDecimal("0.9"))
+                    .rank(i + 1)
+                    .build());
+        }
+        return AiRecommendationResponse.builder()
+                .requestId(requestId)
+                .topN(restaurants.size())
+                .restaurants(restaurants)
+                .build();
+    }
+
+    @TestConfiguration
+    @EnableAsync
+    static class SaturatedVoteExecutorConfig {
+
+        @Bean(name = AsyncConfig.VOTE_EVENT_EXECUTOR)
+        ThreadPoolTaskExecutor voteEventExecutor() {
+            return AsyncExecutorFactory.create(
+                    AsyncConfig.VOTE_EVENT_EXECUTOR,
+                    new AsyncExecutorProperties.Pool(1, 0, false),
+                    new SimpleMeterRegistry()
+            );
+        }
+
+        @Bean
+        CandidatesCommittedListener candidatesCommittedListener() {
+            return new CandidatesCommittedListener();
+        }
+    }
+
+    // 후보 저장 트랜잭션이 커밋될 때마다(모임 상세 변경 이벤트) 센다.
+    static class CandidatesCommittedListener {
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+
+        @TransactionalEventListener
+        public void onCommitted(MeetingDetailChangedEvent event) {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.matchimban.matchimban_api.vote.redis;
+
+import com.matchimban.matchimban_api.vote.config.VoteTallyRedisConfig;
+import com.matchimban.matchimban_api.vote.entity.MeetingRestaurantCandidate;
+import com.matchimban.matchimban_api.vote.entity.VoteSubmission;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteChoice;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Redis(localhost:6379)를 대상으로 제출 누적 스크립트를 확인한다. Redis가 없으면 건너뛴다.
+class VoteTallyRedisRepositoryTest {
+
+    private static final long VOTE_ID = 9_900_101L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private VoteTallyRedisKeyFactory keyFactory;
+    private VoteTallyRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        Assumptions.assumeTrue(isRedisAvailable(), "local redis is not available");
+
+        keyFactory = new VoteTallyRedisKeyFactory();
+        repository = new VoteTallyRedisRepository(redisTemplate, keyFactory, new VoteTallyRedisConfig().voteTallyRecordScript());
+        ReflectionTestUtils.setField(repository, "ttlSeconds", 60L);
+        clearKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null && isRedisAvailable()) {
+            clearKeys();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void accumulatesCountsAndIgnoresDuplicateParticipant() {
+        // given
+        repository.open(VOTE_ID);
+
+        // when
+        Optional<Long> first = repository.record(VOTE_ID, 1L, List.of(
+                submission(10L, VoteChoice.LIKE, 2),
+                submission(11L, VoteChoice.DISLIKE, 1)
+        ));
+        Optional<Long> second = repository.record(VOTE_ID, 2L, List.of(
+                submission(10L, VoteChoice.DISLIKE, 1),
+                submission(11L, VoteChoice.NEUTRAL, 1)
+        ));
+        Optional<Long> duplicate = repository.record(VOTE_ID, 1L, List.of(
+                submission(10L, VoteChoice.LIKE, 2),
+                submission(11L, VoteChoice.LIKE, 1)
+        ));
+
+        // then
+        assertThat(first).contains(1L);
+        assertThat(second).contains(2L);
+        assertThat(duplicate).contains(2L);
+        assertThat(repository.findSubmittedCount(VOTE_ID)).contains(2L);
+
+        VoteTallyRedisRepository.VoteTally tally = repository.find(VOTE_ID).orElseThrow();
+        assertThat(tally.submittedCount()).isEqualTo(2L);
+        assertThat(tally.candidate(10L)).isEqualTo(new VoteTallyRedisRepository.CandidateTally(1, 1, 0, 1L));
+        assertThat(tally.candidate(11L)).isEqualTo(new VoteTallyRedisRepository.CandidateTally(0, 1, 1, -1L));
+        assertThat(tally.candidate(12L)).isEqualTo(VoteTallyRedisRepository.CandidateTally.EMPTY);
+    }
+
+    @Test
+    void reportsMissingTallyWhenVoteWasNotOpened() {
+        // when
+        Optional<Long> recorded = repository.record(VOTE_ID, 1L, List.of(submission(10L, VoteChoice.LIKE, 1)));
+
+        // then: 호출자가 DB 집계로 처리하도록 empty
+        assertThat(recorded).isEmpty();
+        assertThat(repository.findSubmittedCount(VOTE_ID)).isEmpty();
+        assertThat(repository.find(VOTE_ID)).isEmpty();
+    }
+
+    private VoteSubmission submission(Long candidateId, VoteChoice choice, int weight) {
+        MeetingRestaurantCandidate candidate = MeetingRestaurantCandidate.builder().build();
+        ReflectionTestUtils.setField(candidate, "id", candidateId);
+        return VoteSubmission.builder()
+                .candidateRestaurant(candidate)
+                .choice(choice)
+                .voteWeight(weight)
+                .build();
+    }
+
+    private void clearKeys() {
+        redisTemplate.delete(List.of(keyFactory.tallyKey(VOTE_ID), keyFactory.submittedParticipantsKey(VOTE_ID)));
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            redisTemplate.hasKey("vote:tally:ping");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
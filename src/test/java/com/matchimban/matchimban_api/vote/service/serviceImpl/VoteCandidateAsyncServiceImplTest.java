@@ -0,0 +1,176 @@
+package com.matchimban.matchimban_api.vote.service.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchimban.matchimban_api.vote.ai.RecommendationClient;
+import com.matchimban.matchimban_api.vote.ai.RecommendationResultCache;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationRequest;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateGenerationTxService;
+import com.matchimban.matchimban_api.vote.service.VoteFailureService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 로컬 스텁 추천 서버(응답 지연 300ms)를 띄우고 후보 생성 40건을 동시에 실행한다.
+// DB 구간(prepare/saveCandidates)은 크기 20짜리 커넥션 풀을 흉내 낸 세마포어를 잡았다가 놓는다.
+// AI 호출이 트랜잭션 밖에서 수행되므로 풀이 고갈되지 않아야 한다.
+class VoteCandidateAsyncServiceImplTest {
+
+    private static final int POOL_SIZE = 20;
+    private static final int CONCURRENT_VOTES = 40;
+    private static final int SWIPE_COUNT = 2;
+    private static final long AI_DELAY_MS = 300L;
+
+    private final Semaphore connectionPool = new Semaphore(POOL_SIZE);
+    private final AtomicInteger connectionsInUse = new AtomicInteger();
+    private final AtomicInteger peakConnectionsInUse = new AtomicInteger();
+    private final AtomicInteger aiCallsInFlight = new AtomicInteger();
+    private final AtomicInteger connectionsHeldDuringAiCall = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private VoteCandidateGenerationTxService txService;
+    private VoteFailureService voteFailureService;
+    private VoteCandidateAsyncServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubExecutor = Executors.newFixedThreadPool(CONCURRENT_VOTES);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/api/v1/recommendations", exchange -> {
+            aiCallsInFlight.incrementAndGet();
+            connectionsHeldDuringAiCall.accumulateAndGet(connectionsInUse.get(), Math::max);
+            try {
+                Thread.sleep(AI_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            aiCallsInFlight.decrementAndGet();
+
+            byte[] body = recommendationBody().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        WebClient webClient = WebClient.builder()
+            .baseUrl("http://localhost:" + stubServer.getAddress().getPort() + "/api/v1")
+            .build();
+        // 동시 요청 40건이 모두 AI를 호출해야 하므로 결과 캐시는 끈다.
+        RecommendationResultCache disabledCache = new RecommendationResultCache(Duration.ZERO, 0, 4, Duration.ofMinutes(30));
+        RecommendationClient recommendationClient = new RecommendationClient(webClient, new ObjectMapper(), disabledCache);
+        ReflectionTestUtils.setField(recommendationClient, "timeoutMs", 5_000L);
+
+        txService = mock(VoteCandidateGenerationTxService.class);
+        voteFailureService = mock(VoteFailureService.class);
+
+        doAnswer(invocation -> withConnection(() -> new VoteCandidateGenerationTxService.GenerationPlan(
+            AiRecommendationRequest.builder().requestId("vote_" + invocation.getArgument(0)).build(),
+            List.of(1L, 2L),
+            SWIPE_COUNT * 2
+        ))).when(txService).prepare(anyLong(), anyLong());
+
+        doAnswer(invocation -> withConnection(() -> null))
+            .when(txService).saveCandidates(anyLong(), anyLong(), anyLong(), anyList(), anyList(), anyList());
+
+        service = new VoteCandidateAsyncServiceImpl(txService, recommendationClient, voteFailureService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+        if (stubExecutor != null) {
+            stubExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentGenerationsDoNotHoldConnectionsDuringAiCall() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_VOTES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < CONCURRENT_VOTES; i++) {
+                long meetingId = i + 1L;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    service.generateCandidates(meetingId, meetingId * 10, meetingId * 10 + 1);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then: 전부 성공했고, 어떤 AI 호출 시점에도 커넥션을 잡고 있던 작업이 풀 크기를 넘지 않는다.
+        verify(voteFailureService, never()).markVotesFailed(any(), any());
+        assertThat(peakConnectionsInUse.get()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(connectionsHeldDuringAiCall.get()).isLessThan(POOL_SIZE);
+        assertThat(connectionPool.availablePermits()).isEqualTo(POOL_SIZE);
+    }
+
+    private <T> T withConnection(Callable<T> body) throws Exception {
+        // 풀이 비어 있으면 Hikari의 connection-timeout처럼 짧게 기다리다 실패한다.
+        if (!connectionPool.tryAcquire(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("connection_pool_exhausted");
+        }
+        int inUse = connectionsInUse.incrementAndGet();
+        peakConnectionsInUse.accumulateAndGet(inUse, Math::max);
+        try {
+            return body.call();
+        } finally {
+            connectionsInUse.decrementAndGet();
+            connectionPool.release();
+        }
+    }
+
+    private static String recommendationBody() {
+        StringBuilder restaurants = new StringBuilder();
+        for (int i = 0; i < SWIPE_COUNT * 2; i++) {
+            if (i > 0) {
+                restaurants.append(',');
+            }
+            restaurants.append("{\"store_id\":").append(i + 1)
+                .append(",\"distance_m\":100,\"final_score\":0.9,\"rank\":").append(i + 1).append('}');
+        }
+        return "{\"request_id\":\"stub\",\"top_n\":" + (SWIPE_COUNT * 2) + ",\"restaurants\":[" + restaurants + "]}";
+    }
+}
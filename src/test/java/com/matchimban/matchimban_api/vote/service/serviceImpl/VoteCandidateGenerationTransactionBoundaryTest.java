@@ -0,0 +1,172 @@
+package com.matchimban.matchimban_api.vote.service.serviceImpl;
+
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.member.entity.FoodCategory;
+import com.matchimban.matchimban_api.member.entity.Member;
+import com.matchimban.matchimban_api.member.entity.enums.FoodCategoryType;
+import com.matchimban.matchimban_api.member.entity.enums.MemberStatus;
+import com.matchimban.matchimban_api.member.redis.ReferenceDataRedisPublisher;
+import com.matchimban.matchimban_api.member.repository.FoodCategoryRepository;
+import com.matchimban.matchimban_api.member.repository.MemberRepository;
+import com.matchimban.matchimban_api.member.service.ReferenceDataCache;
+import com.matchimban.matchimban_api.restaurant.entity.Restaurant;
+import com.matchimban.matchimban_api.restaurant.repository.RestaurantRepository;
+import com.matchimban.matchimban_api.vote.ai.RecommendationClient;
+import com.matchimban.matchimban_api.vote.ai.dto.AiRecommendationResponse;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateAsyncService;
+import com.matchimban.matchimban_api.vote.service.VoteCandidateGenerationTxService;
+import com.matchimban.matchimban_api.vote.service.VoteFailureService;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 실제 트랜잭션 프록시가 붙은 빈으로 후보 생성을 실행해, AI 호출 시점에 트랜잭션도 커넥션도 잡혀 있지 않은지 확인한다.
+// 테스트 메서드 트랜잭션이 섞이지 않도록 NOT_SUPPORTED로 실행한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        VoteCandidateAsyncServiceImpl.class,
+        VoteCandidateGenerationTxService.class,
+        ReferenceDataCache.class
+})
+class VoteCandidateGenerationTransactionBoundaryTest {
+
+    private static final int SWIPE_COUNT = 2;
+
+    @Autowired
+    private VoteCandidateAsyncService voteCandidateAsyncService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private FoodCategoryRepository foodCategoryRepository;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private MeetingRestaurantCandidateRepository candidateRepository;
+
+    @MockitoBean
+    private RecommendationClient recommendationClient;
+    @MockitoBean
+    private VoteFailureService voteFailureService;
+    @MockitoBean
+    private VoteTallyRedisRepository voteTallyRedisRepository;
+    @MockitoBean
+    private ReferenceDataRedisPublisher referenceDataRedisPublisher;
+
+    private final List<Long> restaurantIds = new ArrayList<>();
+    private Meeting meeting;
+    private Vote round1;
+    private Vote round2;
+
+    @BeforeEach
+    void setUp() {
+        FoodCategory category = foodCategoryRepository.save(FoodCategory.builder()
+                .categoryCode("KOREAN")
+                .categoryName("한식")
+                .categoryType(FoodCategoryType.CATEGORY)
+                .build());
+        for (int i = 0; i < SWIPE_COUNT * 2; i++) {
+            restaurantIds.add(restaurantRepository.save(Restaurant.builder()
+                    .name("restaurant-" + i)
+                    .foodCategory(category)
+                    .build()).getId());
+        }
+
+        Member host = memberRepository.save(Member.builder().nickname("host").status(MemberStatus.ACTIVE).build());
+        meeting = meetingRepository.save(Meeting.builder()
+                .title("후보 생성")
+                .scheduledAt(Instant.now().plus(Duration.ofDays(1)))
+                .locationAddress("서울")
+                .locationLat(new BigDecimal("37.5000000"))
+                .locationLng(new BigDecimal("127.0000000"))
+                .targetHeadcount(2)
+                .searchRadiusM(500)
+                .voteDeadlineAt(Instant.now().plus(Duration.ofHours(1)))
+                .swipeCount(SWIPE_COUNT)
+                .inviteCode("TXB" + (System.nanoTime() % 100_000))
+                .hostMemberId(host.getId())
+                .build());
+        participantRepository.save(MeetingParticipant.builder()
+                .meeting(meeting)
+                .member(host)
+                .role(MeetingParticipant.Role.HOST)
+                .status(MeetingParticipant.Status.ACTIVE)
+                .build());
+        round1 = voteRepository.save(Vote.builder().meeting(meeting).round(1).status(VoteStatus.GENERATING).build());
+        round2 = voteRepository.save(Vote.builder().meeting(meeting).round(2).status(VoteStatus.GENERATING).build());
+    }
+
+    @Test
+    void aiCallRunsWithoutTransactionOrBoundConnection() {
+        // given: AI 호출 시점의 트랜잭션/리소스 바인딩 상태를 기록한다.
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicBoolean resourcesBound = new AtomicBoolean(true);
+        when(recommendationClient.recommend(any())).thenAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            resourcesBound.set(!TransactionSynchronizationManager.getResourceMap().isEmpty());
+            return response();
+        });
+
+        // when
+        voteCandidateAsyncService.generateCandidates(meeting.getId(), round1.getId(), round2.getId());
+
+        // then: AI 호출 중에는 트랜잭션도 EntityManager/커넥션도 묶여 있지 않고, 저장은 뒤 트랜잭션에서 끝난다.
+        assertThat(transactionActive).isFalse();
+        assertThat(resourcesBound).isFalse();
+        verify(voteFailureService, never()).markVotesFailed(any(), any());
+        assertThat(candidateRepository.findCandidateIdsByVoteId(round1.getId())).hasSize(SWIPE_COUNT);
+        assertThat(candidateRepository.findCandidateIdsByVoteId(round2.getId())).hasSize(SWIPE_COUNT);
+        assertThat(voteRepository.findById(round1.getId()).orElseThrow().getStatus()).isEqualTo(VoteStatus.OPEN);
+    }
+
+    private AiRecommendationResponse response() {
+        List<AiRecommendationResponse.Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            restaurants.add(AiRecommendationResponse.Restaurant.builder()
+                    .id(restaurantIds.get(i))
+                    .distanceM(100)
+                    .finalScore(new BigDecimal("0.9"))
+                    .rank(i + 1)
+                    .build());
+        }
+        return AiRecommendationResponse.builder()
+                .requestId("vote_" + meeting.getId())
+                .topN(restaurants.size())
+                .restaurants(restaurants)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.matchimban.matchimban_api.vote.service.serviceImpl;
+
+import com.matchimban.matchimban_api.event.service.EventCouponUseService;
+import com.matchimban.matchimban_api.global.storage.CdnUrlComposer;
+import com.matchimban.matchimban_api.meeting.entity.Meeting;
+import com.matchimban.matchimban_api.meeting.entity.MeetingParticipant;
+import com.matchimban.matchimban_api.meeting.repository.MeetingParticipantRepository;
+import com.matchimban.matchimban_api.meeting.repository.MeetingRepository;
+import com.matchimban.matchimban_api.notification.service.NotificationScheduleService;
+import com.matchimban.matchimban_api.vote.dto.response.VoteStatusResponse;
+import com.matchimban.matchimban_api.vote.entity.Vote;
+import com.matchimban.matchimban_api.vote.entity.enums.VoteStatus;
+import com.matchimban.matchimban_api.vote.redis.VoteTallyRedisRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingFinalSelectionRepository;
+import com.matchimban.matchimban_api.vote.repository.MeetingRestaurantCandidateRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteRepository;
+import com.matchimban.matchimban_api.vote.repository.VoteSubmissionRepository;
+import com.matchimban.matchimban_api.vote.service.VoteCountService;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 투표 상태 폴링이 참여자 수를 매번 세지 않고 모임의 비정규화 인원을 쓰는지 확인한다.
+class VoteServiceImplStatusTest {
+
+    private static final Long MEETING_ID = 10L;
+    private static final Long VOTE_ID = 20L;
+    private static final Long MEMBER_ID = 1L;
+
+    private final MeetingParticipantRepository meetingParticipantRepository = mock(MeetingParticipantRepository.class);
+    private final VoteRepository voteRepository = mock(VoteRepository.class);
+    private final VoteTallyRedisRepository voteTallyRedisRepository = mock(VoteTallyRedisRepository.class);
+
+    private VoteServiceImpl voteService;
+
+    @BeforeEach
+    void setUp() {
+        voteService = new VoteServiceImpl(
+                mock(MeetingRepository.class),
+                meetingParticipantRepository,
+                voteRepository,
+                mock(ApplicationEventPublisher.class),
+                mock(VoteSubmissionRepository.class),
+                mock(MeetingRestaurantCandidateRepository.class),
+                mock(VoteCountService.class),
+                mock(MeetingFinalSelectionRepository.class),
+                mock(CdnUrlComposer.class),
+                mock(NotificationScheduleService.class),
+                mock(EventCouponUseService.class),
+                voteTallyRedisRepository
+        );
+        when(meetingParticipantRepository.existsByMeetingIdAndMemberIdAndStatus(
+                MEETING_ID, MEMBER_ID, MeetingParticipant.Status.ACTIVE)).thenReturn(true);
+        when(voteTallyRedisRepository.findSubmittedCount(VOTE_ID)).thenReturn(Optional.of(2L));
+    }
+
+    @Test
+    void statusUsesDenormalizedParticipantCount() {
+        // given
+        givenVote(meeting(5));
+
+        // when
+        VoteStatusResponse response = voteService.getVoteStatus(MEETING_ID, VOTE_ID, MEMBER_ID);
+
+        // then
+        assertThat(response.getSubmittedCount()).isEqualTo(2L);
+        assertThat(response.getTotalCount()).isEqualTo(5L);
+        verify(meetingParticipantRepository, never()).countByMeetingIdAndStatus(anyLong(), any());
+    }
+
+    @Test
+    void statusCountsParticipantsWhenCounterIsNotFilled() {
+        // given: 비정규화 인원이 채워지지 않은 모임
+        givenVote(meeting(0));
+        when(meetingParticipantRepository.countByMeetingIdAndStatus(MEETING_ID, MeetingParticipant.Status.ACTIVE))
+                .thenReturn(4L);
+
+        // when
+        VoteStatusResponse response = voteService.getVoteStatus(MEETING_ID, VOTE_ID, MEMBER_ID);
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(4L);
+    }
+
+    private void givenVote(Meeting meeting) {
+        Vote vote = Vote.builder()
+                .id(VOTE_ID)
+                .round(1)
+                .status(VoteStatus.OPEN)
+                .meeting(meeting)
+                .build();
+        when(voteRepository.findById(VOTE_ID)).thenReturn(Optional.of(vote));
+    }
+
+    private Meeting meeting(int participantCount) {
+        return Meeting.builder()
+                .id(MEETING_ID)
+                .title("meeting")
+                .targetHeadcount(8)
+                .swipeCount(5)
+                .inviteCode("ABCD1234")
+                .hostMemberId(MEMBER_ID)
+                .participantCount(participantCount)
+                .build();
+    }
+}